@@ -0,0 +1,102 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.auth.application.AuthorizationDecisionService.DecisionCheck;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleCatalogCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일괄 권한 판정 처리량 - 목표는 캐시 적중 시 초당 10만 판정 이상 (ops/s = 판정 수/s).
+ *
+ * - warm: 모든 회원의 권한이 캐시에 있는 평상시 경로
+ * - afterCatalogChange: 역할 구성 변경 직후처럼 배치의 모든 회원을 일괄 조회 한 번으로 다시 만드는 경로
+ *   (DB 대신 메모리에서 돌려주므로 쿼리 비용은 포함하지 않는다)
+ *
+ * ./gradlew jmh -Pjmh.includes=AuthorizationDecisionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AuthorizationDecisionBenchmark {
+
+    private static final int BATCH = 1_000;
+    private static final int MEMBERS = 10_000;
+    private static final String[] AUTHORITIES = {
+            "ROLE_USER", "ROLE_MODERATOR", "ROLE_ADMIN", "AUTHORITY_READ_POST", "AUTHORITY_MANAGE_USERS"};
+
+    private AuthorityService authorityService;
+    private AuthorizationDecisionService service;
+    private List<DecisionCheck> checks;
+
+    @Setup
+    public void setUp() {
+        authorityService = new InMemoryAuthorityService();
+        service = new AuthorizationDecisionService(authorityService, new SimpleMeterRegistry(),
+                MEMBERS * 2L, Duration.ofHours(1));
+
+        SplittableRandom random = new SplittableRandom(42);
+        checks = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            checks.add(new DecisionCheck((long) random.nextInt(MEMBERS),
+                    AUTHORITIES[random.nextInt(AUTHORITIES.length)]));
+        }
+        service.decide(checks);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public boolean[] warm() {
+        return service.decide(checks);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public boolean[] afterCatalogChange() {
+        authorityService.clearUserAuthoritiesCache();
+        return service.decide(checks);
+    }
+
+    /**
+     * DB 대신 회원 id로 정해지는 권한을 돌려준다
+     */
+    private static final class InMemoryAuthorityService extends AuthorityService {
+
+        private InMemoryAuthorityService() {
+            super(null, null, null, null, null, new ConcurrentMapCacheManager(USER_AUTHORITIES_CACHE),
+                    new RoleCatalogCache(null, new StaticListableBeanFactory().getBeanProvider(RoleCatalogRelay.class)),
+                    null, new SimpleMeterRegistry());
+        }
+
+        @Override
+        public Map<Long, Collection<? extends GrantedAuthority>> loadUserAuthoritiesByMemberIds(
+                Collection<Long> memberIds) {
+            Map<Long, Collection<? extends GrantedAuthority>> result = new HashMap<>(memberIds.size() * 2);
+            for (Long memberId : memberIds) {
+                result.put(memberId, memberId % 10 == 0
+                        ? AuthorityUtils.createAuthorityList("ROLE_ADMIN", "ROLE_USER", "AUTHORITY_MANAGE_USERS")
+                        : AuthorityUtils.createAuthorityList("ROLE_USER", "AUTHORITY_READ_POST"));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.chatbot.auth.infrastructure;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 경로 비교 - gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 검증당 할당량을 본다.
+ *
+ * - jjwtPerCall: 기존 JwtTokenService처럼 매번 키/파서를 만드는 경로
+ * - jjwtSharedParser: 파서를 재사용하는 jjwt 경로
+ * - fastVerifier: FastJwtVerifier (결과 객체만 할당)
+ *
+ * ./gradlew jmh -Pjmh.includes=JwtVerifyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJwtTokenGenerationThatIsLongEnoughForHS256";
+
+    private SecretKey key;
+    private JwtParser parser;
+    private FastJwtVerifier fastVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(key).build();
+        fastVerifier = new FastJwtVerifier(key);
+        long now = System.currentTimeMillis();
+        token = Jwts.builder()
+                .subject("member@example.com")
+                .id(UUID.randomUUID().toString())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + TimeUnit.DAYS.toMillis(1)))
+                .signWith(key)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims jjwtPerCall() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims jjwtSharedParser() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public VerifiedToken fastVerifier() {
+        return fastVerifier.verify(token);
+    }
+}
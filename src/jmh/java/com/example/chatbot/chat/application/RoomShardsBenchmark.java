@@ -0,0 +1,69 @@
+package com.example.chatbot.chat.application;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 샤드 수에 따른 방 메시지 처리량 - 코어 수까지는 샤드 수에 비례해 증가해야 한다.
+ *
+ * ./gradlew jmh -Pjmh.includes=RoomShardsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RoomShardsBenchmark {
+
+    private static final int BATCH = 10_000;
+    private static final int ROOMS = 1_024;
+
+    @Param({"1", "2", "4", "8"})
+    private int shardCount;
+
+    // 메시지당 처리 비용 (직렬화/검증 등을 흉내냄)
+    @Param({"200"})
+    private int workTokens;
+
+    private RoomShards roomShards;
+    private final Instant now = Instant.now();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roomShards = new RoomShards(shardCount, BATCH * 2, Duration.ofMinutes(10),
+                roomId -> new RoomState(roomId, 0, new RecentMessageBuffer(64)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        roomShards.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void publish(Blackhole blackhole) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            long roomId = i % ROOMS;
+            futures[i] = roomShards.submit(roomId, room -> {
+                Blackhole.consumeCPU(workTokens);
+                return room.append("bench", "hello", now);
+            });
+        }
+        CompletableFuture.allOf(futures).join();
+        blackhole.consume(futures);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.chatbot.common.json;
+
+import com.example.chatbot.admin.interfaces.api.dto.AdminCreatedResponse;
+import com.example.chatbot.auth.interfaces.dto.LoginResponse;
+import com.example.chatbot.common.exception.ErrorResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자주 나가는 응답 DTO 직렬화 처리량/할당량 - 이전 형태(POJO + 리플렉션, Map, LocalDateTime)와
+ * 현재 형태(record + Blackbird, 타입 있는 응답, 재사용 문자열 timestamp) 비교.
+ * 응답 스트림처럼 재사용 버퍼에 쓴다. 할당량은 jmh 설정의 gc 프로파일러(gc.alloc.rate.norm)로 본다.
+ *
+ * ./gradlew jmh -Pjmh.includes=JsonSerializationBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"reflection", "blackbird"})
+    public String mapper;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+
+    private ObjectWriter writer;
+
+    private LegacyLoginResponse legacyLogin;
+    private LoginResponse login;
+    private AdminCreatedResponse adminCreated;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper(JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                .build());
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (mapper.equals("blackbird")) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        writer = objectMapper.writer();
+
+        Set<String> authorities = Set.of("ROLE_USER", "ROLE_MODERATOR", "AUTHORITY_READ_POST");
+        String accessToken = "eyJhbGciOiJIUzI1NiJ9." + "a".repeat(180) + ".signature";
+        legacyLogin = new LegacyLoginResponse(accessToken, "Bearer", "refresh-" + "b".repeat(40), 900,
+                42L, "member@example.com", "회원", authorities);
+        login = new LoginResponse(accessToken, "refresh-" + "b".repeat(40), 900,
+                42L, "member@example.com", "회원", authorities);
+        adminCreated = new AdminCreatedResponse("관리자 계정이 생성되었습니다.", 7L, "admin@example.com");
+    }
+
+    @Benchmark
+    public int loginBefore() throws IOException {
+        return write(legacyLogin);
+    }
+
+    @Benchmark
+    public int loginAfter() throws IOException {
+        return write(login);
+    }
+
+    @Benchmark
+    public int errorBefore() throws IOException {
+        return write(new LegacyErrorResponse(400, "Bad Request", "존재하지 않는 사용자입니다.", "/api/admin/users/1/role"));
+    }
+
+    @Benchmark
+    public int errorAfter() throws IOException {
+        return write(new ErrorResponse(400, "Bad Request", "존재하지 않는 사용자입니다.", "/api/admin/users/1/role"));
+    }
+
+    @Benchmark
+    public int adminBefore() throws IOException {
+        return write(Map.of("message", "관리자 계정이 생성되었습니다.", "adminId", 7L, "email", "admin@example.com"));
+    }
+
+    @Benchmark
+    public int adminAfter() throws IOException {
+        return write(adminCreated);
+    }
+
+    private int write(Object value) throws IOException {
+        buffer.reset();
+        writer.writeValue(buffer, value);
+        return buffer.size();
+    }
+
+    /**
+     * 이전 LoginResponse (Lombok @Getter 클래스)
+     */
+    public static class LegacyLoginResponse {
+        private final String accessToken;
+        private final String tokenType;
+        private final String refreshToken;
+        private final long expiresIn;
+        private final Long memberId;
+        private final String email;
+        private final String name;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private final Set<String> authorities;
+
+        LegacyLoginResponse(String accessToken, String tokenType, String refreshToken, long expiresIn,
+                            Long memberId, String email, String name, Set<String> authorities) {
+            this.accessToken = accessToken;
+            this.tokenType = tokenType;
+            this.refreshToken = refreshToken;
+            this.expiresIn = expiresIn;
+            this.memberId = memberId;
+            this.email = email;
+            this.name = name;
+            this.authorities = authorities;
+        }
+
+        public String getAccessToken() { return accessToken; }
+        public String getTokenType() { return tokenType; }
+        public String getRefreshToken() { return refreshToken; }
+        public long getExpiresIn() { return expiresIn; }
+        public Long getMemberId() { return memberId; }
+        public String getEmail() { return email; }
+        public String getName() { return name; }
+        public Set<String> getAuthorities() { return authorities; }
+    }
+
+    /**
+     * 이전 ErrorResponse - 오류마다 LocalDateTime을 만들고 JavaTimeModule로 직렬화
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class LegacyErrorResponse {
+        private final LocalDateTime timestamp = LocalDateTime.now();
+        private final int status;
+        private final String error;
+        private final String message;
+        private final String path;
+
+        LegacyErrorResponse(int status, String error, String message, String path) {
+            this.status = status;
+            this.error = error;
+            this.message = message;
+            this.path = path;
+        }
+
+        public LocalDateTime getTimestamp() { return timestamp; }
+        public int getStatus() { return status; }
+        public String getError() { return error; }
+        public String getMessage() { return message; }
+        public String getPath() { return path; }
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.chatbot.common.timer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 예약 방식 비교 - 타이머 휠 / 항목별 ScheduledExecutorService 작업 / 맵 + 주기적 스캔
+ *
+ * - *ScheduleCancel: 세션 연결/종료처럼 예약 후 취소하는 비용 (항목당)
+ * - *Sweep: 살아 있는 항목이 liveEntries개일 때 만료 확인 1회 비용
+ *
+ * ./gradlew jmh -Pjmh.includes=ExpirySchedulingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpirySchedulingBenchmark {
+
+    private static final int BATCH = 10_000;
+    private static final Duration TICK = Duration.ofMillis(1);
+    private static final Duration FAR = Duration.ofDays(365);
+    private static final Runnable NOOP = () -> { };
+
+    @Param({"100000", "1000000"})
+    private int liveEntries;
+
+    // 예약/취소 측정용 (매 호출마다 비워짐)
+    private HashedTimerWheel<Integer> scratchWheel;
+    private ScheduledThreadPoolExecutor executor;
+    private ConcurrentHashMap<Integer, Long> scratchMap;
+
+    // 스캔 비용 측정용 (liveEntries개가 항상 살아 있음)
+    private HashedTimerWheel<Integer> loadedWheel;
+    private ConcurrentHashMap<Integer, Long> loadedMap;
+    private long fakeNow;
+
+    @SuppressWarnings("unchecked")
+    private final HashedTimerWheel.Timeout<Integer>[] timeouts = new HashedTimerWheel.Timeout[BATCH];
+    private final ScheduledFuture<?>[] futures = new ScheduledFuture<?>[BATCH];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scratchWheel = new HashedTimerWheel<>(TICK, 4096, expired -> { });
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        scratchMap = new ConcurrentHashMap<>();
+
+        loadedWheel = new HashedTimerWheel<>(TICK, 4096, expired -> { });
+        loadedMap = new ConcurrentHashMap<>();
+        long deadline = System.nanoTime() + FAR.toNanos();
+        for (int i = 0; i < liveEntries; i++) {
+            loadedWheel.scheduleAt(i, deadline);
+            loadedMap.put(i, deadline);
+        }
+        // advanceTo는 tick당 최대 10만 건만 버킷으로 옮기므로 모두 옮겨질 때까지 돌린다
+        fakeNow = System.nanoTime();
+        for (int i = 0; i <= liveEntries / 100_000; i++) {
+            fakeNow += TICK.toNanos();
+            loadedWheel.advanceTo(fakeNow);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void wheelScheduleCancel() {
+        for (int i = 0; i < BATCH; i++) {
+            timeouts[i] = scratchWheel.schedule(i, Duration.ofMinutes(30));
+        }
+        for (int i = 0; i < BATCH; i++) {
+            timeouts[i].cancel();
+        }
+        // tick 스레드가 하는 일 (대기 큐 정리)까지 포함
+        scratchWheel.advanceTo(System.nanoTime());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void executorScheduleCancel() {
+        for (int i = 0; i < BATCH; i++) {
+            futures[i] = executor.schedule(NOOP, 30, TimeUnit.MINUTES);
+        }
+        for (int i = 0; i < BATCH; i++) {
+            futures[i].cancel(false);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void mapPutRemove() {
+        long deadline = System.nanoTime() + Duration.ofMinutes(30).toNanos();
+        for (int i = 0; i < BATCH; i++) {
+            scratchMap.put(i, deadline);
+        }
+        for (int i = 0; i < BATCH; i++) {
+            scratchMap.remove(i);
+        }
+    }
+
+    @Benchmark
+    public int wheelSweep() {
+        fakeNow += TICK.toNanos();
+        return loadedWheel.advanceTo(fakeNow);
+    }
+
+    @Benchmark
+    public void mapScanSweep(Blackhole blackhole) {
+        long now = System.nanoTime();
+        int expired = 0;
+        for (Map.Entry<Integer, Long> entry : loadedMap.entrySet()) {
+            if (entry.getValue() <= now) {
+                expired++;
+            }
+        }
+        blackhole.consume(expired);
+    }
+}
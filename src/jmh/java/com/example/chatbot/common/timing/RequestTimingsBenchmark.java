@@ -0,0 +1,59 @@
+package com.example.chatbot.common.timing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구간 기록 1회(start + stop) 비용 - 기록기가 열리지 않은 경우(비활성)와 열린 경우 비교
+ *
+ * ./gradlew jmh -Pjmh.includes=RequestTimingsBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestTimingsBenchmark {
+
+    @State(Scope.Thread)
+    public static class Disabled {
+    }
+
+    @State(Scope.Thread)
+    public static class Enabled {
+
+        RequestTimings timings;
+
+        @Setup(Level.Iteration)
+        public void open() {
+            timings = RequestTimings.open();
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() {
+            RequestTimings.close();
+        }
+    }
+
+    @Benchmark
+    public void disabled(Disabled state) {
+        RequestTimings.stop("db", RequestTimings.start());
+    }
+
+    @Benchmark
+    public void enabled(Enabled state) {
+        RequestTimings.stop("db", RequestTimings.start());
+    }
+
+    @Benchmark
+    public String headerValue(Enabled state) {
+        RequestTimings.stop("bcrypt", RequestTimings.start());
+        return state.timings.toHeaderValue();
+    }
+}
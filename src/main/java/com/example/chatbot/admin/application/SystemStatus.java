@@ -0,0 +1,25 @@
+package com.example.chatbot.admin.application;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 관리자용 시스템 상태 - 지표가 아직 등록되지 않은 항목(null)은 응답에서 생략한다
+ */
+public record SystemStatus(String status, String version, String uptime, Jvm jvm,
+                           ConnectionPool connectionPool, Auth auth, WebSocket websocket) {
+
+    public record Jvm(long heapUsedMb, long heapMaxMb, int threads) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ConnectionPool(Long active, Long idle, Long pending, Long max) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Auth(long loginSuccess, long loginFailure, Long cachedTokens) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record WebSocket(Long trackedSessions, Long outboundQueueDepth) {
+    }
+}
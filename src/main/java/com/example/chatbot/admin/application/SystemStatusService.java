@@ -0,0 +1,68 @@
+package com.example.chatbot.admin.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.search.Search;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+/**
+ * 관리자용 시스템 상태 - MeterRegistry에 이미 등록된 지표를 모아 보여준다.
+ * 지표가 아직 없으면(해당 기능이 꺼져 있는 경우 등) 그 항목은 생략한다.
+ */
+@Service
+public class SystemStatusService {
+
+    private static final long MB = 1024 * 1024;
+
+    private final MeterRegistry meterRegistry;
+    private final String version;
+
+    public SystemStatusService(MeterRegistry meterRegistry,
+                               @Value("${info.app.version:0.0.1-SNAPSHOT}") String version) {
+        this.meterRegistry = meterRegistry;
+        this.version = version;
+    }
+
+    public SystemStatus status() {
+        Runtime runtime = Runtime.getRuntime();
+        SystemStatus.Jvm jvm = new SystemStatus.Jvm(
+                (runtime.totalMemory() - runtime.freeMemory()) / MB,
+                runtime.maxMemory() / MB,
+                ManagementFactory.getThreadMXBean().getThreadCount());
+
+        SystemStatus.ConnectionPool db = new SystemStatus.ConnectionPool(
+                gauge("hikaricp.connections.active"),
+                gauge("hikaricp.connections.idle"),
+                gauge("hikaricp.connections.pending"),
+                gauge("hikaricp.connections.max"));
+
+        SystemStatus.Auth auth = new SystemStatus.Auth(
+                count(meterRegistry.find("auth.login").tag("result", "success")),
+                count(meterRegistry.find("auth.login").tag("result", "unknown_email"))
+                        + count(meterRegistry.find("auth.login").tag("result", "bad_password")),
+                gauge("auth.token.cache.size"));
+
+        SystemStatus.WebSocket websocket = new SystemStatus.WebSocket(
+                gauge("chat.ws.sessions.tracked"),
+                gauge("chat.ws.outbound.queue.depth"));
+
+        return new SystemStatus("healthy", version,
+                Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime()).toString(),
+                jvm, db, auth, websocket);
+    }
+
+    private Long gauge(String meterName) {
+        Gauge gauge = meterRegistry.find(meterName).gauge();
+        return gauge == null ? null : (long) gauge.value();
+    }
+
+    private static long count(Search search) {
+        Counter counter = search.counter();
+        return counter == null ? 0 : (long) counter.count();
+    }
+}
@@ -1,16 +1,28 @@
 package com.example.chatbot.admin.interfaces.api;
 
+import com.example.chatbot.admin.application.SystemStatus;
+import com.example.chatbot.admin.application.SystemStatusService;
+import com.example.chatbot.admin.interfaces.api.dto.AdminCreatedResponse;
+import com.example.chatbot.admin.interfaces.api.dto.ChangeRoleRequest;
+import com.example.chatbot.admin.interfaces.api.dto.CreateAdminRequest;
+import com.example.chatbot.admin.interfaces.api.dto.MessageResponse;
+import com.example.chatbot.admin.interfaces.api.dto.RoleChangeResponse;
+import com.example.chatbot.auth.application.AuthService;
 import com.example.chatbot.auth.application.AuthorityService;
+import com.example.chatbot.auth.application.MemberPrincipal;
+import com.example.chatbot.member.application.MemberDeletionService;
+import com.example.chatbot.member.application.MemberDeletionStatus;
+import com.example.chatbot.member.application.MemberPurgeProgress;
 import com.example.chatbot.member.application.MemberService;
 import com.example.chatbot.member.infrastructure.persistence.jpa.entity.MemberJpaEntity;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
-
+// 실패(존재하지 않는 사용자/역할, 중복 이메일 등)는 GlobalExceptionHandler가 ErrorResponse로 응답한다
 @RestController
 @RequestMapping("/api/admin")
 @PreAuthorize("hasRole('ADMIN')") // 클래스 레벨에서 ADMIN 역할 필요
@@ -18,10 +30,17 @@ public class AdminController {
 
     private final AuthorityService authorityService;
     private final MemberService memberService;
+    private final AuthService authService;
+    private final SystemStatusService systemStatusService;
+    private final MemberDeletionService memberDeletionService;
 
-    public AdminController(AuthorityService authorityService, MemberService memberService) {
+    public AdminController(AuthorityService authorityService, MemberService memberService, AuthService authService,
+                           SystemStatusService systemStatusService, MemberDeletionService memberDeletionService) {
         this.authorityService = authorityService;
         this.memberService = memberService;
+        this.authService = authService;
+        this.systemStatusService = systemStatusService;
+        this.memberDeletionService = memberDeletionService;
     }
 
     /**
@@ -29,47 +48,59 @@ public class AdminController {
      */
     @PreAuthorize("hasAuthority('AUTHORITY_MANAGE_USERS')")
     @PatchMapping("/users/{userId}/role")
-    public ResponseEntity<Map<String, String>> changeUserRole(
+    public ResponseEntity<RoleChangeResponse> changeUserRole(
             @PathVariable Long userId,
-            @RequestBody Map<String, String> request,
-            @AuthenticationPrincipal UserDetails currentUser) {
-        
-        String newRole = request.get("role");
-        if (newRole == null || (!newRole.equals("USER") && !newRole.equals("ADMIN"))) {
-            return ResponseEntity.badRequest().build();
-        }
-
-        // 현재 사용자의 역할을 제거하고 새 역할 할당
-        // 실제로는 더 정교한 로직 필요 (기존 역할 조회 후 변경)
-        try {
-            // 예시: USER -> ADMIN 또는 ADMIN -> USER
-            authorityService.removeRoleFromMember(userId, "USER");
-            authorityService.removeRoleFromMember(userId, "ADMIN");
-            authorityService.assignRoleToMember(userId, newRole, 1L); // currentUser.getId()
-
-            return ResponseEntity.ok(Map.of("message", "역할이 변경되었습니다.", "newRole", newRole));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
-        }
+            @Valid @RequestBody ChangeRoleRequest request,
+            @AuthenticationPrincipal MemberPrincipal currentUser) {
+
+        // 직접 역할을 하나로 교체 - 하위 역할의 권한은 역할 계층으로 따라온다
+        authorityService.replaceMemberRoles(userId, request.role(), currentUser.getMemberId());
+        // 이전 역할로 발급된 토큰은 더 이상 쓰지 못하게 함
+        authService.revokeAllTokens(userId);
+
+        return ResponseEntity.ok(new RoleChangeResponse("역할이 변경되었습니다.", request.role()));
+    }
+
+    /**
+     * 사용자 토큰 전체 폐기 (강제 로그아웃) - MANAGE_USERS 권한 필요
+     */
+    @PreAuthorize("hasAuthority('AUTHORITY_MANAGE_USERS')")
+    @PostMapping("/users/{userId}/tokens/revoke")
+    public ResponseEntity<MessageResponse> revokeUserTokens(@PathVariable Long userId) {
+        authService.revokeAllTokens(userId);
+        return ResponseEntity.ok(new MessageResponse("사용자의 모든 토큰이 폐기되었습니다."));
     }
 
     /**
      * 사용자 탈퇴 (관리자가 강제 탈퇴) - MANAGE_USERS 권한 필요
+     * 즉시 로그인/토큰/권한을 막고 202를 반환한다. 물리 삭제는 백그라운드에서 진행된다.
      */
     @PreAuthorize("hasAuthority('AUTHORITY_MANAGE_USERS')")
     @DeleteMapping("/users/{userId}")
-    public ResponseEntity<Map<String, String>> deleteUser(
+    public ResponseEntity<MemberDeletionStatus> deleteUser(
             @PathVariable Long userId,
-            @AuthenticationPrincipal UserDetails currentUser) {
-        
-        try {
-            // 실제 구현에서는 MemberService에 delete 메소드 필요
-            // memberService.deleteMember(userId);
-            
-            return ResponseEntity.ok(Map.of("message", "사용자가 삭제되었습니다."));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
-        }
+            @AuthenticationPrincipal MemberPrincipal currentUser) {
+
+        MemberDeletionStatus status = memberDeletionService.requestDeletion(userId, currentUser.getMemberId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+    }
+
+    /**
+     * 사용자 탈퇴 진행 상황 - MANAGE_USERS 권한 필요
+     */
+    @PreAuthorize("hasAuthority('AUTHORITY_MANAGE_USERS')")
+    @GetMapping("/users/{userId}/deletion")
+    public ResponseEntity<MemberDeletionStatus> getUserDeletion(@PathVariable Long userId) {
+        return ResponseEntity.ok(memberDeletionService.status(userId));
+    }
+
+    /**
+     * 백그라운드 물리 삭제 진행 상황 - MANAGE_USERS 권한 필요
+     */
+    @PreAuthorize("hasAuthority('AUTHORITY_MANAGE_USERS')")
+    @GetMapping("/users/deletions")
+    public ResponseEntity<MemberPurgeProgress> getDeletionProgress() {
+        return ResponseEntity.ok(memberDeletionService.progress());
     }
 
     /**
@@ -77,25 +108,14 @@ public class AdminController {
      */
     @PreAuthorize("hasAuthority('AUTHORITY_MANAGE_SYSTEM')")
     @PostMapping("/create-admin")
-    public ResponseEntity<Map<String, Object>> createAdmin(
-            @RequestBody Map<String, String> request,
-            @AuthenticationPrincipal UserDetails currentUser) {
-        
-        try {
-            String email = request.get("email");
-            String password = request.get("password");
-            String name = request.get("name");
-
-            MemberJpaEntity admin = memberService.createAdmin(email, password, name, 1L);
-            
-            return ResponseEntity.ok(Map.of(
-                "message", "관리자 계정이 생성되었습니다.",
-                "adminId", admin.getId(),
-                "email", admin.getEmail()
-            ));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
-        }
+    public ResponseEntity<AdminCreatedResponse> createAdmin(
+            @Valid @RequestBody CreateAdminRequest request,
+            @AuthenticationPrincipal MemberPrincipal currentUser) {
+
+        MemberJpaEntity admin = memberService.createAdmin(
+                request.email(), request.password(), request.name(), currentUser.getMemberId());
+
+        return ResponseEntity.ok(new AdminCreatedResponse("관리자 계정이 생성되었습니다.", admin.getId(), admin.getEmail()));
     }
 
     /**
@@ -103,11 +123,7 @@ public class AdminController {
      */
     @PreAuthorize("hasAuthority('AUTHORITY_MANAGE_SYSTEM')")
     @GetMapping("/system/status")
-    public ResponseEntity<Map<String, Object>> getSystemStatus() {
-        return ResponseEntity.ok(Map.of(
-            "status", "healthy",
-            "version", "1.0.0",
-            "uptime", "운영 중"
-        ));
+    public ResponseEntity<SystemStatus> getSystemStatus() {
+        return ResponseEntity.ok(systemStatusService.status());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,4 @@
+package com.example.chatbot.admin.interfaces.api.dto;
+
+public record AdminCreatedResponse(String message, Long adminId, String email) {
+}
@@ -0,0 +1,6 @@
+package com.example.chatbot.admin.interfaces.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record ChangeRoleRequest(@NotBlank(message = "역할은 필수입니다.") String role) {
+}
@@ -0,0 +1,16 @@
+package com.example.chatbot.admin.interfaces.api.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+public record CreateAdminRequest(
+        @Email(message = "유효한 이메일 형식이어야 합니다.")
+        @NotBlank(message = "이메일은 필수입니다.")
+        String email,
+
+        @NotBlank(message = "비밀번호는 필수입니다.")
+        String password,
+
+        @NotBlank(message = "이름은 필수입니다.")
+        String name) {
+}
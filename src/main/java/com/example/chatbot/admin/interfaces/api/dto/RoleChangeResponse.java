@@ -0,0 +1,4 @@
+package com.example.chatbot.admin.interfaces.api.dto;
+
+public record RoleChangeResponse(String message, String newRole) {
+}
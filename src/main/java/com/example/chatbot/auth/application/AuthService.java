@@ -1,13 +1,27 @@
 package com.example.chatbot.auth.application;
 
 import com.example.chatbot.auth.infrastructure.JwtTokenService;
+import com.example.chatbot.auth.infrastructure.VerifiedToken;
+import com.example.chatbot.common.timing.RequestTimings;
+import com.example.chatbot.member.application.MemberEmailIndex;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberCredentials;
 import com.example.chatbot.member.infrastructure.persistence.jpa.MemberJpaRepository;
 import com.example.chatbot.member.infrastructure.persistence.jpa.entity.MemberJpaEntity;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -16,31 +30,98 @@ public class AuthService {
     private final MemberJpaRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenService jwtTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthorityService authorityService;
+    private final MemberEmailIndex memberEmailIndex;
+    private final String dummyPasswordHash;
+    private final Counter loginSuccess;
+    private final Counter loginUnknownEmail;
+    private final Counter loginBadPassword;
 
-    public AuthService(MemberJpaRepository memberRepository, PasswordEncoder passwordEncoder, JwtTokenService jwtTokenService) {
+    public AuthService(MemberJpaRepository memberRepository, PasswordEncoder passwordEncoder,
+                       JwtTokenService jwtTokenService, TokenRevocationService tokenRevocationService,
+                       RefreshTokenService refreshTokenService, AuthorityService authorityService,
+                       MemberEmailIndex memberEmailIndex, MeterRegistry meterRegistry) {
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenService = jwtTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.refreshTokenService = refreshTokenService;
+        this.authorityService = authorityService;
+        this.memberEmailIndex = memberEmailIndex;
+        // 실제 회원 해시와 같은 cost로 만든 비교용 해시
+        this.dummyPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        this.loginSuccess = loginCounter(meterRegistry, "success");
+        this.loginUnknownEmail = loginCounter(meterRegistry, "unknown_email");
+        this.loginBadPassword = loginCounter(meterRegistry, "bad_password");
+    }
+
+    private static Counter loginCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.login")
+                .description("로그인 시도 결과")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     /**
-     * 로그인 처리 및 JWT 토큰 생성
+     * 로그인 처리 및 access/refresh token 발급
+     *
+     * @throws AuthenticationFailedException 이메일이 없거나 비밀번호가 틀린 경우
      */
     @Transactional(readOnly = true)
-    public String login(String email, String rawPassword) {
-        Optional<MemberJpaEntity> memberOpt = memberRepository.findByEmail(email);
-        
+    public LoginResult login(String email, String rawPassword) {
+        return login(email, rawPassword, false);
+    }
+
+    /**
+     * 로그인 처리 - 회원은 필요한 컬럼만 한 번 조회하고, 응답에 필요한 정보를 함께 반환한다.
+     *
+     * @param includeAuthorities true면 회원 권한도 같은 트랜잭션에서 조회해 담는다
+     * @throws AuthenticationFailedException 이메일이 없거나 비밀번호가 틀린 경우
+     */
+    @Transactional(readOnly = true)
+    public LoginResult login(String email, String rawPassword, boolean includeAuthorities) {
+        // 필터에 없으면 가입 로그를 따라잡지 못한 동안에만 최근 가입분을 확인한다
+        boolean mightExist = memberEmailIndex.mightExist(email);
+        Optional<MemberCredentials> memberOpt = mightExist
+                ? memberRepository.findCredentialsByEmail(email)
+                : memberEmailIndex.findUnindexed(email);
+
         if (memberOpt.isEmpty()) {
-            throw new IllegalArgumentException("존재하지 않는 이메일입니다.");
+            if (mightExist) {
+                memberEmailIndex.recordFalsePositive();
+            }
+            throw rejectUnknownEmail(rawPassword);
         }
 
-        MemberJpaEntity member = memberOpt.get();
+        MemberCredentials member = memberOpt.get();
         
-        if (!passwordEncoder.matches(rawPassword, member.getPassword())) {
-            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
+        if (!passwordEncoder.matches(rawPassword, member.password())) {
+            loginBadPassword.increment();
+            throw AuthenticationFailedException.BAD_CREDENTIALS;
         }
 
-        return jwtTokenService.generateToken(member.getEmail());
+        loginSuccess.increment();
+        long span = RequestTimings.start();
+        IssuedTokens tokens = refreshTokenService.issue(member.email());
+        RequestTimings.stop("token-issue", span);
+
+        Set<String> authorities = includeAuthorities
+                ? authorityService.getUserAuthorities(member.id()).stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(Collectors.toUnmodifiableSet())
+                : Set.of();
+        return new LoginResult(tokens, member.id(), member.email(), member.name(), authorities);
+    }
+
+    /**
+     * 없는 이메일도 실제 회원과 같은 BCrypt 비교를 거쳐 응답 시간으로 가입 여부를 알 수 없게 한다.
+     */
+    private AuthenticationFailedException rejectUnknownEmail(String rawPassword) {
+        passwordEncoder.matches(rawPassword, dummyPasswordHash);
+        loginUnknownEmail.increment();
+        return AuthenticationFailedException.BAD_CREDENTIALS;
     }
 
     /**
@@ -51,4 +132,44 @@ public class AuthService {
         return memberRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
     }
-}
\ No newline at end of file
+
+    /**
+     * access token 갱신 - 회원 조회/비밀번호 확인 없이 refresh token만으로 처리한다.
+     *
+     * @throws AuthenticationFailedException 유효하지 않거나 이미 사용된 refresh token
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public IssuedTokens refresh(String refreshToken) {
+        return refreshTokenService.refresh(refreshToken);
+    }
+
+    /**
+     * 로그아웃 - 토큰을 폐기한다. 이미 만료되었거나 유효하지 않은 토큰이면 할 일이 없다.
+     * refresh token이 함께 오면 그 패밀리도 폐기한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String token, String refreshToken) {
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        VerifiedToken verified;
+        try {
+            verified = jwtTokenService.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        tokenRevocationService.revoke(verified);
+    }
+
+    /**
+     * 회원의 현재까지 발급된 토큰을 모두 폐기한다 (강제 로그아웃, 역할 변경 등)
+     * 쓰기 경로이므로 읽기 전용(replica)이 아닌 primary 트랜잭션에서 회원을 확인한다.
+     */
+    public void revokeAllTokens(Long memberId) {
+        MemberJpaEntity member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 사용자입니다."));
+        Instant now = Instant.now();
+        tokenRevocationService.revokeAllForMember(member.getEmail(), now);
+        refreshTokenService.revokeAllForMember(member.getEmail(), now);
+    }
+}
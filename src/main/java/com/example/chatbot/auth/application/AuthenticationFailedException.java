@@ -0,0 +1,21 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.common.exception.DomainException;
+import com.example.chatbot.common.exception.ErrorCode;
+
+/**
+ * 인증 실패 - 상태가 없으므로 공유 인스턴스를 던진다.
+ * 이메일 없음/비밀번호 불일치를 구분하지 않아 가입 여부가 드러나지 않는다.
+ */
+public final class AuthenticationFailedException extends DomainException {
+
+    public static final AuthenticationFailedException BAD_CREDENTIALS =
+            new AuthenticationFailedException(ErrorCode.AUTHENTICATION_FAILED);
+
+    public static final AuthenticationFailedException INVALID_REFRESH_TOKEN =
+            new AuthenticationFailedException(ErrorCode.INVALID_REFRESH_TOKEN);
+
+    private AuthenticationFailedException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
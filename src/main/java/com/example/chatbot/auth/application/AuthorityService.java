@@ -1,70 +1,173 @@
 package com.example.chatbot.auth.application;
 
 import com.example.chatbot.auth.infrastructure.persistence.jpa.AuthorityJpaRepository;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.ClosureGrant;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.MemberGrant;
 import com.example.chatbot.auth.infrastructure.persistence.jpa.MemberRoleJpaRepository;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleCatalogCache;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleClosureJpaRepository;
 import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleJpaRepository;
 import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.AuthorityJpaEntity;
 import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.MemberRoleJpaEntity;
 import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.RoleJpaEntity;
+import com.example.chatbot.common.outbox.OutboxWriter;
+import com.example.chatbot.common.timing.RequestTimings;
 import com.example.chatbot.member.infrastructure.persistence.jpa.MemberJpaRepository;
 import com.example.chatbot.member.infrastructure.persistence.jpa.entity.MemberJpaEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 @Service
 @Transactional
 public class AuthorityService {
 
+    public static final String USER_AUTHORITIES_CACHE = "userAuthorities";
+
+    // 회원별 버전 칸 수 (2의 거듭제곱) - 같은 칸을 쓰는 회원은 함께 무효화될 뿐이다
+    private static final int MEMBER_VERSION_STRIPES = 4096;
+
     private final AuthorityJpaRepository authorityRepository;
     private final RoleJpaRepository roleRepository;
     private final MemberRoleJpaRepository memberRoleRepository;
+    private final RoleClosureJpaRepository roleClosureRepository;
     private final MemberJpaRepository memberRepository;
+    private final CacheManager cacheManager;
+    private final RoleCatalogCache roleCatalogCache;
+    private final OutboxWriter outboxWriter;
+    private final Timer authoritiesLoadTimer;
+    // 역할 구성/계층 변경은 모든 회원에, 역할 할당 변경은 그 회원(이 속한 칸)에만 영향을 준다
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLongArray memberVersions = new AtomicLongArray(MEMBER_VERSION_STRIPES);
 
     public AuthorityService(AuthorityJpaRepository authorityRepository,
                           RoleJpaRepository roleRepository,
                           MemberRoleJpaRepository memberRoleRepository,
-                          MemberJpaRepository memberRepository) {
+                          RoleClosureJpaRepository roleClosureRepository,
+                          MemberJpaRepository memberRepository,
+                          CacheManager cacheManager,
+                          RoleCatalogCache roleCatalogCache,
+                          OutboxWriter outboxWriter,
+                          MeterRegistry meterRegistry) {
         this.authorityRepository = authorityRepository;
         this.roleRepository = roleRepository;
         this.memberRoleRepository = memberRoleRepository;
+        this.roleClosureRepository = roleClosureRepository;
         this.memberRepository = memberRepository;
+        this.cacheManager = cacheManager;
+        this.roleCatalogCache = roleCatalogCache;
+        this.outboxWriter = outboxWriter;
+        this.authoritiesLoadTimer = Timer.builder("auth.authorities.load")
+                .description("캐시 미스 시 권한 조회(DB) 시간 - 적중률은 cache.gets{cache=userAuthorities}")
+                .register(meterRegistry);
+        // 다른 노드에서 역할 구성이 바뀌면 이 노드의 펼친 권한 캐시도 비운다
+        roleCatalogCache.onRemoteChange(this::clearLocalUserAuthorities);
+        // 다른 노드에서 회원의 역할 할당이 바뀌면 그 회원의 캐시와 버전만 갱신한다
+        roleCatalogCache.onRemoteMemberChange(this::evictLocalUserAuthorities);
     }
 
     /**
      * 사용자의 모든 권한 조회 (캐시 적용)
      */
-    @Cacheable(value = "userAuthorities", key = "#memberId")
+    @Cacheable(value = USER_AUTHORITIES_CACHE, key = "#memberId")
     @Transactional(readOnly = true)
     public Collection<? extends GrantedAuthority> getUserAuthorities(Long memberId) {
-        List<MemberRoleJpaEntity> memberRoles = memberRoleRepository
-                .findByMemberIdWithRoleAndAuthorities(memberId);
-
-        Set<GrantedAuthority> authorities = memberRoles.stream()
-                .flatMap(memberRole -> {
-                    RoleJpaEntity role = memberRole.getRole();
-                    // 역할 자체도 권한으로 추가
-                    Set<GrantedAuthority> roleAuthorities = role.getAuthorities().stream()
-                            .map(auth -> new SimpleGrantedAuthority(auth.getAuthority()))
-                            .collect(Collectors.toSet());
-                    
-                    // 역할도 권한으로 추가 (ROLE_ 접두사)
-                    roleAuthorities.add(new SimpleGrantedAuthority(role.getRole()));
-                    
-                    return roleAuthorities.stream();
-                })
-                .collect(Collectors.toSet());
+        return loadUserAuthorities(memberId);
+    }
+
+    /**
+     * 사용자의 모든 권한을 캐시를 거치지 않고 읽는다 - 자체 캐시를 가진 호출자가 만료를 겹쳐 쌓지 않도록 쓴다
+     */
+    @Transactional(readOnly = true)
+    public Collection<? extends GrantedAuthority> loadUserAuthorities(Long memberId) {
+        long span = RequestTimings.start();
+        long start = System.nanoTime();
+        // 역할 계층은 role_closure에 미리 펼쳐져 있으므로 깊이와 관계없이 조인 한 번으로 끝난다
+        Set<GrantedAuthority> authorities = new HashSet<>();
+        for (ClosureGrant grant : roleClosureRepository.findGrantsByMemberId(memberId)) {
+            addGrant(authorities, grant.descendantRole(), grant.authorityName());
+        }
 
+        authoritiesLoadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        RequestTimings.stop("authz-load", span);
         return authorities;
     }
 
+    /**
+     * 여러 회원의 권한 조회 - 캐시에 없는 회원만 쿼리 한 번으로 읽고 캐시에 넣는다.
+     * 역할이 없거나 없는 회원은 빈 집합이다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Collection<? extends GrantedAuthority>> getUserAuthoritiesByMemberIds(Collection<Long> memberIds) {
+        Cache cache = cacheManager.getCache(USER_AUTHORITIES_CACHE);
+        Map<Long, Collection<? extends GrantedAuthority>> result = new HashMap<>(memberIds.size() * 2);
+        Set<Long> missing = new HashSet<>();
+        for (Long memberId : memberIds) {
+            Cache.ValueWrapper cached = cache != null ? cache.get(memberId) : null;
+            if (cached != null && cached.get() instanceof Collection<?> authorities) {
+                @SuppressWarnings("unchecked")
+                Collection<? extends GrantedAuthority> typed = (Collection<? extends GrantedAuthority>) authorities;
+                result.put(memberId, typed);
+            } else {
+                missing.add(memberId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        loadUserAuthoritiesByMemberIds(missing).forEach((memberId, authorities) -> {
+            if (cache != null) {
+                cache.put(memberId, authorities);
+            }
+            result.put(memberId, authorities);
+        });
+        return result;
+    }
+
+    /**
+     * 여러 회원의 권한을 캐시를 거치지 않고 쿼리 한 번으로 읽는다. 역할이 없거나 없는 회원은 빈 집합이다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Collection<? extends GrantedAuthority>> loadUserAuthoritiesByMemberIds(Collection<Long> memberIds) {
+        long span = RequestTimings.start();
+        long start = System.nanoTime();
+        Map<Long, Set<GrantedAuthority>> loaded = new HashMap<>(memberIds.size() * 2);
+        for (Long memberId : memberIds) {
+            loaded.put(memberId, new HashSet<>());
+        }
+        for (MemberGrant grant : roleClosureRepository.findGrantsByMemberIds(loaded.keySet())) {
+            addGrant(loaded.get(grant.memberId()), grant.role(), grant.authorityName());
+        }
+        authoritiesLoadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        RequestTimings.stop("authz-load", span);
+        return new HashMap<>(loaded);
+    }
+
+    private static void addGrant(Set<GrantedAuthority> authorities, String role, String authorityName) {
+        authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+        if (authorityName != null) {
+            authorities.add(new SimpleGrantedAuthority("AUTHORITY_" + authorityName));
+        }
+    }
+
     /**
      * 사용자에게 역할 할당
      */
@@ -73,7 +176,7 @@ public class AuthorityService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
         
         RoleJpaEntity role = roleRepository.findByName(roleName)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 역할입니다: " + roleName));
+                .orElseThrow(() -> new UnknownRoleException(roleName));
 
         // 이미 할당된 역할인지 확인
         if (memberRoleRepository.existsByMemberIdAndRoleId(memberId, role.getId())) {
@@ -82,6 +185,8 @@ public class AuthorityService {
 
         MemberRoleJpaEntity memberRole = new MemberRoleJpaEntity(member, role, assignedBy);
         memberRoleRepository.save(memberRole);
+        outboxWriter.append(MemberRoleChanged.AGGREGATE_TYPE, memberId,
+                new MemberRoleChanged(memberId, roleName, MemberRoleChanged.Change.ASSIGNED, assignedBy));
         
         // 캐시 무효화 (다음 조회 시 새로운 권한 적용)
         evictUserAuthoritiesCache(memberId);
@@ -92,14 +197,46 @@ public class AuthorityService {
      */
     public void removeRoleFromMember(Long memberId, String roleName) {
         RoleJpaEntity role = roleRepository.findByName(roleName)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 역할입니다: " + roleName));
+                .orElseThrow(() -> new UnknownRoleException(roleName));
 
         memberRoleRepository.deleteByMemberIdAndRoleId(memberId, role.getId());
+        outboxWriter.append(MemberRoleChanged.AGGREGATE_TYPE, memberId,
+                new MemberRoleChanged(memberId, roleName, MemberRoleChanged.Change.REMOVED, null));
         
         // 캐시 무효화
         evictUserAuthoritiesCache(memberId);
     }
 
+    /**
+     * 사용자의 직접 역할을 하나로 교체 - 하위 역할은 계층으로 따라오므로 함께 할당하지 않는다
+     */
+    public void replaceMemberRoles(Long memberId, String roleName, Long changedBy) {
+        MemberJpaEntity member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+        RoleJpaEntity role = roleRepository.findByName(roleName)
+                .orElseThrow(() -> new UnknownRoleException(roleName));
+
+        boolean alreadyAssigned = false;
+        for (MemberRoleJpaEntity memberRole : memberRoleRepository.findByMemberId(memberId)) {
+            RoleJpaEntity current = memberRole.getRole();
+            if (current.getId().equals(role.getId())) {
+                alreadyAssigned = true;
+                continue;
+            }
+            memberRoleRepository.delete(memberRole);
+            outboxWriter.append(MemberRoleChanged.AGGREGATE_TYPE, memberId,
+                    new MemberRoleChanged(memberId, current.getName(), MemberRoleChanged.Change.REMOVED, changedBy));
+        }
+        if (!alreadyAssigned) {
+            memberRoleRepository.save(new MemberRoleJpaEntity(member, role, changedBy));
+            outboxWriter.append(MemberRoleChanged.AGGREGATE_TYPE, memberId,
+                    new MemberRoleChanged(memberId, roleName, MemberRoleChanged.Change.ASSIGNED, changedBy));
+        }
+
+        evictUserAuthoritiesCache(memberId);
+    }
+
     /**
      * 사용자가 특정 권한을 가지고 있는지 확인
      */
@@ -119,11 +256,65 @@ public class AuthorityService {
     }
 
     /**
-     * 사용자 권한 캐시 무효화
+     * 사용자 권한 캐시 무효화 - 회원 탈퇴 시에도 호출된다. 커밋 후 다른 노드에도 알려 그 회원의 버전을 올리게 한다.
+     */
+    public void evictUserAuthoritiesCache(Long memberId) {
+        evictLocalUserAuthorities(memberId);
+        roleCatalogCache.memberChanged(memberId);
+    }
+
+    private void evictLocalUserAuthorities(long memberId) {
+        // 같은 빈 안에서 호출하므로 @CacheEvict 대신 CacheManager로 직접 무효화
+        Cache cache = cacheManager.getCache(USER_AUTHORITIES_CACHE);
+        if (cache != null) {
+            cache.evict(memberId);
+        }
+        int stripe = stripeOf(memberId);
+        bumpAfterCommitToo(() -> memberVersions.incrementAndGet(stripe));
+    }
+
+    /**
+     * 역할의 권한 구성이나 계층이 바뀌면 그 역할을 가진 회원을 모두 찾는 대신 캐시 전체를 비운다.
+     * 커밋 후 다른 노드에도 알려 같은 캐시와 역할 카탈로그 2차 캐시를 비우게 한다.
+     */
+    public void clearUserAuthoritiesCache() {
+        clearLocalUserAuthorities();
+        roleCatalogCache.changed();
+    }
+
+    private void clearLocalUserAuthorities() {
+        Cache cache = cacheManager.getCache(USER_AUTHORITIES_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+        bumpAfterCommitToo(catalogVersion::incrementAndGet);
+    }
+
+    /**
+     * 회원의 권한 구성 버전 - 캐시된 MemberPrincipal은 만들 때의 버전과 다르면 다시 만든다.
+     * 역할 구성 변경이나 그 회원의 역할 변경 때만 바뀌므로 다른 회원의 역할 변경은 캐시를 비우지 않는다.
+     * 권한을 읽기 전에 조회해야 읽는 도중의 변경을 놓치지 않는다.
      */
-    private void evictUserAuthoritiesCache(Long memberId) {
-        // @CacheEvict 어노테이션 사용하거나 수동으로 캐시 무효화
-        // 여기서는 간단히 구현
+    public long authoritiesVersion(Long memberId) {
+        // 두 값 모두 증가만 하므로 합도 어느 한쪽이 바뀔 때마다 커진다
+        return catalogVersion.get() + memberVersions.get(stripeOf(memberId));
+    }
+
+    private static int stripeOf(Long memberId) {
+        return Long.hashCode(memberId) & (MEMBER_VERSION_STRIPES - 1);
+    }
+
+    // 커밋 전에 새 버전으로 옛 권한을 읽어 캐시하는 경우를 막기 위해 커밋 후에도 한 번 더 올린다
+    private static void bumpAfterCommitToo(Runnable bump) {
+        bump.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+        }
     }
 
     /**
@@ -147,13 +338,14 @@ public class AuthorityService {
      */
     public void addAuthorityToRole(String roleName, String authorityName) {
         RoleJpaEntity role = roleRepository.findByNameWithAuthorities(roleName)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 역할입니다: " + roleName));
+                .orElseThrow(() -> new UnknownRoleException(roleName));
         
         AuthorityJpaEntity authority = authorityRepository.findByName(authorityName)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 권한입니다: " + authorityName));
 
         role.addAuthority(authority);
         roleRepository.save(role);
+        clearUserAuthoritiesCache();
     }
 
     /**
@@ -161,12 +353,13 @@ public class AuthorityService {
      */
     public void removeAuthorityFromRole(String roleName, String authorityName) {
         RoleJpaEntity role = roleRepository.findByNameWithAuthorities(roleName)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 역할입니다: " + roleName));
+                .orElseThrow(() -> new UnknownRoleException(roleName));
         
         AuthorityJpaEntity authority = authorityRepository.findByName(authorityName)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 권한입니다: " + authorityName));
 
         role.removeAuthority(authority);
         roleRepository.save(role);
+        clearUserAuthoritiesCache();
     }
 }
\ No newline at end of file
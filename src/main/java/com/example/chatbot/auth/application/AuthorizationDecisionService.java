@@ -0,0 +1,155 @@
+package com.example.chatbot.auth.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다른 서비스용 권한 판정 - 회원별 권한 비트맵을 메모리에 두고 (회원, 권한) 쌍을 DB 없이 판정한다.
+ *
+ * 권한 구성이 바뀌면 AuthorityService의 버전이 올라가므로 캐시 항목을 다시 만든다.
+ * 다른 노드의 변경도 커밋 후 중계로 이 노드의 버전을 올리므로 바로 반영되고, 중계를 놓치면 TTL 안에 반영된다.
+ * 항목은 userAuthorities 캐시를 거치지 않고 DB에서 읽어 두 캐시의 TTL이 겹쳐 늘어나지 않게 한다.
+ */
+@Service
+public class AuthorizationDecisionService {
+
+    private final AuthorityService authorityService;
+    private final Cache<Long, MemberPermissions> permissionsCache;
+    private final Counter decisions;
+    private final DistributionSummary batchSize;
+
+    public AuthorizationDecisionService(AuthorityService authorityService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${authz.permission-cache.max-size:100000}") long maxSize,
+                                        @Value("${authz.permission-cache.ttl:60s}") Duration ttl) {
+        this.authorityService = authorityService;
+        this.permissionsCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, permissionsCache, "authzPermissions");
+        this.decisions = Counter.builder("authz.decisions")
+                .description("판정한 (회원, 권한) 쌍 수")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("authz.decisions.batch.size")
+                .description("판정 요청 한 번에 담긴 쌍 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 순서대로 판정 결과를 반환한다. 없는 회원이나 비어 있는 값은 거부로 판정한다.
+     */
+    public boolean[] decide(List<DecisionCheck> checks) {
+        boolean[] results = new boolean[checks.size()];
+        Map<Long, MemberPermissions> resolved = resolveAll(checks);
+        for (int i = 0; i < results.length; i++) {
+            DecisionCheck check = checks.get(i);
+            if (check == null || check.memberId() == null) {
+                continue;
+            }
+            results[i] = resolved.get(check.memberId()).has(check.authority());
+        }
+        decisions.increment(results.length);
+        batchSize.record(results.length);
+        return results;
+    }
+
+    /**
+     * 배치에 나온 회원의 권한 - 캐시에 없거나 오래된 회원은 한 번의 쿼리로 함께 읽는다
+     */
+    private Map<Long, MemberPermissions> resolveAll(List<DecisionCheck> checks) {
+        Map<Long, MemberPermissions> resolved = new HashMap<>();
+        Map<Long, Long> missingVersions = new HashMap<>();
+        for (DecisionCheck check : checks) {
+            if (check == null || check.memberId() == null
+                    || resolved.containsKey(check.memberId()) || missingVersions.containsKey(check.memberId())) {
+                continue;
+            }
+            long version = authorityService.authoritiesVersion(check.memberId());
+            MemberPermissions cached = permissionsCache.getIfPresent(check.memberId());
+            if (cached != null && cached.authoritiesVersion() == version) {
+                resolved.put(check.memberId(), cached);
+            } else {
+                missingVersions.put(check.memberId(), version);
+            }
+        }
+        if (missingVersions.isEmpty()) {
+            return resolved;
+        }
+        // 버전을 먼저 읽었으므로 읽는 도중 바뀌면 다음 조회에서 다시 만든다
+        Map<Long, Collection<? extends GrantedAuthority>> authorities =
+                authorityService.loadUserAuthoritiesByMemberIds(missingVersions.keySet());
+        missingVersions.forEach((memberId, version) -> {
+            MemberPermissions loaded = toPermissions(memberId, authorities.getOrDefault(memberId, List.of()), version);
+            permissionsCache.put(memberId, loaded);
+            resolved.put(memberId, loaded);
+        });
+        return resolved;
+    }
+
+    /**
+     * 회원의 유효 권한 - 권한 구성이 바뀌었으면 다시 만든다
+     */
+    public MemberPermissions permissions(Long memberId) {
+        long version = authorityService.authoritiesVersion(memberId);
+        MemberPermissions cached = permissionsCache.getIfPresent(memberId);
+        if (cached != null && cached.authoritiesVersion() == version) {
+            return cached;
+        }
+        // 버전을 먼저 읽었으므로 읽는 도중 바뀌면 다음 조회에서 다시 만든다
+        MemberPermissions loaded = load(memberId, version);
+        permissionsCache.put(memberId, loaded);
+        return loaded;
+    }
+
+    private MemberPermissions load(Long memberId, long version) {
+        return toPermissions(memberId, authorityService.loadUserAuthorities(memberId), version);
+    }
+
+    private static MemberPermissions toPermissions(Long memberId, Collection<? extends GrantedAuthority> authorities,
+                                                   long version) {
+        List<String> names = authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .toList();
+        return new MemberPermissions(memberId, names, versionOf(names), PermissionBitmap.of(authorities), version);
+    }
+
+    static String versionOf(List<String> sortedPermissions) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String permission : sortedPermissions) {
+                digest.update(permission.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            // 충돌 가능성이 무시할 만한 64비트만 사용해 ETag를 짧게 유지
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 판정할 (회원, 권한) 쌍 - authority는 ROLE_ 또는 AUTHORITY_ 접두사를 포함한다
+     */
+    public record DecisionCheck(Long memberId, String authority) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.chatbot.auth.application;
+
+/**
+ * 발급된 access/refresh token 쌍
+ *
+ * @param expiresInSeconds access token 유효 시간(초)
+ */
+public record IssuedTokens(String accessToken, String refreshToken, long expiresInSeconds) {
+}
@@ -0,0 +1,11 @@
+package com.example.chatbot.auth.application;
+
+import java.util.Set;
+
+/**
+ * 로그인 결과 - 발급된 토큰과 응답에 필요한 회원 정보를 한 번의 조회로 담는다.
+ *
+ * @param authorities 요청한 경우에만 채워지며 아니면 빈 집합
+ */
+public record LoginResult(IssuedTokens tokens, Long memberId, String email, String name, Set<String> authorities) {
+}
@@ -0,0 +1,18 @@
+package com.example.chatbot.auth.application;
+
+import java.util.List;
+
+/**
+ * 회원의 유효 권한 스냅샷
+ *
+ * @param permissions        정렬된 권한 문자열 (ROLE_/AUTHORITY_ 포함)
+ * @param version            권한 목록에서 계산한 버전 - 내용이 같으면 어느 노드에서든 같은 값이므로 강한 ETag로 쓴다
+ * @param authoritiesVersion 만들 때의 AuthorityService 권한 구성 버전 (캐시 무효화 확인용)
+ */
+public record MemberPermissions(Long memberId, List<String> permissions, String version,
+                                PermissionBitmap bitmap, long authoritiesVersion) {
+
+    public boolean has(String authority) {
+        return authority != null && bitmap.has(authority);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.auth.infrastructure.VerifiedToken;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 회원 - @AuthenticationPrincipal로 받으면 회원 id까지 DB 조회 없이 쓸 수 있다.
+ *
+ * 인증 한 번에 한 번 만들고 토큰별로 캐시한다. 비밀번호 해시는 HTTP Basic 인증에만 필요하므로
+ * 인증 후 지워지고(CredentialsContainer), 토큰 인증으로 만든 인스턴스에는 처음부터 없다.
+ * 그 외 필드는 불변이다.
+ */
+public final class MemberPrincipal implements UserDetails, CredentialsContainer {
+
+    private final Long memberId;
+    private final String email;
+    private volatile String password;
+    private final List<GrantedAuthority> authorities;
+    private final PermissionBitmap permissions;
+    private final long authoritiesVersion;
+
+    // 토큰 인증일 때만 있음
+    private final String tokenId;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    private MemberPrincipal(Long memberId, String email, String password,
+                            Collection<? extends GrantedAuthority> authorities, long authoritiesVersion,
+                            String tokenId, Instant issuedAt, Instant expiresAt) {
+        this.memberId = memberId;
+        this.email = email;
+        this.password = password;
+        this.authorities = List.copyOf(authorities);
+        this.permissions = PermissionBitmap.of(this.authorities);
+        this.authoritiesVersion = authoritiesVersion;
+        this.tokenId = tokenId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 아이디/비밀번호 인증용 (비밀번호 해시 포함)
+     */
+    public static MemberPrincipal withPassword(Long memberId, String email, String passwordHash,
+                                               Collection<? extends GrantedAuthority> authorities,
+                                               long authoritiesVersion) {
+        return new MemberPrincipal(memberId, email, passwordHash, authorities, authoritiesVersion, null, null, null);
+    }
+
+    /**
+     * 토큰 인증용
+     */
+    public static MemberPrincipal fromToken(Long memberId, String email,
+                                            Collection<? extends GrantedAuthority> authorities,
+                                            long authoritiesVersion, VerifiedToken token) {
+        return new MemberPrincipal(memberId, email, null, authorities, authoritiesVersion,
+                token.tokenId(), token.issuedAt(), token.expiresAt());
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * 권한 보유 여부 - 비트맵으로 확인한다.
+     */
+    public boolean hasPermission(String authority) {
+        return permissions.has(authority);
+    }
+
+    public long getAuthoritiesVersion() {
+        return authoritiesVersion;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof MemberPrincipal other && memberId.equals(other.memberId);
+    }
+
+    @Override
+    public int hashCode() {
+        return memberId.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "MemberPrincipal[memberId=" + memberId + ", email=" + email + "]";
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.chatbot.auth.application;
+
+/**
+ * 회원 역할 변경 이벤트 - 아웃박스를 통해 member 스트림으로 발행된다
+ *
+ * @param changedBy 변경한 관리자 id (시스템 변경이면 null)
+ */
+public record MemberRoleChanged(Long memberId, String role, Change change, Long changedBy) {
+
+    // 가입 이벤트와 같은 스트림에 실어 회원별 순서를 유지한다
+    public static final String AGGREGATE_TYPE = "member";
+
+    public enum Change { ASSIGNED, REMOVED }
+}
@@ -0,0 +1,49 @@
+package com.example.chatbot.auth.application;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 권한 비트맵 - 권한 문자열마다 프로세스 안에서 고정된 비트 번호를 붙여 포함 여부를 O(1)로 확인한다.
+ *
+ * 비트 번호는 처음 본 순서로 정해지므로 프로세스 밖으로 내보내거나 저장하지 않는다.
+ */
+public final class PermissionBitmap {
+
+    private static final ConcurrentHashMap<String, Integer> INDEX = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    public static final PermissionBitmap EMPTY = new PermissionBitmap(new long[0]);
+
+    private final long[] words;
+
+    private PermissionBitmap(long[] words) {
+        this.words = words;
+    }
+
+    public static PermissionBitmap of(Collection<? extends GrantedAuthority> authorities) {
+        long[] words = new long[0];
+        for (GrantedAuthority authority : authorities) {
+            int index = INDEX.computeIfAbsent(authority.getAuthority(), key -> NEXT_INDEX.getAndIncrement());
+            int word = index >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, word + 1);
+            }
+            words[word] |= 1L << index;
+        }
+        return new PermissionBitmap(words);
+    }
+
+    public boolean has(String authority) {
+        Integer index = INDEX.get(authority);
+        if (index == null) {
+            return false;
+        }
+        int word = index >>> 6;
+        return word < words.length && (words[word] & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.auth.application.RefreshTokenStore.Rotation;
+import com.example.chatbot.auth.infrastructure.InMemoryRefreshTokenStore;
+import com.example.chatbot.auth.infrastructure.JwtTokenService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * access token(수 분) + refresh token(불투명, 1회용, 회전) 발급
+ *
+ * refresh token 형식은 "{familyId}.{secret}"이고 familyId는 회원 태그 + 난수다. familyId를 토큰에 담아 두어
+ * 갱신 시 회원 조회나 비밀번호 해시 없이 저장소 연산 1회(회원 폐기 판정을 포함한 회전) + HMAC 서명 1회로 끝난다.
+ *
+ * 회원 단위 폐기(revokeAllForMember)는 그 시각 이전에 발급된 패밀리를 모두 무효로 한다 -
+ * access token만 폐기하면 refresh token으로 곧바로 새 access token을 받을 수 있기 때문이다.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final int FAMILY_BYTES = 16;
+    private static final int SECRET_BYTES = 32;
+
+    private final RefreshTokenStore store;
+    private final JwtTokenService jwtTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final Duration refreshTtl;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<Rotation.Result, Counter> refreshes = new EnumMap<>(Rotation.Result.class);
+
+    public RefreshTokenService(ObjectProvider<RefreshTokenStore> storeProvider,
+                               JwtTokenService jwtTokenService,
+                               TokenRevocationService tokenRevocationService,
+                               MeterRegistry meterRegistry,
+                               @Value("${jwt.refresh-expiration:1209600000}") long refreshExpirationMillis) { // 14일
+        this.store = storeProvider.getIfAvailable(InMemoryRefreshTokenStore::new);
+        this.jwtTokenService = jwtTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.refreshTtl = Duration.ofMillis(refreshExpirationMillis);
+        for (Rotation.Result result : Rotation.Result.values()) {
+            refreshes.put(result, Counter.builder("auth.refresh")
+                    .tag("result", result.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 로그인 성공 시 새 패밀리로 발급한다.
+     */
+    public IssuedTokens issue(String subject) {
+        String familyId = RefreshTokenStore.memberTag(subject) + randomToken(FAMILY_BYTES);
+        String refreshToken = familyId + "." + randomToken(SECRET_BYTES);
+        store.issue(familyId, hash(refreshToken), subject, System.currentTimeMillis(), refreshTtl);
+        return tokens(subject, refreshToken);
+    }
+
+    /**
+     * refresh token을 회전한다. 이미 사용된 토큰이면 패밀리와 회원의 access token을 모두 폐기한다.
+     *
+     * @throws AuthenticationFailedException 유효하지 않은 refresh token
+     */
+    public IssuedTokens refresh(String refreshToken) {
+        String familyId = familyIdOf(refreshToken);
+        String next = familyId + "." + randomToken(SECRET_BYTES);
+        Rotation rotation = store.rotate(familyId, hash(refreshToken), hash(next), refreshTtl);
+        refreshes.get(rotation.result()).increment();
+
+        switch (rotation.result()) {
+            case ROTATED -> {
+                return tokens(rotation.subject(), next);
+            }
+            case REUSED -> {
+                log.warn("사용된 refresh token 재사용 감지 - 패밀리 폐기: subject={}", rotation.subject());
+                tokenRevocationService.revokeAllForMember(rotation.subject(), Instant.now());
+                throw AuthenticationFailedException.INVALID_REFRESH_TOKEN;
+            }
+            default -> throw AuthenticationFailedException.INVALID_REFRESH_TOKEN;
+        }
+    }
+
+    /**
+     * issuedBefore 이전에 로그인한 회원의 refresh token 패밀리를 모두 폐기한다.
+     */
+    public void revokeAllForMember(String subject, Instant issuedBefore) {
+        store.revokeMember(subject, issuedBefore.toEpochMilli(), refreshTtl);
+    }
+
+    /**
+     * 로그아웃 시 패밀리를 폐기한다. 형식이 잘못된 토큰은 무시한다.
+     */
+    public void revoke(String refreshToken) {
+        try {
+            store.revokeFamily(familyIdOf(refreshToken), refreshTtl);
+        } catch (AuthenticationFailedException e) {
+            // 폐기할 대상이 없음
+        }
+    }
+
+    private IssuedTokens tokens(String subject, String refreshToken) {
+        String accessToken = jwtTokenService.generateToken(subject);
+        return new IssuedTokens(accessToken, refreshToken, jwtTokenService.getExpirationMillis() / 1000);
+    }
+
+    private static String familyIdOf(String refreshToken) {
+        int dot = refreshToken == null ? -1 : refreshToken.indexOf('.');
+        if (dot <= RefreshTokenStore.MEMBER_TAG_LENGTH || dot == refreshToken.length() - 1) {
+            throw AuthenticationFailedException.INVALID_REFRESH_TOKEN;
+        }
+        return refreshToken.substring(0, dot);
+    }
+
+    private String randomToken(int bytes) {
+        byte[] buffer = new byte[bytes];
+        random.nextBytes(buffer);
+        return BASE64_URL.encodeToString(buffer);
+    }
+
+    // 저장소가 유출되어도 토큰으로 쓸 수 없도록 해시만 저장한다
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return BASE64_URL.encodeToString(digest.digest(refreshToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.chatbot.auth.application;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * refresh token 저장소 - 토큰 원문이 아니라 해시만 저장한다.
+ *
+ * 같은 로그인에서 회전으로 이어지는 토큰들은 하나의 패밀리(familyId)로 묶이고,
+ * 이미 사용된 토큰이 다시 제시되면 패밀리 전체를 폐기한다 (탈취 의심).
+ *
+ * 패밀리 ID는 회원 태그(회원 식별자 해시 앞부분)로 시작한다. 저장소는 이 태그로 회원 단위 폐기 기록을
+ * 패밀리와 함께 찾으므로 회전 한 번에 회원 폐기까지 판정할 수 있다 (Redis Cluster에서도 같은 슬롯).
+ */
+public interface RefreshTokenStore {
+
+    int MEMBER_TAG_LENGTH = 11;
+
+    /**
+     * 회원 태그 - SHA-256(subject) 앞 8바이트의 base64url (11자)
+     */
+    static String memberTag(String subject) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(subject.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String memberTagOf(String familyId) {
+        return familyId.substring(0, MEMBER_TAG_LENGTH);
+    }
+
+    /**
+     * 새 패밀리의 첫 토큰을 저장한다. 패밀리 발급 시각(issuedAtMillis)도 함께 기록한다.
+     */
+    void issue(String familyId, String tokenHash, String subject, long issuedAtMillis, Duration ttl);
+
+    /**
+     * oldHash를 사용 처리하고 newHash를 발급한다. 한 번의 원자적 연산이어야 한다.
+     * 패밀리가 회원 단위 폐기 기준 시각 이전에 발급되었으면 회전하지 않고 패밀리를 폐기한 뒤 MEMBER_REVOKED를 반환한다.
+     */
+    Rotation rotate(String familyId, String oldHash, String newHash, Duration ttl);
+
+    void revokeFamily(String familyId, Duration ttl);
+
+    /**
+     * issuedBeforeMillis 이전에 발급된 회원의 패밀리를 모두 무효로 기록한다 (ttl 동안 유지)
+     */
+    void revokeMember(String subject, long issuedBeforeMillis, Duration ttl);
+
+    /**
+     * @param familyIssuedAtMillis 패밀리 첫 발급 시각 - 기록이 없는 예전 패밀리는 0
+     */
+    record Rotation(Result result, String subject, long familyIssuedAtMillis) {
+
+        public enum Result { ROTATED, NOT_FOUND, REUSED, FAMILY_REVOKED, MEMBER_REVOKED }
+
+        public static Rotation of(Result result) {
+            return new Rotation(result, null, 0);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.chatbot.auth.application;
+
+/**
+ * 토큰 폐기 기록
+ *
+ * @param type        TOKEN이면 key는 jti, MEMBER면 key는 회원 식별자(토큰 subject)
+ * @param key         폐기 대상
+ * @param epochMillis TOKEN: 토큰 만료 시각 (이후에는 기록이 필요 없음) / MEMBER: 이 시각 이전에 발급된 토큰을 폐기
+ */
+public record Revocation(Type type, String key, long epochMillis) {
+
+    public enum Type { TOKEN, MEMBER }
+
+    public static Revocation token(String tokenId, long expiresAtMillis) {
+        return new Revocation(Type.TOKEN, tokenId, expiresAtMillis);
+    }
+
+    public static Revocation member(String subject, long issuedBeforeMillis) {
+        return new Revocation(Type.MEMBER, subject, issuedBeforeMillis);
+    }
+}
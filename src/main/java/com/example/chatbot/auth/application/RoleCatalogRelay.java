@@ -0,0 +1,47 @@
+package com.example.chatbot.auth.application;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 역할/권한 카탈로그와 회원 역할 할당 변경을 다른 노드에 알리기 위한 중계 - 받은 노드는 로컬 캐시를 비운다
+ */
+public interface RoleCatalogRelay {
+
+    /**
+     * 단일 노드 운영용 (중계 없음)
+     */
+    RoleCatalogRelay LOCAL_ONLY = new RoleCatalogRelay() {
+        @Override
+        public void publish() {
+        }
+
+        @Override
+        public void listen(Runnable listener) {
+        }
+
+        @Override
+        public void publishMember(long memberId) {
+        }
+
+        @Override
+        public void listenMember(LongConsumer listener) {
+        }
+    };
+
+    void publish();
+
+    /**
+     * 다른 노드의 변경 알림을 받는다 - 자기 노드가 보낸 알림은 전달하지 않는다
+     */
+    void listen(Runnable listener);
+
+    /**
+     * 회원 한 명의 역할 할당이 바뀌었음을 알린다 - 받은 노드는 그 회원의 권한 캐시만 비운다
+     */
+    void publishMember(long memberId);
+
+    /**
+     * 다른 노드의 회원 역할 할당 변경 알림을 받는다 - 자기 노드가 보낸 알림은 전달하지 않는다
+     */
+    void listenMember(LongConsumer listener);
+}
@@ -0,0 +1,100 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.auth.infrastructure.ClosureRoleHierarchy;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.ClosureGrant;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleCatalogCache;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleClosureJpaRepository;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleJpaRepository;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.RoleJpaEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 역할 계층 관리 - 간선이 바뀔 때마다 role_closure를 다시 계산해 두고,
+ * 권한 조회와 RoleHierarchy 검사는 이 폐포만 읽는다.
+ */
+@Service
+@Transactional
+public class RoleHierarchyService {
+
+    private static final long HIERARCHY_LOCK_KEY = 0x726f6c6568L; // "roleh"
+
+    private final RoleJpaRepository roleRepository;
+    private final RoleClosureJpaRepository closureRepository;
+    private final AuthorityService authorityService;
+    private final ClosureRoleHierarchy roleHierarchy;
+
+    public RoleHierarchyService(RoleJpaRepository roleRepository,
+                                RoleClosureJpaRepository closureRepository,
+                                AuthorityService authorityService,
+                                ClosureRoleHierarchy roleHierarchy,
+                                RoleCatalogCache roleCatalogCache) {
+        this.roleRepository = roleRepository;
+        this.closureRepository = closureRepository;
+        this.authorityService = authorityService;
+        this.roleHierarchy = roleHierarchy;
+        // 다른 노드의 계층 변경은 주기 갱신을 기다리지 않고 바로 다시 읽는다
+        roleCatalogCache.onRemoteChange(roleHierarchy::refreshNow);
+    }
+
+    /**
+     * 상위 역할이 하위 역할의 권한을 모두 갖도록 한다. 이미 있으면 아무것도 하지 않는다.
+     *
+     * @throws IllegalArgumentException 하위 역할이 이미 상위 역할에 도달하면 (순환)
+     */
+    public void addChildRole(String parentName, String childName) {
+        closureRepository.lockHierarchy(HIERARCHY_LOCK_KEY);
+        RoleJpaEntity parent = findRole(parentName);
+        RoleJpaEntity child = findRole(childName);
+
+        if (closureRepository.existsByAncestorIdAndDescendantId(child.getId(), parent.getId())
+                || parent.getId().equals(child.getId())) {
+            throw new IllegalArgumentException("역할 계층에 순환이 생깁니다: " + parentName + " > " + childName);
+        }
+        if (parent.addChild(child)) {
+            roleRepository.save(parent);
+            rebuildClosure();
+        }
+    }
+
+    public void removeChildRole(String parentName, String childName) {
+        closureRepository.lockHierarchy(HIERARCHY_LOCK_KEY);
+        RoleJpaEntity parent = findRole(parentName);
+        RoleJpaEntity child = findRole(childName);
+
+        if (parent.removeChild(child)) {
+            roleRepository.save(parent);
+            rebuildClosure();
+        }
+    }
+
+    /**
+     * role_hierarchy 간선에서 폐포를 다시 만든다. 역할 수가 적어 전체를 다시 쓰는 편이 증분 갱신보다 단순하다.
+     * 새 역할도 자기 자신 행이 있어야 권한 조회에 잡히므로 역할을 만든 뒤에도 호출한다.
+     */
+    public void rebuildClosure() {
+        closureRepository.lockHierarchy(HIERARCHY_LOCK_KEY);
+        // 네이티브 SQL이 방금 바꾼 간선을 보도록 먼저 반영
+        roleRepository.flush();
+        closureRepository.deleteAllRows();
+        closureRepository.rebuild();
+
+        List<ClosureGrant> grants = closureRepository.findAllGrants();
+        authorityService.clearUserAuthoritiesCache();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                roleHierarchy.publish(grants);
+            }
+        });
+    }
+
+    private RoleJpaEntity findRole(String roleName) {
+        return roleRepository.findByName(roleName)
+                .orElseThrow(() -> new UnknownRoleException(roleName));
+    }
+}
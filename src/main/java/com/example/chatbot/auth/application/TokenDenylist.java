@@ -0,0 +1,33 @@
+package com.example.chatbot.auth.application;
+
+import java.util.function.Consumer;
+
+/**
+ * 폐기 목록 저장소 (노드 간 공유, 판정의 기준)
+ *
+ * 노드는 bootstrap으로 전체를 한 번 받은 뒤 readSince로 변경분만 받아 로컬 필터를 갱신한다.
+ */
+public interface TokenDenylist {
+
+    /**
+     * 기록하고 변경 로그에 남긴다. 기록은 토큰 최대 수명이 지나면 저장소에서 사라져도 된다.
+     */
+    void add(Revocation revocation);
+
+    /**
+     * 해당 jti가 폐기되었는지 저장소에서 확인한다 (로컬 필터가 "있을 수도 있음"이라고 답한 경우에만 호출)
+     */
+    boolean isTokenRevoked(String tokenId);
+
+    /**
+     * 현재 살아 있는 기록 전체를 넘기고, 이후 변경분을 읽을 커서를 반환한다.
+     */
+    String bootstrap(Consumer<Revocation> sink);
+
+    /**
+     * cursor 이후의 변경분을 최대 max건 넘기고 새 커서를 반환한다.
+     *
+     * @return 새 커서, cursor 이후 변경분 일부가 이미 잘려 나가 이어 읽을 수 없으면 null (bootstrap부터 다시)
+     */
+    String readSince(String cursor, int max, Consumer<Revocation> sink);
+}
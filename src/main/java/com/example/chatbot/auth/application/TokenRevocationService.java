@@ -0,0 +1,211 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.auth.infrastructure.InMemoryTokenDenylist;
+import com.example.chatbot.auth.infrastructure.VerifiedToken;
+import com.example.chatbot.common.bloom.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 폐기 - jti 단위와 회원 단위("T 이전에 발급된 토큰 전부")
+ *
+ * 요청마다 하는 판정은 로컬에서 끝난다.
+ * - 회원 단위: 로컬 맵(회원 -> 기준 시각)과 발급 시각(iat_ms, 없으면 iat) 비교
+ * - jti 단위: 로컬 Bloom 필터가 "없음"이면 바로 통과. "있을 수도 있음"일 때만 저장소(Redis)에 확인
+ * 다른 노드의 폐기는 저장소 변경 로그를 sync-interval마다 읽어 반영하므로 그만큼 늦게 적용될 수 있다.
+ * 변경 로그가 잘려 읽던 위치를 잃으면 전체를 다시 읽는다.
+ *
+ * Bloom 필터는 삭제가 안 되므로 토큰 최대 수명마다 세대를 교체한다.
+ * 폐기된 jti는 현재 세대에 들어가고 다음 교체 뒤에도 이전 세대로 한 번 더 살아 있으므로
+ * 토큰이 만료될 때까지는 항상 필터에 남는다.
+ */
+@Service
+public class TokenRevocationService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private static final int SYNC_BATCH = 1_000;
+
+    private final TokenDenylist denylist;
+    private final long maxTokenLifetimeMillis;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private volatile long rotatedAtMillis;
+    private final ConcurrentHashMap<String, Long> memberCutoffs = new ConcurrentHashMap<>();
+
+    // sync 스레드 전용
+    private String cursor;
+
+    private final ScheduledExecutorService syncer;
+    private final Counter bloomNegative;
+    private final Counter confirmedRevoked;
+    private final Counter falsePositive;
+    private final Counter memberRevoked;
+    private final Counter rebootstraps;
+
+    public TokenRevocationService(ObjectProvider<TokenDenylist> denylistProvider,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${jwt.expiration:900000}") long maxTokenLifetimeMillis,
+                                  @Value("${auth.revocation.expected-revocations:100000}") long expectedRevocations,
+                                  @Value("${auth.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                  @Value("${auth.revocation.sync-interval:1s}") Duration syncInterval) {
+        this.denylist = denylistProvider.getIfAvailable(InMemoryTokenDenylist::new);
+        this.maxTokenLifetimeMillis = maxTokenLifetimeMillis;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = new BloomFilter(expectedRevocations, falsePositiveRate);
+        this.previous = new BloomFilter(expectedRevocations, falsePositiveRate);
+        this.rotatedAtMillis = System.currentTimeMillis();
+
+        this.bloomNegative = checkCounter(meterRegistry, "bloom_negative");
+        this.confirmedRevoked = checkCounter(meterRegistry, "revoked");
+        this.falsePositive = checkCounter(meterRegistry, "false_positive");
+        this.memberRevoked = checkCounter(meterRegistry, "member_revoked");
+        this.rebootstraps = Counter.builder("auth.revocation.rebootstraps")
+                .description("변경 로그 위치를 잃어 폐기 목록을 다시 읽은 횟수")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("auth.revocation.members", Tags.empty(), memberCutoffs);
+
+        this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = syncInterval.toMillis();
+        syncer.scheduleWithFixedDelay(this::sync, 0, period, TimeUnit.MILLISECONDS);
+    }
+
+    private static Counter checkCounter(MeterRegistry registry, String result) {
+        return Counter.builder("auth.revocation.checks")
+                .description("토큰 폐기 판정 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * 폐기 여부 - 대부분의 경우 네트워크 없이 판정한다.
+     * 저장소 확인이 필요한데 실패하면 폐기된 것으로 본다 (fail-closed).
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        Long cutoff = memberCutoffs.get(token.subject());
+        // 발급 시각은 밀리초 단위(iat_ms)라 기준 시각 뒤에 발급된 토큰은 같은 초여도 살아 있다.
+        // iat_ms가 없는 예전 토큰은 초 단위 iat로 비교하므로 같은 초의 토큰은 폐기로 본다 (fail-closed)
+        if (cutoff != null && (token.issuedAt() == null || token.issuedAt().toEpochMilli() <= cutoff)) {
+            memberRevoked.increment();
+            return true;
+        }
+
+        String tokenId = token.tokenId();
+        if (tokenId == null || !mightBeRevoked(tokenId)) {
+            bloomNegative.increment();
+            return false;
+        }
+        try {
+            if (denylist.isTokenRevoked(tokenId)) {
+                confirmedRevoked.increment();
+                return true;
+            }
+            falsePositive.increment();
+            return false;
+        } catch (RuntimeException ex) {
+            log.warn("토큰 폐기 여부 확인 실패 - 폐기된 것으로 처리: {}", ex.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 토큰 하나를 폐기한다 (로그아웃 등)
+     */
+    public void revoke(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            // jti가 없는 예전 토큰은 회원 단위로만 폐기할 수 있다
+            revokeAllForMember(token.subject(), token.issuedAt() != null ? token.issuedAt() : Instant.now());
+            return;
+        }
+        Revocation revocation = Revocation.token(token.tokenId(), token.expiresAt().toEpochMilli());
+        apply(revocation);
+        denylist.add(revocation);
+    }
+
+    /**
+     * issuedBefore 이전에 발급된 해당 회원의 토큰을 모두 폐기한다.
+     */
+    public void revokeAllForMember(String subject, Instant issuedBefore) {
+        Revocation revocation = Revocation.member(subject, issuedBefore.toEpochMilli());
+        apply(revocation);
+        denylist.add(revocation);
+    }
+
+    private boolean mightBeRevoked(String tokenId) {
+        return current.mightContain(tokenId) || previous.mightContain(tokenId);
+    }
+
+    private void apply(Revocation revocation) {
+        switch (revocation.type()) {
+            case TOKEN -> {
+                if (revocation.epochMillis() > System.currentTimeMillis()) {
+                    current.put(revocation.key());
+                }
+            }
+            case MEMBER -> memberCutoffs.merge(revocation.key(), revocation.epochMillis(), Math::max);
+        }
+    }
+
+    private void sync() {
+        try {
+            if (cursor == null) {
+                cursor = denylist.bootstrap(this::apply);
+                log.info("토큰 폐기 목록 초기화 - jti {}건, 회원 {}건",
+                        current.approximateInsertions(), memberCutoffs.size());
+            }
+            String next;
+            do {
+                next = cursor;
+                cursor = denylist.readSince(next, SYNC_BATCH, this::apply);
+                if (cursor == null) {
+                    // 읽지 않은 변경분이 잘려 나갔다 - 저장소 전체를 다시 읽는다 (반영은 누적이라 중복은 무해)
+                    rebootstraps.increment();
+                    log.warn("토큰 폐기 변경 로그 위치 유실 - 전체 다시 읽기 (cursor={})", next);
+                    cursor = denylist.bootstrap(this::apply);
+                    next = null;
+                }
+            } while (!cursor.equals(next));
+            expireLocalState();
+        } catch (RuntimeException ex) {
+            log.warn("토큰 폐기 목록 동기화 실패: {}", ex.getMessage());
+        }
+    }
+
+    private void expireLocalState() {
+        long now = System.currentTimeMillis();
+        if (now - rotatedAtMillis >= maxTokenLifetimeMillis) {
+            previous = current;
+            current = new BloomFilter(expectedRevocations, falsePositiveRate);
+            rotatedAtMillis = now;
+        }
+        // 기준 시각 이전 발급 토큰이 모두 만료되면 기록이 필요 없다
+        memberCutoffs.values().removeIf(cutoff -> cutoff + maxTokenLifetimeMillis < now);
+    }
+
+    @Override
+    public void destroy() {
+        syncer.shutdownNow();
+    }
+}
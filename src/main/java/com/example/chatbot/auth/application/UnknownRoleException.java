@@ -0,0 +1,11 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.common.exception.DomainException;
+import com.example.chatbot.common.exception.ErrorCode;
+
+public class UnknownRoleException extends DomainException {
+
+    public UnknownRoleException(String roleName) {
+        super(ErrorCode.UNKNOWN_ROLE, "존재하지 않는 역할입니다: " + roleName);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.chatbot.auth.infrastructure;
+
+import com.example.chatbot.auth.infrastructure.persistence.jpa.ClosureGrant;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleClosureJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * role_closure 스냅샷 기반 RoleHierarchy - 역할마다 도달 가능한 역할/권한 집합을 미리 펼쳐 두므로
+ * 검사 비용은 보유 권한 수에만 비례하고 계층 깊이와 무관하다.
+ *
+ * 이 노드의 계층 변경은 커밋 직후 반영되고, 다른 노드의 변경은 카탈로그 변경 알림(refreshNow)으로,
+ * 알림을 놓친 경우에는 refresh-interval 주기로 다시 읽어 반영한다.
+ */
+@Component
+public class ClosureRoleHierarchy implements RoleHierarchy, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ClosureRoleHierarchy.class);
+
+    private final RoleClosureJpaRepository closureRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService executor;
+
+    private volatile Map<String, Set<GrantedAuthority>> reachable = Map.of();
+
+    public ClosureRoleHierarchy(RoleClosureJpaRepository closureRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${auth.role-hierarchy.refresh-interval:1m}") Duration refreshInterval) {
+        this.closureRepository = closureRepository;
+        // 복제본 지연으로 방금 바뀐 계층을 놓치지 않도록 읽기 전용으로 표시하지 않는다 (primary에서 읽음)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "role-hierarchy-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 기동 시 스냅샷은 DataInitializer가 폐포를 다시 계산하면서 채운다
+        executor.scheduleWithFixedDelay(this::refresh, refreshInterval.toMillis(), refreshInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getReachableGrantedAuthorities(
+            Collection<? extends GrantedAuthority> authorities) {
+        if (authorities == null || authorities.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Set<GrantedAuthority>> snapshot = reachable;
+        Set<GrantedAuthority> result = new LinkedHashSet<>(authorities);
+        for (GrantedAuthority authority : authorities) {
+            Set<GrantedAuthority> implied = snapshot.get(authority.getAuthority());
+            if (implied != null) {
+                result.addAll(implied);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 역할(ROLE_ 접두사)이 직접/간접으로 얻는 역할과 권한 - 알 수 없는 역할이면 빈 집합
+     */
+    public Set<GrantedAuthority> reachableFrom(String role) {
+        return reachable.getOrDefault(role, Set.of());
+    }
+
+    /**
+     * 같은 트랜잭션에서 다시 계산한 폐포를 커밋 후 반영한다
+     */
+    public void publish(List<ClosureGrant> grants) {
+        this.reachable = index(grants);
+    }
+
+    /**
+     * 갱신 스레드에서 바로 다시 읽는다
+     */
+    public void refreshNow() {
+        executor.execute(this::refresh);
+    }
+
+    private void refresh() {
+        try {
+            List<ClosureGrant> grants = transactionTemplate.execute(status -> closureRepository.findAllGrants());
+            if (grants != null) {
+                publish(grants);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("역할 계층 스냅샷 갱신 실패, 이전 스냅샷 유지: {}", ex.getMessage());
+        }
+    }
+
+    static Map<String, Set<GrantedAuthority>> index(List<ClosureGrant> grants) {
+        Map<String, Set<GrantedAuthority>> byRole = new HashMap<>();
+        for (ClosureGrant grant : grants) {
+            Set<GrantedAuthority> implied = byRole.computeIfAbsent(
+                    "ROLE_" + grant.ancestorRole(), key -> new LinkedHashSet<>());
+            implied.add(new SimpleGrantedAuthority("ROLE_" + grant.descendantRole()));
+            if (grant.authorityName() != null) {
+                implied.add(new SimpleGrantedAuthority("AUTHORITY_" + grant.authorityName()));
+            }
+        }
+        Map<String, Set<GrantedAuthority>> frozen = new HashMap<>(byRole.size() * 2);
+        byRole.forEach((role, implied) -> frozen.put(role, Set.copyOf(implied)));
+        return Map.copyOf(frozen);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
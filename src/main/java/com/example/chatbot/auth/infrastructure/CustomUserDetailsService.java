@@ -1,11 +1,11 @@
 package com.example.chatbot.auth.infrastructure;
 
 import com.example.chatbot.auth.application.AuthorityService;
+import com.example.chatbot.auth.application.MemberPrincipal;
+import com.example.chatbot.member.application.MemberEmailIndex;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberCredentials;
 import com.example.chatbot.member.infrastructure.persistence.jpa.MemberJpaRepository;
-import com.example.chatbot.member.infrastructure.persistence.jpa.entity.MemberJpaEntity;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,33 +13,54 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 
+/**
+ * 회원 조회로 MemberPrincipal을 만든다 - HTTP Basic 인증과 토큰 인증(캐시 미스 시)에서 쓴다.
+ */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final MemberJpaRepository memberRepository;
     private final AuthorityService authorityService;
+    private final MemberEmailIndex memberEmailIndex;
 
-    public CustomUserDetailsService(MemberJpaRepository memberRepository, AuthorityService authorityService) {
+    public CustomUserDetailsService(MemberJpaRepository memberRepository, AuthorityService authorityService,
+                                    MemberEmailIndex memberEmailIndex) {
         this.memberRepository = memberRepository;
         this.authorityService = authorityService;
+        this.memberEmailIndex = memberEmailIndex;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        MemberJpaEntity member = memberRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-
-        Collection<? extends GrantedAuthority> authorities = authorityService.getUserAuthorities(member.getId());
-
-        return User.builder()
-                .username(member.getEmail())
-                .password(member.getPassword())
-                .authorities(authorities)
-                .accountExpired(false)
-                .accountLocked(false)
-                .credentialsExpired(false)
-                .disabled(false)
-                .build();
+    public MemberPrincipal loadUserByUsername(String email) throws UsernameNotFoundException {
+        MemberCredentials member = findMember(email);
+        long version = authorityService.authoritiesVersion(member.id());
+        return MemberPrincipal.withPassword(member.id(), member.email(), member.password(),
+                authorityService.getUserAuthorities(member.id()), version);
     }
-}
\ No newline at end of file
+
+    /**
+     * 검증된 토큰의 회원으로 principal을 만든다 (비밀번호 해시는 담지 않음)
+     */
+    @Transactional(readOnly = true)
+    public MemberPrincipal loadByToken(VerifiedToken token) throws UsernameNotFoundException {
+        MemberCredentials member = findMember(token.subject());
+        long version = authorityService.authoritiesVersion(member.id());
+        Collection<? extends GrantedAuthority> authorities = authorityService.getUserAuthorities(member.id());
+        return MemberPrincipal.fromToken(member.id(), member.email(), authorities, version, token);
+    }
+
+    private MemberCredentials findMember(String email) {
+        // 없는 회원의 BCrypt 더미 비교는 DaoAuthenticationProvider가 수행한다
+        if (!memberEmailIndex.mightExist(email)) {
+            // 가입 로그를 따라잡은 상태면 DB를 보지 않고 확정한다
+            return memberEmailIndex.findUnindexed(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        }
+        return memberRepository.findCredentialsByEmail(email)
+                .orElseThrow(() -> {
+                    memberEmailIndex.recordFalsePositive();
+                    return new UsernameNotFoundException("User not found with email: " + email);
+                });
+    }
+}
@@ -0,0 +1,462 @@
+package com.example.chatbot.auth.infrastructure;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * JwtTokenService가 발급한 HMAC 토큰 전용 빠른 검증기
+ *
+ * 스레드별 Mac과 재사용 버퍼로 Base64URL 디코딩/서명 계산을 하고, 헤더와 페이로드는
+ * 필요한 클레임(sub, jti, iat, iat_ms, exp)만 읽는 최소 JSON 스캐너로 처리한다.
+ * 결과 객체 외에는 할당하지 않는다.
+ *
+ * 조금이라도 예상과 다른 토큰(다른 alg, 추가 헤더, nbf, 이스케이프 문자열, 중첩 값, 서명 불일치, 만료 등)은
+ * null을 반환하고, 호출자는 jjwt로 다시 검증해 정확한 예외를 얻는다.
+ */
+public final class FastJwtVerifier {
+
+    private static final int MAX_TOKEN_LENGTH = 8 * 1024;
+    private static final int[] BASE64_URL = new int[128];
+
+    static {
+        Arrays.fill(BASE64_URL, -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = i;
+        }
+    }
+
+    private static final byte[] KEY_ALG = ascii("alg");
+    private static final byte[] KEY_TYP = ascii("typ");
+    private static final byte[] KEY_SUB = ascii("sub");
+    private static final byte[] KEY_JTI = ascii("jti");
+    private static final byte[] KEY_IAT = ascii("iat");
+    private static final byte[] KEY_IAT_MS = ascii(JwtTokenService.ISSUED_AT_MILLIS_CLAIM);
+    private static final byte[] KEY_EXP = ascii("exp");
+    private static final byte[] KEY_NBF = ascii("nbf");
+
+    private final SecretKey key;
+    private final byte[] expectedAlg;
+    private final ThreadLocal<State> states;
+
+    /**
+     * @param key jjwt Keys.hmacShaKeyFor로 만든 키 - 키 길이에 따라 HS256/384/512가 정해진다
+     */
+    public FastJwtVerifier(SecretKey key) {
+        this.key = key;
+        this.expectedAlg = ascii(jwsAlgorithm(key.getAlgorithm()));
+        this.states = ThreadLocal.withInitial(this::newState);
+    }
+
+    /**
+     * @return 검증된 클레임, 빠른 경로로 판단할 수 없거나 유효하지 않으면 null
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.length() > MAX_TOKEN_LENGTH) {
+            return null;
+        }
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+
+        State state = states.get();
+
+        // 서명 비교
+        int signatureLength = decode(token, secondDot + 1, token.length(), state.signature);
+        if (signatureLength != state.mac.getMacLength()) {
+            return null;
+        }
+        for (int i = 0; i < secondDot; i++) {
+            char c = token.charAt(i);
+            if (c >= 128) {
+                return null;
+            }
+            state.input[i] = (byte) c;
+        }
+        state.mac.update(state.input, 0, secondDot);
+        try {
+            state.mac.doFinal(state.computed, 0);
+        } catch (ShortBufferException e) {
+            return null;
+        }
+        if (!constantTimeEquals(state.signature, state.computed, signatureLength)) {
+            return null;
+        }
+
+        // 헤더: alg(일치해야 함), typ만 허용
+        int headerLength = decode(token, 0, firstDot, state.json);
+        if (headerLength < 0 || !scanHeader(state, headerLength)) {
+            return null;
+        }
+
+        // 페이로드
+        int payloadLength = decode(token, firstDot + 1, secondDot, state.json);
+        if (payloadLength < 0) {
+            return null;
+        }
+        state.reset();
+        if (!scanPayload(state.json, payloadLength, state)) {
+            return null;
+        }
+        if (state.subStart < 0 || state.exp == Long.MIN_VALUE) {
+            return null;
+        }
+        long nowMillis = System.currentTimeMillis();
+        if (nowMillis > state.exp * 1000) {
+            return null;
+        }
+
+        byte[] json = state.json;
+        String subject = new String(json, state.subStart, state.subEnd - state.subStart, StandardCharsets.UTF_8);
+        String tokenId = state.jtiStart < 0 ? null
+                : new String(json, state.jtiStart, state.jtiEnd - state.jtiStart, StandardCharsets.UTF_8);
+        Instant issuedAt = state.iatMillis != Long.MIN_VALUE ? Instant.ofEpochMilli(state.iatMillis)
+                : state.iat == Long.MIN_VALUE ? null : Instant.ofEpochSecond(state.iat);
+        return new VerifiedToken(subject, tokenId, issuedAt, Instant.ofEpochSecond(state.exp));
+    }
+
+    private State newState() {
+        try {
+            Mac mac = Mac.getInstance(key.getAlgorithm());
+            mac.init(key);
+            return new State(mac);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화 실패: " + key.getAlgorithm(), e);
+        }
+    }
+
+    private boolean scanHeader(State state, int length) {
+        JsonScanner scanner = state.scanner;
+        boolean algMatched = false;
+        if (!scanner.begin(state.json, length)) {
+            return false;
+        }
+        while (scanner.nextMember()) {
+            if (scanner.keyEquals(KEY_ALG)) {
+                if (!scanner.valueIsString() || !scanner.valueEquals(expectedAlg)) {
+                    return false;
+                }
+                algMatched = true;
+            } else if (!scanner.keyEquals(KEY_TYP)) {
+                return false;
+            }
+        }
+        return scanner.completed() && algMatched;
+    }
+
+    private static boolean scanPayload(byte[] json, int length, State state) {
+        JsonScanner scanner = state.scanner;
+        if (!scanner.begin(json, length)) {
+            return false;
+        }
+        while (scanner.nextMember()) {
+            if (scanner.keyEquals(KEY_SUB)) {
+                if (!scanner.valueIsString()) {
+                    return false;
+                }
+                state.subStart = scanner.valueStart;
+                state.subEnd = scanner.valueEnd;
+            } else if (scanner.keyEquals(KEY_JTI)) {
+                if (!scanner.valueIsString()) {
+                    return false;
+                }
+                state.jtiStart = scanner.valueStart;
+                state.jtiEnd = scanner.valueEnd;
+            } else if (scanner.keyEquals(KEY_EXP)) {
+                if ((state.exp = scanner.valueAsLong()) == Long.MIN_VALUE) {
+                    return false;
+                }
+            } else if (scanner.keyEquals(KEY_IAT)) {
+                if ((state.iat = scanner.valueAsLong()) == Long.MIN_VALUE) {
+                    return false;
+                }
+            } else if (scanner.keyEquals(KEY_IAT_MS)) {
+                if ((state.iatMillis = scanner.valueAsLong()) == Long.MIN_VALUE) {
+                    return false;
+                }
+            } else if (scanner.keyEquals(KEY_NBF)) {
+                return false;
+            }
+            // 그 밖의 클레임은 건너뛴다
+        }
+        return scanner.completed();
+    }
+
+    /**
+     * Base64URL(패딩 없음) 디코딩
+     *
+     * @return 디코딩된 길이, 잘못된 입력이거나 버퍼가 모자라면 -1
+     */
+    static int decode(String source, int from, int to, byte[] out) {
+        int length = to - from;
+        if (length % 4 == 1) {
+            return -1;
+        }
+        int outLength = length / 4 * 3 + Math.max(0, length % 4 - 1);
+        if (outLength > out.length) {
+            return -1;
+        }
+        int o = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64_URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[o++] = (byte) (bits >> bitCount);
+            }
+        }
+        return o;
+    }
+
+    private static boolean constantTimeEquals(byte[] a, byte[] b, int length) {
+        int diff = 0;
+        for (int i = 0; i < length; i++) {
+            diff |= a[i] ^ b[i];
+        }
+        return diff == 0;
+    }
+
+    private static String jwsAlgorithm(String jcaName) {
+        return switch (jcaName) {
+            case "HmacSHA256" -> "HS256";
+            case "HmacSHA384" -> "HS384";
+            case "HmacSHA512" -> "HS512";
+            default -> throw new IllegalArgumentException("지원하지 않는 HMAC 알고리즘: " + jcaName);
+        };
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 스레드별 재사용 버퍼
+     */
+    private static final class State {
+        private final Mac mac;
+        private final byte[] input = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] json = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signature = new byte[64];
+        private final byte[] computed = new byte[64];
+        private final JsonScanner scanner = new JsonScanner();
+
+        private int subStart;
+        private int subEnd;
+        private int jtiStart;
+        private int jtiEnd;
+        private long iat;
+        private long iatMillis;
+        private long exp;
+
+        private State(Mac mac) {
+            this.mac = mac;
+        }
+
+        private void reset() {
+            subStart = subEnd = jtiStart = jtiEnd = -1;
+            iat = iatMillis = exp = Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * 평평한 JSON 객체 하나만 다루는 스캐너 - 이스케이프 문자열, 중첩 객체/배열, 실수는 거부한다.
+     */
+    private static final class JsonScanner {
+
+        private static final int STRING = 1;
+        private static final int NUMBER = 2;
+        private static final int LITERAL = 3;
+
+        private byte[] json;
+        private int length;
+        private int pos;
+        private boolean failed;
+        private boolean done;
+
+        private int keyStart;
+        private int keyEnd;
+        private int valueType;
+        private int valueStart;
+        private int valueEnd;
+
+        boolean begin(byte[] json, int length) {
+            this.json = json;
+            this.length = length;
+            this.pos = 0;
+            this.failed = false;
+            this.done = false;
+            skipWhitespace();
+            if (pos >= length || json[pos] != '{') {
+                failed = true;
+                return false;
+            }
+            pos++;
+            skipWhitespace();
+            if (pos < length && json[pos] == '}') {
+                pos++;
+                done = true;
+            }
+            return true;
+        }
+
+        /**
+         * 다음 멤버로 이동한다. 끝에 닿았거나 지원하지 않는 형식이면 false
+         */
+        boolean nextMember() {
+            if (failed || done) {
+                return false;
+            }
+            skipWhitespace();
+            if (!readString()) {
+                return fail();
+            }
+            keyStart = valueStart;
+            keyEnd = valueEnd;
+            skipWhitespace();
+            if (pos >= length || json[pos] != ':') {
+                return fail();
+            }
+            pos++;
+            skipWhitespace();
+            if (pos >= length) {
+                return fail();
+            }
+            byte c = json[pos];
+            if (c == '"') {
+                if (!readString()) {
+                    return fail();
+                }
+                valueType = STRING;
+            } else if (c == '-' || (c >= '0' && c <= '9')) {
+                valueStart = pos++;
+                while (pos < length && json[pos] >= '0' && json[pos] <= '9') {
+                    pos++;
+                }
+                valueEnd = pos;
+                valueType = NUMBER;
+            } else if (c == 't' || c == 'f' || c == 'n') {
+                valueStart = pos;
+                while (pos < length && json[pos] >= 'a' && json[pos] <= 'z') {
+                    pos++;
+                }
+                valueEnd = pos;
+                valueType = LITERAL;
+            } else {
+                return fail();
+            }
+            skipWhitespace();
+            if (pos >= length) {
+                return fail();
+            }
+            if (json[pos] == ',') {
+                pos++;
+            } else if (json[pos] == '}') {
+                pos++;
+                done = true;
+            } else {
+                return fail();
+            }
+            return true;
+        }
+
+        boolean completed() {
+            if (failed || !done) {
+                return false;
+            }
+            skipWhitespace();
+            return pos == length;
+        }
+
+        boolean keyEquals(byte[] expected) {
+            return regionEquals(keyStart, keyEnd, expected);
+        }
+
+        boolean valueIsString() {
+            return valueType == STRING;
+        }
+
+        boolean valueEquals(byte[] expected) {
+            return regionEquals(valueStart, valueEnd, expected);
+        }
+
+        /**
+         * 정수 값, 정수가 아니면 Long.MIN_VALUE
+         */
+        long valueAsLong() {
+            if (valueType != NUMBER || valueEnd - valueStart > 18 || valueEnd == valueStart) {
+                return Long.MIN_VALUE;
+            }
+            int i = valueStart;
+            boolean negative = json[i] == '-';
+            if (negative && ++i == valueEnd) {
+                return Long.MIN_VALUE;
+            }
+            long value = 0;
+            for (; i < valueEnd; i++) {
+                value = value * 10 + (json[i] - '0');
+            }
+            return negative ? -value : value;
+        }
+
+        private boolean readString() {
+            if (pos >= length || json[pos] != '"') {
+                return false;
+            }
+            int start = ++pos;
+            while (pos < length) {
+                byte c = json[pos];
+                if (c == '"') {
+                    valueStart = start;
+                    valueEnd = pos++;
+                    return true;
+                }
+                if (c == '\\' || (c >= 0 && c < 0x20)) {
+                    return false;
+                }
+                pos++;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < length) {
+                byte c = json[pos];
+                if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        private boolean regionEquals(int start, int end, byte[] expected) {
+            if (end - start != expected.length) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (json[start + i] != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean fail() {
+            failed = true;
+            return false;
+        }
+    }
+}
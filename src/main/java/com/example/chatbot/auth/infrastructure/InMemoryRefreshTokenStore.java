@@ -0,0 +1,85 @@
+package com.example.chatbot.auth.infrastructure;
+
+import com.example.chatbot.auth.application.RefreshTokenStore;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 단일 노드용 refresh token 저장소 (Redis를 끈 경우)
+ */
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int CLEANUP_INTERVAL = 1_024;
+
+    // 모두 this 모니터로 보호된다
+    private final Map<String, Entry> tokens = new HashMap<>();
+    private final Map<String, Long> revokedFamilies = new HashMap<>();
+    // 회원 -> (기준 시각, 기록 만료 시각)
+    private final Map<String, long[]> memberCutoffs = new HashMap<>();
+    private int writes;
+
+    @Override
+    public synchronized void issue(String familyId, String tokenHash, String subject, long issuedAtMillis, Duration ttl) {
+        long now = System.currentTimeMillis();
+        cleanupIfNeeded(now);
+        tokens.put(familyId + ":" + tokenHash, new Entry(subject, false, now + ttl.toMillis(), issuedAtMillis));
+    }
+
+    @Override
+    public synchronized Rotation rotate(String familyId, String oldHash, String newHash, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Long revokedUntil = revokedFamilies.get(familyId);
+        if (revokedUntil != null && revokedUntil > now) {
+            return Rotation.of(Rotation.Result.FAMILY_REVOKED);
+        }
+        String oldKey = familyId + ":" + oldHash;
+        Entry entry = tokens.get(oldKey);
+        if (entry == null || entry.expiresAt <= now) {
+            return Rotation.of(Rotation.Result.NOT_FOUND);
+        }
+        if (entry.used) {
+            revokedFamilies.put(familyId, now + ttl.toMillis());
+            return new Rotation(Rotation.Result.REUSED, entry.subject, entry.familyIssuedAt);
+        }
+        if (entry.familyIssuedAt <= memberCutoff(entry.subject, now)) {
+            // 회원 단위 폐기 이전에 시작된 패밀리
+            revokedFamilies.put(familyId, now + ttl.toMillis());
+            return new Rotation(Rotation.Result.MEMBER_REVOKED, entry.subject, entry.familyIssuedAt);
+        }
+        cleanupIfNeeded(now);
+        tokens.put(oldKey, new Entry(entry.subject, true, entry.expiresAt, entry.familyIssuedAt));
+        tokens.put(familyId + ":" + newHash, new Entry(entry.subject, false, now + ttl.toMillis(), entry.familyIssuedAt));
+        return new Rotation(Rotation.Result.ROTATED, entry.subject, entry.familyIssuedAt);
+    }
+
+    @Override
+    public synchronized void revokeFamily(String familyId, Duration ttl) {
+        revokedFamilies.put(familyId, System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    @Override
+    public synchronized void revokeMember(String subject, long issuedBeforeMillis, Duration ttl) {
+        long until = System.currentTimeMillis() + ttl.toMillis();
+        memberCutoffs.merge(subject, new long[]{issuedBeforeMillis, until},
+                (old, added) -> new long[]{Math.max(old[0], added[0]), Math.max(old[1], added[1])});
+    }
+
+    private long memberCutoff(String subject, long now) {
+        long[] cutoff = memberCutoffs.get(subject);
+        return cutoff == null || cutoff[1] <= now ? Long.MIN_VALUE : cutoff[0];
+    }
+
+    private void cleanupIfNeeded(long now) {
+        if (++writes % CLEANUP_INTERVAL != 0) {
+            return;
+        }
+        tokens.values().removeIf(entry -> entry.expiresAt <= now);
+        revokedFamilies.values().removeIf(until -> until <= now);
+        memberCutoffs.values().removeIf(cutoff -> cutoff[1] <= now);
+    }
+
+    private record Entry(String subject, boolean used, long expiresAt, long familyIssuedAt) {
+    }
+}
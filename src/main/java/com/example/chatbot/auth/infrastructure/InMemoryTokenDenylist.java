@@ -0,0 +1,71 @@
+package com.example.chatbot.auth.infrastructure;
+
+import com.example.chatbot.auth.application.Revocation;
+import com.example.chatbot.auth.application.TokenDenylist;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 폐기 목록 (Redis를 끈 경우) - 다른 노드와 공유하지 않으므로 변경 로그가 없다.
+ * 항목은 토큰 만료 시각에 Caffeine 타이머 휠로 지워지므로 폐기할 때마다 전체를 훑지 않는다.
+ */
+public class InMemoryTokenDenylist implements TokenDenylist {
+
+    // jti -> 토큰 만료 시각
+    private final Cache<String, Long> revokedTokens = Caffeine.newBuilder()
+            .expireAfter(new UntilTokenExpiry())
+            .build();
+
+    @Override
+    public void add(Revocation revocation) {
+        if (revocation.type() == Revocation.Type.TOKEN && revocation.epochMillis() > System.currentTimeMillis()) {
+            revokedTokens.put(revocation.key(), revocation.epochMillis());
+        }
+    }
+
+    @Override
+    public boolean isTokenRevoked(String tokenId) {
+        Long expiresAt = revokedTokens.getIfPresent(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public String bootstrap(Consumer<Revocation> sink) {
+        return "0";
+    }
+
+    @Override
+    public String readSince(String cursor, int max, Consumer<Revocation> sink) {
+        return cursor;
+    }
+
+    long size() {
+        revokedTokens.cleanUp();
+        return revokedTokens.estimatedSize();
+    }
+
+    /**
+     * 항목마다 토큰 만료 시각까지만 보관한다 - 같은 jti를 다시 폐기하면 새 만료 시각을 따른다
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String tokenId, Long expiresAt, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenId, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenId, Long expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
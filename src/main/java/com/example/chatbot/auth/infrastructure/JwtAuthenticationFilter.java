@@ -0,0 +1,70 @@
+package com.example.chatbot.auth.infrastructure;
+
+import com.example.chatbot.auth.application.MemberPrincipal;
+import com.example.chatbot.common.timing.RequestTimings;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authorization: Bearer 토큰 인증 필터
+ *
+ * 서블릿 필터로 중복 등록되지 않도록 빈으로 만들지 않고 SecurityConfig에서 생성한다.
+ * 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘긴다 (HTTP Basic 등 다른 방식이 처리).
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final CustomUserDetailsService userDetailsService;
+
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache, CustomUserDetailsService userDetailsService) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = bearerToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            long span = RequestTimings.start();
+            try {
+                // 캐시된 principal이 있으면 회원/권한 조회 없이 인증한다
+                MemberPrincipal principal = verifiedTokenCache.principal(token, userDetailsService::loadByToken);
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            } catch (JwtException | IllegalArgumentException | UsernameNotFoundException ex) {
+                log.debug("JWT 인증 실패 - {}", ex.getMessage());
+            } finally {
+                RequestTimings.stop("jwt-auth", span);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    public static String bearerToken(String header) {
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
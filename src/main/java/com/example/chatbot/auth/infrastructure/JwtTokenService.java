@@ -1,29 +1,84 @@
 package com.example.chatbot.auth.infrastructure;
 
+import com.example.chatbot.common.timing.RequestTimings;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtTokenService {
 
+    /**
+     * 밀리초 단위 발급 시각 - 표준 iat는 초 단위라 회원 단위 폐기 기준 시각과 같은 초에 발급된 토큰을 구분할 수 없다
+     */
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
     @Value("${jwt.secret:mySecretKeyForJwtTokenGenerationThatIsLongEnoughForHS256}")
     private String secret;
 
-    @Value("${jwt.expiration:86400000}") // 24시간
+    @Value("${jwt.expiration:900000}") // 15분 (갱신은 refresh token으로)
     private Long expiration;
 
+    @Value("${jwt.fast-verify.enabled:true}")
+    private boolean fastVerifyEnabled;
+
+    private final Timer signTimer;
+    private final Timer fastVerifyTimer;
+    private final Timer jjwtVerifyTimer;
+    private final Timer invalidVerifyTimer;
+
+    public JwtTokenService(MeterRegistry meterRegistry) {
+        this.signTimer = Timer.builder("auth.jwt.sign")
+                .description("JWT 서명(발급) 시간")
+                .register(meterRegistry);
+        this.fastVerifyTimer = verifyTimer(meterRegistry, "fast", "valid");
+        this.jjwtVerifyTimer = verifyTimer(meterRegistry, "jjwt", "valid");
+        this.invalidVerifyTimer = verifyTimer(meterRegistry, "jjwt", "invalid");
+    }
+
+    private static Timer verifyTimer(MeterRegistry registry, String path, String result) {
+        return Timer.builder("auth.jwt.verify")
+                .description("JWT 검증 시간 (path: 빠른 경로/jjwt)")
+                .tag("path", path)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    // 키와 파서는 불변이고 스레드 안전하므로 한 번만 만든다
+    private SecretKey signingKey;
+    private JwtParser parser;
+    private FastJwtVerifier fastVerifier;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        fastVerifier = fastVerifyEnabled ? new FastJwtVerifier(signingKey) : null;
+    }
+
+    public long getExpirationMillis() {
+        return expiration;
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
     }
 
     public String extractUsername(String token) {
@@ -40,11 +95,50 @@ public class JwtTokenService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 서명과 만료를 한 번의 파싱으로 검증한다.
+     *
+     * @throws JwtException 서명이 틀리거나 만료되었거나 형식이 잘못된 경우
+     */
+    public VerifiedToken verify(String token) {
+        long span = RequestTimings.start();
+        try {
+            return verifyTimed(token);
+        } finally {
+            RequestTimings.stop("jwt-verify", span);
+        }
+    }
+
+    private VerifiedToken verifyTimed(String token) {
+        long start = System.nanoTime();
+        if (fastVerifier != null) {
+            VerifiedToken verified = fastVerifier.verify(token);
+            if (verified != null) {
+                fastVerifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return verified;
+            }
+        }
+        // 빠른 경로가 판단하지 못한 토큰은 jjwt가 검증하고 정확한 예외를 던진다
+        try {
+            Claims claims = extractAllClaims(token);
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                throw new JwtException("subject/exp 클레임이 없는 토큰");
+            }
+            Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+            Date issuedAt = claims.getIssuedAt();
+            VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.getId(),
+                    issuedAtMillis != null ? Instant.ofEpochMilli(issuedAtMillis)
+                            : issuedAt != null ? issuedAt.toInstant() : null,
+                    claims.getExpiration().toInstant());
+            jjwtVerifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return verified;
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidVerifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
     }
 
     private Boolean isTokenExpired(String token) {
@@ -62,13 +156,21 @@ public class JwtTokenService {
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
-        return Jwts.builder()
+        long span = RequestTimings.start();
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        String token = Jwts.builder()
                 .claims(claims)
+                .claim(ISSUED_AT_MILLIS_CLAIM, now)
                 .subject(subject)
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
+                .id(UUID.randomUUID().toString()) // 토큰 단위 폐기(jti)용
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
                 .signWith(getSigningKey())
                 .compact();
+        signTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        RequestTimings.stop("jwt-sign", span);
+        return token;
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
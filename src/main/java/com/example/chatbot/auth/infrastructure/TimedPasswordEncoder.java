@@ -0,0 +1,60 @@
+package com.example.chatbot.auth.infrastructure;
+
+import com.example.chatbot.common.timing.RequestTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordEncoder 시간 측정 데코레이터 - BCrypt는 의도적으로 느리므로 로그인/가입 지연의 주요 원인이다.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer mismatchTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = Timer.builder("auth.password.encode")
+                .description("비밀번호 해시 시간")
+                .register(meterRegistry);
+        this.matchTimer = matchTimer(meterRegistry, "match");
+        this.mismatchTimer = matchTimer(meterRegistry, "mismatch");
+    }
+
+    private static Timer matchTimer(MeterRegistry registry, String result) {
+        return Timer.builder("auth.password.match")
+                .description("비밀번호 비교 시간")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long span = RequestTimings.start();
+        long start = System.nanoTime();
+        String encoded = delegate.encode(rawPassword);
+        encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        RequestTimings.stop("bcrypt", span);
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long span = RequestTimings.start();
+        long start = System.nanoTime();
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        (matches ? matchTimer : mismatchTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        RequestTimings.stop("bcrypt", span);
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.chatbot.auth.infrastructure;
+
+import java.time.Instant;
+
+/**
+ * 서명과 만료를 검증한 토큰의 클레임
+ *
+ * @param tokenId jti - 이전 버전에서 발급된 토큰에는 없을 수 있다 (null)
+ */
+public record VerifiedToken(String subject, String tokenId, Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt.toEpochMilli() <= nowMillis;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.chatbot.auth.infrastructure;
+
+import com.example.chatbot.auth.application.AuthorityService;
+import com.example.chatbot.auth.application.MemberPrincipal;
+import com.example.chatbot.auth.application.TokenRevocationService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검증된 토큰 캐시 - 같은 토큰의 서명 검증(HMAC + JSON 파싱)을 매 요청 반복하지 않는다.
+ * 토큰별로 만든 MemberPrincipal도 함께 캐시해 요청마다 회원/권한을 다시 조회하지 않는다.
+ *
+ * 항목은 토큰마다 exp 시각에 만료되고(Caffeine의 타이머 휠), max-entries를 넘으면 자주 쓰이지 않는
+ * 항목부터 밀어낸다 - 새 토큰이 몰려도 캐시가 꽉 차서 더 이상 캐시하지 못하는 일이 없다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenService jwtTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthorityService authorityService;
+    private final long principalTtlNanos;
+    private final Cache<String, Entry> cache;
+
+    public VerifiedTokenCache(JwtTokenService jwtTokenService,
+                              TokenRevocationService tokenRevocationService,
+                              AuthorityService authorityService,
+                              MeterRegistry meterRegistry,
+                              @Value("${auth.token-cache.max-entries:100000}") int maxEntries,
+                              // 다른 노드의 권한 변경은 전파되지 않으므로 userAuthorities 캐시 만료와 맞춘다
+                              @Value("${auth.principal-cache.ttl:60s}") Duration principalTtl) {
+        this.jwtTokenService = jwtTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.authorityService = authorityService;
+        this.principalTtlNanos = principalTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedTokens");
+        meterRegistry.gauge("auth.token.cache.size", Tags.empty(), cache, Cache::estimatedSize);
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 검증한 뒤 exp까지 캐시한다.
+     * 폐기 여부는 캐시 여부와 관계없이 매번 확인한다 (대부분 로컬 Bloom 필터에서 끝남).
+     *
+     * @throws JwtException 유효하지 않거나 만료/폐기된 토큰
+     */
+    public VerifiedToken verify(String token) {
+        return verifiedEntry(token).token;
+    }
+
+    /**
+     * 토큰을 검증하고 그 토큰의 principal을 반환한다. 캐시된 principal이 없거나, 권한 구성이 바뀌었거나,
+     * TTL이 지났으면 loader로 다시 만든다.
+     *
+     * @throws JwtException 유효하지 않거나 만료/폐기된 토큰
+     */
+    public MemberPrincipal principal(String token, Function<VerifiedToken, MemberPrincipal> loader) {
+        Entry entry = verifiedEntry(token);
+        MemberPrincipal principal = entry.principal;
+        long now = System.nanoTime();
+        if (principal != null
+                && principal.getAuthoritiesVersion() == authorityService.authoritiesVersion(principal.getMemberId())
+                && now - entry.principalLoadedNanos < principalTtlNanos) {
+            return principal;
+        }
+        principal = loader.apply(entry.token);
+        entry.principalLoadedNanos = now;
+        entry.principal = principal;
+        return principal;
+    }
+
+    private Entry verifiedEntry(String token) {
+        Entry entry = resolve(token);
+        if (tokenRevocationService.isRevoked(entry.token)) {
+            throw new JwtException("폐기된 토큰");
+        }
+        return entry;
+    }
+
+    private Entry resolve(String token) {
+        Entry cached = cache.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+        // 만료된 토큰은 캐시에서 빠져 있으므로 여기서 다시 검증되어 거절된다
+        Entry entry = new Entry(jwtTokenService.verify(token));
+        Entry raced = cache.asMap().putIfAbsent(token, entry);
+        return raced != null ? raced : entry;
+    }
+
+    /**
+     * 캐시에서 즉시 제거한다 (예약된 만료는 그대로 두어도 무해하다).
+     */
+    public void invalidate(String token) {
+        cache.invalidate(token);
+    }
+
+    /**
+     * 현재 항목 수 - 대기 중인 만료/축출을 먼저 반영한다
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 항목마다 토큰의 exp까지만 보관한다
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String token, Entry entry, long currentTime) {
+            long remainingMillis = entry.token.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static final class Entry {
+        private final VerifiedToken token;
+        // 같은 토큰의 동시 요청이 각자 만들어도 결과가 같으므로 락 없이 마지막 값을 쓴다
+        private volatile MemberPrincipal principal;
+        private volatile long principalLoadedNanos;
+
+        private Entry(VerifiedToken token) {
+            this.token = token;
+        }
+    }
+}
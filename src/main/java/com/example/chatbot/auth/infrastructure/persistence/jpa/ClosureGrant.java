@@ -0,0 +1,9 @@
+package com.example.chatbot.auth.infrastructure.persistence.jpa;
+
+/**
+ * 역할 폐포를 펼친 한 행 - 상위 역할이 하위 역할(자기 자신 포함)과 그 역할의 권한을 얻는다
+ *
+ * @param authorityName 하위 역할에 권한이 없으면 null
+ */
+public record ClosureGrant(String ancestorRole, String descendantRole, String authorityName) {
+}
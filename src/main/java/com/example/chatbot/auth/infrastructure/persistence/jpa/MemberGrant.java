@@ -0,0 +1,9 @@
+package com.example.chatbot.auth.infrastructure.persistence.jpa;
+
+/**
+ * 여러 회원의 권한을 한 번에 읽을 때의 한 행 - 회원이 (계층을 거쳐) 얻는 역할과 그 역할의 권한
+ *
+ * @param authorityName 역할에 권한이 없으면 null
+ */
+public record MemberGrant(Long memberId, String role, String authorityName) {
+}
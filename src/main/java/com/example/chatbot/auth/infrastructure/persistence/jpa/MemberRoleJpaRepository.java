@@ -2,10 +2,15 @@ package com.example.chatbot.auth.infrastructure.persistence.jpa;
 
 import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.MemberRoleJpaEntity;
 import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.RoleJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -14,9 +19,6 @@ public interface MemberRoleJpaRepository extends JpaRepository<MemberRoleJpaEnti
     
     List<MemberRoleJpaEntity> findByMemberId(Long memberId);
     
-    @Query("SELECT mr FROM MemberRoleJpaEntity mr JOIN FETCH mr.role r LEFT JOIN FETCH r.authorities WHERE mr.member.id = :memberId")
-    List<MemberRoleJpaEntity> findByMemberIdWithRoleAndAuthorities(@Param("memberId") Long memberId);
-    
     Optional<MemberRoleJpaEntity> findByMemberIdAndRoleId(Long memberId, Long roleId);
     
     boolean existsByMemberIdAndRoleId(Long memberId, Long roleId);
@@ -25,4 +27,14 @@ public interface MemberRoleJpaRepository extends JpaRepository<MemberRoleJpaEnti
     
     @Query("SELECT mr.role FROM MemberRoleJpaEntity mr WHERE mr.member.id = :memberId")
     Set<RoleJpaEntity> findRolesByMemberId(@Param("memberId") Long memberId);
-}
\ No newline at end of file
+
+    /**
+     * 회원들의 역할 할당을 최대 limit 행만 지운다 - 한 트랜잭션의 잠금/WAL 양을 묶기 위함.
+     * 지운 행이 limit보다 적으면 남은 행이 없다.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "member_roles"))
+    @Modifying
+    @Query(value = "DELETE FROM member_roles WHERE id IN ("
+            + "SELECT id FROM member_roles WHERE member_id IN (:memberIds) LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByMemberIds(@Param("memberIds") Collection<Long> memberIds, @Param("limit") int limit);
+}
@@ -0,0 +1,125 @@
+package com.example.chatbot.auth.infrastructure.persistence.jpa;
+
+import com.example.chatbot.auth.application.RoleCatalogRelay;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.AuthorityJpaEntity;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.RoleJpaEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * 역할/권한 카탈로그 2차 캐시의 노드 간 무효화
+ *
+ * 이 노드의 변경은 Hibernate가 flush 때 직접 무효화하므로 커밋 후 다른 노드에 알리기만 한다.
+ * 다른 노드의 변경 알림을 받으면 카탈로그 영역과 쿼리 캐시를 비우고 등록된 리스너(권한 캐시 등)를 호출한다 -
+ * 쿼리 결과 유효성을 판단하는 테이블 갱신 시각도 로컬이라 다른 노드의 변경은 알지 못하기 때문이다.
+ * 회원 한 명의 역할 할당 변경도 같은 중계로 알린다 - 카탈로그는 그대로이므로 2차 캐시는 비우지 않는다.
+ */
+@Component
+public class RoleCatalogCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RoleCatalogCache.class);
+
+    private static final List<String> REGIONS = List.of(
+            RoleJpaEntity.CACHE_REGION,
+            RoleJpaEntity.AUTHORITIES_CACHE_REGION,
+            RoleJpaEntity.CHILDREN_CACHE_REGION,
+            AuthorityJpaEntity.CACHE_REGION);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final RoleCatalogRelay relay;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private final List<LongConsumer> memberListeners = new CopyOnWriteArrayList<>();
+
+    public RoleCatalogCache(EntityManagerFactory entityManagerFactory,
+                            ObjectProvider<RoleCatalogRelay> relayProvider) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.relay = relayProvider.getIfAvailable(() -> RoleCatalogRelay.LOCAL_ONLY);
+        this.relay.listen(this::evictAndNotify);
+        this.relay.listenMember(this::notifyMember);
+    }
+
+    /**
+     * 카탈로그를 바꾼 트랜잭션이 커밋되면 다른 노드에 알린다 - 트랜잭션 밖이면 바로 알린다
+     */
+    public void changed() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            relay.publish();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.publish();
+            }
+        });
+    }
+
+    /**
+     * 회원의 역할 할당을 바꾼 트랜잭션이 커밋되면 다른 노드에 알린다 - 트랜잭션 밖이면 바로 알린다
+     */
+    public void memberChanged(long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            relay.publishMember(memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.publishMember(memberId);
+            }
+        });
+    }
+
+    /**
+     * 다른 노드의 카탈로그 변경 시 호출할 작업 - 2차 캐시를 비운 뒤 호출된다
+     */
+    public void onRemoteChange(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 다른 노드의 회원 역할 할당 변경 시 호출할 작업
+     */
+    public void onRemoteMemberChange(LongConsumer listener) {
+        memberListeners.add(listener);
+    }
+
+    private void notifyMember(long memberId) {
+        for (LongConsumer listener : memberListeners) {
+            try {
+                listener.accept(memberId);
+            } catch (RuntimeException ex) {
+                log.warn("회원 역할 변경 리스너 실패 - memberId={}: {}", memberId, ex.getMessage());
+            }
+        }
+    }
+
+    private void evictAndNotify() {
+        try {
+            Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+            for (String region : REGIONS) {
+                cache.evictRegion(region);
+            }
+            cache.evictQueryRegions();
+        } catch (RuntimeException ex) {
+            log.warn("역할 카탈로그 2차 캐시 무효화 실패: {}", ex.getMessage());
+        }
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException ex) {
+                log.warn("역할 카탈로그 변경 리스너 실패: {}", ex.getMessage());
+            }
+        }
+    }
+}
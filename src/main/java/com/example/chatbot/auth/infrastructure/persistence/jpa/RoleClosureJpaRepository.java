@@ -0,0 +1,75 @@
+package com.example.chatbot.auth.infrastructure.persistence.jpa;
+
+import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.RoleClosureJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RoleClosureJpaRepository extends JpaRepository<RoleClosureJpaEntity, RoleClosureJpaEntity.Key> {
+
+    /**
+     * 회원의 유효 역할/권한 - member_roles(member_id) → role_closure(PK) → role_authorities 인덱스 조인 한 번.
+     * 계층 깊이와 관계없이 재귀 없이 끝난다. 탈퇴 요청된 회원은 역할 행이 지워지기 전에도 권한이 없다.
+     */
+    @Query("SELECT new com.example.chatbot.auth.infrastructure.persistence.jpa.ClosureGrant(r.name, d.name, a.name) " +
+           "FROM MemberRoleJpaEntity mr JOIN mr.role r JOIN mr.member m " +
+           "JOIN RoleClosureJpaEntity c ON c.ancestorId = r.id " +
+           "JOIN c.descendant d LEFT JOIN d.authorities a " +
+           "WHERE mr.member.id = :memberId AND m.deletedAt IS NULL")
+    List<ClosureGrant> findGrantsByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 여러 회원의 유효 역할/권한을 쿼리 한 번으로 읽는다 - 일괄 권한 판정의 캐시 미스용
+     */
+    @Query("SELECT new com.example.chatbot.auth.infrastructure.persistence.jpa.MemberGrant(m.id, d.name, a.name) " +
+           "FROM MemberRoleJpaEntity mr JOIN mr.role r JOIN mr.member m " +
+           "JOIN RoleClosureJpaEntity c ON c.ancestorId = r.id " +
+           "JOIN c.descendant d LEFT JOIN d.authorities a " +
+           "WHERE m.id IN :memberIds AND m.deletedAt IS NULL")
+    List<MemberGrant> findGrantsByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * 전체 폐포 - RoleHierarchy 스냅샷용
+     */
+    @Query("SELECT new com.example.chatbot.auth.infrastructure.persistence.jpa.ClosureGrant(an.name, d.name, a.name) " +
+           "FROM RoleClosureJpaEntity c JOIN c.ancestor an JOIN c.descendant d LEFT JOIN d.authorities a")
+    List<ClosureGrant> findAllGrants();
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    /**
+     * 계층 변경을 직렬화한다 - 동시에 재계산하면 순환 검사와 폐포 갱신이 서로를 보지 못한다
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+    Integer lockHierarchy(@Param("key") long key);
+
+    // 영향받는 테이블을 알려 주지 않으면 Hibernate가 네이티브 DML마다 2차 캐시 전체를 비운다
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "role_closure"))
+    @Modifying
+    @Query(value = "DELETE FROM role_closure", nativeQuery = true)
+    int deleteAllRows();
+
+    /**
+     * role_hierarchy 간선에서 폐포를 다시 계산한다. 쓰기 시점에만 재귀하며 순환은 간선 추가 시 막는다.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "role_closure"))
+    @Modifying
+    @Query(value = """
+            INSERT INTO role_closure (ancestor_role_id, descendant_role_id, depth)
+            WITH RECURSIVE walk (ancestor_id, descendant_id, depth) AS (
+                SELECT id, id, 0 FROM roles
+                UNION ALL
+                SELECT w.ancestor_id, h.child_role_id, w.depth + 1
+                FROM walk w JOIN role_hierarchy h ON h.parent_role_id = w.descendant_id
+            )
+            SELECT ancestor_id, descendant_id, MIN(depth) FROM walk GROUP BY ancestor_id, descendant_id
+            """, nativeQuery = true)
+    int rebuild();
+}
@@ -1,8 +1,11 @@
 package com.example.chatbot.auth.infrastructure.persistence.jpa;
 
 import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.RoleJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
@@ -10,10 +13,14 @@ import java.util.Set;
 
 public interface RoleJpaRepository extends JpaRepository<RoleJpaEntity, Long> {
     
+    // 쿼리 캐시에는 결과 id만 저장되고 엔티티/컬렉션은 2차 캐시에서 읽는다.
+    // roles/role_authorities 테이블이 바뀌면 Hibernate가 해당 쿼리 결과를 무효화한다.
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<RoleJpaEntity> findByName(String name);
     
     boolean existsByName(String name);
     
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT r FROM RoleJpaEntity r LEFT JOIN FETCH r.authorities WHERE r.name = :name")
     Optional<RoleJpaEntity> findByNameWithAuthorities(@Param("name") String name);
     
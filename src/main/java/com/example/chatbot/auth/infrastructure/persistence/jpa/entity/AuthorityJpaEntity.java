@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -11,11 +13,15 @@ import java.util.Set;
 
 @Entity
 @Table(name = "authorities")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = AuthorityJpaEntity.CACHE_REGION)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class AuthorityJpaEntity {
 
+    public static final String CACHE_REGION = "auth.authority";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "member_roles")
+@Table(name = "member_roles", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"member_id", "role_id"}, name = "uk_member_roles_member_role")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
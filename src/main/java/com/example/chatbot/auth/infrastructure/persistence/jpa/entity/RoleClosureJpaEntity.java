@@ -0,0 +1,53 @@
+package com.example.chatbot.auth.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+
+/**
+ * 역할 계층의 추이적 폐포 - (상위, 하위) 모든 도달 쌍과 자기 자신(depth 0)을 미리 펼쳐 둔다.
+ * 계층이 바뀔 때 RoleClosureJpaRepository.rebuild로만 다시 쓰므로 애플리케이션에서는 읽기 전용이다.
+ */
+@Entity
+@Immutable
+@Table(name = "role_closure", indexes = {
+        @Index(columnList = "descendant_role_id", name = "idx_role_closure_descendant")
+})
+@IdClass(RoleClosureJpaEntity.Key.class)
+@Getter
+@NoArgsConstructor
+public class RoleClosureJpaEntity {
+
+    @Id
+    @Column(name = "ancestor_role_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_role_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ancestor_role_id", insertable = false, updatable = false)
+    private RoleJpaEntity ancestor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "descendant_role_id", insertable = false, updatable = false)
+    private RoleJpaEntity descendant;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
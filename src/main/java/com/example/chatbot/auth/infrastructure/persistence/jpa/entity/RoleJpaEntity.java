@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -11,11 +13,18 @@ import java.util.Set;
 
 @Entity
 @Table(name = "roles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RoleJpaEntity.CACHE_REGION)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class RoleJpaEntity {
 
+    // 역할/권한 카탈로그는 거의 바뀌지 않고 권한 조회마다 읽히므로 2차 캐시에 둔다
+    public static final String CACHE_REGION = "auth.role";
+    public static final String AUTHORITIES_CACHE_REGION = "auth.role.authorities";
+    public static final String CHILDREN_CACHE_REGION = "auth.role.children";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,6 +42,7 @@ public class RoleJpaEntity {
     private LocalDateTime createdAt;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RoleJpaEntity.AUTHORITIES_CACHE_REGION)
     @JoinTable(
         name = "role_authorities",
         joinColumns = @JoinColumn(name = "role_id"),
@@ -40,6 +50,16 @@ public class RoleJpaEntity {
     )
     private Set<AuthorityJpaEntity> authorities = new HashSet<>();
 
+    // 하위 역할 - 이 역할은 하위 역할의 권한을 모두 가진다 (예: ADMIN > MODERATOR > USER)
+    @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = RoleJpaEntity.CHILDREN_CACHE_REGION)
+    @JoinTable(
+        name = "role_hierarchy",
+        joinColumns = @JoinColumn(name = "parent_role_id"),
+        inverseJoinColumns = @JoinColumn(name = "child_role_id")
+    )
+    private Set<RoleJpaEntity> children = new HashSet<>();
+
     @OneToMany(mappedBy = "role", fetch = FetchType.LAZY)
     private Set<MemberRoleJpaEntity> memberRoles = new HashSet<>();
 
@@ -68,6 +88,17 @@ public class RoleJpaEntity {
         // authority.getRoles().remove(this);
     }
 
+    /**
+     * 하위 역할 추가 - 순환 여부는 RoleHierarchyService에서 폐포로 확인한다
+     */
+    public boolean addChild(RoleJpaEntity child) {
+        return this.children.add(child);
+    }
+
+    public boolean removeChild(RoleJpaEntity child) {
+        return this.children.remove(child);
+    }
+
     /**
      * Spring Security에서 사용할 역할 문자열 반환
      */
@@ -0,0 +1,130 @@
+package com.example.chatbot.auth.infrastructure.redis;
+
+import com.example.chatbot.auth.application.RefreshTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis refresh token 저장소
+ *
+ * - auth:refresh:{tag}:{familyId}:{hash}   "A:{subject}"(미사용) 또는 "U:{subject}"(사용됨), TTL = refresh 수명
+ * - auth:refresh:{tag}:{familyId}:revoked  패밀리 폐기 표시
+ * - auth:refresh:{tag}:{familyId}:issued   패밀리 첫 발급 시각(ms) - 회원 단위 폐기 판정용
+ * - auth:refresh:{tag}:members             해시: subject -> 회원 단위 폐기 기준 시각(ms), TTL = refresh 수명
+ *
+ * {tag}는 패밀리 ID 앞의 회원 태그다. 해시 태그로 써서 한 회원의 패밀리와 폐기 기록이 같은 슬롯에 있도록 하고,
+ * 회전(확인 + 회원 폐기 판정 + 사용 처리 + 새 토큰 저장 + 재사용 감지)은 Lua 스크립트 한 번으로 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    // KEYS[1] 이전 토큰, KEYS[2] 새 토큰, KEYS[3] 패밀리 폐기 표시, KEYS[4] 패밀리 발급 시각,
+    // KEYS[5] 회원 폐기 기준 시각 해시 / ARGV[1] TTL(ms)
+    // 결과: '{결과}' 또는 '{결과}:{발급 시각}:{subject}' (발급 시각이 없는 예전 패밀리는 0)
+    private static final RedisScript<String> ROTATE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[3]) == 1 then
+              return 'FAMILY_REVOKED'
+            end
+            local value = redis.call('GET', KEYS[1])
+            if not value then
+              return 'NOT_FOUND'
+            end
+            local subject = string.sub(value, 3)
+            local issued = redis.call('GET', KEYS[4]) or '0'
+            if string.sub(value, 1, 1) == 'U' then
+              redis.call('SET', KEYS[3], '1', 'PX', ARGV[1])
+              return 'REUSED:' .. issued .. ':' .. subject
+            end
+            local cutoff = redis.call('HGET', KEYS[5], subject)
+            if cutoff and tonumber(issued) <= tonumber(cutoff) then
+              redis.call('SET', KEYS[3], '1', 'PX', ARGV[1])
+              return 'MEMBER_REVOKED:' .. issued .. ':' .. subject
+            end
+            redis.call('SET', KEYS[1], 'U:' .. subject, 'KEEPTTL')
+            redis.call('SET', KEYS[2], 'A:' .. subject, 'PX', ARGV[1])
+            redis.call('PEXPIRE', KEYS[4], ARGV[1])
+            return 'ROTATED:' .. issued .. ':' .. subject
+            """, String.class);
+
+    // KEYS[1] 회원 폐기 기준 시각 해시 / ARGV[1] subject, ARGV[2] 기준 시각(ms), ARGV[3] TTL(ms)
+    // 더 늦은 기준 시각만 남기고, 해시 TTL은 줄이지 않는다
+    private static final RedisScript<Long> REVOKE_MEMBER = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            if tonumber(ARGV[2]) > current then
+              redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            end
+            if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[3]) then
+              redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void issue(String familyId, String tokenHash, String subject, long issuedAtMillis, Duration ttl) {
+        redisTemplate.opsForValue().set(issuedKey(familyId), Long.toString(issuedAtMillis), ttl);
+        redisTemplate.opsForValue().set(tokenKey(familyId, tokenHash), "A:" + subject, ttl);
+    }
+
+    @Override
+    public Rotation rotate(String familyId, String oldHash, String newHash, Duration ttl) {
+        String result = redisTemplate.execute(ROTATE,
+                List.of(tokenKey(familyId, oldHash), tokenKey(familyId, newHash), revokedKey(familyId), issuedKey(familyId),
+                        membersKey(RefreshTokenStore.memberTagOf(familyId))),
+                Long.toString(ttl.toMillis()));
+        if (result == null) {
+            return Rotation.of(Rotation.Result.NOT_FOUND);
+        }
+        int colon = result.indexOf(':');
+        if (colon < 0) {
+            return Rotation.of(Rotation.Result.valueOf(result));
+        }
+        int issuedEnd = result.indexOf(':', colon + 1);
+        return new Rotation(Rotation.Result.valueOf(result.substring(0, colon)),
+                result.substring(issuedEnd + 1),
+                Long.parseLong(result.substring(colon + 1, issuedEnd)));
+    }
+
+    @Override
+    public void revokeFamily(String familyId, Duration ttl) {
+        redisTemplate.opsForValue().set(revokedKey(familyId), "1", ttl);
+    }
+
+    @Override
+    public void revokeMember(String subject, long issuedBeforeMillis, Duration ttl) {
+        redisTemplate.execute(REVOKE_MEMBER, List.of(membersKey(RefreshTokenStore.memberTag(subject))),
+                subject, Long.toString(issuedBeforeMillis), Long.toString(ttl.toMillis()));
+    }
+
+    private static String tokenKey(String familyId, String tokenHash) {
+        return familyPrefix(familyId) + tokenHash;
+    }
+
+    private static String revokedKey(String familyId) {
+        return familyPrefix(familyId) + "revoked";
+    }
+
+    private static String issuedKey(String familyId) {
+        return familyPrefix(familyId) + "issued";
+    }
+
+    private static String familyPrefix(String familyId) {
+        return "auth:refresh:{" + RefreshTokenStore.memberTagOf(familyId) + "}:" + familyId + ":";
+    }
+
+    private static String membersKey(String memberTag) {
+        return "auth:refresh:{" + memberTag + "}:members";
+    }
+}
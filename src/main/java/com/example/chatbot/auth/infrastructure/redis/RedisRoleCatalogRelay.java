@@ -0,0 +1,95 @@
+package com.example.chatbot.auth.infrastructure.redis;
+
+import com.example.chatbot.auth.application.RoleCatalogRelay;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * Redis pub/sub 기반 역할 카탈로그/회원 역할 할당 변경 중계 - 변경 커밋 1건당 PUBLISH 1회
+ *
+ * 카탈로그 메시지 본문은 보낸 노드 id, 회원 메시지 본문은 "노드 id:회원 id"이며 자기 자신이 보낸 메시지는 무시한다.
+ * 메시지를 놓친 노드는 2차 캐시 만료(application.conf)와 권한 캐시 TTL로 따라잡는다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.role-catalog.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisRoleCatalogRelay implements RoleCatalogRelay, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRoleCatalogRelay.class);
+
+    static final String CHANNEL = "auth:role-catalog";
+    static final String MEMBER_CHANNEL = "auth:member-roles";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private final List<LongConsumer> memberListeners = new CopyOnWriteArrayList<>();
+
+    public RedisRoleCatalogRelay(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, List.of(new ChannelTopic(CHANNEL), new ChannelTopic(MEMBER_CHANNEL)));
+    }
+
+    @Override
+    public void publish() {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId);
+        } catch (RuntimeException ex) {
+            // 변경 자체는 커밋됐으므로 로그만 남긴다 (다른 노드는 캐시 만료 때 반영)
+            log.warn("역할 카탈로그 변경 중계 실패: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void listen(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void publishMember(long memberId) {
+        try {
+            redisTemplate.convertAndSend(MEMBER_CHANNEL, nodeId + ":" + memberId);
+        } catch (RuntimeException ex) {
+            log.warn("회원 역할 변경 중계 실패 - memberId={}: {}", memberId, ex.getMessage());
+        }
+    }
+
+    @Override
+    public void listenMember(LongConsumer listener) {
+        memberListeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (MEMBER_CHANNEL.equals(new String(message.getChannel(), StandardCharsets.UTF_8))) {
+            int separator = body.lastIndexOf(':');
+            if (separator < 0 || nodeId.equals(body.substring(0, separator))) {
+                return;
+            }
+            long memberId = Long.parseLong(body.substring(separator + 1));
+            for (LongConsumer listener : memberListeners) {
+                listener.accept(memberId);
+            }
+            return;
+        }
+        if (nodeId.equals(body)) {
+            return;
+        }
+        for (Runnable listener : listeners) {
+            listener.run();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.chatbot.auth.infrastructure.redis;
+
+import com.example.chatbot.auth.application.Revocation;
+import com.example.chatbot.auth.application.TokenDenylist;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Redis 폐기 목록
+ *
+ * - auth:revoked:jti:{jti}       토큰 만료 시각까지 TTL (판정 기준)
+ * - auth:revoked:member:{subject} 기준 시각(ms), 토큰 최대 수명만큼 TTL
+ * - auth:revocations              변경 로그 스트림 - 노드는 마지막으로 읽은 ID 이후만 읽는다
+ *
+ * 스트림은 길이로 잘라내므로 새 노드는 스트림이 아니라 키 스캔으로 초기화한다.
+ * 오래 멈춰 있던 노드의 커서가 잘려 나간 구간에 있으면 readSince가 null을 반환해 다시 초기화하게 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.revocation.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisTokenDenylist implements TokenDenylist {
+
+    private static final String TOKEN_KEY_PREFIX = "auth:revoked:jti:";
+    private static final String MEMBER_KEY_PREFIX = "auth:revoked:member:";
+    static final String STREAM_KEY = "auth:revocations";
+    private static final int SCAN_BATCH = 1_000;
+    private static final String START = "0-0";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long maxTokenLifetimeMillis;
+    private final long streamMaxLength;
+
+    public RedisTokenDenylist(StringRedisTemplate redisTemplate,
+                              @Value("${jwt.expiration:900000}") long maxTokenLifetimeMillis,
+                              @Value("${auth.revocation.stream-max-length:100000}") long streamMaxLength) {
+        this.redisTemplate = redisTemplate;
+        this.maxTokenLifetimeMillis = maxTokenLifetimeMillis;
+        this.streamMaxLength = streamMaxLength;
+    }
+
+    @Override
+    public void add(Revocation revocation) {
+        long ttlMillis = switch (revocation.type()) {
+            case TOKEN -> revocation.epochMillis() - System.currentTimeMillis();
+            case MEMBER -> maxTokenLifetimeMillis;
+        };
+        if (ttlMillis <= 0) {
+            return;
+        }
+        String key = keyOf(revocation);
+        String value = Long.toString(revocation.epochMillis());
+        Map<String, String> entry = Map.of("t", revocation.type().name(), "k", revocation.key(), "v", value);
+
+        // 기록, 변경 로그 추가, 로그 길이 제한을 한 번에 보낸다
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.pSetEx(key, ttlMillis, value);
+            redis.xAdd(STREAM_KEY, entry);
+            redis.xTrim(STREAM_KEY, streamMaxLength, true);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean isTokenRevoked(String tokenId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(TOKEN_KEY_PREFIX + tokenId));
+    }
+
+    @Override
+    public String bootstrap(Consumer<Revocation> sink) {
+        // 스캔 전에 커서를 잡아 두어야 스캔 중 추가된 기록을 놓치지 않는다 (중복 반영은 무해)
+        String cursor = lastStreamId();
+        scan(TOKEN_KEY_PREFIX, keys -> {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                String value = values == null ? null : values.get(i);
+                if (value != null) {
+                    sink.accept(Revocation.token(keys.get(i).substring(TOKEN_KEY_PREFIX.length()), Long.parseLong(value)));
+                }
+            }
+        });
+        scan(MEMBER_KEY_PREFIX, keys -> {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                String value = values == null ? null : values.get(i);
+                if (value != null) {
+                    sink.accept(Revocation.member(keys.get(i).substring(MEMBER_KEY_PREFIX.length()), Long.parseLong(value)));
+                }
+            }
+        });
+        return cursor;
+    }
+
+    @Override
+    public String readSince(String cursor, int max, Consumer<Revocation> sink) {
+        if (trimmedPast(cursor)) {
+            return null;
+        }
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                StreamReadOptions.empty().count(max),
+                StreamOffset.create(STREAM_KEY, ReadOffset.from(cursor)));
+        if (records == null || records.isEmpty()) {
+            return cursor;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> value = record.getValue();
+            sink.accept(new Revocation(
+                    Revocation.Type.valueOf(String.valueOf(value.get("t"))),
+                    String.valueOf(value.get("k")),
+                    Long.parseLong(String.valueOf(value.get("v")))));
+        }
+        return records.get(records.size() - 1).getId().getValue();
+    }
+
+    /**
+     * 커서 다음 기록이 잘려 나갔을 수 있는지 - 스트림의 가장 오래된 기록이 커서보다 뒤면 커서 자신도 잘린 것이다.
+     * 빈 스트림에서 시작한 커서(0-0)는 스트림이 최대 길이까지 찼을 때만 유실로 본다.
+     */
+    private boolean trimmedPast(String cursor) {
+        List<MapRecord<String, Object, Object>> oldest = redisTemplate.opsForStream()
+                .range(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        if (oldest == null || oldest.isEmpty() || compare(oldest.get(0).getId(), RecordId.of(cursor)) <= 0) {
+            return false;
+        }
+        if (!START.equals(cursor)) {
+            return true;
+        }
+        Long length = redisTemplate.opsForStream().size(STREAM_KEY);
+        return length != null && length >= streamMaxLength;
+    }
+
+    private static int compare(RecordId left, RecordId right) {
+        int byTime = Long.compare(left.getTimestamp(), right.getTimestamp());
+        return byTime != 0 ? byTime : Long.compare(left.getSequence(), right.getSequence());
+    }
+
+    private String lastStreamId() {
+        List<MapRecord<String, Object, Object>> last = redisTemplate.opsForStream()
+                .reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        return last == null || last.isEmpty() ? START : last.get(0).getId().getValue();
+    }
+
+    private void scan(String prefix, Consumer<List<String>> batchConsumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(SCAN_BATCH);
+            while (keys.hasNext()) {
+                batch.add(keys.next());
+                if (batch.size() == SCAN_BATCH) {
+                    batchConsumer.accept(batch);
+                    batch = new ArrayList<>(SCAN_BATCH);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+            }
+        }
+    }
+
+    private static String keyOf(Revocation revocation) {
+        return switch (revocation.type()) {
+            case TOKEN -> TOKEN_KEY_PREFIX + revocation.key();
+            case MEMBER -> MEMBER_KEY_PREFIX + revocation.key();
+        };
+    }
+}
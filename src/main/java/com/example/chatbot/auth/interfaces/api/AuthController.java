@@ -1,18 +1,26 @@
 package com.example.chatbot.auth.interfaces.api;
 
 import com.example.chatbot.auth.application.AuthService;
+import com.example.chatbot.auth.application.IssuedTokens;
+import com.example.chatbot.auth.application.LoginResult;
+import com.example.chatbot.auth.infrastructure.JwtAuthenticationFilter;
 import com.example.chatbot.auth.interfaces.dto.LoginRequest;
 import com.example.chatbot.auth.interfaces.dto.LoginResponse;
+import com.example.chatbot.auth.interfaces.dto.TokenRefreshRequest;
+import com.example.chatbot.auth.interfaces.dto.TokenRefreshResponse;
 import com.example.chatbot.member.application.MemberService;
 import com.example.chatbot.member.infrastructure.persistence.jpa.entity.MemberJpaEntity;
 import com.example.chatbot.member.interfaces.api.dto.MemberSignupRequest;
 import com.example.chatbot.member.interfaces.api.dto.MemberSignupResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -34,22 +42,50 @@ public class AuthController {
         return ResponseEntity.status(HttpStatus.CREATED).body(resp);
     }
 
+    /**
+     * 로그인 - includeAuthorities=true면 응답에 회원 권한 목록을 함께 담는다.
+     */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        try {
-            String token = authService.login(request.getEmail(), request.getPassword());
-            MemberJpaEntity member = authService.findMemberByEmail(request.getEmail());
-            
-            LoginResponse response = new LoginResponse(
-                token,
-                member.getId(),
-                member.getEmail(),
-                member.getName()
-            );
-            
-            return ResponseEntity.ok(response);
-        } catch (IllegalArgumentException e) {
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request,
+                                               @RequestParam(defaultValue = "false") boolean includeAuthorities) {
+        // 인증 실패는 GlobalExceptionHandler가 401로 응답한다
+        LoginResult result = authService.login(request.getEmail(), request.getPassword(), includeAuthorities);
+        IssuedTokens tokens = result.tokens();
+        
+        LoginResponse response = new LoginResponse(
+            tokens.accessToken(),
+            tokens.refreshToken(),
+            tokens.expiresInSeconds(),
+            result.memberId(),
+            result.email(),
+            result.name(),
+            includeAuthorities ? result.authorities() : null
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * access token 갱신 - refresh token은 1회용이며 응답의 새 refresh token으로 교체해야 한다.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenRefreshResponse> refresh(@Valid @RequestBody TokenRefreshRequest request) {
+        IssuedTokens tokens = authService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(new TokenRefreshResponse(
+                tokens.accessToken(), tokens.refreshToken(), tokens.expiresInSeconds()));
+    }
+
+    /**
+     * 로그아웃 - 요청의 Bearer 토큰과 (본문에 있으면) refresh token 패밀리를 폐기한다.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) TokenRefreshRequest request) {
+        String token = JwtAuthenticationFilter.bearerToken(authorization);
+        if (token == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
+        authService.logout(token, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,54 @@
+package com.example.chatbot.auth.interfaces.api;
+
+import com.example.chatbot.auth.application.AuthorizationDecisionService;
+import com.example.chatbot.auth.application.MemberPermissions;
+import com.example.chatbot.auth.interfaces.dto.AuthzDecisionRequest;
+import com.example.chatbot.auth.interfaces.dto.AuthzDecisionResponse;
+import com.example.chatbot.auth.interfaces.dto.MemberPermissionsResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 다른 서비스용 권한 조회 API - QUERY_AUTHZ 권한 필요 (본인 권한 조회는 허용)
+ */
+@RestController
+@RequestMapping("/api/authz")
+@PreAuthorize("hasAuthority('AUTHORITY_QUERY_AUTHZ')")
+public class AuthzController {
+
+    private final AuthorizationDecisionService decisionService;
+
+    public AuthzController(AuthorizationDecisionService decisionService) {
+        this.decisionService = decisionService;
+    }
+
+    /**
+     * (회원, 권한) 쌍 여러 개를 한 번에 판정
+     */
+    @PostMapping("/decisions")
+    public ResponseEntity<AuthzDecisionResponse> decide(@Valid @RequestBody AuthzDecisionRequest request) {
+        return ResponseEntity.ok(new AuthzDecisionResponse(decisionService.decide(request.getChecks())));
+    }
+
+    /**
+     * 회원의 유효 권한 - If-None-Match가 ETag와 같으면 Spring이 본문 없이 304로 응답한다
+     */
+    @PreAuthorize("hasAuthority('AUTHORITY_QUERY_AUTHZ') or #memberId == authentication.principal.memberId")
+    @GetMapping("/members/{memberId}/permissions")
+    public ResponseEntity<MemberPermissionsResponse> permissions(@PathVariable Long memberId) {
+        MemberPermissions permissions = decisionService.permissions(memberId);
+        return ResponseEntity.ok()
+                .eTag(permissions.version())
+                // 캐시해도 되지만 쓰기 전에 항상 재검증하도록 함
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new MemberPermissionsResponse(memberId, permissions.version(), permissions.permissions()));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.chatbot.auth.interfaces.dto;
+
+import com.example.chatbot.auth.application.AuthorizationDecisionService.DecisionCheck;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthzDecisionRequest {
+
+    // 요청마다 수백 건이 오므로 항목별 검증/복사 없이 판정 입력으로 바로 쓴다 (빈 값은 거부로 판정)
+    @NotEmpty(message = "판정할 항목이 필요합니다.")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 판정할 수 있습니다.")
+    private List<DecisionCheck> checks;
+}
@@ -0,0 +1,13 @@
+package com.example.chatbot.auth.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthzDecisionResponse {
+
+    private boolean[] decisions; // 요청 checks와 같은 순서
+}
@@ -1,25 +1,25 @@
 package com.example.chatbot.auth.interfaces.dto;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
-@Getter
-@NoArgsConstructor
-@AllArgsConstructor
-public class LoginResponse {
+import java.util.Set;
 
-    private String accessToken;
-    private String tokenType;
-    private Long memberId;
-    private String email;
-    private String name;
+/**
+ * @param expiresIn   access token 유효 시간(초)
+ * @param authorities 요청한 경우에만 포함
+ */
+public record LoginResponse(
+        String accessToken,
+        String tokenType,
+        String refreshToken,
+        long expiresIn,
+        Long memberId,
+        String email,
+        String name,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Set<String> authorities) {
 
-    public LoginResponse(String accessToken, Long memberId, String email, String name) {
-        this.accessToken = accessToken;
-        this.tokenType = "Bearer";
-        this.memberId = memberId;
-        this.email = email;
-        this.name = name;
+    public LoginResponse(String accessToken, String refreshToken, long expiresIn, Long memberId, String email, String name,
+                         Set<String> authorities) {
+        this(accessToken, "Bearer", refreshToken, expiresIn, memberId, email, name, authorities);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.example.chatbot.auth.interfaces.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberPermissionsResponse {
+
+    private Long memberId;
+    private String version; // ETag와 같은 값
+    private List<String> permissions;
+}
@@ -0,0 +1,15 @@
+package com.example.chatbot.auth.interfaces.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRefreshRequest {
+
+    @NotBlank(message = "refresh token은 필수입니다.")
+    private String refreshToken;
+}
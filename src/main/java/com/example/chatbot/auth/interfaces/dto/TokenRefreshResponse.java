@@ -0,0 +1,8 @@
+package com.example.chatbot.auth.interfaces.dto;
+
+public record TokenRefreshResponse(String accessToken, String tokenType, String refreshToken, long expiresIn) {
+
+    public TokenRefreshResponse(String accessToken, String refreshToken, long expiresIn) {
+        this(accessToken, "Bearer", refreshToken, expiresIn);
+    }
+}
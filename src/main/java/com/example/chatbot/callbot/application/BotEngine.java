@@ -0,0 +1,13 @@
+package com.example.chatbot.callbot.application;
+
+/**
+ * 봇 응답 생성 엔진 (LLM 등) - 교체 가능한 확장 지점
+ */
+public interface BotEngine {
+
+    /**
+     * 응답을 토큰 단위로 생성해 sink에 넣는다.
+     * sink.emit이 false를 반환하거나 스레드가 인터럽트되면 즉시 생성을 중단해야 한다.
+     */
+    void generate(BotPrompt prompt, TokenSink sink) throws Exception;
+}
@@ -0,0 +1,7 @@
+package com.example.chatbot.callbot.application;
+
+/**
+ * 봇 엔진 입력 - 대화 ID와 사용자 발화
+ */
+public record BotPrompt(String conversationId, String message) {
+}
@@ -0,0 +1,146 @@
+package com.example.chatbot.callbot.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CallBot 응답 스트리밍
+ *
+ * 응답마다 엔진 스레드와 전송 스레드(가상 스레드)를 하나씩 쓰고, 그 사이를 상한 있는 버퍼로 잇는다.
+ * 동시에 생성 중인 응답 수는 세마포어로 제한한다.
+ */
+@Service
+public class CallBotService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CallBotService.class);
+
+    private final BotEngine botEngine;
+    private final Semaphore activeGenerations;
+    private final int bufferTokens;
+    private final int maxChunkTokens;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Timer firstTokenTimer;
+    private final Timer generationTimer;
+    private final DistributionSummary tokensPerSecond;
+    private final Counter rejected;
+    private final Counter cancelled;
+
+    public CallBotService(BotEngine botEngine,
+                          MeterRegistry meterRegistry,
+                          @Value("${callbot.max-active-generations:64}") int maxActiveGenerations,
+                          @Value("${callbot.buffer-tokens:256}") int bufferTokens,
+                          @Value("${callbot.max-chunk-tokens:32}") int maxChunkTokens) {
+        this.botEngine = botEngine;
+        this.activeGenerations = new Semaphore(maxActiveGenerations);
+        this.bufferTokens = bufferTokens;
+        this.maxChunkTokens = maxChunkTokens;
+
+        this.firstTokenTimer = Timer.builder("callbot.first.token")
+                .description("요청부터 첫 토큰 전송까지 (TTFT)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.generationTimer = Timer.builder("callbot.generation")
+                .description("요청부터 응답 완료까지")
+                .register(meterRegistry);
+        this.tokensPerSecond = DistributionSummary.builder("callbot.tokens.per.second")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("callbot.generations.rejected").register(meterRegistry);
+        this.cancelled = Counter.builder("callbot.generations.cancelled").register(meterRegistry);
+        meterRegistry.gauge("callbot.generations.active", activeGenerations,
+                s -> maxActiveGenerations - s.availablePermits());
+    }
+
+    /**
+     * 응답 생성을 시작한다. 동시 생성 한도를 넘으면 GenerationRejectedException
+     */
+    public ReplyStream reply(BotPrompt prompt, ReplyListener listener) {
+        if (!activeGenerations.tryAcquire()) {
+            rejected.increment();
+            throw new GenerationRejectedException("현재 응답 생성 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        ReplyStream stream = new ReplyStream(bufferTokens);
+        try {
+            stream.attach(executor.submit(() -> produce(prompt, stream)));
+            executor.execute(() -> deliver(stream, listener));
+        } catch (RuntimeException ex) {
+            activeGenerations.release();
+            throw ex;
+        }
+        return stream;
+    }
+
+    private void produce(BotPrompt prompt, ReplyStream stream) {
+        Throwable error = null;
+        try {
+            botEngine.generate(prompt, stream);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            if (!stream.isCancelled()) {
+                log.warn("봇 응답 생성 실패 - conversation={}", prompt.conversationId(), ex);
+                error = ex;
+            }
+        }
+        try {
+            stream.finish(error);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void deliver(ReplyStream stream, ReplyListener listener) {
+        try {
+            String chunk;
+            boolean firstChunk = true;
+            while ((chunk = stream.nextChunk(maxChunkTokens)) != null) {
+                if (firstChunk) {
+                    firstTokenTimer.record(stream.firstTokenNanos() - stream.startNanos(), TimeUnit.NANOSECONDS);
+                    firstChunk = false;
+                }
+                listener.onChunk(chunk);
+            }
+            GenerationStats stats = stream.stats();
+            stream.markDone();
+            if (stream.isCancelled()) {
+                cancelled.increment();
+            } else if (stream.failure() != null) {
+                listener.onError(stream.failure());
+            } else {
+                generationTimer.record(System.nanoTime() - stream.startNanos(), TimeUnit.NANOSECONDS);
+                tokensPerSecond.record(stats.tokensPerSecond());
+                listener.onComplete(stats);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            stream.markDone();
+            stream.cancel();
+        } catch (Exception ex) {
+            // 전송 실패 = 클라이언트 연결 종료로 보고 생성 취소
+            stream.markDone();
+            stream.cancel();
+            cancelled.increment();
+            listener.onError(ex);
+        } finally {
+            activeGenerations.release();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.chatbot.callbot.application;
+
+/**
+ * 동시 생성 한도를 넘어 새 응답 생성을 거절할 때
+ */
+public class GenerationRejectedException extends RuntimeException {
+
+    public GenerationRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.chatbot.callbot.application;
+
+/**
+ * 응답 생성 결과 통계
+ *
+ * @param tokens          전달한 토큰 수
+ * @param firstTokenMillis 요청부터 첫 토큰까지 (TTFT)
+ * @param durationMillis  요청부터 완료까지
+ * @param tokensPerSecond 첫 토큰 이후 초당 토큰 수
+ * @param cancelled       클라이언트 종료 등으로 중단되었는지 여부
+ */
+public record GenerationStats(int tokens, long firstTokenMillis, long durationMillis,
+                              double tokensPerSecond, boolean cancelled) {
+}
@@ -0,0 +1,45 @@
+package com.example.chatbot.callbot.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 외부 모델 없이 동작하는 결정적(deterministic) 엔진 - 개발/테스트/부하 측정용
+ *
+ * 같은 입력에는 항상 같은 토큰열을 내보내며, token-delay로 모델 지연을 흉내낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "callbot.engine", havingValue = "local", matchIfMissing = true)
+public class LocalBotEngine implements BotEngine {
+
+    private final Duration tokenDelay;
+
+    public LocalBotEngine(@Value("${callbot.local.token-delay:20ms}") Duration tokenDelay) {
+        this.tokenDelay = tokenDelay;
+    }
+
+    public static String replyFor(String message) {
+        return "말씀하신 내용은 \"" + message + "\" 입니다. 무엇을 더 도와드릴까요?";
+    }
+
+    @Override
+    public void generate(BotPrompt prompt, TokenSink sink) throws InterruptedException {
+        String reply = replyFor(prompt.message());
+        int start = 0;
+        while (start < reply.length()) {
+            // 공백을 앞 토큰에 붙여 단어 단위로 자른다
+            int end = reply.indexOf(' ', start);
+            end = end < 0 ? reply.length() : end + 1;
+            if (!tokenDelay.isZero()) {
+                Thread.sleep(tokenDelay);
+            }
+            if (!sink.emit(reply.substring(start, end))) {
+                return;
+            }
+            start = end;
+        }
+    }
+}
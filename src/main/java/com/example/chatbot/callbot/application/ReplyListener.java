@@ -0,0 +1,18 @@
+package com.example.chatbot.callbot.application;
+
+/**
+ * 생성된 토큰을 클라이언트로 보내는 전송 어댑터 (SSE, STOMP)
+ *
+ * 한 응답에 대해 한 스레드에서 순서대로 호출된다. 예외를 던지면 연결이 끊긴 것으로 보고 생성을 취소한다.
+ */
+public interface ReplyListener {
+
+    /**
+     * 버퍼에 쌓여 있던 토큰을 한 번에 전달 (느린 클라이언트일수록 묶음이 커진다)
+     */
+    void onChunk(String text) throws Exception;
+
+    void onComplete(GenerationStats stats) throws Exception;
+
+    void onError(Throwable error);
+}
@@ -0,0 +1,127 @@
+package com.example.chatbot.callbot.application;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인 응답 하나 - 엔진(생산자)과 전송(소비자) 사이의 상한 있는 토큰 버퍼
+ *
+ * 클라이언트가 느리면 버퍼가 차고 TokenSink.emit이 블록되어 엔진이 멈춘다.
+ * cancel()은 어느 스레드에서나 호출할 수 있으며 엔진 스레드를 인터럽트한다.
+ */
+public final class ReplyStream implements TokenSink {
+
+    // 엔진 종료 표시 (identity 비교)
+    static final String END = new String("\u0000end");
+
+    private final BlockingQueue<String> buffer;
+    private final long startNanos = System.nanoTime();
+    private volatile boolean cancelled;
+    private volatile Future<?> producer;
+    private volatile Throwable failure;
+    private volatile boolean done;
+
+    // 소비자 스레드 전용
+    private long firstTokenNanos;
+    private int tokens;
+
+    ReplyStream(int bufferTokens) {
+        this.buffer = new ArrayBlockingQueue<>(bufferTokens);
+    }
+
+    @Override
+    public boolean emit(String token) throws InterruptedException {
+        while (!cancelled) {
+            if (buffer.offer(token, 100, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void cancel() {
+        cancelled = true;
+        Future<?> running = producer;
+        if (running != null) {
+            running.cancel(true);
+        }
+        buffer.clear();
+        buffer.offer(END);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 전송까지 끝났는지 (완료/오류/취소 콜백 직전에 설정됨)
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    void markDone() {
+        done = true;
+    }
+
+    void attach(Future<?> producer) {
+        this.producer = producer;
+        if (cancelled) {
+            producer.cancel(true);
+        }
+    }
+
+    void finish(Throwable error) throws InterruptedException {
+        failure = error;
+        // 버퍼가 가득 차 있어도 종료 표시는 반드시 넣는다
+        while (!cancelled && !buffer.offer(END, 100, TimeUnit.MILLISECONDS)) {
+            // 소비자가 비울 때까지 대기
+        }
+    }
+
+    /**
+     * 다음 묶음을 꺼낸다 - 최소 한 토큰을 기다린 뒤 쌓여 있는 토큰을 모두 이어 붙인다.
+     *
+     * @return 이어 붙인 텍스트, 스트림이 끝났으면 null
+     */
+    String nextChunk(int maxTokens) throws InterruptedException {
+        String first = buffer.take();
+        if (first == END) {
+            return null;
+        }
+        StringBuilder chunk = new StringBuilder(first);
+        int count = 1;
+        String next;
+        while (count < maxTokens && (next = buffer.peek()) != null && next != END) {
+            chunk.append(buffer.poll());
+            count++;
+        }
+        if (tokens == 0) {
+            firstTokenNanos = System.nanoTime();
+        }
+        tokens += count;
+        return chunk.toString();
+    }
+
+    Throwable failure() {
+        return failure;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    GenerationStats stats() {
+        long now = System.nanoTime();
+        long firstToken = tokens == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(firstTokenNanos - startNanos);
+        double streamingSeconds = tokens == 0 ? 0 : (now - firstTokenNanos) / 1_000_000_000.0;
+        double tps = streamingSeconds > 0 ? tokens / streamingSeconds : 0;
+        return new GenerationStats(tokens, firstToken, TimeUnit.NANOSECONDS.toMillis(now - startNanos), tps, cancelled);
+    }
+
+    long firstTokenNanos() {
+        return firstTokenNanos;
+    }
+}
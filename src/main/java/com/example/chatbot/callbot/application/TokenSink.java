@@ -0,0 +1,13 @@
+package com.example.chatbot.callbot.application;
+
+/**
+ * 엔진이 생성한 토큰을 받는 쪽 - 버퍼가 가득 차면 emit이 블록되어 엔진 생성 속도를 늦춘다.
+ */
+@FunctionalInterface
+public interface TokenSink {
+
+    /**
+     * @return 생성을 계속해도 되면 true, 클라이언트가 끊겨 취소되었으면 false
+     */
+    boolean emit(String token) throws InterruptedException;
+}
@@ -0,0 +1,80 @@
+package com.example.chatbot.callbot.interfaces.api;
+
+import com.example.chatbot.callbot.application.BotPrompt;
+import com.example.chatbot.callbot.application.CallBotService;
+import com.example.chatbot.callbot.application.GenerationRejectedException;
+import com.example.chatbot.callbot.application.GenerationStats;
+import com.example.chatbot.callbot.application.ReplyListener;
+import com.example.chatbot.callbot.application.ReplyStream;
+import com.example.chatbot.callbot.interfaces.api.dto.CallBotMessageRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+/**
+ * CallBot 응답 SSE 스트리밍 - event: chunk (텍스트 조각), done (통계), error
+ */
+@RestController
+@RequestMapping("/api/callbot/conversations")
+public class CallBotController {
+
+    private final CallBotService callBotService;
+    private final Duration streamTimeout;
+
+    public CallBotController(CallBotService callBotService,
+                             @Value("${callbot.stream-timeout:2m}") Duration streamTimeout) {
+        this.callBotService = callBotService;
+        this.streamTimeout = streamTimeout;
+    }
+
+    @PostMapping(path = "/{conversationId}/replies", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> reply(@PathVariable String conversationId,
+                                            @Valid @RequestBody CallBotMessageRequest request) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        ReplyStream stream;
+        try {
+            stream = callBotService.reply(new BotPrompt(conversationId, request.getMessage()), new SseReplyListener(emitter));
+        } catch (GenerationRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+        // 클라이언트 종료/타임아웃 시 생성 취소
+        emitter.onCompletion(stream::cancel);
+        emitter.onTimeout(stream::cancel);
+        emitter.onError(e -> stream.cancel());
+        return ResponseEntity.ok(emitter);
+    }
+
+    private record SseReplyListener(SseEmitter emitter) implements ReplyListener {
+
+        @Override
+        public void onChunk(String text) throws Exception {
+            emitter.send(SseEmitter.event().name("chunk").data(text, MediaType.TEXT_PLAIN));
+        }
+
+        @Override
+        public void onComplete(GenerationStats stats) throws Exception {
+            emitter.send(SseEmitter.event().name("done").data(stats, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            try {
+                emitter.send(SseEmitter.event().name("error").data("응답 생성 중 오류가 발생했습니다.", MediaType.TEXT_PLAIN));
+            } catch (Exception ignored) {
+                // 이미 끊긴 연결
+            }
+            emitter.completeWithError(error);
+        }
+    }
+}
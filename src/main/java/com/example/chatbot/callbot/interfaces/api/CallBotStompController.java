@@ -0,0 +1,142 @@
+package com.example.chatbot.callbot.interfaces.api;
+
+import com.example.chatbot.callbot.application.BotPrompt;
+import com.example.chatbot.callbot.application.CallBotService;
+import com.example.chatbot.callbot.application.GenerationRejectedException;
+import com.example.chatbot.callbot.application.GenerationStats;
+import com.example.chatbot.callbot.application.ReplyListener;
+import com.example.chatbot.callbot.application.ReplyStream;
+import com.example.chatbot.callbot.interfaces.api.dto.CallBotMessageRequest;
+import com.example.chatbot.callbot.interfaces.api.dto.CallBotReplyEvent;
+import com.example.chatbot.chat.infrastructure.websocket.OutboundFlowControl;
+import jakarta.validation.Valid;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CallBot 응답 STOMP 스트리밍
+ *
+ * SEND /app/callbot/conversations/{conversationId} 로 요청하면
+ * 해당 세션의 /user/queue/callbot 으로 chunk/done/error 프레임이 전달된다.
+ * 세션이 끊기면 진행 중인 생성을 모두 취소한다.
+ *
+ * 프레임은 세션 송신 큐가 받을 수 있을 때만 보내므로(OutboundFlowControl) 느린 클라이언트는 SSE처럼
+ * 버퍼가 차며 청크가 커지고, 큐가 끝내 비지 않으면 오류 프레임을 보내고 생성을 취소한다.
+ */
+@Controller
+public class CallBotStompController {
+
+    private static final String REPLY_DESTINATION = "/queue/callbot";
+
+    private final CallBotService callBotService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final OutboundFlowControl flowControl;
+    private final Map<String, Set<ReplyStream>> streamsBySession = new ConcurrentHashMap<>();
+
+    public CallBotStompController(CallBotService callBotService,
+                                  SimpMessagingTemplate messagingTemplate,
+                                  OutboundFlowControl flowControl) {
+        this.callBotService = callBotService;
+        this.messagingTemplate = messagingTemplate;
+        this.flowControl = flowControl;
+    }
+
+    @MessageMapping("/callbot/conversations/{conversationId}")
+    public void reply(@DestinationVariable String conversationId,
+                      @Valid @Payload CallBotMessageRequest request,
+                      @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        StompReplyListener listener = new StompReplyListener(sessionId, conversationId);
+        try {
+            ReplyStream stream = callBotService.reply(new BotPrompt(conversationId, request.getMessage()), listener);
+            listener.stream = stream;
+            streamsBySession.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet()).add(stream);
+            // 등록 전에 이미 끝났으면 onComplete의 정리가 빠졌을 수 있으므로 다시 정리
+            if (stream.isDone()) {
+                listener.untrack();
+            }
+        } catch (GenerationRejectedException e) {
+            send(sessionId, CallBotReplyEvent.error(conversationId, e.getMessage()));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Set<ReplyStream> streams = streamsBySession.remove(event.getSessionId());
+        if (streams != null) {
+            streams.forEach(ReplyStream::cancel);
+        }
+    }
+
+    private void send(String sessionId, CallBotReplyEvent event) {
+        messagingTemplate.convertAndSendToUser(sessionId, REPLY_DESTINATION, event, sessionHeaders(sessionId));
+    }
+
+    private static MessageHeaders sessionHeaders(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    private final class StompReplyListener implements ReplyListener {
+
+        private final String sessionId;
+        private final String conversationId;
+        private volatile ReplyStream stream;
+
+        private StompReplyListener(String sessionId, String conversationId) {
+            this.sessionId = sessionId;
+            this.conversationId = conversationId;
+        }
+
+        @Override
+        public void onChunk(String text) throws InterruptedException {
+            awaitCapacity();
+            send(sessionId, CallBotReplyEvent.chunk(conversationId, text));
+        }
+
+        @Override
+        public void onComplete(GenerationStats stats) throws InterruptedException {
+            awaitCapacity();
+            send(sessionId, CallBotReplyEvent.done(conversationId, stats));
+            untrack();
+        }
+
+        // 던지면 CallBotService가 생성을 취소하고 onError로 오류 프레임을 보낸다
+        private void awaitCapacity() throws InterruptedException {
+            if (!flowControl.awaitCapacity(sessionId)) {
+                throw new IllegalStateException("STOMP 세션이 응답 프레임을 받지 못함 - session=" + sessionId);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            send(sessionId, CallBotReplyEvent.error(conversationId, "응답 생성 중 오류가 발생했습니다."));
+            untrack();
+        }
+
+        private void untrack() {
+            ReplyStream current = stream;
+            if (current == null) {
+                return;
+            }
+            streamsBySession.computeIfPresent(sessionId, (id, streams) -> {
+                streams.remove(current);
+                return streams.isEmpty() ? null : streams;
+            });
+        }
+    }
+}
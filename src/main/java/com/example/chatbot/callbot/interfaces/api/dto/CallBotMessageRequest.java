@@ -0,0 +1,17 @@
+package com.example.chatbot.callbot.interfaces.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CallBotMessageRequest {
+
+    @NotBlank(message = "메시지는 필수입니다.")
+    @Size(max = 4000, message = "메시지는 4000자 이하여야 합니다.")
+    private String message;
+}
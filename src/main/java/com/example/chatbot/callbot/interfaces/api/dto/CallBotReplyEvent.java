@@ -0,0 +1,32 @@
+package com.example.chatbot.callbot.interfaces.api.dto;
+
+import com.example.chatbot.callbot.application.GenerationStats;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * STOMP 응답 프레임 - type: chunk | done | error
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CallBotReplyEvent {
+
+    private String conversationId;
+    private String type;
+    private String text;
+    private GenerationStats stats;
+
+    public static CallBotReplyEvent chunk(String conversationId, String text) {
+        return new CallBotReplyEvent(conversationId, "chunk", text, null);
+    }
+
+    public static CallBotReplyEvent done(String conversationId, GenerationStats stats) {
+        return new CallBotReplyEvent(conversationId, "done", null, stats);
+    }
+
+    public static CallBotReplyEvent error(String conversationId, String message) {
+        return new CallBotReplyEvent(conversationId, "error", message, null);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.chatbot.chat.application;
+
+import com.example.chatbot.chat.infrastructure.persistence.jpa.ChatMessageJpaRepository;
+import com.example.chatbot.chat.infrastructure.persistence.jpa.entity.ChatMessageJpaEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+@Service
+public class ChatHistoryService implements DisposableBean {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final RoomShards roomShards;
+    private final ChatMessageJpaRepository chatMessageRepository;
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    // 보충 조회는 프록시를 거치지 않는 내부 호출이므로 readOnly 트랜잭션을 직접 열어 읽기 복제본으로 보낸다
+    private final TransactionTemplate readOnlyTransaction;
+    // DB 보충 조회용 - 샤드 스레드나 요청 스레드가 DB를 기다리지 않게 한다
+    private final ExecutorService databaseReader = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ChatHistoryService(RoomShards roomShards,
+                              ChatMessageJpaRepository chatMessageRepository,
+                              MeterRegistry meterRegistry,
+                              PlatformTransactionManager transactionManager) {
+        this.roomShards = roomShards;
+        this.chatMessageRepository = chatMessageRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.memoryHits = Counter.builder("chat.history.recent").tag("source", "memory").register(meterRegistry);
+        this.databaseHits = Counter.builder("chat.history.recent").tag("source", "database").register(meterRegistry);
+    }
+
+    /**
+     * 최근 n개 - 링 버퍼로 응답하고 부족할 때만 DB 조회 (블로킹 없이 완료)
+     */
+    public CompletableFuture<List<ChatMessage>> last(long roomId, int n) {
+        int limit = clamp(n);
+        return roomShards.submit(roomId, room -> room.recentLast(limit))
+                .thenCompose(cached -> orDatabase(cached, () -> newestBefore(roomId, null, limit)));
+    }
+
+    /**
+     * afterSeq 이후 메시지 (재접속 시 누락분 보충) - 링 버퍼로 응답하고 빈틈이 있을 때만 DB 조회
+     */
+    public CompletableFuture<List<ChatMessage>> since(long roomId, long afterSeq, int max) {
+        int limit = clamp(max);
+        return roomShards.submit(roomId, room -> room.recentSince(afterSeq, limit))
+                .thenCompose(cached -> orDatabase(cached, () -> toMessages(
+                        chatMessageRepository.findByRoomIdAndSeqGreaterThanOrderBySeqAsc(roomId, afterSeq, Limit.of(limit)))));
+    }
+
+    /**
+     * 메모리 결과가 있으면 그대로, 없으면 DB 조회를 별도 스레드에서 실행한다
+     * (thenCompose 콜백은 샤드 스레드에서 돌 수 있으므로 여기서 DB를 직접 부르지 않는다)
+     */
+    private CompletableFuture<List<ChatMessage>> orDatabase(List<ChatMessage> cached,
+                                                             Supplier<List<ChatMessage>> query) {
+        if (cached != null) {
+            memoryHits.increment();
+            return CompletableFuture.completedFuture(cached);
+        }
+        databaseHits.increment();
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), databaseReader);
+    }
+
+    /**
+     * (room_id, seq) 키셋 페이지 - beforeSeq보다 오래된 메시지를 오래된 순으로 반환
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessage> page(long roomId, Long beforeSeq, int size) {
+        return newestBefore(roomId, beforeSeq, clamp(size));
+    }
+
+    private List<ChatMessage> newestBefore(long roomId, Long beforeSeq, int limit) {
+        List<ChatMessageJpaEntity> newestFirst = beforeSeq == null
+                ? chatMessageRepository.findByRoomIdOrderBySeqDesc(roomId, Limit.of(limit))
+                : chatMessageRepository.findByRoomIdAndSeqLessThanOrderBySeqDesc(roomId, beforeSeq, Limit.of(limit));
+        List<ChatMessage> messages = toMessages(newestFirst);
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    private static List<ChatMessage> toMessages(List<ChatMessageJpaEntity> entities) {
+        List<ChatMessage> messages = new ArrayList<>(entities.size());
+        for (ChatMessageJpaEntity entity : entities) {
+            messages.add(entity.toMessage());
+        }
+        return messages;
+    }
+
+    @Override
+    public void destroy() {
+        databaseReader.shutdownNow();
+    }
+
+    private static int clamp(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.chatbot.chat.application;
+
+import java.time.Instant;
+
+/**
+ * 방 단위로 순서가 보장되는 채팅 메시지 (seq는 방마다 1부터 단조 증가)
+ */
+public record ChatMessage(long roomId, long seq, String sender, String content, Instant sentAt) {
+}
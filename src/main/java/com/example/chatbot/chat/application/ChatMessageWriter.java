@@ -0,0 +1,217 @@
+package com.example.chatbot.chat.application;
+
+import com.example.chatbot.chat.infrastructure.persistence.jpa.ChatMessageJpaRepository;
+import com.example.chatbot.chat.infrastructure.persistence.jpa.entity.ChatMessageJpaEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 채팅 메시지 비동기 일괄 저장 - 샤드 스레드가 DB 쓰기를 기다리지 않도록 큐에 넣고 배치로 insert 한다.
+ *
+ * 자리는 seq를 붙이기 전에 tryReserve로 예약하므로 큐가 넘쳐 버려지는 메시지가 없고,
+ * 일시적인 저장 실패는 버리지 않고 백오프하며 재시도한다.
+ * 저장이 끝난 메시지만 콜백으로 알려 발행하므로, 프로세스가 죽어 큐가 사라져도
+ * 클라이언트가 본 적 없는 seq만 사라진다 (다시 올린 방이 같은 seq를 써도 충돌하지 않는다).
+ */
+@Component
+public class ChatMessageWriter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageWriter.class);
+
+    /**
+     * 저장 결과 콜백 - 저장 스레드에서 큐 순서대로 호출된다. saved=false는 재시도해도 저장할 수 없어 포기한 메시지
+     */
+    @FunctionalInterface
+    public interface WriteCallback {
+        void completed(ChatMessage message, boolean saved);
+    }
+
+    private record Pending(ChatMessage message, WriteCallback callback) {
+    }
+
+    private final ChatMessageJpaRepository chatMessageRepository;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Semaphore capacity;
+    private final int batchSize;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Duration shutdownTimeout;
+    private final Counter rejected;
+    private final Counter retries;
+    private final Counter dropped;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private volatile long shutdownDeadlineNanos;
+
+    public ChatMessageWriter(ChatMessageJpaRepository chatMessageRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.history.write-queue-capacity:100000}") int queueCapacity,
+                             @Value("${chat.history.write-batch-size:500}") int batchSize,
+                             @Value("${chat.history.write-retry-backoff:100ms}") Duration initialBackoff,
+                             @Value("${chat.history.write-retry-max-backoff:5s}") Duration maxBackoff,
+                             @Value("${chat.history.write-shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.capacity = new Semaphore(queueCapacity);
+        this.batchSize = batchSize;
+        this.initialBackoffMillis = Math.max(1, initialBackoff.toMillis());
+        this.maxBackoffMillis = Math.max(initialBackoffMillis, maxBackoff.toMillis());
+        this.shutdownTimeout = shutdownTimeout;
+        this.rejected = Counter.builder("chat.history.write.rejected").register(meterRegistry);
+        this.retries = Counter.builder("chat.history.write.retries").register(meterRegistry);
+        this.dropped = Counter.builder("chat.history.write.dropped").register(meterRegistry);
+        meterRegistry.gauge("chat.history.write.queue", queue, BlockingQueue::size);
+        this.worker = new Thread(this::run, "chat-message-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 저장 대기열 자리 하나를 예약한다 - 가득 차면 false. 메시지에 seq를 붙이기 전에 호출해야 한다.
+     */
+    public boolean tryReserve() {
+        if (capacity.tryAcquire()) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * tryReserve로 예약한 자리에 메시지를 넣는다
+     */
+    public void enqueue(ChatMessage message, WriteCallback callback) {
+        queue.add(new Pending(message, callback));
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ex) {
+                if (queue.isEmpty()) {
+                    break;
+                }
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+            try {
+                write(batch);
+            } finally {
+                capacity.release(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long backoff = initialBackoffMillis;
+        while (true) {
+            try {
+                chatMessageRepository.saveAll(toEntities(batch));
+                complete(batch, true);
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                // 배치 안의 특정 행 문제 - 한 건씩 저장해 문제 행만 걸러낸다
+                log.warn("채팅 메시지 배치 저장 중 제약 위반 - {}건을 한 건씩 다시 저장", batch.size(), ex);
+                for (Pending pending : batch) {
+                    writeOne(pending);
+                }
+                return;
+            } catch (RuntimeException ex) {
+                if (giveUp()) {
+                    log.error("종료 시한 초과로 채팅 메시지 {}건 저장 포기", batch.size(), ex);
+                    dropped.increment(batch.size());
+                    complete(batch, false);
+                    return;
+                }
+                retries.increment();
+                log.warn("채팅 메시지 저장 실패 - {}건, {}ms 후 재시도", batch.size(), backoff, ex);
+                backoff = pause(backoff);
+            }
+        }
+    }
+
+    private void writeOne(Pending pending) {
+        long backoff = initialBackoffMillis;
+        while (true) {
+            try {
+                chatMessageRepository.save(ChatMessageJpaEntity.from(pending.message()));
+                complete(List.of(pending), true);
+                return;
+            } catch (DataIntegrityViolationException ex) {
+                log.error("채팅 메시지 저장 불가 - room={}, seq={}",
+                        pending.message().roomId(), pending.message().seq(), ex);
+                dropped.increment();
+                complete(List.of(pending), false);
+                return;
+            } catch (RuntimeException ex) {
+                if (giveUp()) {
+                    log.error("종료 시한 초과로 채팅 메시지 저장 포기 - room={}, seq={}",
+                            pending.message().roomId(), pending.message().seq(), ex);
+                    dropped.increment();
+                    complete(List.of(pending), false);
+                    return;
+                }
+                retries.increment();
+                backoff = pause(backoff);
+            }
+        }
+    }
+
+    private static List<ChatMessageJpaEntity> toEntities(List<Pending> batch) {
+        // 실패한 시도에서 쓴 엔티티는 상태가 바뀌었을 수 있으므로 매번 새로 만든다
+        List<ChatMessageJpaEntity> entities = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            entities.add(ChatMessageJpaEntity.from(pending.message()));
+        }
+        return entities;
+    }
+
+    private static void complete(List<Pending> batch, boolean saved) {
+        for (Pending pending : batch) {
+            try {
+                pending.callback().completed(pending.message(), saved);
+            } catch (RuntimeException ex) {
+                log.warn("채팅 메시지 저장 콜백 실패 - room={}, seq={}",
+                        pending.message().roomId(), pending.message().seq(), ex);
+            }
+        }
+    }
+
+    private boolean giveUp() {
+        return !running && System.nanoTime() - shutdownDeadlineNanos > 0;
+    }
+
+    private long pause(long backoffMillis) {
+        try {
+            Thread.sleep(backoffMillis);
+        } catch (InterruptedException ex) {
+            // 종료 신호 - 시한까지는 계속 시도하므로 인터럽트 상태는 남기지 않는다
+        }
+        return Math.min(backoffMillis * 2, maxBackoffMillis);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        shutdownDeadlineNanos = System.nanoTime() + shutdownTimeout.toNanos();
+        running = false;
+        worker.interrupt();
+        worker.join(shutdownTimeout.toMillis() + 1_000);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.chatbot.chat.application;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+@Service
+public class ChatRoomService {
+
+    private final RoomShards roomShards;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageWriter chatMessageWriter;
+    // 세션별 입장한 방 - 연결이 끊기면 퇴장 처리해 방이 유휴 상태가 될 수 있게 한다
+    private final Map<String, Map<Long, String>> roomsBySession = new ConcurrentHashMap<>();
+
+    public ChatRoomService(RoomShards roomShards,
+                           SimpMessagingTemplate messagingTemplate,
+                           ChatMessageWriter chatMessageWriter) {
+        this.roomShards = roomShards;
+        this.messagingTemplate = messagingTemplate;
+        this.chatMessageWriter = chatMessageWriter;
+    }
+
+    public static String roomTopic(long roomId) {
+        return "/topic/rooms/" + roomId;
+    }
+
+    /**
+     * 메시지 전송 - 방의 샤드 스레드에서 시퀀스를 부여하고, 저장이 끝나면 저장 스레드가 순서대로 발행한다.
+     * 저장 대기열이 가득 차면 seq를 붙이기 전에 RejectedExecutionException으로 거절한다.
+     */
+    public CompletableFuture<ChatMessage> send(long roomId, String sender, String content) {
+        return roomShards.submit(roomId, room -> {
+            if (!chatMessageWriter.tryReserve()) {
+                throw new RejectedExecutionException("chat message write queue is full");
+            }
+            ChatMessage message = room.append(sender, content, Instant.now());
+            chatMessageWriter.enqueue(message, (persisted, saved) -> {
+                room.markPersisted(persisted.seq());
+                if (saved) {
+                    messagingTemplate.convertAndSend(roomTopic(roomId), persisted);
+                }
+            });
+            return message;
+        });
+    }
+
+    /**
+     * 방 입장
+     */
+    public CompletableFuture<Boolean> join(long roomId, String member, String sessionId) {
+        Map<Long, String> rooms = roomsBySession.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>());
+        if (rooms.putIfAbsent(roomId, member) != null) {
+            // 같은 세션의 중복 입장은 세지 않는다
+            return CompletableFuture.completedFuture(false);
+        }
+        CompletableFuture<Boolean> joined = roomShards.submit(roomId, room -> room.join(member));
+        // 입장 자체가 실패했으면 다시 시도할 수 있도록 기록을 지운다
+        joined.whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                rooms.remove(roomId, member);
+            }
+        });
+        return joined;
+    }
+
+    /**
+     * 방 퇴장
+     */
+    public CompletableFuture<Boolean> leave(long roomId, String member, String sessionId) {
+        Map<Long, String> rooms = roomsBySession.get(sessionId);
+        if (rooms == null || rooms.remove(roomId) == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return roomShards.submit(roomId, room -> room.leave(member));
+    }
+
+    /**
+     * 연결 종료 - 세션이 들어가 있던 모든 방에서 퇴장
+     */
+    public List<CompletableFuture<Boolean>> disconnect(String sessionId) {
+        Map<Long, String> rooms = roomsBySession.remove(sessionId);
+        if (rooms == null) {
+            return List.of();
+        }
+        List<CompletableFuture<Boolean>> results = new ArrayList<>(rooms.size());
+        rooms.forEach((roomId, member) -> results.add(roomShards.submit(roomId, room -> room.leave(member))));
+        return results;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.chatbot.chat.application;
+
+import com.example.chatbot.chat.infrastructure.persistence.jpa.ChatMessageJpaRepository;
+import com.example.chatbot.chat.infrastructure.persistence.jpa.entity.ChatMessageJpaEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 방 활성화 시 최근 메시지를 한 번만 읽어 링 버퍼와 마지막 seq를 채운다.
+ * 재배포 직후 재접속이 몰려도 방마다 쿼리 1회로 끝나고 이후 요청은 메모리에서 응답한다.
+ */
+@Component
+public class ChatRoomStateLoader implements RoomStateFactory {
+
+    private final ChatMessageJpaRepository chatMessageRepository;
+    private final int capacity;
+
+    public ChatRoomStateLoader(ChatMessageJpaRepository chatMessageRepository,
+                               @Value("${chat.history.recent-capacity:200}") int capacity) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public RoomState create(long roomId) {
+        List<ChatMessageJpaEntity> latest = chatMessageRepository.findByRoomIdOrderBySeqDesc(roomId, Limit.of(capacity));
+        RecentMessageBuffer recent = new RecentMessageBuffer(capacity);
+        for (int i = latest.size() - 1; i >= 0; i--) {
+            recent.append(latest.get(i).toMessage());
+        }
+        long lastSeq = latest.isEmpty() ? 0 : latest.get(0).getSeq();
+        return new RoomState(roomId, lastSeq, recent);
+    }
+}
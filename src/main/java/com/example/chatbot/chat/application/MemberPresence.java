@@ -0,0 +1,7 @@
+package com.example.chatbot.chat.application;
+
+/**
+ * 방 안에서 한 멤버의 presence 상태
+ */
+public record MemberPresence(String member, PresenceStatus status, boolean typing) {
+}
@@ -0,0 +1,16 @@
+package com.example.chatbot.chat.application;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+
+/**
+ * 한 노드가 한 tick에 만든 presence 변경분과 입력 중 상태 (노드 간 중계 단위)
+ */
+public record PresenceBatch(String nodeId, List<PresenceDelta> deltas, List<TypingState> typing) {
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return deltas.isEmpty() && typing.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.chatbot.chat.application;
+
+import java.util.List;
+
+/**
+ * tick 동안 바뀐 멤버만 담은 변경분 (/topic/rooms/{roomId}/presence)
+ *
+ * version은 노드별로 1씩 증가한다. 송신 큐에서 병합되어 중간 버전이 빠질 수 있으므로
+ * 클라이언트는 같은 nodeId에서 version이 건너뛰면 스냅샷을 다시 구독해야 한다.
+ * 클라이언트가 받는 changes의 상태는 모든 노드를 합친 값이다 (노드 간 중계에서는 보낸 노드의 상태).
+ */
+public record PresenceDelta(long roomId, String nodeId, long version, List<MemberPresence> changes) {
+}
@@ -0,0 +1,43 @@
+package com.example.chatbot.chat.application;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 여러 노드의 presence를 합치기 위한 중계 - 이 노드의 tick 결과를 내보내고, 다른 노드의 결과를 받는다.
+ */
+public interface PresenceRelay {
+
+    /**
+     * 단일 노드 운영용 (중계 없음)
+     */
+    PresenceRelay LOCAL_ONLY = new PresenceRelay() {
+        @Override
+        public void publish(PresenceBatch batch) {
+        }
+
+        @Override
+        public void listen(Consumer<PresenceBatch> listener) {
+        }
+
+        @Override
+        public List<MemberPresence> remoteMembers(String localNodeId, long roomId) {
+            return List.of();
+        }
+    };
+
+    /**
+     * 이 노드의 tick 결과 - 변경이 없어도 tick마다 호출된다 (주기적 갱신용).
+     */
+    void publish(PresenceBatch batch);
+
+    /**
+     * 다른 노드가 발행한 tick 결과를 받을 리스너 등록
+     */
+    void listen(Consumer<PresenceBatch> listener);
+
+    /**
+     * localNodeId를 제외한 다른 노드에 접속한 멤버 상태 (스냅샷 구성용)
+     */
+    List<MemberPresence> remoteMembers(String localNodeId, long roomId);
+}
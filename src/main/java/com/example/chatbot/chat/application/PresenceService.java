@@ -0,0 +1,471 @@
+package com.example.chatbot.chat.application;
+
+import com.example.chatbot.common.timer.HashedTimerWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * presence(온라인/자리비움)와 입력 중 표시
+ *
+ * 상태 변경은 방별 맵에만 기록하고, 고정 주기(tick)마다 바뀐 멤버만 모아 방당 한 번 발행한다.
+ * 전체 상태는 구독 시 스냅샷으로만 내려준다. 하트비트가 끊긴 세션과 입력 중 표시는
+ * 타이머 휠로 만료시키므로 주기적인 전체 스캔이 없다.
+ */
+@Service
+public class PresenceService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PresenceService.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final PresenceRelay relay;
+    private final String nodeId;
+    private final long sessionTtlNanos;
+    private final long typingTtlNanos;
+
+    // 방별 상태 - RoomPresence 내부는 ConcurrentHashMap의 해당 키 compute 안에서만 변경한다
+    private final ConcurrentHashMap<Long, RoomPresence> rooms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PresenceSession> sessions = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyRooms = ConcurrentHashMap.newKeySet();
+    // 다른 노드의 입력 중 목록 - roomId -> nodeId -> 목록
+    private final ConcurrentHashMap<Long, Map<String, RemoteTyping>> remoteTyping = new ConcurrentHashMap<>();
+
+    private final HashedTimerWheel<Object> expiries;
+    private final ScheduledExecutorService ticker;
+
+    private final Counter eventsReceived;
+    private final Counter framesPublished;
+    private final Counter sessionsExpired;
+
+    public PresenceService(SimpMessagingTemplate messagingTemplate,
+                           ObjectProvider<PresenceRelay> relayProvider,
+                           MeterRegistry meterRegistry,
+                           @Value("${chat.node-id:${random.uuid}}") String nodeId,
+                           @Value("${chat.presence.tick-interval:250ms}") Duration tickInterval,
+                           @Value("${chat.presence.session-ttl:60s}") Duration sessionTtl,
+                           @Value("${chat.presence.typing-ttl:5s}") Duration typingTtl) {
+        this.messagingTemplate = messagingTemplate;
+        this.relay = relayProvider.getIfAvailable(() -> PresenceRelay.LOCAL_ONLY);
+        this.nodeId = nodeId;
+        this.sessionTtlNanos = sessionTtl.toNanos();
+        this.typingTtlNanos = typingTtl.toNanos();
+        this.expiries = new HashedTimerWheel<>(tickInterval, 512, this::onExpired);
+
+        this.eventsReceived = Counter.builder("chat.presence.events")
+                .description("수신한 presence/typing 변경 이벤트")
+                .register(meterRegistry);
+        this.framesPublished = Counter.builder("chat.presence.frames")
+                .description("발행한 presence/typing 프레임 (방당 tick당 최대 1개씩)")
+                .register(meterRegistry);
+        this.sessionsExpired = Counter.builder("chat.presence.sessions.expired").register(meterRegistry);
+        meterRegistry.gaugeMapSize("chat.presence.sessions", Tags.empty(), sessions);
+        meterRegistry.gaugeMapSize("chat.presence.rooms", Tags.empty(), rooms);
+
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "presence-tick");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = tickInterval.toNanos();
+        ticker.scheduleAtFixedRate(this::tick, period, period, TimeUnit.NANOSECONDS);
+        relay.listen(this::applyRemote);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 상태 변경 (처음이면 방 입장으로 처리)
+     */
+    public void update(String sessionId, String member, long roomId, PresenceStatus status) {
+        eventsReceived.increment();
+        PresenceSession session = touch(sessionId, member);
+        boolean joined = session.rooms.add(roomId);
+        mutate(roomId, room -> {
+            MemberState state = room.members.computeIfAbsent(member, m -> new MemberState());
+            if (joined) {
+                state.sessions++;
+            }
+            if (state.status != status) {
+                state.status = status;
+                room.changed.add(member);
+            }
+        });
+    }
+
+    /**
+     * 입력 중 표시 - typingTtl 안에 갱신되지 않으면 자동으로 해제된다.
+     */
+    public void typing(String sessionId, String member, long roomId, boolean typing) {
+        eventsReceived.increment();
+        PresenceSession session = touch(sessionId, member);
+        boolean joined = session.rooms.add(roomId);
+        long deadline = System.nanoTime() + typingTtlNanos;
+        boolean[] scheduleExpiry = new boolean[1];
+        mutate(roomId, room -> {
+            MemberState state = room.members.computeIfAbsent(member, m -> new MemberState());
+            if (joined) {
+                state.sessions++;
+            }
+            if (state.status == null) {
+                state.status = PresenceStatus.ONLINE;
+                room.changed.add(member);
+            }
+            if (state.typing != typing) {
+                state.typing = typing;
+                room.typingChanged = true;
+            }
+            // 만료 예약은 타이핑 시작 시 한 번만, 이후 갱신은 deadline만 늘린다
+            scheduleExpiry[0] = typing && state.typingDeadlineNanos == 0;
+            state.typingDeadlineNanos = typing ? deadline : 0;
+        });
+        if (scheduleExpiry[0]) {
+            expiries.scheduleAt(new TypingExpiry(roomId, member), deadline);
+        }
+    }
+
+    /**
+     * 하트비트 - 시각만 갱신하고 타이머는 만료 시점에 다시 확인한다 (하트비트마다 재예약하지 않음)
+     */
+    public void heartbeat(String sessionId) {
+        PresenceSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.lastSeenNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * 방 퇴장
+     */
+    public void leave(String sessionId, long roomId) {
+        PresenceSession session = sessions.get(sessionId);
+        if (session != null && session.rooms.remove(roomId)) {
+            release(roomId, session.member);
+        }
+    }
+
+    /**
+     * 세션 종료 - 세션이 들어가 있던 모든 방에서 제거
+     */
+    public void disconnect(String sessionId) {
+        PresenceSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        session.timeout.cancel();
+        for (Long roomId : session.rooms) {
+            release(roomId, session.member);
+        }
+    }
+
+    /**
+     * 방 전체 스냅샷 - 구독 시에만 사용 (다른 노드 멤버 포함)
+     */
+    public PresenceSnapshot snapshot(long roomId) {
+        Map<String, MemberPresence> merged = new LinkedHashMap<>();
+        long[] version = new long[1];
+        rooms.computeIfPresent(roomId, (id, room) -> {
+            version[0] = room.version;
+            room.members.forEach((member, state) ->
+                    merged.put(member, new MemberPresence(member, state.status, state.typing)));
+            return room;
+        });
+        // 여러 노드에 접속한 멤버는 가장 활발한 상태로 합친다
+        for (MemberPresence remote : relay.remoteMembers(nodeId, roomId)) {
+            merged.merge(remote.member(), remote, (local, other) -> new MemberPresence(
+                    local.member(), mostPresent(local.status(), other.status()), local.typing()));
+        }
+        return new PresenceSnapshot(roomId, nodeId, version[0], new ArrayList<>(merged.values()));
+    }
+
+    private PresenceSession touch(String sessionId, String member) {
+        PresenceSession session = sessions.computeIfAbsent(sessionId, id -> {
+            PresenceSession created = new PresenceSession(member);
+            created.timeout = expiries.scheduleAt(new SessionExpiry(id), created.lastSeenNanos + sessionTtlNanos);
+            return created;
+        });
+        session.lastSeenNanos = System.nanoTime();
+        return session;
+    }
+
+    private void release(long roomId, String member) {
+        mutate(roomId, room -> {
+            MemberState state = room.members.get(member);
+            if (state == null || --state.sessions > 0) {
+                return;
+            }
+            room.members.remove(member);
+            room.changed.add(member);
+            if (state.typing) {
+                room.typingChanged = true;
+            }
+        });
+    }
+
+    private void mutate(long roomId, Consumer<RoomPresence> change) {
+        rooms.compute(roomId, (id, room) -> {
+            RoomPresence target = room != null ? room : new RoomPresence();
+            change.accept(target);
+            return target;
+        });
+        dirtyRooms.add(roomId);
+    }
+
+    private void onExpired(List<Object> expired) {
+        long now = System.nanoTime();
+        for (Object expiry : expired) {
+            if (expiry instanceof SessionExpiry sessionExpiry) {
+                expireSession(sessionExpiry, now);
+            } else if (expiry instanceof TypingExpiry typingExpiry) {
+                expireTyping(typingExpiry, now);
+            }
+        }
+    }
+
+    private void expireSession(SessionExpiry expiry, long now) {
+        PresenceSession session = sessions.get(expiry.sessionId());
+        if (session == null) {
+            return;
+        }
+        long deadline = session.lastSeenNanos + sessionTtlNanos;
+        if (deadline - now > 0) {
+            session.timeout = expiries.scheduleAt(expiry, deadline);
+            return;
+        }
+        sessionsExpired.increment();
+        disconnect(expiry.sessionId());
+    }
+
+    private void expireTyping(TypingExpiry expiry, long now) {
+        long[] reschedule = new long[1];
+        mutate(expiry.roomId(), room -> {
+            MemberState state = room.members.get(expiry.member());
+            if (state == null || state.typingDeadlineNanos == 0) {
+                return;
+            }
+            if (state.typingDeadlineNanos - now > 0) {
+                reschedule[0] = state.typingDeadlineNanos;
+                return;
+            }
+            state.typing = false;
+            state.typingDeadlineNanos = 0;
+            room.typingChanged = true;
+        });
+        if (reschedule[0] != 0) {
+            expiries.scheduleAt(expiry, reschedule[0]);
+        }
+    }
+
+    /**
+     * 만료 처리 후 dirty 방의 변경분을 발행한다 - presence-tick 스레드 전용 (테스트에서는 직접 호출)
+     */
+    void tick() {
+        try {
+            expiries.advanceTo(System.nanoTime());
+            List<PresenceDelta> deltas = new ArrayList<>();
+            List<TypingState> typing = new ArrayList<>();
+            Iterator<Long> it = dirtyRooms.iterator();
+            while (it.hasNext()) {
+                Long roomId = it.next();
+                it.remove();
+                flush(roomId, deltas, typing);
+            }
+            relay.publish(new PresenceBatch(nodeId, deltas, typing));
+        } catch (RuntimeException ex) {
+            log.error("presence tick 처리 실패", ex);
+        }
+    }
+
+    private void flush(long roomId, List<PresenceDelta> deltas, List<TypingState> localTyping) {
+        PresenceDelta[] delta = new PresenceDelta[1];
+        List<String> typingMembers = new ArrayList<>();
+        boolean[] typingChanged = new boolean[1];
+        rooms.computeIfPresent(roomId, (id, room) -> {
+            if (!room.changed.isEmpty()) {
+                List<MemberPresence> changes = new ArrayList<>(room.changed.size());
+                for (String member : room.changed) {
+                    MemberState state = room.members.get(member);
+                    changes.add(state == null
+                            ? new MemberPresence(member, PresenceStatus.OFFLINE, false)
+                            : new MemberPresence(member, state.status, state.typing));
+                }
+                room.changed.clear();
+                delta[0] = new PresenceDelta(roomId, nodeId, ++room.version, changes);
+            }
+            if (room.typingChanged) {
+                room.members.forEach((member, state) -> {
+                    if (state.typing) {
+                        typingMembers.add(member);
+                    }
+                });
+                room.typingChanged = false;
+                typingChanged[0] = true;
+            }
+            // 변경분을 내보낸 뒤 빈 방은 제거
+            return room.members.isEmpty() ? null : room;
+        });
+        if (delta[0] != null) {
+            // 다른 노드에는 이 노드의 상태를(노드별 해시 기록용), 클라이언트에는 노드를 합친 상태를 보낸다
+            messagingTemplate.convertAndSend(presenceTopic(roomId), mergeAcrossNodes(delta[0]));
+            framesPublished.increment();
+            deltas.add(delta[0]);
+        }
+        if (typingChanged[0]) {
+            // 다른 노드에는 로컬 목록만, 클라이언트에는 합친 목록을 보낸다
+            localTyping.add(new TypingState(roomId, List.copyOf(typingMembers)));
+            messagingTemplate.convertAndSend(typingTopic(roomId), new TypingState(roomId, mergeRemoteTyping(roomId, typingMembers)));
+            framesPublished.increment();
+        }
+    }
+
+    private List<String> mergeRemoteTyping(long roomId, List<String> local) {
+        Map<String, RemoteTyping> byNode = remoteTyping.get(roomId);
+        if (byNode == null) {
+            return local;
+        }
+        long now = System.nanoTime();
+        Set<String> merged = new LinkedHashSet<>(local);
+        byNode.values().removeIf(remote -> now - remote.receivedNanos > typingTtlNanos);
+        for (RemoteTyping remote : byNode.values()) {
+            merged.addAll(remote.members);
+        }
+        if (byNode.isEmpty()) {
+            remoteTyping.remove(roomId, byNode);
+        }
+        return new ArrayList<>(merged);
+    }
+
+    /**
+     * 다른 노드의 tick 결과 반영 - 변경분은 노드를 합친 상태로 바꿔 전달하고, 입력 중 목록은 다음 tick에 합쳐서 보낸다.
+     */
+    private void applyRemote(PresenceBatch batch) {
+        if (nodeId.equals(batch.nodeId())) {
+            return;
+        }
+        for (PresenceDelta delta : batch.deltas()) {
+            messagingTemplate.convertAndSend(presenceTopic(delta.roomId()), mergeAcrossNodes(delta));
+            framesPublished.increment();
+        }
+        long now = System.nanoTime();
+        for (TypingState state : batch.typing()) {
+            remoteTyping.computeIfAbsent(state.roomId(), id -> new ConcurrentHashMap<>())
+                    .put(batch.nodeId(), new RemoteTyping(state.typing(), now));
+            mutate(state.roomId(), room -> room.typingChanged = true);
+        }
+    }
+
+    /**
+     * 한 노드의 변경분을 멤버별로 모든 노드의 상태와 합친다 - A에서 나가도 B에 남아 있으면 OFFLINE이 아니다.
+     * 다른 노드의 상태는 노드별 해시에서 읽는다 (각 노드는 발행 전에 같은 파이프라인에서 해시를 먼저 쓴다).
+     * ONLINE은 더 올라갈 상태가 없으므로 ONLINE만 있는 변경분은 조회하지 않는다.
+     */
+    private PresenceDelta mergeAcrossNodes(PresenceDelta delta) {
+        Map<String, PresenceStatus> needed = new HashMap<>();
+        for (MemberPresence change : delta.changes()) {
+            if (change.status() != PresenceStatus.ONLINE) {
+                needed.put(change.member(), change.status());
+            }
+        }
+        if (needed.isEmpty()) {
+            return delta;
+        }
+        rooms.computeIfPresent(delta.roomId(), (id, room) -> {
+            needed.replaceAll((member, status) -> {
+                MemberState local = room.members.get(member);
+                return local == null ? status : mostPresent(status, local.status);
+            });
+            return room;
+        });
+        for (MemberPresence remote : relay.remoteMembers(nodeId, delta.roomId())) {
+            needed.computeIfPresent(remote.member(), (member, status) -> mostPresent(status, remote.status()));
+        }
+        List<MemberPresence> merged = new ArrayList<>(delta.changes().size());
+        for (MemberPresence change : delta.changes()) {
+            PresenceStatus status = needed.getOrDefault(change.member(), change.status());
+            merged.add(status == change.status() ? change : new MemberPresence(change.member(), status, change.typing()));
+        }
+        return new PresenceDelta(delta.roomId(), delta.nodeId(), delta.version(), merged);
+    }
+
+    // ONLINE > AWAY > OFFLINE
+    private static PresenceStatus mostPresent(PresenceStatus a, PresenceStatus b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.ordinal() <= b.ordinal() ? a : b;
+    }
+
+    public static String presenceTopic(long roomId) {
+        return "/topic/rooms/" + roomId + "/presence";
+    }
+
+    public static String typingTopic(long roomId) {
+        return "/topic/rooms/" + roomId + "/typing";
+    }
+
+    @Override
+    public void destroy() {
+        ticker.shutdownNow();
+    }
+
+    private static final class RoomPresence {
+        private final Map<String, MemberState> members = new HashMap<>();
+        private final Set<String> changed = new HashSet<>();
+        private boolean typingChanged;
+        private long version;
+    }
+
+    private static final class MemberState {
+        private PresenceStatus status;
+        private boolean typing;
+        private long typingDeadlineNanos;
+        private int sessions;
+    }
+
+    private static final class PresenceSession {
+        private final String member;
+        private final Set<Long> rooms = ConcurrentHashMap.newKeySet();
+        private volatile long lastSeenNanos = System.nanoTime();
+        private volatile HashedTimerWheel.Timeout<Object> timeout;
+
+        private PresenceSession(String member) {
+            this.member = member;
+        }
+    }
+
+    private record RemoteTyping(List<String> members, long receivedNanos) {
+    }
+
+    private record SessionExpiry(String sessionId) {
+    }
+
+    private record TypingExpiry(long roomId, String member) {
+    }
+}
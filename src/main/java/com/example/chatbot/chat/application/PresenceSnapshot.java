@@ -0,0 +1,9 @@
+package com.example.chatbot.chat.application;
+
+import java.util.List;
+
+/**
+ * 구독 시 한 번만 내려주는 방 전체 presence
+ */
+public record PresenceSnapshot(long roomId, String nodeId, long version, List<MemberPresence> members) {
+}
@@ -0,0 +1,7 @@
+package com.example.chatbot.chat.application;
+
+public enum PresenceStatus {
+    ONLINE,
+    AWAY,
+    OFFLINE
+}
@@ -0,0 +1,119 @@
+package com.example.chatbot.chat.application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 방별 최근 메시지 고정 크기 링 버퍼 - 샤드 스레드 전용이라 동기화하지 않는다.
+ *
+ * seq는 append 순서대로 증가하므로 이진 탐색으로 "seq 이후" 구간을 찾는다.
+ */
+public final class RecentMessageBuffer {
+
+    private final ChatMessage[] slots;
+    private int head; // 다음에 쓸 위치
+    private int size;
+
+    public RecentMessageBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new ChatMessage[capacity];
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void append(ChatMessage message) {
+        slots[head] = message;
+        head = (head + 1) % slots.length;
+        if (size < slots.length) {
+            size++;
+        }
+    }
+
+    /**
+     * 버퍼에 남아 있는 가장 오래된 seq (비어 있으면 -1)
+     */
+    public long oldestSeq() {
+        return size == 0 ? -1 : get(0).seq();
+    }
+
+    /**
+     * 최근 n개 (오래된 것부터)
+     */
+    public List<ChatMessage> last(int n) {
+        return last(n, Long.MAX_VALUE);
+    }
+
+    /**
+     * seq가 maxSeq 이하인 것 중 최근 n개 (오래된 것부터)
+     */
+    public List<ChatMessage> last(int n, long maxSeq) {
+        int end = maxSeq == Long.MAX_VALUE ? size : firstIndexAfter(maxSeq);
+        int count = Math.min(n, end);
+        return copy(end - count, end);
+    }
+
+    /**
+     * afterSeq보다 큰 seq의 메시지 (오래된 것부터, 최대 max개).
+     * 버퍼가 afterSeq 바로 다음 메시지를 이미 밀어냈다면 빈틈이 생기므로 null을 반환한다.
+     */
+    public List<ChatMessage> since(long afterSeq, int max) {
+        return since(afterSeq, max, Long.MAX_VALUE);
+    }
+
+    /**
+     * since(afterSeq, max)와 같지만 seq가 maxSeq 이하인 메시지만 반환한다
+     */
+    public List<ChatMessage> since(long afterSeq, int max, long maxSeq) {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        if (afterSeq + 1 < oldestSeq()) {
+            return null;
+        }
+        int from = firstIndexAfter(afterSeq);
+        int end = maxSeq == Long.MAX_VALUE ? size : firstIndexAfter(maxSeq);
+        return copy(from, Math.min(end, from + max));
+    }
+
+    private int firstIndexAfter(long seq) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (get(mid).seq() <= seq) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private ChatMessage get(int index) {
+        int start = head - size;
+        if (start < 0) {
+            start += slots.length;
+        }
+        return slots[(start + index) % slots.length];
+    }
+
+    private List<ChatMessage> copy(int from, int to) {
+        if (from >= to) {
+            return Collections.emptyList();
+        }
+        List<ChatMessage> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.chatbot.chat.application;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 방 ID를 고정된 개수의 단일 스레드 샤드로 해시 분배한다.
+ *
+ * 한 방의 상태(RoomState)는 항상 같은 샤드 스레드에서만 읽고 쓰므로 락 없이 순서가 보장되고,
+ * 서로 다른 방은 샤드 수만큼 병렬로 처리된다.
+ * 방 상태 로딩(DB 조회)은 별도 가상 스레드에서 하고, 로딩 중인 방의 작업은 대기열에 쌓았다가
+ * 로딩이 끝나면 샤드 스레드에서 순서대로 실행한다 - 한 방의 로딩이 같은 샤드의 다른 방을 막지 않는다.
+ * 일정 시간 접근이 없고 멤버도, 저장 대기 메시지도 없는 방은 샤드에서 내려 최근 메시지 버퍼 메모리를 회수한다.
+ */
+@Component
+public class RoomShards implements DisposableBean {
+
+    private final Shard[] shards;
+    private final RoomStateFactory roomStateFactory;
+    private final long idleTimeoutNanos;
+    private final ScheduledExecutorService evictionTicker;
+    private final ExecutorService roomLoader = Executors.newVirtualThreadPerTaskExecutor();
+
+    public RoomShards(@Value("${chat.shards.count:0}") int shardCount,
+                      @Value("${chat.shards.queue-capacity:65536}") int queueCapacity,
+                      @Value("${chat.rooms.idle-timeout:10m}") Duration idleTimeout,
+                      RoomStateFactory roomStateFactory) {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(i, queueCapacity, this);
+        }
+        this.roomStateFactory = roomStateFactory;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.evictionTicker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "room-shard-eviction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, idleTimeout.toMillis() / 4);
+        evictionTicker.scheduleAtFixedRate(this::evictIdleRooms, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    public int shardOf(long roomId) {
+        // 연속된 방 ID가 한 샤드에 몰리지 않도록 비트를 섞는다 (murmur3 finalizer)
+        long h = roomId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) Math.floorMod(h, (long) shards.length);
+    }
+
+    /**
+     * 방의 샤드 스레드에서 작업을 실행한다. 샤드 큐가 가득 차면 RejectedExecutionException으로 완료된다.
+     */
+    public <T> CompletableFuture<T> submit(long roomId, Function<RoomState, T> task) {
+        Shard shard = shards[shardOf(roomId)];
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            shard.executor.execute(() -> shard.dispatch(roomId, state -> {
+                try {
+                    future.complete(task.apply(state));
+                } catch (Throwable ex) {
+                    future.completeExceptionally(ex);
+                }
+            }, future::completeExceptionally));
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    private void evictIdleRooms() {
+        long deadline = System.nanoTime() - idleTimeoutNanos;
+        for (Shard shard : shards) {
+            try {
+                shard.executor.execute(() -> shard.evictIdle(deadline));
+            } catch (RejectedExecutionException ex) {
+                // 샤드가 바쁘면 다음 주기에 다시 시도
+            }
+        }
+    }
+
+    public int activeRoomCount() {
+        int total = 0;
+        for (Shard shard : shards) {
+            total += shard.activeRooms;
+        }
+        return total;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        evictionTicker.shutdownNow();
+        roomLoader.shutdownNow();
+        for (Shard shard : shards) {
+            shard.executor.shutdown();
+        }
+        for (Shard shard : shards) {
+            shard.executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 샤드 스레드에서 실행되는 작업 - 방 상태가 준비되면 run, 로딩에 실패하면 fail
+     */
+    private record RoomTask(Consumer<RoomState> run, Consumer<Throwable> fail) {
+    }
+
+    private static final class Shard {
+
+        private final ThreadPoolExecutor executor;
+        private final int queueCapacity;
+        private final RoomShards owner;
+        // 샤드 스레드 전용 - 접근 순서로 정렬되어 맨 앞부터 유휴 방이 모인다
+        private final LinkedHashMap<Long, ActiveRoom> rooms = new LinkedHashMap<>(64, 0.75f, true);
+        private volatile Thread thread;
+        private volatile int activeRooms;
+
+        private Shard(int index, int queueCapacity, RoomShards owner) {
+            this.queueCapacity = queueCapacity;
+            this.owner = owner;
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread created = new Thread(runnable, "room-shard-" + index);
+                        created.setDaemon(true);
+                        thread = created;
+                        return created;
+                    });
+        }
+
+        private void dispatch(long roomId, Consumer<RoomState> run,
+                              Consumer<Throwable> fail) {
+            ActiveRoom active = rooms.get(roomId);
+            if (active == null) {
+                active = new ActiveRoom();
+                rooms.put(roomId, active);
+                activeRooms = rooms.size();
+                startLoad(roomId, active);
+            }
+            active.lastAccessNanos = System.nanoTime();
+            if (active.state != null) {
+                run.accept(active.state);
+                return;
+            }
+            // 로딩 중 - 완료되면 도착 순서대로 실행한다. 대기열도 샤드 큐와 같은 한도로 묶는다.
+            if (active.waiting.size() >= queueCapacity) {
+                fail.accept(new RejectedExecutionException("room " + roomId + " is still loading"));
+                return;
+            }
+            active.waiting.add(new RoomTask(run, fail));
+        }
+
+        private void startLoad(long roomId, ActiveRoom active) {
+            CompletableFuture.supplyAsync(() -> owner.roomStateFactory.create(roomId), owner.roomLoader)
+                    .whenComplete((state, ex) -> onShardThread(() -> loaded(roomId, active, state, ex)));
+        }
+
+        private void loaded(long roomId, ActiveRoom active, RoomState state, Throwable ex) {
+            ArrayDeque<RoomTask> waiting = active.waiting;
+            if (ex != null) {
+                // 실패한 방은 내려서 다음 요청이 다시 로딩하게 한다
+                rooms.remove(roomId, active);
+                activeRooms = rooms.size();
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+                        ? ex.getCause() : ex;
+                for (RoomTask task : waiting) {
+                    task.fail().accept(cause);
+                }
+            } else {
+                active.state = state;
+                for (RoomTask task : waiting) {
+                    task.run().accept(state);
+                }
+            }
+            waiting.clear();
+        }
+
+        /**
+         * 로딩 완료 콜백을 샤드 스레드로 넘긴다. 큐가 가득 차도 버리면 대기 작업이 영원히 끝나지 않으므로
+         * 로더 스레드(가상 스레드)에서 자리가 날 때까지 기다렸다 넣는다.
+         */
+        private void onShardThread(Runnable callback) {
+            if (Thread.currentThread() == thread) {
+                callback.run();
+                return;
+            }
+            try {
+                executor.execute(callback);
+            } catch (RejectedExecutionException ex) {
+                if (executor.isShutdown()) {
+                    return;
+                }
+                try {
+                    executor.getQueue().put(callback);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /**
+         * 접근 순서의 앞쪽만 보므로 유휴 방 수에 비례하는 비용만 든다 (전체 스캔 아님)
+         */
+        private void evictIdle(long deadline) {
+            Iterator<Map.Entry<Long, ActiveRoom>> it = rooms.entrySet().iterator();
+            while (it.hasNext()) {
+                ActiveRoom active = it.next().getValue();
+                if (active.lastAccessNanos - deadline > 0) {
+                    break;
+                }
+                if (active.state != null && active.state.isIdle()) {
+                    it.remove();
+                }
+            }
+            activeRooms = rooms.size();
+        }
+    }
+
+    private static final class ActiveRoom {
+
+        // 로딩이 끝나기 전까지 null
+        private RoomState state;
+        private final ArrayDeque<RoomTask> waiting = new ArrayDeque<>();
+        private long lastAccessNanos;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.chatbot.chat.application;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 방 상태 - 해당 방이 배정된 샤드 스레드만 접근하므로 동기화하지 않는다.
+ * 예외로 persistedSeq는 ChatMessageWriter의 저장 스레드가 갱신한다.
+ */
+public final class RoomState {
+
+    private final long roomId;
+    // 멤버별 입장한 세션 수 - 같은 회원이 여러 탭으로 들어와도 마지막 세션이 나갈 때 퇴장한다
+    private final Map<String, Integer> members = new HashMap<>();
+    private final RecentMessageBuffer recent;
+    private long lastSeq;
+    // 저장이 끝난 마지막 seq - 이보다 큰 메시지는 아직 발행되지 않았으므로 조회에서도 숨긴다
+    private volatile long persistedSeq;
+
+    public RoomState(long roomId, long lastSeq, RecentMessageBuffer recent) {
+        this.roomId = roomId;
+        this.lastSeq = lastSeq;
+        this.persistedSeq = lastSeq;
+        this.recent = recent;
+    }
+
+    public long roomId() {
+        return roomId;
+    }
+
+    public long lastSeq() {
+        return lastSeq;
+    }
+
+    public long persistedSeq() {
+        return persistedSeq;
+    }
+
+    public Set<String> members() {
+        return members.keySet();
+    }
+
+    /**
+     * @return 새로 입장한 멤버면 true (이미 다른 세션으로 들어와 있으면 false)
+     */
+    public boolean join(String member) {
+        return members.merge(member, 1, Integer::sum) == 1;
+    }
+
+    /**
+     * @return 멤버의 마지막 세션이 나가 퇴장했으면 true
+     */
+    public boolean leave(String member) {
+        if (!members.containsKey(member)) {
+            return false;
+        }
+        return members.computeIfPresent(member, (key, count) -> count == 1 ? null : count - 1) == null;
+    }
+
+    /**
+     * 다음 시퀀스 번호를 부여해 메시지를 만들고 최근 버퍼에 넣는다.
+     */
+    public ChatMessage append(String sender, String content, Instant sentAt) {
+        ChatMessage message = new ChatMessage(roomId, ++lastSeq, sender, content, sentAt);
+        recent.append(message);
+        return message;
+    }
+
+    /**
+     * 저장 스레드가 seq까지 저장(또는 저장 포기)했음을 알린다 - seq 순서대로 호출된다
+     */
+    void markPersisted(long seq) {
+        persistedSeq = seq;
+    }
+
+    /**
+     * 멤버가 없고 저장 대기 메시지도 없어 샤드에서 내려도 되는지.
+     * 저장 전에 내리면 다시 올릴 때 DB의 마지막 seq부터 시작해 같은 seq를 다시 쓰게 된다.
+     */
+    public boolean isIdle() {
+        return members.isEmpty() && persistedSeq == lastSeq;
+    }
+
+    /**
+     * 최근 n개 - 버퍼가 부족하고 더 오래된 메시지가 DB에 있으면 null
+     */
+    public List<ChatMessage> recentLast(int n) {
+        List<ChatMessage> visible = recent.last(n, persistedSeq);
+        boolean olderInDatabase = recent.size() == 0 ? persistedSeq > 0 : recent.oldestSeq() > 1;
+        if (visible.size() < n && olderInDatabase) {
+            return null;
+        }
+        return visible;
+    }
+
+    /**
+     * afterSeq 이후 메시지 - 버퍼로 채울 수 없으면 null
+     */
+    public List<ChatMessage> recentSince(long afterSeq, int max) {
+        return recent.since(afterSeq, max, persistedSeq);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.chatbot.chat.application;
+
+/**
+ * 방이 샤드에 처음 올라올 때 상태를 만든다.
+ * 샤드 스레드가 아니라 방 로더의 가상 스레드에서 호출되므로 샤드에 묶인 상태(다른 방의 RoomState 등)를 건드리면 안 된다.
+ * 만든 상태는 로딩이 끝난 뒤 샤드 스레드로 넘겨진다.
+ */
+@FunctionalInterface
+public interface RoomStateFactory {
+
+    RoomState create(long roomId);
+}
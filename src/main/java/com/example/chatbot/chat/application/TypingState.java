@@ -0,0 +1,11 @@
+package com.example.chatbot.chat.application;
+
+import java.util.List;
+
+/**
+ * 방에서 현재 입력 중인 멤버 목록 (/topic/rooms/{roomId}/typing)
+ *
+ * 클라이언트로는 모든 노드를 합친 전체 목록을 보내므로 송신 큐에서 병합되어도 안전하다.
+ */
+public record TypingState(long roomId, List<String> typing) {
+}
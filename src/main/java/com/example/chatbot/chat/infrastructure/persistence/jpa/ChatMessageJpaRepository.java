@@ -0,0 +1,19 @@
+package com.example.chatbot.chat.infrastructure.persistence.jpa;
+
+import com.example.chatbot.chat.infrastructure.persistence.jpa.entity.ChatMessageId;
+import com.example.chatbot.chat.infrastructure.persistence.jpa.entity.ChatMessageJpaEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ChatMessageJpaRepository extends JpaRepository<ChatMessageJpaEntity, ChatMessageId> {
+
+    // 모두 (room_id, seq) 기본 키 인덱스를 타는 키셋 조회
+
+    List<ChatMessageJpaEntity> findByRoomIdOrderBySeqDesc(Long roomId, Limit limit);
+
+    List<ChatMessageJpaEntity> findByRoomIdAndSeqLessThanOrderBySeqDesc(Long roomId, Long seq, Limit limit);
+
+    List<ChatMessageJpaEntity> findByRoomIdAndSeqGreaterThanOrderBySeqAsc(Long roomId, Long seq, Limit limit);
+}
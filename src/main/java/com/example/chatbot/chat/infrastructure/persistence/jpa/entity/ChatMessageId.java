@@ -0,0 +1,21 @@
+package com.example.chatbot.chat.infrastructure.persistence.jpa.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * chat_messages 복합 키 (room_id, seq) - 키셋 페이지네이션 인덱스를 겸한다
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ChatMessageId implements Serializable {
+
+    private Long roomId;
+    private Long seq;
+}
@@ -0,0 +1,71 @@
+package com.example.chatbot.chat.infrastructure.persistence.jpa.entity;
+
+import com.example.chatbot.chat.application.ChatMessage;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "chat_messages")
+@IdClass(ChatMessageId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatMessageJpaEntity implements Persistable<ChatMessageId> {
+
+    @Id
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Id
+    @Column(name = "seq")
+    private Long seq;
+
+    // 보낸 회원의 이메일 - members.email과 같은 길이
+    @Column(nullable = false, length = 255)
+    private String sender;
+
+    @Column(nullable = false, length = 2000)
+    private String content;
+
+    @Column(name = "sent_at", nullable = false)
+    private Instant sentAt;
+
+    // 키를 직접 부여하므로 save 시 merge(SELECT)가 일어나지 않도록 신규 여부를 직접 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean fresh = true;
+
+    public static ChatMessageJpaEntity from(ChatMessage message) {
+        ChatMessageJpaEntity entity = new ChatMessageJpaEntity();
+        entity.roomId = message.roomId();
+        entity.seq = message.seq();
+        entity.sender = message.sender();
+        entity.content = message.content();
+        entity.sentAt = message.sentAt();
+        return entity;
+    }
+
+    public ChatMessage toMessage() {
+        return new ChatMessage(roomId, seq, sender, content, sentAt);
+    }
+
+    @Override
+    public ChatMessageId getId() {
+        return new ChatMessageId(roomId, seq);
+    }
+
+    @Override
+    public boolean isNew() {
+        return fresh;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.fresh = false;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.chatbot.chat.infrastructure.redis;
+
+import com.example.chatbot.chat.application.MemberPresence;
+import com.example.chatbot.chat.application.PresenceBatch;
+import com.example.chatbot.chat.application.PresenceDelta;
+import com.example.chatbot.chat.application.PresenceRelay;
+import com.example.chatbot.chat.application.PresenceStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis 기반 presence 중계
+ *
+ * - tick 결과는 노드당 tick당 PUBLISH 1회로 다른 노드에 전달
+ * - 스냅샷용 상태는 노드별 해시 chat:presence:{roomId}:{nodeId}에 두고 TTL로 죽은 노드 상태를 정리
+ * - 살아 있는 노드 목록은 chat:presence:nodes (score = 마지막 갱신 시각)
+ */
+@Component
+@ConditionalOnProperty(name = "chat.presence.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisPresenceRelay implements PresenceRelay, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisPresenceRelay.class);
+
+    static final String CHANNEL = "chat:presence";
+    private static final String NODES_KEY = "chat:presence:nodes";
+    private static final Duration KEY_TTL = Duration.ofSeconds(90);
+    private static final long REFRESH_INTERVAL_MILLIS = 30_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<PresenceBatch>> listeners = new CopyOnWriteArrayList<>();
+    // 이 노드가 해시를 가지고 있는 방 - TTL 갱신 대상 (tick 스레드 전용)
+    private final Set<Long> localRooms = ConcurrentHashMap.newKeySet();
+    private long lastRefreshMillis;
+
+    public RedisPresenceRelay(StringRedisTemplate redisTemplate,
+                              ObjectMapper objectMapper,
+                              RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void publish(PresenceBatch batch) {
+        try {
+            long now = System.currentTimeMillis();
+            boolean refresh = now - lastRefreshMillis >= REFRESH_INTERVAL_MILLIS;
+            if (batch.isEmpty() && !refresh) {
+                return;
+            }
+            String payload = batch.isEmpty() ? null : objectMapper.writeValueAsString(batch);
+            List<Long> refreshed = refresh ? new ArrayList<>(localRooms) : List.of();
+
+            // 상태 기록, TTL 갱신, 발행을 파이프라인 한 번으로 처리
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (Long roomId : refreshed) {
+                    redis.expire(roomKey(roomId, batch.nodeId()), KEY_TTL.toSeconds());
+                }
+                for (PresenceDelta delta : batch.deltas()) {
+                    String key = roomKey(delta.roomId(), batch.nodeId());
+                    for (MemberPresence change : delta.changes()) {
+                        if (change.status() == PresenceStatus.OFFLINE) {
+                            redis.hDel(key, change.member());
+                        } else {
+                            redis.hSet(key, change.member(), change.status().name());
+                        }
+                    }
+                    redis.expire(key, KEY_TTL.toSeconds());
+                }
+                if (refresh) {
+                    redis.zAdd(NODES_KEY, now, batch.nodeId());
+                    redis.zRemRangeByScore(NODES_KEY, 0, now - KEY_TTL.toMillis());
+                }
+                if (payload != null) {
+                    redis.publish(CHANNEL, payload);
+                }
+                return null;
+            });
+
+            // 키가 사라진(멤버가 모두 나간) 방은 갱신 대상에서 뺀다
+            for (int i = 0; i < refreshed.size(); i++) {
+                if (Boolean.FALSE.equals(results.get(i))) {
+                    localRooms.remove(refreshed.get(i));
+                }
+            }
+            for (PresenceDelta delta : batch.deltas()) {
+                localRooms.add(delta.roomId());
+            }
+            if (refresh) {
+                lastRefreshMillis = now;
+            }
+        } catch (JsonProcessingException | RuntimeException ex) {
+            // Redis 장애가 로컬 presence를 멈추지 않도록 로그만 남긴다
+            log.warn("presence 중계 실패: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void listen(Consumer<PresenceBatch> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public List<MemberPresence> remoteMembers(String localNodeId, long roomId) {
+        try {
+            long now = System.currentTimeMillis();
+            Set<String> nodes = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, now - KEY_TTL.toMillis(), Double.MAX_VALUE);
+            if (nodes == null || nodes.isEmpty()) {
+                return List.of();
+            }
+            List<String> remoteNodes = nodes.stream().filter(node -> !node.equals(localNodeId)).toList();
+            List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (String node : remoteNodes) {
+                    redis.hGetAll(roomKey(roomId, node));
+                }
+                return null;
+            });
+            List<MemberPresence> members = new ArrayList<>();
+            for (Object hash : hashes) {
+                if (hash instanceof Map<?, ?> entries) {
+                    entries.forEach((member, status) -> members.add(
+                            new MemberPresence(member.toString(), PresenceStatus.valueOf(status.toString()), false)));
+                }
+            }
+            return members;
+        } catch (RuntimeException ex) {
+            log.warn("다른 노드 presence 조회 실패: {}", ex.getMessage());
+            return List.of();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            PresenceBatch batch = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), PresenceBatch.class);
+            for (Consumer<PresenceBatch> listener : listeners) {
+                listener.accept(batch);
+            }
+        } catch (Exception ex) {
+            log.warn("presence 중계 메시지 처리 실패: {}", ex.getMessage());
+        }
+    }
+
+    private static String roomKey(long roomId, String nodeId) {
+        return "chat:presence:" + roomId + ":" + nodeId;
+    }
+}
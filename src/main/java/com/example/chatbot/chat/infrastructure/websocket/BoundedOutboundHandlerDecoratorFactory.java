@@ -0,0 +1,70 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * STOMP 서브프로토콜 핸들러가 세션을 등록하기 전에 BoundedOutboundSession으로 감싼다.
+ * 토큰 만료 시 닫을 수 있도록 원본 세션을 SessionExpiryScheduler에, 막힌 전송을 닫을 수 있도록
+ * 감싼 세션을 OutboundSendWatchdog에, 응답 스트림이 속도를 맞출 수 있도록 OutboundFlowControl에 등록한다.
+ */
+public class BoundedOutboundHandlerDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+    private final OutboundQueueSettings settings;
+    private final OutboundQueueMetrics metrics;
+    private final Executor flushExecutor;
+    private final SessionExpiryScheduler sessionExpiryScheduler;
+    private final OutboundSendWatchdog sendWatchdog;
+    private final OutboundFlowControl flowControl;
+
+    public BoundedOutboundHandlerDecoratorFactory(OutboundQueueSettings settings,
+                                                  OutboundQueueMetrics metrics,
+                                                  Executor flushExecutor,
+                                                  SessionExpiryScheduler sessionExpiryScheduler,
+                                                  OutboundSendWatchdog sendWatchdog,
+                                                  OutboundFlowControl flowControl) {
+        this.settings = settings;
+        this.metrics = metrics;
+        this.flushExecutor = flushExecutor;
+        this.sessionExpiryScheduler = sessionExpiryScheduler;
+        this.sendWatchdog = sendWatchdog;
+        this.flowControl = flowControl;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            private final Map<String, BoundedOutboundSession> sessions = new ConcurrentHashMap<>();
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                BoundedOutboundSession bounded = new BoundedOutboundSession(session, settings, metrics, flushExecutor);
+                sessions.put(session.getId(), bounded);
+                sessionExpiryScheduler.register(session);
+                sendWatchdog.register(bounded);
+                flowControl.register(bounded);
+                super.afterConnectionEstablished(bounded);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessionExpiryScheduler.unregister(session.getId());
+                BoundedOutboundSession bounded = sessions.remove(session.getId());
+                if (bounded != null) {
+                    sendWatchdog.unregister(bounded);
+                    flowControl.unregister(bounded);
+                    bounded.release();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+}
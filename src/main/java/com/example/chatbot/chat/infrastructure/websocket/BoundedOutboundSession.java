@@ -0,0 +1,373 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+import com.example.chatbot.chat.infrastructure.websocket.OutboundQueueMetrics.DisconnectReason;
+import com.example.chatbot.chat.infrastructure.websocket.OutboundQueueMetrics.DropReason;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 세션별 상한이 있는 송신 큐
+ *
+ * sendMessage는 큐에 넣기만 하고 바로 반환하므로 브로커의 clientOutboundChannel 스레드가
+ * 느린 클라이언트 때문에 막히지 않는다. 실제 전송은 flushExecutor에서 세션당 하나의 작업으로 수행한다.
+ * 큐는 첫 프레임이 들어올 때 생성되므로 유휴 세션은 큐 메모리를 쓰지 않는다.
+ *
+ * reliable destination(CallBot 응답 스트림 등)의 프레임은 병합/드롭 대상이 아니다. 자리가 없으면 다른 프레임을 버리고,
+ * 버릴 프레임이 없으면 응답에 구멍을 내는 대신 연결을 끊는다. 생산자는 awaitReliableCapacity로 속도를 맞춘다.
+ */
+public class BoundedOutboundSession extends WebSocketSessionDecorator {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedOutboundSession.class);
+
+    private static final String DESTINATION_HEADER = "\ndestination:";
+
+    private final OutboundQueueSettings settings;
+    private final OutboundQueueMetrics metrics;
+    private final Executor flushExecutor;
+
+    // 아래 필드는 this 모니터로 보호된다
+    private ArrayDeque<Pending> queue;
+    private Map<String, Pending> pendingByDestination;
+    private int queuedBytes;
+    private int consecutiveDrops;
+    // 큐에 있거나 전송 중인 reliable 프레임 수
+    private int reliableUnwritten;
+
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final AtomicBoolean closing = new AtomicBoolean();
+    private volatile long sendStartNanos;
+
+    public BoundedOutboundSession(WebSocketSession delegate,
+                                  OutboundQueueSettings settings,
+                                  OutboundQueueMetrics metrics,
+                                  Executor flushExecutor) {
+        super(delegate);
+        this.settings = settings;
+        this.metrics = metrics;
+        this.flushExecutor = flushExecutor;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (closing.get()) {
+            return;
+        }
+        if (isSendTimeLimitExceeded()) {
+            disconnect(DisconnectReason.SEND_TIME_LIMIT);
+            return;
+        }
+
+        // destination 헤더는 병합이나 reliable 구분에 쓸 때만 읽는다
+        String destination = settings.policy() == OutboundOverflowPolicy.COALESCE || !settings.reliableSuffixes().isEmpty()
+                ? destinationOf(message) : null;
+        boolean reliable = settings.isReliable(destination);
+        String coalesceKey = !reliable && settings.policy() == OutboundOverflowPolicy.COALESCE
+                && settings.isEphemeral(destination) ? destination : null;
+        int size = sizeOf(message);
+
+        DisconnectReason disconnectReason = enqueue(message, coalesceKey, size, reliable);
+        if (disconnectReason != null) {
+            disconnect(disconnectReason);
+            return;
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * 큐에 넣는다. 연결을 끊어야 하면 그 사유를 반환한다.
+     */
+    private synchronized DisconnectReason enqueue(WebSocketMessage<?> message, String coalesceKey, int size,
+                                                  boolean reliable) {
+        if (queue == null) {
+            queue = new ArrayDeque<>(Math.min(settings.maxMessages(), 16));
+        }
+
+        if (coalesceKey != null && pendingByDestination != null) {
+            Pending pending = pendingByDestination.get(coalesceKey);
+            if (pending != null) {
+                int delta = size - pending.size;
+                boolean fitsSession = delta <= 0 || queuedBytes + delta <= settings.maxBytes();
+                if (fitsSession && metrics.tryAdjustBytes(delta)) {
+                    queuedBytes += delta;
+                    pending.message = message;
+                    pending.size = size;
+                    metrics.dropped(DropReason.COALESCED);
+                    return null;
+                }
+                // 더 큰 프레임으로 바꾸면 상한을 넘으므로 이전 프레임을 빼고 일반 경로(드롭/예산 확인)로 넣는다
+                discard(pending);
+                metrics.dropped(DropReason.COALESCED);
+            }
+        }
+
+        if (size > settings.maxBytes()) {
+            if (reliable) {
+                return DisconnectReason.QUEUE_OVERFLOW;
+            }
+            metrics.dropped(DropReason.OVERSIZE);
+            return null;
+        }
+
+        while (queue.size() >= settings.maxMessages() || queuedBytes + size > settings.maxBytes()) {
+            if (settings.policy() == OutboundOverflowPolicy.DISCONNECT) {
+                return DisconnectReason.QUEUE_OVERFLOW;
+            }
+            if (!dropOldest(DropReason.DROP_OLDEST)) {
+                return rejectIncoming(DropReason.DROP_OLDEST, reliable);
+            }
+            if (tooManyDrops()) {
+                return DisconnectReason.TOO_MANY_DROPS;
+            }
+        }
+
+        while (!metrics.tryReserve(size)) {
+            if (!dropOldest(DropReason.GLOBAL_BUDGET)) {
+                return rejectIncoming(DropReason.GLOBAL_BUDGET, reliable);
+            }
+            if (tooManyDrops()) {
+                return DisconnectReason.TOO_MANY_DROPS;
+            }
+        }
+
+        Pending pending = new Pending(message, size, coalesceKey, reliable);
+        queue.addLast(pending);
+        queuedBytes += size;
+        if (reliable) {
+            reliableUnwritten++;
+        }
+        if (coalesceKey != null) {
+            if (pendingByDestination == null) {
+                pendingByDestination = new HashMap<>();
+            }
+            pendingByDestination.put(coalesceKey, pending);
+        }
+        return null;
+    }
+
+    /**
+     * 버릴 수 있는 가장 오래된 프레임을 버린다 - reliable 프레임만 남았으면 false
+     */
+    private boolean dropOldest(DropReason reason) {
+        for (Pending pending : queue) {
+            if (!pending.reliable) {
+                discard(pending);
+                metrics.dropped(reason);
+                consecutiveDrops++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 자리를 만들 수 없을 때 - 일반 프레임은 새 프레임을 버리고, reliable 프레임은 구멍을 내지 않도록 연결을 끊는다
+     */
+    private DisconnectReason rejectIncoming(DropReason reason, boolean reliable) {
+        if (reliable) {
+            return DisconnectReason.QUEUE_OVERFLOW;
+        }
+        metrics.dropped(reason);
+        consecutiveDrops++;
+        return tooManyDrops() ? DisconnectReason.TOO_MANY_DROPS : null;
+    }
+
+    private boolean tooManyDrops() {
+        return settings.maxConsecutiveDrops() > 0 && consecutiveDrops >= settings.maxConsecutiveDrops();
+    }
+
+    private void discard(Pending pending) {
+        // 세션당 최대 maxMessages개라 선형 탐색으로 충분하다 (보통은 맨 앞 프레임)
+        if (queue.removeFirstOccurrence(pending)) {
+            queuedBytes -= pending.size;
+            metrics.release(pending.size);
+            if (pending.coalesceKey != null) {
+                pendingByDestination.remove(pending.coalesceKey, pending);
+            }
+        }
+    }
+
+    private Pending poll() {
+        Pending pending = queue == null ? null : queue.pollFirst();
+        if (pending != null) {
+            queuedBytes -= pending.size;
+            metrics.release(pending.size);
+            if (pending.coalesceKey != null) {
+                pendingByDestination.remove(pending.coalesceKey, pending);
+            }
+        }
+        return pending;
+    }
+
+    private void scheduleFlush() {
+        if (flushing.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        while (!closing.get()) {
+            WebSocketMessage<?> next;
+            boolean reliable;
+            synchronized (this) {
+                Pending pending = poll();
+                if (pending == null) {
+                    // 생산자는 락 안에서 넣은 뒤 flushing을 확인하므로 여기서 내려도 유실되지 않는다
+                    flushing.set(false);
+                    return;
+                }
+                next = pending.message;
+                reliable = pending.reliable;
+                consecutiveDrops = 0;
+            }
+            try {
+                sendStartNanos = System.nanoTime();
+                getDelegate().sendMessage(next);
+            } catch (IOException | RuntimeException ex) {
+                log.debug("WebSocket 전송 실패 - session={}: {}", getId(), ex.getMessage());
+                disconnect(DisconnectReason.SEND_ERROR);
+            } finally {
+                sendStartNanos = 0;
+                if (reliable) {
+                    reliableWritten();
+                }
+            }
+        }
+        flushing.set(false);
+    }
+
+    private synchronized void reliableWritten() {
+        if (reliableUnwritten > 0) {
+            reliableUnwritten--;
+        }
+        notifyAll();
+    }
+
+    /**
+     * reliable 프레임의 미전송 수가 window 아래로 내려갈 때까지 기다린다 - 응답 스트림 생산자의 흐름 제어.
+     * 브로커를 지나는 중인 프레임은 세지 않으므로 잠깐 window를 넘을 수 있지만 reliable 프레임은 버려지지 않는다.
+     *
+     * @return 자리가 났으면 true, 연결이 닫혔거나 maxWait이 지나면 false
+     */
+    public synchronized boolean awaitReliableCapacity(int window, Duration maxWait) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (!closing.get() && reliableUnwritten >= window) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return !closing.get();
+    }
+
+    /**
+     * 진행 중인 전송이 send-time-limit을 넘겼으면 flushExecutor에서 연결을 닫는다 (OutboundSendWatchdog이 호출).
+     * 막힌 소켓의 close도 막힐 수 있으므로 호출 스레드에서 닫지 않는다.
+     *
+     * @return 닫기로 했으면 true
+     */
+    boolean enforceSendTimeLimit() {
+        if (closing.get() || !isSendTimeLimitExceeded()) {
+            return false;
+        }
+        flushExecutor.execute(() -> disconnect(DisconnectReason.SEND_TIME_LIMIT));
+        return true;
+    }
+
+    private boolean isSendTimeLimitExceeded() {
+        long started = sendStartNanos;
+        return started != 0 && System.nanoTime() - started > settings.sendTimeLimit().toNanos();
+    }
+
+    private void disconnect(DisconnectReason reason) {
+        if (!closing.compareAndSet(false, true)) {
+            return;
+        }
+        metrics.disconnected(reason);
+        release();
+        log.info("느린 WebSocket 소비자 연결 종료 - session={}, reason={}", getId(), reason);
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException ex) {
+            log.debug("WebSocket 종료 실패 - session={}: {}", getId(), ex.getMessage());
+        }
+    }
+
+    /**
+     * 연결 종료 시 대기 프레임과 예약된 예산을 반환한다.
+     */
+    public synchronized void release() {
+        closing.set(true);
+        while (poll() != null) {
+            // 예산 반환
+        }
+        queue = null;
+        pendingByDestination = null;
+        reliableUnwritten = 0;
+        // 흐름 제어로 기다리던 생산자를 깨운다
+        notifyAll();
+    }
+
+    private static String destinationOf(WebSocketMessage<?> message) {
+        return message instanceof TextMessage text ? destinationOf(text.getPayload()) : null;
+    }
+
+    /**
+     * STOMP MESSAGE 프레임의 destination 헤더만 읽는다 (본문은 파싱하지 않음)
+     */
+    static String destinationOf(String frame) {
+        if (!frame.startsWith("MESSAGE")) {
+            return null;
+        }
+        int headersEnd = frame.indexOf("\n\n");
+        int index = frame.indexOf(DESTINATION_HEADER);
+        if (index < 0 || (headersEnd >= 0 && index > headersEnd)) {
+            return null;
+        }
+        int start = index + DESTINATION_HEADER.length();
+        int end = frame.indexOf('\n', start);
+        if (end < 0) {
+            end = frame.length();
+        }
+        if (end > start && frame.charAt(end - 1) == '\r') {
+            end--;
+        }
+        return frame.substring(start, end);
+    }
+
+    private static int sizeOf(WebSocketMessage<?> message) {
+        // TextMessage.getPayloadLength()는 바이트 배열을 새로 만들므로 문자 수로 추정한다
+        if (message instanceof TextMessage text) {
+            return text.getPayload().length();
+        }
+        return message.getPayloadLength();
+    }
+
+    private static final class Pending {
+        private WebSocketMessage<?> message;
+        private int size;
+        private final String coalesceKey;
+        private final boolean reliable;
+
+        private Pending(WebSocketMessage<?> message, int size, String coalesceKey, boolean reliable) {
+            this.message = message;
+            this.size = size;
+            this.coalesceKey = coalesceKey;
+            this.reliable = reliable;
+        }
+    }
+}
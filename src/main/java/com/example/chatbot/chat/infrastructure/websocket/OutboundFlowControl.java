@@ -0,0 +1,40 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 응답 스트림처럼 버리면 안 되는 프레임의 생산자 쪽 흐름 제어
+ *
+ * convertAndSendToUser는 큐에 넣고 바로 반환하므로, 생산자는 보내기 전에 세션의 미전송 reliable 프레임이
+ * window 아래로 내려갈 때까지 기다린다. 느린 클라이언트의 속도가 생산자까지 전달되어
+ * 그 앞의 상한 버퍼(ReplyStream)가 채워지고 청크가 커진다.
+ */
+public class OutboundFlowControl {
+
+    private final Map<String, BoundedOutboundSession> sessions = new ConcurrentHashMap<>();
+    private final int window;
+    private final Duration maxWait;
+
+    public OutboundFlowControl(int window, Duration maxWait) {
+        this.window = window;
+        this.maxWait = maxWait;
+    }
+
+    void register(BoundedOutboundSession session) {
+        sessions.put(session.getId(), session);
+    }
+
+    void unregister(BoundedOutboundSession session) {
+        sessions.remove(session.getId(), session);
+    }
+
+    /**
+     * @return 보내도 되면 true, 세션이 없거나 닫혔거나 maxWait 안에 자리가 나지 않으면 false
+     */
+    public boolean awaitCapacity(String sessionId) throws InterruptedException {
+        BoundedOutboundSession session = sessions.get(sessionId);
+        return session != null && session.awaitReliableCapacity(window, maxWait);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+/**
+ * 세션별 송신 큐가 가득 찼을 때의 처리 정책
+ */
+public enum OutboundOverflowPolicy {
+
+    /**
+     * 가장 오래된 프레임을 버리고 새 프레임을 넣는다
+     */
+    DROP_OLDEST,
+
+    /**
+     * presence/typing 같은 휘발성 프레임은 같은 destination의 대기 프레임을 덮어쓰고,
+     * 그래도 넘치면 가장 오래된 프레임을 버린다
+     */
+    COALESCE,
+
+    /**
+     * 넘치는 즉시 느린 소비자로 보고 연결을 끊는다
+     */
+    DISCONNECT
+}
@@ -0,0 +1,86 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 송신 큐 지표 - 전체 대기 프레임/바이트, 사유별 드롭/연결 종료 횟수
+ *
+ * 세션별 게이지는 카디널리티가 커지므로 두지 않고 전체 합계만 노출한다.
+ */
+public class OutboundQueueMetrics {
+
+    public enum DropReason { DROP_OLDEST, COALESCED, GLOBAL_BUDGET, OVERSIZE }
+
+    public enum DisconnectReason { QUEUE_OVERFLOW, TOO_MANY_DROPS, SEND_TIME_LIMIT, SEND_ERROR }
+
+    private final AtomicLong queuedMessages = new AtomicLong();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final long globalMaxBytes;
+    private final Map<DropReason, Counter> drops = new EnumMap<>(DropReason.class);
+    private final Map<DisconnectReason, Counter> disconnects = new EnumMap<>(DisconnectReason.class);
+
+    public OutboundQueueMetrics(MeterRegistry registry, long globalMaxBytes) {
+        this.globalMaxBytes = globalMaxBytes;
+        Gauge.builder("chat.ws.outbound.queue.depth", queuedMessages, AtomicLong::get)
+                .description("모든 세션의 송신 대기 프레임 수")
+                .register(registry);
+        Gauge.builder("chat.ws.outbound.queue.bytes", queuedBytes, AtomicLong::get)
+                .description("모든 세션의 송신 대기 바이트")
+                .baseUnit("bytes")
+                .register(registry);
+        for (DropReason reason : DropReason.values()) {
+            drops.put(reason, Counter.builder("chat.ws.outbound.dropped")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(registry));
+        }
+        for (DisconnectReason reason : DisconnectReason.values()) {
+            disconnects.put(reason, Counter.builder("chat.ws.outbound.disconnects")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(registry));
+        }
+    }
+
+    /**
+     * 전체 예산 안에서 바이트를 예약한다. 예산을 넘으면 false
+     */
+    boolean tryReserve(int bytes) {
+        long after = queuedBytes.addAndGet(bytes);
+        if (after > globalMaxBytes) {
+            queuedBytes.addAndGet(-bytes);
+            return false;
+        }
+        queuedMessages.incrementAndGet();
+        return true;
+    }
+
+    void release(int bytes) {
+        queuedBytes.addAndGet(-bytes);
+        queuedMessages.decrementAndGet();
+    }
+
+    /**
+     * 대기 프레임을 크기가 다른 프레임으로 바꿀 때 - 늘어나는 만큼 전체 예산을 넘으면 false
+     */
+    boolean tryAdjustBytes(int delta) {
+        long after = queuedBytes.addAndGet(delta);
+        if (delta > 0 && after > globalMaxBytes) {
+            queuedBytes.addAndGet(-delta);
+            return false;
+        }
+        return true;
+    }
+
+    void dropped(DropReason reason) {
+        drops.get(reason).increment();
+    }
+
+    void disconnected(DisconnectReason reason) {
+        disconnects.get(reason).increment();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 세션별 송신 큐 설정
+ *
+ * @param policy               큐가 가득 찼을 때의 정책
+ * @param maxMessages          세션당 최대 대기 프레임 수
+ * @param maxBytes             세션당 최대 대기 바이트
+ * @param globalMaxBytes       전체 세션의 대기 바이트 합계 상한 (힙 보호)
+ * @param maxConsecutiveDrops  전송 성공 없이 연속으로 버린 프레임이 이 값을 넘으면 연결 종료 (0이면 사용 안 함)
+ * @param sendTimeLimit        한 프레임 전송이 이 시간을 넘기면 느린 소비자로 보고 연결 종료
+ * @param ephemeralSuffixes    병합(coalesce) 대상 destination 접미사
+ * @param reliableSuffixes     버리지 않는 destination 접미사 (응답 스트림) - 생산자가 OutboundFlowControl로 속도를 맞춘다
+ */
+public record OutboundQueueSettings(
+        OutboundOverflowPolicy policy,
+        int maxMessages,
+        int maxBytes,
+        long globalMaxBytes,
+        int maxConsecutiveDrops,
+        Duration sendTimeLimit,
+        List<String> ephemeralSuffixes,
+        List<String> reliableSuffixes) {
+
+    public boolean isEphemeral(String destination) {
+        return endsWithAny(destination, ephemeralSuffixes);
+    }
+
+    public boolean isReliable(String destination) {
+        return endsWithAny(destination, reliableSuffixes);
+    }
+
+    private static boolean endsWithAny(String destination, List<String> suffixes) {
+        if (destination == null) {
+            return false;
+        }
+        for (String suffix : suffixes) {
+            if (destination.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
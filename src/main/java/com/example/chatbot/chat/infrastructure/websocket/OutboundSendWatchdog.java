@@ -0,0 +1,66 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 프레임 전송이 send-time-limit을 넘긴 세션을 주기적으로 찾아 닫는다.
+ *
+ * sendMessage에서의 확인은 다음 프레임이 와야 동작하므로, 그 뒤로 트래픽이 없는 채 막힌 소켓은 여기서 잡는다.
+ * 확인은 세션당 volatile 읽기 하나라 전송마다 타이머를 예약/취소하는 것보다 싸다.
+ */
+public class OutboundSendWatchdog {
+
+    private final Set<BoundedOutboundSession> sessions = ConcurrentHashMap.newKeySet();
+    private final Duration interval;
+    private ScheduledExecutorService executor;
+
+    public OutboundSendWatchdog(Duration interval) {
+        this.interval = interval;
+    }
+
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ws-send-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::sweep, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    void register(BoundedOutboundSession session) {
+        sessions.add(session);
+    }
+
+    void unregister(BoundedOutboundSession session) {
+        sessions.remove(session);
+    }
+
+    /**
+     * @return 이번에 닫기로 한 세션 수
+     */
+    int sweep() {
+        int closed = 0;
+        for (BoundedOutboundSession session : sessions) {
+            if (session.enforceSendTimeLimit()) {
+                sessions.remove(session);
+                closed++;
+            }
+        }
+        return closed;
+    }
+}
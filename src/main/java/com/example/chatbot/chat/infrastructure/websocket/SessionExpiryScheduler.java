@@ -0,0 +1,124 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+import com.example.chatbot.common.timer.HashedTimerWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 인증 토큰이 만료된 WebSocket 세션을 닫는다.
+ *
+ * CONNECT 때 토큰 exp로 한 번 예약하고 프레임마다 시계를 확인하지 않는다.
+ * 예약/취소는 타이머 휠이라 O(1)이고, 같은 tick에 만료된 세션은 한 번에 처리한다.
+ * 소켓 종료는 느린 클라이언트에서 막힐 수 있으므로 tick 스레드가 아닌 closeExecutor에서 수행한다.
+ */
+public class SessionExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionExpiryScheduler.class);
+
+    public static final CloseStatus TOKEN_EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("token expired");
+
+    private final ConcurrentHashMap<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+    private final HashedTimerWheel<TrackedSession> expiries;
+    private final Executor closeExecutor;
+    private final Counter expiredSessions;
+
+    public SessionExpiryScheduler(Duration tick, int wheelSize, Executor closeExecutor, MeterRegistry meterRegistry) {
+        this.expiries = new HashedTimerWheel<>(tick, wheelSize, this::onExpired);
+        this.closeExecutor = closeExecutor;
+        this.expiredSessions = Counter.builder("chat.ws.sessions.token.expired")
+                .description("토큰 만료로 닫은 WebSocket 세션")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("chat.ws.sessions.tracked", Tags.empty(), sessions);
+    }
+
+    public void start() {
+        expiries.start("ws-session-expiry");
+    }
+
+    public void stop() {
+        expiries.stop();
+    }
+
+    void register(WebSocketSession session) {
+        sessions.put(session.getId(), new TrackedSession(session));
+    }
+
+    void unregister(String sessionId) {
+        TrackedSession tracked = sessions.remove(sessionId);
+        if (tracked != null) {
+            tracked.cancel();
+        }
+    }
+
+    /**
+     * 세션이 expiresAt에 닫히도록 예약한다. 이미 예약되어 있으면 새 시각으로 바꾼다.
+     *
+     * @return 추적 중인 세션이 없으면 false
+     */
+    public boolean expireAt(String sessionId, Instant expiresAt) {
+        TrackedSession tracked = sessions.get(sessionId);
+        if (tracked == null) {
+            return false;
+        }
+        Duration delay = Duration.between(Instant.now(), expiresAt);
+        tracked.reschedule(expiries.schedule(tracked, delay));
+        return true;
+    }
+
+    private void onExpired(List<TrackedSession> expired) {
+        expiredSessions.increment(expired.size());
+        closeExecutor.execute(() -> {
+            for (TrackedSession tracked : expired) {
+                close(tracked.session);
+            }
+        });
+    }
+
+    private void close(WebSocketSession session) {
+        if (!session.isOpen()) {
+            return;
+        }
+        log.debug("토큰 만료로 WebSocket 세션 종료 - session={}", session.getId());
+        try {
+            session.close(TOKEN_EXPIRED);
+        } catch (IOException ex) {
+            log.debug("WebSocket 종료 실패 - session={}: {}", session.getId(), ex.getMessage());
+        }
+    }
+
+    private static final class TrackedSession {
+
+        private final WebSocketSession session;
+        private HashedTimerWheel.Timeout<TrackedSession> timeout;
+
+        private TrackedSession(WebSocketSession session) {
+            this.session = session;
+        }
+
+        private synchronized void reschedule(HashedTimerWheel.Timeout<TrackedSession> next) {
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            timeout = next;
+        }
+
+        private synchronized void cancel() {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+import com.example.chatbot.auth.application.MemberPrincipal;
+import com.example.chatbot.auth.infrastructure.CustomUserDetailsService;
+import com.example.chatbot.auth.infrastructure.JwtAuthenticationFilter;
+import com.example.chatbot.auth.infrastructure.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * STOMP CONNECT 프레임의 Authorization 헤더를 검증하고 세션 만료를 토큰 exp에 맞춰 예약한다.
+ * 세션 사용자는 HTTP 요청과 같은 MemberPrincipal(토큰별 캐시)이라 메시지 핸들러가 받는 Principal에서
+ * 회원 id와 권한을 추가 조회 없이 쓸 수 있다.
+ *
+ * access token은 수명이 짧으므로 클라이언트는 만료 전에 refresh로 받은 새 토큰을
+ * Authorization 헤더에 담아 RENEW_DESTINATION으로 SEND해 연결을 끊지 않고 세션 만료를 미룬다.
+ * 갱신 프레임은 여기서 처리하고 브로커로 넘기지 않는다.
+ *
+ * 토큰 없는 CONNECT는 chat.websocket.require-token을 false로 끈 경우(로컬 개발용)에만 허용한다 - 기본값은 true.
+ */
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    public static final String RENEW_DESTINATION = "/app/session/renew";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final CustomUserDetailsService userDetailsService;
+    private final SessionExpiryScheduler sessionExpiryScheduler;
+    private final boolean requireToken;
+
+    public StompAuthChannelInterceptor(VerifiedTokenCache verifiedTokenCache,
+                                       CustomUserDetailsService userDetailsService,
+                                       SessionExpiryScheduler sessionExpiryScheduler,
+                                       boolean requireToken) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.userDetailsService = userDetailsService;
+        this.sessionExpiryScheduler = sessionExpiryScheduler;
+        this.requireToken = requireToken;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            return connect(message, accessor);
+        }
+        if (accessor.getCommand() == StompCommand.SEND && RENEW_DESTINATION.equals(accessor.getDestination())) {
+            renew(message, accessor);
+            return null;
+        }
+        return message;
+    }
+
+    private Message<?> connect(Message<?> message, StompHeaderAccessor accessor) {
+        String token = JwtAuthenticationFilter.bearerToken(accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION));
+        if (token == null) {
+            if (requireToken) {
+                throw new MessageDeliveryException(message, "인증 토큰이 필요합니다");
+            }
+            return message;
+        }
+
+        MemberPrincipal principal = principal(message, token);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        sessionExpiryScheduler.expireAt(accessor.getSessionId(), principal.getExpiresAt());
+        return message;
+    }
+
+    /**
+     * 같은 회원의 새 토큰이면 세션 만료를 새 exp로 다시 예약한다
+     */
+    private void renew(Message<?> message, StompHeaderAccessor accessor) {
+        String token = JwtAuthenticationFilter.bearerToken(accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION));
+        if (token == null) {
+            throw new MessageDeliveryException(message, "인증 토큰이 필요합니다");
+        }
+        MemberPrincipal principal = principal(message, token);
+        if (!(accessor.getUser() instanceof UsernamePasswordAuthenticationToken user)
+                || !principal.equals(user.getPrincipal())) {
+            throw new MessageDeliveryException(message, "세션 사용자와 다른 토큰입니다");
+        }
+        sessionExpiryScheduler.expireAt(accessor.getSessionId(), principal.getExpiresAt());
+    }
+
+    private MemberPrincipal principal(Message<?> message, String token) {
+        try {
+            return verifiedTokenCache.principal(token, userDetailsService::loadByToken);
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException ex) {
+            throw new MessageDeliveryException(message, "유효하지 않은 토큰입니다");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.chatbot.chat.interfaces.api;
+
+import com.example.chatbot.chat.application.ChatHistoryService;
+import com.example.chatbot.chat.application.ChatMessage;
+import com.example.chatbot.chat.interfaces.api.dto.ChatHistoryResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/chat/rooms/{roomId}/messages")
+public class ChatHistoryController {
+
+    private final ChatHistoryService chatHistoryService;
+
+    public ChatHistoryController(ChatHistoryService chatHistoryService) {
+        this.chatHistoryService = chatHistoryService;
+    }
+
+    /**
+     * 최근 메시지 (재접속용) - sinceSeq가 있으면 그 이후, 없으면 최근 limit개. 대부분 메모리에서 응답.
+     * 샤드 처리를 기다리는 동안 요청 스레드를 붙잡지 않도록 비동기로 응답한다.
+     */
+    @GetMapping("/recent")
+    public CompletableFuture<ResponseEntity<ChatHistoryResponse>> recent(
+            @PathVariable long roomId,
+            @RequestParam(required = false) Long sinceSeq,
+            @RequestParam(defaultValue = "50") int limit) {
+        CompletableFuture<List<ChatMessage>> messages = sinceSeq != null
+                ? chatHistoryService.since(roomId, sinceSeq, limit)
+                : chatHistoryService.last(roomId, limit);
+        return messages.thenApply(found -> ResponseEntity.ok(new ChatHistoryResponse(found, null)));
+    }
+
+    /**
+     * 과거 메시지 키셋 페이지 - beforeSeq보다 오래된 메시지
+     */
+    @GetMapping
+    public ResponseEntity<ChatHistoryResponse> page(
+            @PathVariable long roomId,
+            @RequestParam(required = false) Long beforeSeq,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<ChatMessage> messages = chatHistoryService.page(roomId, beforeSeq, limit);
+        Long nextBeforeSeq = messages.size() < Math.min(limit, ChatHistoryService.MAX_PAGE_SIZE) || messages.isEmpty()
+                ? null
+                : messages.get(0).seq();
+        return ResponseEntity.ok(new ChatHistoryResponse(messages, nextBeforeSeq));
+    }
+}
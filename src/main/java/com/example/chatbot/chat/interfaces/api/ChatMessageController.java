@@ -0,0 +1,115 @@
+package com.example.chatbot.chat.interfaces.api;
+
+import com.example.chatbot.chat.application.ChatRoomService;
+import com.example.chatbot.chat.interfaces.api.dto.ChatErrorEvent;
+import com.example.chatbot.chat.interfaces.api.dto.ChatMessageRequest;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * STOMP 채팅 메시지 수신 (/app/rooms/{roomId}/...)
+ *
+ * 처리는 방의 샤드 스레드에서 비동기로 일어나므로 실패(샤드 큐 포화 등)는
+ * 보낸 세션의 /user/queue/errors로 알린다.
+ */
+@Controller
+public class ChatMessageController {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageController.class);
+
+    private static final String ANONYMOUS = "anonymous";
+    private static final String ERROR_DESTINATION = "/queue/errors";
+
+    private final ChatRoomService chatRoomService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public ChatMessageController(ChatRoomService chatRoomService, SimpMessagingTemplate messagingTemplate) {
+        this.chatRoomService = chatRoomService;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @MessageMapping("/rooms/{roomId}/messages")
+    public void send(@DestinationVariable long roomId,
+                     @Valid @Payload ChatMessageRequest request,
+                     @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                     Principal principal) {
+        // 발행은 샤드 스레드가 담당하므로 인바운드 스레드는 기다리지 않는다
+        reportFailure(chatRoomService.send(roomId, nameOf(principal), request.getContent()),
+                sessionId, roomId, "messages");
+    }
+
+    @MessageMapping("/rooms/{roomId}/join")
+    public void join(@DestinationVariable long roomId,
+                     @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                     Principal principal) {
+        reportFailure(chatRoomService.join(roomId, nameOf(principal), sessionId), sessionId, roomId, "join");
+    }
+
+    @MessageMapping("/rooms/{roomId}/leave")
+    public void leave(@DestinationVariable long roomId,
+                      @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                      Principal principal) {
+        reportFailure(chatRoomService.leave(roomId, nameOf(principal), sessionId), sessionId, roomId, "leave");
+    }
+
+    /**
+     * 연결이 끊긴 세션은 들어가 있던 방에서 모두 퇴장시킨다 - 그래야 빈 방이 샤드에서 내려간다
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        for (CompletableFuture<Boolean> left : chatRoomService.disconnect(event.getSessionId())) {
+            left.whenComplete((ignored, failure) -> {
+                if (failure != null) {
+                    log.warn("연결 종료 퇴장 처리 실패 - sessionId={}", event.getSessionId(), failure);
+                }
+            });
+        }
+    }
+
+    private void reportFailure(CompletableFuture<?> result, String sessionId, long roomId, String action) {
+        result.whenComplete((ignored, failure) -> {
+            if (failure == null) {
+                return;
+            }
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            ChatErrorEvent event;
+            if (cause instanceof RejectedExecutionException) {
+                event = new ChatErrorEvent(roomId, action, "ROOM_BUSY",
+                        "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            } else {
+                log.warn("채팅 요청 처리 실패 - roomId={}, action={}", roomId, action, cause);
+                event = new ChatErrorEvent(roomId, action, "INTERNAL_ERROR", "요청을 처리하지 못했습니다.");
+            }
+            messagingTemplate.convertAndSendToUser(sessionId, ERROR_DESTINATION, event, sessionHeaders(sessionId));
+        });
+    }
+
+    private static MessageHeaders sessionHeaders(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    private static String nameOf(Principal principal) {
+        return principal != null ? principal.getName() : ANONYMOUS;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.chatbot.chat.interfaces.api;
+
+import com.example.chatbot.chat.application.PresenceService;
+import com.example.chatbot.chat.application.PresenceSnapshot;
+import com.example.chatbot.chat.application.PresenceStatus;
+import com.example.chatbot.chat.interfaces.api.dto.PresenceUpdateRequest;
+import com.example.chatbot.chat.interfaces.api.dto.TypingRequest;
+import jakarta.validation.Valid;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+
+/**
+ * presence/입력 중 STOMP 엔드포인트
+ *
+ * - SUBSCRIBE /app/rooms/{roomId}/presence : 전체 스냅샷 1회 응답 (이후 변경분은 /topic/rooms/{roomId}/presence)
+ * - SEND /app/rooms/{roomId}/presence, /app/rooms/{roomId}/typing, /app/presence/heartbeat
+ */
+@Controller
+public class PresenceController {
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private final PresenceService presenceService;
+
+    public PresenceController(PresenceService presenceService) {
+        this.presenceService = presenceService;
+    }
+
+    @SubscribeMapping("/rooms/{roomId}/presence")
+    public PresenceSnapshot snapshot(@DestinationVariable long roomId,
+                                     @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                                     Principal principal) {
+        presenceService.update(sessionId, nameOf(principal), roomId, PresenceStatus.ONLINE);
+        return presenceService.snapshot(roomId);
+    }
+
+    @MessageMapping("/rooms/{roomId}/presence")
+    public void update(@DestinationVariable long roomId,
+                       @Valid @Payload PresenceUpdateRequest request,
+                       @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                       Principal principal) {
+        if (request.getStatus() == PresenceStatus.OFFLINE) {
+            presenceService.leave(sessionId, roomId);
+        } else {
+            presenceService.update(sessionId, nameOf(principal), roomId, request.getStatus());
+        }
+    }
+
+    @MessageMapping("/rooms/{roomId}/typing")
+    public void typing(@DestinationVariable long roomId,
+                       @Payload TypingRequest request,
+                       @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                       Principal principal) {
+        presenceService.typing(sessionId, nameOf(principal), roomId, request.isTyping());
+    }
+
+    @MessageMapping("/presence/heartbeat")
+    public void heartbeat(@Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        presenceService.heartbeat(sessionId);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        presenceService.disconnect(event.getSessionId());
+    }
+
+    private static String nameOf(Principal principal) {
+        return principal != null ? principal.getName() : ANONYMOUS;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.chatbot.chat.interfaces.api.dto;
+
+/**
+ * 채팅 요청 처리 실패 - 보낸 세션의 /user/queue/errors로만 전달된다
+ *
+ * @param action messages / join / leave
+ * @param error  ROOM_BUSY(샤드 큐가 가득 참, 재시도 가능) 또는 INTERNAL_ERROR
+ */
+public record ChatErrorEvent(long roomId, String action, String error, String message) {
+}
@@ -0,0 +1,17 @@
+package com.example.chatbot.chat.interfaces.api.dto;
+
+import com.example.chatbot.chat.application.ChatMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ChatHistoryResponse {
+
+    private List<ChatMessage> messages;
+
+    // 다음(더 오래된) 페이지 요청 시 beforeSeq로 전달, 더 없으면 null
+    private Long nextBeforeSeq;
+}
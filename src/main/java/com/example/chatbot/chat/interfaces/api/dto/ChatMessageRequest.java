@@ -0,0 +1,17 @@
+package com.example.chatbot.chat.interfaces.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageRequest {
+
+    @NotBlank(message = "메시지 내용은 필수입니다.")
+    @Size(max = 2000, message = "메시지는 2000자 이하여야 합니다.")
+    private String content;
+}
@@ -0,0 +1,16 @@
+package com.example.chatbot.chat.interfaces.api.dto;
+
+import com.example.chatbot.chat.application.PresenceStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceUpdateRequest {
+
+    @NotNull(message = "상태는 필수입니다.")
+    private PresenceStatus status;
+}
@@ -0,0 +1,13 @@
+package com.example.chatbot.chat.interfaces.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypingRequest {
+
+    private boolean typing;
+}
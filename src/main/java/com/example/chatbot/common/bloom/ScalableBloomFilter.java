@@ -0,0 +1,100 @@
+package com.example.chatbot.common.bloom;
+
+import java.util.Arrays;
+
+/**
+ * 항목 수를 미리 알 수 없을 때 쓰는 확장형 Bloom 필터
+ *
+ * 현재 조각이 예상 용량을 채우면 용량을 2배, 목표 오탐률을 절반으로 한 새 조각을 추가한다.
+ * 조각별 오탐률이 등비수열이므로 전체 오탐률은 초기 목표의 2배를 넘지 않는다.
+ * 조회는 모든 조각을 확인한다 (조각 수는 용량 대비 로그 수준).
+ */
+public final class ScalableBloomFilter {
+
+    private static final int GROWTH = 2;
+    private static final double TIGHTENING = 0.5;
+
+    private volatile Slice[] slices;
+
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        this.slices = new Slice[] {new Slice(Math.max(1, initialCapacity), falsePositiveRate)};
+    }
+
+    public void put(String value) {
+        Slice[] current = slices;
+        Slice last = current[current.length - 1];
+        if (last.filter.approximateInsertions() >= last.capacity) {
+            last = grow(current);
+        }
+        last.filter.put(value);
+    }
+
+    /**
+     * false면 확실히 없음, true면 있을 수도 있음 (오탐 가능)
+     */
+    public boolean mightContain(String value) {
+        for (Slice slice : slices) {
+            if (slice.filter.mightContain(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long approximateInsertions() {
+        long total = 0;
+        for (Slice slice : slices) {
+            total += slice.filter.approximateInsertions();
+        }
+        return total;
+    }
+
+    public long bitSize() {
+        long total = 0;
+        for (Slice slice : slices) {
+            total += slice.filter.bitSize();
+        }
+        return total;
+    }
+
+    /**
+     * 조각별 예상 오탐률을 합친 전체 예상 오탐률 1 - Π(1 - p_i)
+     */
+    public double expectedFalsePositiveRate() {
+        double none = 1;
+        for (Slice slice : slices) {
+            none *= 1 - slice.filter.expectedFalsePositiveRate();
+        }
+        return 1 - none;
+    }
+
+    public int sliceCount() {
+        return slices.length;
+    }
+
+    private synchronized Slice grow(Slice[] seen) {
+        Slice[] current = slices;
+        if (current != seen) {
+            // 다른 스레드가 이미 늘렸다
+            return current[current.length - 1];
+        }
+        Slice last = current[current.length - 1];
+        Slice next = new Slice(last.capacity * GROWTH, last.falsePositiveRate * TIGHTENING);
+        Slice[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = next;
+        slices = grown;
+        return next;
+    }
+
+    private static final class Slice {
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final BloomFilter filter;
+
+        private Slice(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+            this.filter = new BloomFilter(capacity, falsePositiveRate);
+        }
+    }
+}
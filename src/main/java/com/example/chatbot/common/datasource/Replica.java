@@ -0,0 +1,44 @@
+package com.example.chatbot.common.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 하나 - 헬스 체크 결과(사용 가능 여부, 복제 지연)를 담는다.
+ */
+public class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean available = true;
+    private volatile long lagMillis;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    void markDown() {
+        available = false;
+    }
+
+    void update(boolean available, long lagMillis) {
+        this.available = available;
+        this.lagMillis = lagMillis;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.chatbot.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적으로 복제본의 복제 지연을 확인해 maxLag를 넘거나 응답하지 않으면 읽기 대상에서 뺀다.
+ *
+ * 기본 지연 쿼리(PostgreSQL)는 받은 WAL을 모두 반영했으면 0, 아니면 마지막 반영 이후 경과 시간을 반환한다.
+ * 복제본이 아닌 DB(로컬 개발용 대체 DB 등)는 0으로 본다.
+ */
+public class ReplicaHealthChecker {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthChecker.class);
+
+    public static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaHealthChecker(List<Replica> replicas, String lagQuery, Duration maxLag, Duration interval) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.interval = interval;
+    }
+
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkAll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    void checkAll() {
+        for (Replica replica : replicas) {
+            check(replica);
+        }
+    }
+
+    private void check(Replica replica) {
+        boolean wasAvailable = replica.isAvailable();
+        try (Connection connection = replica.dataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, interval.toSeconds()));
+            long lag;
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                lag = rs.next() ? rs.getLong(1) : 0;
+            }
+            boolean available = lag <= maxLag.toMillis();
+            replica.update(available, lag);
+            if (available != wasAvailable) {
+                log.info("복제본 상태 변경 - replica={}, available={}, lagMs={}", replica.name(), available, lag);
+            }
+        } catch (Exception ex) {
+            replica.update(false, -1);
+            if (wasAvailable) {
+                log.warn("복제본 헬스 체크 실패 - replica={}: {}", replica.name(), ex.getMessage());
+            }
+        }
+    }
+}
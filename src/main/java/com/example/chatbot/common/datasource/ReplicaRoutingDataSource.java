@@ -0,0 +1,151 @@
+package com.example.chatbot.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnly 트랜잭션을 복제본으로, 나머지는 primary로 보내는 DataSource
+ *
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 고르도록 반드시 LazyConnectionDataSourceProxy로 감싸서 쓴다.
+ * - 같은 요청 안에서 쓰기 트랜잭션이 한 번이라도 있었으면 이후 읽기도 primary로 보낸다 (read-your-writes)
+ * - 지연이 크거나 응답하지 않는 복제본은 건너뛰고, 쓸 수 있는 복제본이 없으면 primary로 보낸다
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String WROTE_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".WROTE";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter stickyRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.primaryRoutes = routeCounter(meterRegistry, "primary");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica");
+        this.stickyRoutes = routeCounter(meterRegistry, "primary_after_write");
+        this.fallbackRoutes = routeCounter(meterRegistry, "primary_fallback");
+        Gauge.builder("db.replicas.available", this, ReplicaRoutingDataSource::availableReplicas)
+                .description("현재 읽기에 사용 가능한 복제본 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, String target) {
+        return Counter.builder("db.routing")
+                .description("커넥션 라우팅 결과")
+                .tag("target", target)
+                .register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                markWrote();
+            }
+            primaryRoutes.increment();
+            return primary.getConnection();
+        }
+        if (wroteInCurrentRequest()) {
+            stickyRoutes.increment();
+            return primary.getConnection();
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = nextAvailable();
+            if (replica == null) {
+                break;
+            }
+            try {
+                Connection connection = replica.dataSource().getConnection();
+                replicaRoutes.increment();
+                return connection;
+            } catch (SQLException ex) {
+                log.warn("복제본 커넥션 실패, 다음 헬스 체크까지 제외 - replica={}: {}", replica.name(), ex.getMessage());
+                replica.markDown();
+            }
+        }
+        fallbackRoutes.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // 풀에서 관리하는 자격 증명만 사용한다 - 하위 Hikari 풀도 같은 예외로 거절하므로 JDBC 규약대로 알린다
+        throw new SQLFeatureNotSupportedException("풀 자격 증명만 지원합니다");
+    }
+
+    private Replica nextAvailable() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private int availableReplicas() {
+        int count = 0;
+        for (Replica replica : replicas) {
+            if (replica.isAvailable()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 요청 범위 속성이라 요청이 끝나면 자동으로 사라진다. 요청 밖(스케줄러 등)에서는 추적하지 않는다
+    private static void markWrote() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static boolean wroteInCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && attributes.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 복제본 풀을 닫는다. primary 풀은 별도 빈으로 관리된다.
+     */
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ex) {
+                    log.debug("복제본 풀 종료 실패 - replica={}: {}", replica.name(), ex.getMessage());
+                }
+            }
+        }
+    }
+}
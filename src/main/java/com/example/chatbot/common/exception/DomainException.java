@@ -0,0 +1,25 @@
+package com.example.chatbot.common.exception;
+
+/**
+ * 예상된 실패(인증 실패, 중복 이메일 등)를 나타내는 예외의 상위 타입
+ *
+ * 흐름 제어용이라 스택 트레이스를 채우지 않는다 (생성 비용이 new Object 수준).
+ * 예상하지 못한 오류는 이 타입을 쓰지 말고 일반 예외로 던져 스택 트레이스를 남긴다.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    protected DomainException(ErrorCode errorCode) {
+        this(errorCode, errorCode.getMessage());
+    }
+
+    protected DomainException(ErrorCode errorCode, String detail) {
+        super(detail, null, false, false);
+        this.errorCode = errorCode;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+}
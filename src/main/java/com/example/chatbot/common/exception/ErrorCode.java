@@ -0,0 +1,25 @@
+package com.example.chatbot.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 예상된 도메인 실패 코드 - 응답 본문은 코드별로 한 번만 직렬화해 재사용한다.
+ */
+public enum ErrorCode {
+
+    AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다."),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 refresh token입니다."),
+    DUPLICATE_EMAIL(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다."),
+    UNKNOWN_ROLE(HttpStatus.BAD_REQUEST, "존재하지 않는 역할입니다.");
+
+    private final HttpStatus status;
+    private final String message;
+
+    ErrorCode(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+
+    public HttpStatus getStatus() { return status; }
+    public String getMessage() { return message; }
+}
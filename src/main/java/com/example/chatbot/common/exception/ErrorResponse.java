@@ -3,50 +3,47 @@ package com.example.chatbot.common.exception;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
+/**
+ * @param timestamp 초 단위 ISO-8601 로컬 시각 - 같은 초 안의 오류는 미리 만든 문자열을 재사용한다
+ */
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class ErrorResponse {
-    private final LocalDateTime timestamp = LocalDateTime.now();
-    private final int status;
-    private final String error;
-    private final String message;
-    private final String path;
-    private final List<FieldError> errors;
+public record ErrorResponse(
+        String timestamp,
+        int status,
+        String error,
+        String message,
+        String path,
+        List<FieldError> errors) {
+
+    private static volatile CachedTimestamp lastTimestamp = new CachedTimestamp(0, "");
 
     public ErrorResponse(int status, String error, String message, String path) {
         this(status, error, message, path, null);
     }
 
     public ErrorResponse(int status, String error, String message, String path, List<FieldError> errors) {
-        this.status = status;
-        this.error = error;
-        this.message = message;
-        this.path = path;
-        this.errors = errors;
+        this(currentTimestamp(), status, error, message, path, errors);
     }
 
-    public LocalDateTime getTimestamp() { return timestamp; }
-    public int getStatus() { return status; }
-    public String getError() { return error; }
-    public String getMessage() { return message; }
-    public String getPath() { return path; }
-    public List<FieldError> getErrors() { return errors; }
-
-    public static class FieldError {
-        private final String field;
-        private final Object rejectedValue;
-        private final String reason;
-
-        public FieldError(String field, Object rejectedValue, String reason) {
-            this.field = field;
-            this.rejectedValue = rejectedValue;
-            this.reason = reason;
+    static String currentTimestamp() {
+        long second = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = lastTimestamp;
+        if (cached.epochSecond() != second) {
+            String formatted = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)
+                    .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            cached = new CachedTimestamp(second, formatted);
+            lastTimestamp = cached;
         }
+        return cached.formatted();
+    }
 
-        public String getField() { return field; }
-        public Object getRejectedValue() { return rejectedValue; }
-        public String getReason() { return reason; }
+    public record FieldError(String field, Object rejectedValue, String reason) {
     }
-}
 
+    private record CachedTimestamp(long epochSecond, String formatted) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.chatbot.common.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 우선순위별 동시 실행 제한 - 추정 한도(GradientLimit)에 등급별 비율을 곱한 값까지만 새 요청을 받는다.
+ *
+ * 낮은 등급은 한도보다 먼저 막히므로 남은 여유는 높은 등급이 쓰고,
+ * 거절은 큐에 넣지 않고 바로 반환해 지연이 쌓이지 않게 한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final GradientLimit limit;
+    private final RequestPriority sampledPriority;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<RequestPriority, Counter> rejected = new EnumMap<>(RequestPriority.class);
+
+    /**
+     * @param sampledPriority 이 등급의 지연만 한도 추정에 쓴다 - 지연 특성이 다른 요청이 섞이면 기울기가 흔들린다
+     */
+    public AdaptiveConcurrencyLimiter(GradientLimit limit, RequestPriority sampledPriority, MeterRegistry registry) {
+        this.limit = limit;
+        this.sampledPriority = sampledPriority;
+        Gauge.builder("http.server.concurrency.limit", limit, GradientLimit::getLimit)
+                .description("지연 시간으로 추정한 동시 요청 한도")
+                .register(registry);
+        Gauge.builder("http.server.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("처리 중인 요청 수")
+                .register(registry);
+        for (RequestPriority priority : RequestPriority.values()) {
+            rejected.put(priority, Counter.builder("http.server.concurrency.rejected")
+                    .tag("priority", priority.name().toLowerCase())
+                    .description("동시 요청 한도로 거절한 요청 수")
+                    .register(registry));
+        }
+    }
+
+    /**
+     * 자리를 얻으면 완료 시 release에 넘길 Permit, 거절되면 null
+     */
+    public Permit tryAcquire(RequestPriority priority) {
+        int max = Math.max(1, (int) (limit.getLimit() * priority.share()));
+        while (true) {
+            int current = inflight.get();
+            if (current >= max) {
+                rejected.get(priority).increment();
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(priority, System.nanoTime(), current + 1);
+            }
+        }
+    }
+
+    public void release(Permit permit) {
+        release(permit, true);
+    }
+
+    /**
+     * @param sample false면 지연을 한도 추정에 쓰지 않는다 - SSE 같은 스트리밍 응답은 수명이 처리 시간이 아니다
+     */
+    public void release(Permit permit, boolean sample) {
+        inflight.decrementAndGet();
+        if (sample && permit.priority() == sampledPriority) {
+            limit.onSample(System.nanoTime() - permit.startNanos(), permit.inflight());
+        }
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public record Permit(RequestPriority priority, long startNanos, int inflight) {
+    }
+}
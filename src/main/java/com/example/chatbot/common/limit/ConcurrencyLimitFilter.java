@@ -0,0 +1,121 @@
+package com.example.chatbot.common.limit;
+
+import com.example.chatbot.common.limit.AdaptiveConcurrencyLimiter.Permit;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 보안 필터 체인보다 앞에서 동시 요청 수를 제한한다. 한도를 넘으면 인증/DB 조회 없이 바로 503을 반환해
+ * 느려진 DB 앞에 요청이 쌓여 모든 엔드포인트가 함께 타임아웃되는 것을 막는다.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] REJECTED_BODY = ("{\"status\":503,\"error\":\"Service Unavailable\","
+            + "\"code\":\"OVERLOADED\",\"message\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Permit permit = limiter.tryAcquire(priorityOf(pathOf(request)));
+        if (permit == null) {
+            reject(response);
+            return;
+        }
+
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            // SSE 스트림은 핸들러가 반환하면 바로 자리를 돌려준다 - 연결은 stream-timeout까지 열려 있을 수 있지만
+            // 동시 생성 수는 CallBot 세마포어가 따로 제한한다
+            if (request.isAsyncStarted() && !isEventStream(response)) {
+                // 그 밖의 비동기 처리(CompletableFuture 등)는 실제로 끝날 때 자리를 반환하되 표본에서는 뺀다
+                async = true;
+                request.getAsyncContext().addListener(new ReleaseOnComplete(permit));
+            }
+        } finally {
+            if (!async) {
+                limiter.release(permit);
+            }
+        }
+    }
+
+    private static boolean isEventStream(HttpServletResponse response) {
+        String contentType = response.getContentType();
+        return contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    // WebSocket/SockJS 연결은 수명이 길어 동시 요청으로 세지 않는다
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = pathOf(request);
+        return path.startsWith("/ws") || path.startsWith("/stomp");
+    }
+
+    static RequestPriority priorityOf(String path) {
+        if (path.startsWith("/actuator")) {
+            return RequestPriority.CRITICAL;
+        }
+        if (path.equals("/api/auth/login") || path.equals("/api/auth/signup")) {
+            return RequestPriority.LOW;
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+    }
+
+    private static void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(REJECTED_BODY.length);
+        response.getOutputStream().write(REJECTED_BODY);
+    }
+
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        private final Permit permit;
+
+        private ReleaseOnComplete(Permit permit) {
+            this.permit = permit;
+        }
+
+        // 타임아웃/오류 후에도 onComplete는 항상 호출된다
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release(permit, false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.chatbot.common.limit;
+
+/**
+ * 지연 시간 기울기로 동시 실행 한도를 추정한다 (Netflix concurrency-limits의 Gradient2 방식).
+ *
+ * 장기 평균 RTT 대비 최근 RTT가 늘면 큐가 쌓이고 있다고 보고 한도를 줄이고,
+ * 비슷하면 sqrt(limit)만큼 여유를 더해 천천히 늘린다.
+ * 한도의 절반도 쓰지 않을 때의 표본은 부하가 아니라 요청이 적어서이므로 한도를 올리는 데 쓰지 않는다.
+ */
+public class GradientLimit {
+
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double longWindowFactor;
+
+    // 아래 필드는 this 모니터로 보호된다
+    private double estimatedLimit;
+    private double longRtt;
+    private long samples;
+
+    private volatile int limit;
+
+    /**
+     * @param rttTolerance 장기 RTT 대비 이 배수까지는 큐잉으로 보지 않음 (예: 1.5)
+     * @param longWindow   장기 RTT 지수 이동 평균의 표본 수
+     */
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance, int longWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.longWindowFactor = 2.0 / (longWindow + 1);
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * 완료된 요청 하나를 반영한다
+     *
+     * @param rttNanos 요청 처리 시간
+     * @param inflight 요청 시작 시점의 동시 실행 수
+     */
+    public synchronized void onSample(long rttNanos, int inflight) {
+        double rtt = rttNanos;
+        if (samples++ == 0) {
+            longRtt = rtt;
+        } else {
+            longRtt = longRtt + (rtt - longRtt) * longWindowFactor;
+        }
+
+        // 한도를 충분히 쓰지 않고 있으면 한도를 올리지 않는다
+        if (inflight < estimatedLimit / 2) {
+            return;
+        }
+
+        // 지연이 크게 늘어난 상태가 이어지면 장기 평균도 따라 올라가 새 기준이 되므로 빠르게 되돌린다
+        if (longRtt / rtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / rtt));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
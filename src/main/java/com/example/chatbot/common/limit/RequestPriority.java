@@ -0,0 +1,24 @@
+package com.example.chatbot.common.limit;
+
+/**
+ * 요청 우선순위 - 추정 한도 중 해당 등급이 쓸 수 있는 비율. 동시 요청이 늘면 비율이 낮은 등급부터 거절된다.
+ */
+public enum RequestPriority {
+
+    /** actuator(헬스체크/지표) - 과부하 중에도 인스턴스 상태는 보고해야 한다 */
+    CRITICAL(1.0),
+    /** 인증된 API */
+    NORMAL(0.9),
+    /** 로그인/가입 - BCrypt로 CPU를 많이 쓰므로 가장 먼저 줄인다 */
+    LOW(0.6);
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    public double share() {
+        return share;
+    }
+}
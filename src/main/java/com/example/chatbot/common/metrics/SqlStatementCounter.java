@@ -0,0 +1,37 @@
+package com.example.chatbot.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문을 요청 스레드 단위로 센다.
+ * SQL은 바꾸지 않고 그대로 돌려준다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드의 집계를 시작한다. 집계 중이 아닌 스레드(스케줄러 등)의 SQL은 세지 않는다.
+     */
+    static void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * 집계를 끝내고 지금까지 실행된 SQL 수를 반환한다.
+     */
+    static int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.chatbot.common.openapi;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * 빌드 시 생성된 OpenAPI 문서(static-openapi/openapi.json[.gz|.br])를 그대로 내려준다.
+ *
+ * 컨트롤러를 리플렉션하지 않으므로 배포 직후 첫 요청도 바로 응답한다.
+ * 인코딩별로 다른 강한 ETag를 붙이며, If-None-Match가 맞으면 Spring이 304로 응답한다.
+ * 런타임 생성이 필요하면 dev 프로필로 실행한다 (springdoc이 같은 경로를 담당).
+ */
+@RestController
+@Profile("!dev")
+public class StaticOpenApiDocsController {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticOpenApiDocsController.class);
+
+    static final String LOCATION = "static-openapi/openapi.json";
+
+    private final Representation identity;
+    private final Representation gzip;
+    private final Representation brotli;
+    private final CacheControl cacheControl;
+
+    @Autowired
+    public StaticOpenApiDocsController(@Value("${openapi.static.max-age:1d}") Duration maxAge) throws IOException {
+        this(read(LOCATION), read(LOCATION + ".gz"), read(LOCATION + ".br"), maxAge);
+    }
+
+    StaticOpenApiDocsController(byte[] json, byte[] gzipped, byte[] brotlied, Duration maxAge) {
+        String version = json == null ? null : versionOf(json);
+        this.identity = json == null ? null : new Representation(json, null, version);
+        this.gzip = representation(gzipped, "gzip", version);
+        this.brotli = representation(brotlied, "br", version);
+        // 경로에 버전이 없으므로 만료 후에는 ETag로 재검증한다
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+        if (identity == null) {
+            log.warn("{}이 없습니다 - bootJar로 빌드하거나 dev 프로필로 실행하세요", LOCATION);
+        }
+    }
+
+    @GetMapping("/v3/api-docs")
+    public ResponseEntity<byte[]> apiDocs(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (identity == null) {
+            return ResponseEntity.notFound().build();
+        }
+        Representation representation = select(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(representation.etag())
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (representation.encoding() != null) {
+            response.header(HttpHeaders.CONTENT_ENCODING, representation.encoding());
+        }
+        return response.body(representation.bytes());
+    }
+
+    private Representation select(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return identity;
+        }
+        if (brotli != null && accepts(acceptEncoding, "br")) {
+            return brotli;
+        }
+        if (gzip != null && accepts(acceptEncoding, "gzip")) {
+            return gzip;
+        }
+        return identity;
+    }
+
+    /**
+     * Accept-Encoding에 인코딩이 있고 q=0으로 거부하지 않았는지
+     */
+    static boolean accepts(String acceptEncoding, String encoding) {
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase(encoding)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().toLowerCase(Locale.ROOT);
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static Representation representation(byte[] bytes, String encoding, String version) {
+        if (version == null) {
+            return null;
+        }
+        // 인코딩이 다르면 바이트도 다르므로 강한 ETag도 달라야 한다
+        return bytes == null ? null : new Representation(bytes, encoding, version + "-" + encoding);
+    }
+
+    private static byte[] read(String location) throws IOException {
+        ClassPathResource resource = new ClassPathResource(location);
+        if (!resource.exists()) {
+            return null;
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String versionOf(byte[] json) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Representation(byte[] bytes, String encoding, String etag) {
+    }
+}
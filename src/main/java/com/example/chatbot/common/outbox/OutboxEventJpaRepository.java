@@ -0,0 +1,37 @@
+package com.example.chatbot.common.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    @Query("SELECT e FROM OutboxEventJpaEntity e WHERE e.publishedAt IS NULL ORDER BY e.id")
+    List<OutboxEventJpaEntity> findUnpublished(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventJpaEntity e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * 트랜잭션 범위 advisory lock - 여러 노드 중 한 곳만 릴레이하도록 해 발행 순서를 지킨다.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryRelayLock(@Param("key") long key);
+
+    /**
+     * 트랜잭션 범위 advisory lock - 같은 aggregate에 기록하는 트랜잭션을 줄 세워 id 순서와 커밋 순서를 맞춘다.
+     * 두 32비트 키 공간은 릴레이 락의 64비트 키 공간과 겹치지 않는다.
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:namespace, hashtext(:aggregateKey))", nativeQuery = true)
+    int lockAggregate(@Param("namespace") int namespace, @Param("aggregateKey") String aggregateKey);
+}
@@ -0,0 +1,17 @@
+package com.example.chatbot.common.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발행할 아웃박스 이벤트
+ *
+ * @param id 아웃박스 행 id - 최소 한 번 전달이므로 소비자는 이 값으로 중복을 거른다
+ */
+public record OutboxMessage(long id, String aggregateType, String aggregateId, String eventType,
+                            String payload, LocalDateTime createdAt) {
+
+    static OutboxMessage from(OutboxEventJpaEntity entity) {
+        return new OutboxMessage(entity.getId(), entity.getAggregateType(), entity.getAggregateId(),
+                entity.getEventType(), entity.getPayload(), entity.getCreatedAt());
+    }
+}
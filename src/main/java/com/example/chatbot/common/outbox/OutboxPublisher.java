@@ -0,0 +1,14 @@
+package com.example.chatbot.common.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트를 외부로 내보낸다. 예외 없이 반환하면 배치 전체가 전달된 것으로 본다.
+ */
+public interface OutboxPublisher {
+
+    /**
+     * @param messages id 순서로 정렬된 배치 - 이 순서를 유지해 보내야 한다
+     */
+    void publish(List<OutboxMessage> messages);
+}
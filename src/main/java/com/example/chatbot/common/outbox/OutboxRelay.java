@@ -0,0 +1,178 @@
+package com.example.chatbot.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이 - 미발행 이벤트를 id 순서로 배치 단위로 꺼내 OutboxPublisher로 보낸다.
+ *
+ * - 발행과 published_at 갱신을 한 트랜잭션에서 하므로 발행 후 갱신 전에 죽으면 다시 보낸다 (최소 한 번)
+ * - advisory lock으로 한 노드만 릴레이하고 배치는 id 순서로 보내므로 같은 aggregate의 이벤트 순서가 유지된다.
+ *   같은 aggregate의 기록은 OutboxWriter가 aggregate 락으로 줄 세우므로 id 순서가 곧 커밋 순서다.
+ * - 발행 실패 시 배치를 롤백하고 다음 주기에 다시 시도한다
+ * - 발행된 행은 보존 기간이 지나면 주기적으로 지운다
+ */
+@Component
+public class OutboxRelay implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final long RELAY_LOCK_KEY = 0x6f7574626f78L; // "outbox"
+
+    private final OutboxEventJpaRepository repository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+
+    private final Counter published;
+    private final Counter failures;
+    private final Timer batchTimer;
+    private final Timer deliveryLag;
+
+    public OutboxRelay(OutboxEventJpaRepository repository,
+                       ObjectProvider<OutboxPublisher> publisherProvider,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.interval:500ms}") Duration interval,
+                       @Value("${outbox.retention:1h}") Duration retention,
+                       @Value("${outbox.compaction-interval:5m}") Duration compactionInterval) {
+        this.repository = repository;
+        this.publisher = publisherProvider.getIfAvailable();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+
+        this.published = Counter.builder("outbox.events.published")
+                .description("외부로 발행한 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .description("롤백된 릴레이 배치 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("배치 하나를 읽고 발행하고 표시하는 시간")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("outbox.relay.delivery.lag")
+                .description("이벤트 기록부터 발행까지 걸린 시간")
+                .register(meterRegistry);
+        meterRegistry.gauge("outbox.relay.oldest.pending.age", oldestPendingAgeMillis, AtomicLong::get);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (publisher == null) {
+            log.warn("OutboxPublisher가 없어 아웃박스 이벤트를 발행하지 않습니다 (테이블에 쌓임)");
+            return;
+        }
+        executor.scheduleWithFixedDelay(this::drain, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::compact, compactionInterval.toMillis(), compactionInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 이벤트가 커밋되었음을 알린다 - 다음 주기를 기다리지 않고 바로 릴레이한다. 호출 스레드는 막히지 않는다.
+     */
+    public void wakeUp() {
+        if (publisher != null && wakeUpPending.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RuntimeException ex) {
+                // 종료 중 - 남은 이벤트는 재시작 후 발행된다
+                wakeUpPending.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        wakeUpPending.set(false);
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn("아웃박스 릴레이 실패, 다음 주기에 재시도: {}", ex.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        long start = System.nanoTime();
+        Integer relayed = transactionTemplate.execute(status -> {
+            if (!repository.tryRelayLock(RELAY_LOCK_KEY)) {
+                return 0;
+            }
+            List<OutboxEventJpaEntity> batch = repository.findUnpublished(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                oldestPendingAgeMillis.set(0);
+                return 0;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            oldestPendingAgeMillis.set(Duration.between(batch.get(0).getCreatedAt(), now).toMillis());
+
+            List<OutboxMessage> messages = new ArrayList<>(batch.size());
+            List<Long> ids = new ArrayList<>(batch.size());
+            for (OutboxEventJpaEntity event : batch) {
+                messages.add(OutboxMessage.from(event));
+                ids.add(event.getId());
+            }
+            publisher.publish(messages);
+            repository.markPublished(ids, now);
+
+            for (OutboxEventJpaEntity event : batch) {
+                deliveryLag.record(Duration.between(event.getCreatedAt(), now));
+            }
+            return batch.size();
+        });
+        int count = relayed == null ? 0 : relayed;
+        if (count > 0) {
+            published.increment(count);
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return count;
+    }
+
+    private void compact() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    repository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+            if (deleted != null && deleted > 0) {
+                log.debug("발행된 아웃박스 이벤트 {}건 정리", deleted);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("아웃박스 정리 실패: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.chatbot.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 도메인 이벤트를 현재 트랜잭션의 아웃박스에 기록한다.
+ * 요청 스레드는 aggregate 락과 INSERT만 하고, 커밋 후 릴레이를 깨우기만 하므로 소비자 상태에 영향받지 않는다.
+ */
+@Component
+public class OutboxWriter {
+
+    private static final int AGGREGATE_LOCK_NAMESPACE = 0x6f627778; // "obwx"
+
+    private final OutboxEventJpaRepository repository;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelay relay;
+    private final MeterRegistry meterRegistry;
+
+    public OutboxWriter(OutboxEventJpaRepository repository, ObjectMapper objectMapper,
+                        OutboxRelay relay, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param aggregateType 스트림 구분 (예: member)
+     * @param aggregateId   같은 값의 이벤트는 기록 순서대로 발행된다 - 같은 aggregate에 기록하는 트랜잭션은
+     *                      INSERT 전에 aggregate 락을 잡아 커밋까지 줄을 서므로, 먼저 커밋한 쪽이 항상 작은 id를 받는다.
+     *                      한 트랜잭션에서 여러 aggregate에 기록하면 교착이 날 수 있으므로 트랜잭션당 하나만 쓴다.
+     * @param event         JSON으로 직렬화할 이벤트 - 타입 이름이 eventType이 된다
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Object aggregateId, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+        String eventType = event.getClass().getSimpleName();
+        repository.lockAggregate(AGGREGATE_LOCK_NAMESPACE, aggregateType + ":" + aggregateId);
+        repository.save(new OutboxEventJpaEntity(aggregateType, String.valueOf(aggregateId), eventType, payload));
+        Counter.builder("outbox.events.appended")
+                .tag("type", eventType)
+                .register(meterRegistry)
+                .increment();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.chatbot.common.outbox.redis;
+
+import com.example.chatbot.common.outbox.OutboxMessage;
+import com.example.chatbot.common.outbox.OutboxPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 아웃박스 이벤트를 aggregate 종류별 Redis Stream(outbox:{aggregateType})에 추가한다.
+ *
+ * 소비자는 컨슈머 그룹으로 읽고, 최소 한 번 전달이므로 eventId로 중복을 거른다.
+ * 배치 전체를 파이프라인 한 번으로 보내며 하나라도 실패하면 예외가 나 릴레이가 배치를 롤백한다.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisStreamOutboxPublisher implements OutboxPublisher {
+
+    static final String STREAM_KEY_PREFIX = "outbox:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long streamMaxLength;
+
+    public RedisStreamOutboxPublisher(StringRedisTemplate redisTemplate,
+                                      @Value("${outbox.redis.stream-max-length:1000000}") long streamMaxLength) {
+        this.redisTemplate = redisTemplate;
+        this.streamMaxLength = streamMaxLength;
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            Set<String> streams = new HashSet<>();
+            for (OutboxMessage message : messages) {
+                String stream = STREAM_KEY_PREFIX + message.aggregateType();
+                Map<String, String> fields = new LinkedHashMap<>();
+                fields.put("eventId", Long.toString(message.id()));
+                fields.put("aggregateId", message.aggregateId());
+                fields.put("type", message.eventType());
+                fields.put("payload", message.payload());
+                fields.put("createdAt", message.createdAt().toString());
+                redis.xAdd(stream, fields);
+                streams.add(stream);
+            }
+            for (String stream : streams) {
+                redis.xTrim(stream, streamMaxLength, true);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.chatbot.common.timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이머 휠 - 만료 예약/취소 O(1), 만료는 tick 단위로 모아서 한 번에 전달한다.
+ *
+ * schedule/cancel은 어느 스레드에서나 호출할 수 있고 lock-free 큐에만 쌓인다.
+ * 버킷 연결 리스트는 advanceTo를 호출하는 단일 스레드(tick 스레드)만 만진다.
+ * 만료는 최대 tick 하나만큼 늦을 수 있지만 일찍 일어나지는 않는다.
+ */
+public final class HashedTimerWheel<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(HashedTimerWheel.class);
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket<T>[] wheel;
+    private final int mask;
+    private final Consumer<List<T>> expiryHandler;
+    private final long startNanos;
+
+    private final Queue<Timeout<T>> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<T>> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+
+    // tick 스레드 전용 - 다음에 처리할 tick 번호
+    private long tick;
+
+    private volatile Thread worker;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(Duration tickDuration, int wheelSize, Consumer<List<T>> expiryHandler) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.mask = size - 1;
+        this.expiryHandler = expiryHandler;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * delay 뒤에 만료되도록 예약한다.
+     */
+    public Timeout<T> schedule(T payload, Duration delay) {
+        return scheduleAt(payload, System.nanoTime() + delay.toNanos());
+    }
+
+    /**
+     * System.nanoTime() 기준 시각에 만료되도록 예약한다.
+     */
+    public Timeout<T> scheduleAt(T payload, long deadlineNanos) {
+        Timeout<T> timeout = new Timeout<>(this, payload, deadlineNanos - startNanos);
+        pending.incrementAndGet();
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 예약되어 아직 만료/취소되지 않은 항목 수
+     */
+    public long pendingTimeouts() {
+        return pending.get();
+    }
+
+    /**
+     * now(System.nanoTime() 기준)까지 지난 tick을 처리하고 만료된 항목을 한 번에 핸들러로 넘긴다.
+     * 반드시 한 스레드에서만 호출해야 한다.
+     *
+     * @return 이번에 만료된 항목 수
+     */
+    public int advanceTo(long nowNanos) {
+        long elapsed = nowNanos - startNanos;
+        long targetTick = elapsed / tickNanos;
+
+        processCancels();
+        transferAdds();
+
+        List<T> expired = new ArrayList<>();
+        while (tick <= targetTick) {
+            wheel[(int) (tick & mask)].expire(expired);
+            tick++;
+        }
+        if (!expired.isEmpty()) {
+            pending.addAndGet(-expired.size());
+            try {
+                expiryHandler.accept(expired);
+            } catch (RuntimeException ex) {
+                log.error("타이머 만료 처리 실패 - {}건", expired.size(), ex);
+            }
+        }
+        return expired.size();
+    }
+
+    /**
+     * tick 간격으로 advanceTo를 호출하는 데몬 스레드를 시작한다.
+     */
+    public synchronized void start(String threadName) {
+        if (worker != null) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            long next = System.nanoTime() + tickNanos;
+            while (!Thread.currentThread().isInterrupted()) {
+                long sleep = next - System.nanoTime();
+                if (sleep > 0) {
+                    try {
+                        Thread.sleep(sleep / 1_000_000, (int) (sleep % 1_000_000));
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                }
+                advanceTo(System.nanoTime());
+                next += tickNanos;
+            }
+        }, threadName);
+        thread.setDaemon(true);
+        thread.start();
+        worker = thread;
+    }
+
+    public synchronized void stop() {
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    private void processCancels() {
+        Timeout<T> timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferAdds() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout<T> timeout = pendingAdds.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state != Timeout.ST_INIT) {
+                continue;
+            }
+            // 올림으로 계산해 deadline 이전 tick에서 만료되지 않도록 함
+            long calculated = Math.max(0, (timeout.deadline + tickNanos - 1) / tickNanos);
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    public static final class Timeout<T> {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedTimerWheel<T> timer;
+        private final T payload;
+        private final long deadline;
+        private volatile int state = ST_INIT;
+
+        // tick 스레드 전용
+        private long remainingRounds;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HashedTimerWheel<T> timer, T payload, long deadline) {
+            this.timer = timer;
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        /**
+         * 취소 - 버킷에서의 실제 제거는 다음 tick에 tick 스레드가 처리한다.
+         */
+        @SuppressWarnings("unchecked")
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pending.decrementAndGet();
+            timer.pendingCancels.add(this);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean expire() {
+            return STATE.compareAndSet(this, ST_INIT, ST_EXPIRED);
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        private void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expire(List<T> expired) {
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.expire()) {
+                        expired.add(timeout.payload);
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout<T> timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.chatbot.common.timing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 모든 Spring Data 리포지토리 호출을 "db" 구간으로 기록한다.
+ *
+ * 리포지토리 프록시가 만들어지기 전에(팩토리 빈 초기화 전) 인터셉터를 추가하므로
+ * 리포지토리 인터페이스마다 코드를 넣을 필요가 없다.
+ */
+public class RepositoryTimingPostProcessor implements BeanPostProcessor {
+
+    static final String SPAN = "db";
+
+    private static final MethodInterceptor INTERCEPTOR = invocation -> {
+        long start = RequestTimings.start();
+        try {
+            return invocation.proceed();
+        } finally {
+            RequestTimings.stop(SPAN, start);
+        }
+    };
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory ->
+                    factory.addRepositoryProxyPostProcessor((proxyFactory, metadata) ->
+                            proxyFactory.addAdvice(INTERCEPTOR)));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.chatbot.common.timing;
+
+/**
+ * 요청 단위 구간 시간 기록기 (Server-Timing 용)
+ *
+ * 요청 스레드에 묶여 있으므로 락이 없다. ServerTimingFilter가 요청마다 열고 닫으며,
+ * 열려 있지 않은 스레드(필터 비활성, 스케줄러, WebSocket 등)에서는 start()가 0을 반환하고
+ * stop()은 바로 반환하므로 ThreadLocal 조회 한 번 외의 비용이 없다.
+ *
+ * <pre>
+ * long t = RequestTimings.start();
+ * ...
+ * RequestTimings.stop("bcrypt", t);
+ * </pre>
+ *
+ * 같은 이름의 구간은 합산하고 호출 횟수를 센다. 구간은 겹칠 수 있다 (예: authz 안의 db).
+ */
+public final class RequestTimings {
+
+    static final int MAX_SPANS = 16;
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final String[] names = new String[MAX_SPANS];
+    private final long[] nanos = new long[MAX_SPANS];
+    private final int[] counts = new int[MAX_SPANS];
+    private int size;
+    private final long startNanos;
+
+    private RequestTimings(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * 구간 시작 시각. 기록 중이 아니면 0
+     */
+    public static long start() {
+        return CURRENT.get() == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * start()로 받은 시각부터 지금까지를 name 구간에 더한다.
+     */
+    public static void stop(String name, long startNanos) {
+        if (startNanos == 0L) {
+            return;
+        }
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.add(name, System.nanoTime() - startNanos);
+        }
+    }
+
+    static RequestTimings open() {
+        RequestTimings timings = new RequestTimings(System.nanoTime());
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    private void add(String name, long elapsed) {
+        // 구간 이름은 상수 문자열이므로 참조 비교로 충분하다
+        for (int i = 0; i < size; i++) {
+            if (names[i] == name) {
+                nanos[i] += elapsed;
+                counts[i]++;
+                return;
+            }
+        }
+        if (size < MAX_SPANS) {
+            names[size] = name;
+            nanos[size] = elapsed;
+            counts[size] = 1;
+            size++;
+        }
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Server-Timing 헤더 값 - 예: {@code db;dur=3.12;desc="2", bcrypt;dur=81.40, app;dur=90.05}
+     */
+    String toHeaderValue() {
+        StringBuilder sb = new StringBuilder(32 + size * 24);
+        for (int i = 0; i < size; i++) {
+            sb.append(names[i]).append(";dur=");
+            appendMillis(sb, nanos[i]);
+            if (counts[i] > 1) {
+                sb.append(";desc=\"").append(counts[i]).append('"');
+            }
+            sb.append(", ");
+        }
+        sb.append("app;dur=");
+        appendMillis(sb, elapsedNanos());
+        return sb.toString();
+    }
+
+    /**
+     * 구조화 로그용 key=value 목록 - 예: {@code db_ms=3.12 db_count=2 bcrypt_ms=81.40}
+     */
+    String toLogFields() {
+        StringBuilder sb = new StringBuilder(size * 28);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(names[i]).append("_ms=");
+            appendMillis(sb, nanos[i]);
+            sb.append(' ').append(names[i]).append("_count=").append(counts[i]);
+        }
+        return sb.toString();
+    }
+
+    // 소수점 둘째 자리까지의 밀리초 (String.format 없이)
+    static void appendMillis(StringBuilder sb, long nanos) {
+        long hundredths = nanos / 10_000;
+        sb.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+}
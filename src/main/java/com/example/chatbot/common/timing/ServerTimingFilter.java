@@ -0,0 +1,124 @@
+package com.example.chatbot.common.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청마다 RequestTimings를 열고 Server-Timing 헤더로 내보낸다.
+ *
+ * 헤더는 응답이 커밋되기 전에 써야 하므로 본문 쓰기가 시작되는 시점(getOutputStream/getWriter)에 붙인다.
+ * 따라서 헤더에는 직렬화 이전 구간까지만 들어가고, 직렬화를 포함한 전체 시간은 샘플링된 로그에 남는다.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    static final String HEADER = "Server-Timing";
+
+    private final double logSampleRate;
+
+    public ServerTimingFilter(double logSampleRate) {
+        this.logSampleRate = logSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.open();
+        TimingResponse timingResponse = new TimingResponse(response, timings);
+        try {
+            filterChain.doFilter(request, timingResponse);
+        } finally {
+            // 본문 없는 응답(204, 리다이렉트 등)
+            timingResponse.writeHeader();
+            if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+                logTimings(request, response, timings);
+            }
+            RequestTimings.close();
+        }
+    }
+
+    private static void logTimings(HttpServletRequest request, HttpServletResponse response, RequestTimings timings) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        StringBuilder sb = new StringBuilder(128);
+        sb.append("method=").append(request.getMethod())
+                .append(" uri=").append(pattern != null ? pattern : "UNKNOWN")
+                .append(" status=").append(response.getStatus())
+                .append(" total_ms=");
+        RequestTimings.appendMillis(sb, timings.elapsedNanos());
+        String fields = timings.toLogFields();
+        if (!fields.isEmpty()) {
+            sb.append(' ').append(fields);
+        }
+        log.info("server_timing {}", sb);
+    }
+
+    private static final class TimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTimings timings;
+        private boolean headerWritten;
+
+        private TimingResponse(HttpServletResponse response, RequestTimings timings) {
+            super(response);
+            this.timings = timings;
+        }
+
+        void writeHeader() {
+            if (headerWritten) {
+                return;
+            }
+            headerWritten = true;
+            if (!isCommitted()) {
+                setHeader(HEADER, timings.toHeaderValue());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.chatbot.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// @Cacheable 활성화 - 캐시 구현/크기/만료는 spring.cache 설정(Caffeine)으로 지정하고
+// cache-names로 미리 만든 캐시는 actuator가 cache.gets{result=hit|miss} 지표로 노출한다
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,40 @@
+package com.example.chatbot.config;
+
+import com.example.chatbot.common.limit.AdaptiveConcurrencyLimiter;
+import com.example.chatbot.common.limit.ConcurrencyLimitFilter;
+import com.example.chatbot.common.limit.GradientLimit;
+import com.example.chatbot.common.limit.RequestPriority;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    // 인증 API 지연으로 한도를 추정 - 로그인은 BCrypt CPU 시간이 대부분이라 DB 지연 신호를 흐린다
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${concurrency-limit.initial-limit:50}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:10}") int minLimit,
+            @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${concurrency-limit.long-window:600}") int longWindow) {
+        GradientLimit limit = new GradientLimit(initialLimit, minLimit, maxLimit, rttTolerance, longWindow);
+        return new AdaptiveConcurrencyLimiter(limit, RequestPriority.NORMAL, meterRegistry);
+    }
+
+    // 보안 필터 체인(-100)보다 앞, SQL 집계/Server-Timing 필터 다음에 실행
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
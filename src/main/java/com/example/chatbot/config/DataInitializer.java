@@ -1,5 +1,6 @@
 package com.example.chatbot.config;
 
+import com.example.chatbot.auth.application.RoleHierarchyService;
 import com.example.chatbot.auth.infrastructure.persistence.jpa.AuthorityJpaRepository;
 import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleJpaRepository;
 import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.AuthorityJpaEntity;
@@ -18,10 +19,13 @@ public class DataInitializer implements ApplicationRunner {
 
     private final AuthorityJpaRepository authorityRepository;
     private final RoleJpaRepository roleRepository;
+    private final RoleHierarchyService roleHierarchyService;
 
-    public DataInitializer(AuthorityJpaRepository authorityRepository, RoleJpaRepository roleRepository) {
+    public DataInitializer(AuthorityJpaRepository authorityRepository, RoleJpaRepository roleRepository,
+                           RoleHierarchyService roleHierarchyService) {
         this.authorityRepository = authorityRepository;
         this.roleRepository = roleRepository;
+        this.roleHierarchyService = roleHierarchyService;
     }
 
     @Override
@@ -32,6 +36,7 @@ public class DataInitializer implements ApplicationRunner {
         createAuthoritiesIfNotExists();
         createRolesIfNotExists();
         assignAuthoritiesToRoles();
+        createRoleHierarchy();
         
         log.info("데이터 초기화 완료!");
     }
@@ -41,6 +46,7 @@ public class DataInitializer implements ApplicationRunner {
 
         createAuthorityIfNotExists("MANAGE_USERS", "사용자 관리", "사용자를 관리할 수 있습니다 (탈퇴, 역할 변경 등)");
         createAuthorityIfNotExists("MANAGE_SYSTEM", "시스템 관리", "시스템 설정을 관리할 수 있습니다");
+        createAuthorityIfNotExists("QUERY_AUTHZ", "권한 조회", "다른 회원의 권한을 조회/판정할 수 있습니다 (서비스 계정용)");
         
         log.info("권한 데이터 초기화 완료");
     }
@@ -49,6 +55,7 @@ public class DataInitializer implements ApplicationRunner {
         log.info("역할 데이터 초기화...");
 
         createRoleIfNotExists("USER", "일반 사용자", "기본 사용자 역할");
+        createRoleIfNotExists("MODERATOR", "운영자", "콘텐츠/채팅 운영 역할");
         createRoleIfNotExists("ADMIN", "관리자", "시스템 관리자 역할");
         
         log.info("역할 데이터 초기화 완료");
@@ -63,6 +70,7 @@ public class DataInitializer implements ApplicationRunner {
         if (adminRole != null) {
             AuthorityJpaEntity manageUsers = authorityRepository.findByName("MANAGE_USERS").orElse(null);
             AuthorityJpaEntity manageSystem = authorityRepository.findByName("MANAGE_SYSTEM").orElse(null);
+            AuthorityJpaEntity queryAuthz = authorityRepository.findByName("QUERY_AUTHZ").orElse(null);
 
             if (manageUsers != null && !adminRole.getAuthorities().contains(manageUsers)) {
                 adminRole.addAuthority(manageUsers);
@@ -74,12 +82,29 @@ public class DataInitializer implements ApplicationRunner {
                 log.info("ADMIN 역할에 MANAGE_SYSTEM 권한 추가");
             }
 
+            if (queryAuthz != null && !adminRole.getAuthorities().contains(queryAuthz)) {
+                adminRole.addAuthority(queryAuthz);
+                log.info("ADMIN 역할에 QUERY_AUTHZ 권한 추가");
+            }
+
             roleRepository.save(adminRole);
         }
 
         log.info("역할별 권한 할당 완료");
     }
 
+    private void createRoleHierarchy() {
+        log.info("역할 계층 초기화...");
+
+        // ADMIN > MODERATOR > USER - 상위 역할은 하위 역할의 권한을 모두 가진다
+        roleHierarchyService.addChildRole("ADMIN", "MODERATOR");
+        roleHierarchyService.addChildRole("MODERATOR", "USER");
+        // 간선이 이미 있어도 새로 만든 역할의 자기 자신 행이 필요하므로 폐포를 다시 계산
+        roleHierarchyService.rebuildClosure();
+
+        log.info("역할 계층 초기화 완료");
+    }
+
     private void createAuthorityIfNotExists(String name, String displayName, String description) {
         if (!authorityRepository.existsByName(name)) {
             AuthorityJpaEntity authority = new AuthorityJpaEntity(name, displayName, description);
@@ -0,0 +1,28 @@
+package com.example.chatbot.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // 리플렉션 대신 LambdaMetafactory로 만든 접근자로 getter/record 컴포넌트를 읽고 생성자를 호출한다
+    // Boot가 Module 빈을 자동으로 ObjectMapper에 등록한다
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // 생성기/파서 버퍼를 스레드에 묶지 않고 공용 풀에서 재사용 - 가상 스레드에서도 요청마다 버퍼를 새로 만들지 않는다
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer recyclingJsonFactory() {
+        return builder -> builder.factory(JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                .build());
+    }
+}
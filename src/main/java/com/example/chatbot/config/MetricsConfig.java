@@ -0,0 +1,31 @@
+package com.example.chatbot.config;
+
+import com.example.chatbot.common.metrics.SqlCountFilter;
+import com.example.chatbot.common.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Hikari 커넥션 풀(hikaricp.connections.*), 캐시(cache.gets), JVM 지표는 Boot가 자동으로 바인딩한다
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+    }
+
+    // 보안 필터 체인에서 실행되는 SQL(사용자 조회 등)까지 세도록 가장 먼저 실행
+    @Bean
+    public FilterRegistrationBean<SqlCountFilter> sqlCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlCountFilter> registration =
+                new FilterRegistrationBean<>(new SqlCountFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.chatbot.config;
 
 import com.example.chatbot.auth.infrastructure.CustomUserDetailsService;
+import com.example.chatbot.auth.infrastructure.JwtAuthenticationFilter;
+import com.example.chatbot.auth.infrastructure.TimedPasswordEncoder;
+import com.example.chatbot.auth.infrastructure.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -11,15 +15,18 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableMethodSecurity(prePostEnabled = true) // @PreAuthorize, @PostAuthorize 활성화
 public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public SecurityConfig(CustomUserDetailsService customUserDetailsService) {
+    public SecurityConfig(CustomUserDetailsService customUserDetailsService, VerifiedTokenCache verifiedTokenCache) {
         this.customUserDetailsService = customUserDetailsService;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Bean
@@ -36,6 +43,8 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+            // 문서/정적 자원은 공개 자원이므로 기본 no-store 대신 핸들러가 정한 Cache-Control을 따른다
+            .headers(headers -> headers.cacheControl(cache -> cache.disable()))
             .httpBasic(b -> b.disable())
             .formLogin(f -> f.disable());
         return http.build();
@@ -55,9 +64,12 @@ public class SecurityConfig {
 
             // 요청별 접근 제어 설정
             .authorizeHttpRequests(auth -> auth
+                // 헬스 체크(로드밸런서/프로브)만 공개하고, 메트릭 등 나머지 actuator는 관리자만 조회한다
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                 // 공개 엔드포인트
                 .requestMatchers(
-                    "/actuator/**",
                     "/favicon.ico",
                     "/",
                     "/index.html",
@@ -67,9 +79,9 @@ public class SecurityConfig {
                     "/api/auth/**"
                 ).permitAll()
                 
-                // 권한별 접근 제어 예시
+                // 권한별 접근 제어 예시 - 상위 역할은 RoleHierarchy(ADMIN > MODERATOR > USER)로 포함된다
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
-                .requestMatchers("/api/moderator/**").hasAnyRole("ADMIN", "MODERATOR")
+                .requestMatchers("/api/moderator/**").hasRole("MODERATOR")
                 .requestMatchers("/api/user/**").hasRole("USER")
                 
                 // 세분화된 권한 제어 예시
@@ -79,6 +91,9 @@ public class SecurityConfig {
                 .anyRequest().authenticated()
             )
             .userDetailsService(customUserDetailsService) // 커스텀 UserDetailsService 사용
+            // Bearer 토큰 인증 (검증 결과는 토큰 만료 시각까지 캐시)
+            .addFilterBefore(new JwtAuthenticationFilter(verifiedTokenCache, customUserDetailsService),
+                    BasicAuthenticationFilter.class)
             .httpBasic(Customizer.withDefaults());
 
         return http.build();
@@ -87,7 +102,7 @@ public class SecurityConfig {
     // PasswordEncoder 빈: 비밀번호를 안전하게 해시하기 위해 BCrypt 사용
     // 실제 운영 환경에서는 비밀번호 ��책/인코더를 상황에 맞게 조정
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 }
@@ -0,0 +1,32 @@
+package com.example.chatbot.config;
+
+import com.example.chatbot.common.timing.RepositoryTimingPostProcessor;
+import com.example.chatbot.common.timing.ServerTimingFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// 꺼져 있으면 필터/리포지토리 인터셉터가 등록되지 않아 RequestTimings 호출은 ThreadLocal 조회만 남는다
+@Configuration
+@ConditionalOnProperty(name = "server-timing.enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static
+    @Bean
+    public static RepositoryTimingPostProcessor repositoryTimingPostProcessor() {
+        return new RepositoryTimingPostProcessor();
+    }
+
+    // 보안 필터 체인 구간까지 포함하도록 SQL 집계 필터 바로 다음에 실행
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${server-timing.log-sample-rate:0.01}") double logSampleRate) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(logSampleRate));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
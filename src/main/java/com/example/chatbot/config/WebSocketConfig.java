@@ -0,0 +1,146 @@
+package com.example.chatbot.config;
+
+import com.example.chatbot.auth.infrastructure.CustomUserDetailsService;
+import com.example.chatbot.auth.infrastructure.VerifiedTokenCache;
+import com.example.chatbot.chat.infrastructure.websocket.BoundedOutboundHandlerDecoratorFactory;
+import com.example.chatbot.chat.infrastructure.websocket.OutboundFlowControl;
+import com.example.chatbot.chat.infrastructure.websocket.OutboundOverflowPolicy;
+import com.example.chatbot.chat.infrastructure.websocket.OutboundQueueMetrics;
+import com.example.chatbot.chat.infrastructure.websocket.OutboundQueueSettings;
+import com.example.chatbot.chat.infrastructure.websocket.OutboundSendWatchdog;
+import com.example.chatbot.chat.infrastructure.websocket.SessionExpiryScheduler;
+import com.example.chatbot.chat.infrastructure.websocket.StompAuthChannelInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    @Value("${chat.websocket.outbound.policy:COALESCE}")
+    private OutboundOverflowPolicy policy;
+
+    @Value("${chat.websocket.outbound.max-messages:256}")
+    private int maxMessages;
+
+    @Value("${chat.websocket.outbound.max-bytes:262144}") // 256KB
+    private int maxBytes;
+
+    @Value("${chat.websocket.outbound.global-max-bytes:268435456}") // 256MB
+    private long globalMaxBytes;
+
+    @Value("${chat.websocket.outbound.max-consecutive-drops:1024}")
+    private int maxConsecutiveDrops;
+
+    @Value("${chat.websocket.outbound.send-time-limit:10s}")
+    private Duration sendTimeLimit;
+
+    @Value("${chat.websocket.outbound.send-watchdog-interval:1s}")
+    private Duration sendWatchdogInterval;
+
+    @Value("${chat.websocket.outbound.ephemeral-suffixes:/presence,/typing}")
+    private List<String> ephemeralSuffixes;
+
+    // 버리지 않고 생산자가 속도를 맞추는 destination (CallBot 응답 스트림)
+    @Value("${chat.websocket.outbound.reliable-suffixes:/queue/callbot}")
+    private List<String> reliableSuffixes;
+
+    @Value("${chat.websocket.outbound.reliable-window:16}")
+    private int reliableWindow;
+
+    @Value("${chat.websocket.outbound.reliable-max-wait:30s}")
+    private Duration reliableMaxWait;
+
+    @Value("${chat.websocket.require-token:true}")
+    private boolean requireToken;
+
+    @Value("${auth.token-expiry.tick:1s}")
+    private Duration expiryTick;
+
+    @Value("${auth.token-expiry.wheel-size:4096}")
+    private int expiryWheelSize;
+
+    private final MeterRegistry meterRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final CustomUserDetailsService userDetailsService;
+
+    public WebSocketConfig(MeterRegistry meterRegistry, VerifiedTokenCache verifiedTokenCache,
+                           CustomUserDetailsService userDetailsService) {
+        this.meterRegistry = meterRegistry;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.enableSimpleBroker("/topic", "/queue");
+        // 방 샤드 스레드가 발행한 순서대로 세션에 전달되도록 함
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT 시 토큰 검증 후 토큰 만료 시각에 세션 종료 예약
+        registration.interceptors(new StompAuthChannelInterceptor(
+                verifiedTokenCache, userDetailsService, sessionExpiryScheduler(), requireToken));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 상한 큐로 감싸 느린 클라이언트가 브로커 송신 채널을 막지 않도록 함
+        registration.addDecoratorFactory(new BoundedOutboundHandlerDecoratorFactory(
+                outboundQueueSettings(), outboundQueueMetrics(), outboundFlushExecutor(), sessionExpiryScheduler(),
+                outboundSendWatchdog(), outboundFlowControl()));
+    }
+
+    @Bean
+    public OutboundQueueSettings outboundQueueSettings() {
+        return new OutboundQueueSettings(policy, maxMessages, maxBytes, globalMaxBytes,
+                maxConsecutiveDrops, sendTimeLimit, List.copyOf(ephemeralSuffixes), List.copyOf(reliableSuffixes));
+    }
+
+    @Bean
+    public OutboundFlowControl outboundFlowControl() {
+        return new OutboundFlowControl(reliableWindow, reliableMaxWait);
+    }
+
+    @Bean
+    public OutboundQueueMetrics outboundQueueMetrics() {
+        return new OutboundQueueMetrics(meterRegistry, globalMaxBytes);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public OutboundSendWatchdog outboundSendWatchdog() {
+        return new OutboundSendWatchdog(sendWatchdogInterval);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public SessionExpiryScheduler sessionExpiryScheduler() {
+        return new SessionExpiryScheduler(expiryTick, expiryWheelSize, outboundFlushExecutor(), meterRegistry);
+    }
+
+    // 느린 소켓에 막힌 전송이 플랫폼 스레드를 점유하지 않도록 가상 스레드 사용
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService outboundFlushExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.chatbot.member.application;
+
+import com.example.chatbot.common.exception.DomainException;
+import com.example.chatbot.common.exception.ErrorCode;
+
+public class DuplicateEmailException extends DomainException {
+
+    public DuplicateEmailException() {
+        super(ErrorCode.DUPLICATE_EMAIL);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.chatbot.member.application;
+
+/**
+ * 회원 탈퇴 요청 이벤트 - 아웃박스를 통해 member 스트림으로 발행된다 (물리 삭제는 뒤에 따로 진행)
+ */
+public record MemberDeleted(Long memberId, Long requestedBy) {
+}
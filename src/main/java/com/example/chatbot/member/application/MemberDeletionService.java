@@ -0,0 +1,103 @@
+package com.example.chatbot.member.application;
+
+import com.example.chatbot.auth.application.AuthorityService;
+import com.example.chatbot.auth.application.RefreshTokenService;
+import com.example.chatbot.auth.application.TokenRevocationService;
+import com.example.chatbot.common.outbox.OutboxWriter;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberDeletionJpaRepository;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberJpaRepository;
+import com.example.chatbot.member.infrastructure.persistence.jpa.entity.MemberDeletionJpaEntity;
+import com.example.chatbot.member.infrastructure.persistence.jpa.entity.MemberJpaEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * 회원 탈퇴 - 2단계로 처리한다.
+ *
+ * 1. 요청: 회원 행 하나를 탈퇴 표시하고 토큰 폐기/캐시 무효화만 한다 (종속 행 수와 무관하게 일정한 시간).
+ *    이 시점부터 로그인/권한 조회/엔티티 조회에서 제외된다.
+ * 2. 물리 삭제: MemberPurger가 member_deletions를 보고 종속 행부터 청크 단위로 지운다.
+ */
+@Service
+@Transactional
+public class MemberDeletionService {
+
+    private final MemberJpaRepository memberRepository;
+    private final MemberDeletionJpaRepository deletionRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthorityService authorityService;
+    private final OutboxWriter outboxWriter;
+    private final MemberPurger purger;
+
+    public MemberDeletionService(MemberJpaRepository memberRepository,
+                                 MemberDeletionJpaRepository deletionRepository,
+                                 TokenRevocationService tokenRevocationService,
+                                 RefreshTokenService refreshTokenService,
+                                 AuthorityService authorityService,
+                                 OutboxWriter outboxWriter,
+                                 MemberPurger purger) {
+        this.memberRepository = memberRepository;
+        this.deletionRepository = deletionRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.refreshTokenService = refreshTokenService;
+        this.authorityService = authorityService;
+        this.outboxWriter = outboxWriter;
+        this.purger = purger;
+    }
+
+    /**
+     * 탈퇴 요청 - 물리 삭제는 백그라운드에서 진행된다
+     */
+    public MemberDeletionStatus requestDeletion(Long memberId, Long requestedBy) {
+        MemberJpaEntity member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 사용자입니다."));
+        String email = member.getEmail();
+
+        LocalDateTime now = LocalDateTime.now();
+        if (memberRepository.softDelete(memberId, tombstoneEmail(memberId), now) == 0) {
+            // 동시에 들어온 다른 요청이 먼저 탈퇴 처리했다
+            return status(memberId);
+        }
+        MemberDeletionJpaEntity deletion = deletionRepository.save(new MemberDeletionJpaEntity(memberId, requestedBy, now));
+
+        Instant revokedAt = Instant.now();
+        tokenRevocationService.revokeAllForMember(email, revokedAt);
+        refreshTokenService.revokeAllForMember(email, revokedAt);
+        authorityService.evictUserAuthoritiesCache(memberId);
+        outboxWriter.append(MemberSignedUp.AGGREGATE_TYPE, memberId, new MemberDeleted(memberId, requestedBy));
+        purger.wakeUpAfterCommit();
+
+        return new MemberDeletionStatus(memberId, MemberDeletionStatus.State.PENDING, deletion.getRequestedAt(), null);
+    }
+
+    @Transactional(readOnly = true)
+    public MemberDeletionStatus status(Long memberId) {
+        Optional<MemberDeletionJpaEntity> deletion = deletionRepository.findById(memberId);
+        if (deletion.isPresent()) {
+            MemberDeletionJpaEntity job = deletion.get();
+            MemberDeletionStatus.State state = job.getPurgedAt() == null
+                    ? MemberDeletionStatus.State.PENDING : MemberDeletionStatus.State.PURGED;
+            return new MemberDeletionStatus(memberId, state, job.getRequestedAt(), job.getPurgedAt());
+        }
+        if (!memberRepository.existsById(memberId)) {
+            throw new NoSuchElementException("존재하지 않는 사용자입니다.");
+        }
+        return new MemberDeletionStatus(memberId, MemberDeletionStatus.State.ACTIVE, null, null);
+    }
+
+    @Transactional(readOnly = true)
+    public MemberPurgeProgress progress() {
+        return purger.progress(deletionRepository.countByPurgedAtIsNull());
+    }
+
+    // unique 제약을 지키면서 원래 주소를 남기지 않는다 (.invalid는 예약된 TLD)
+    private static String tombstoneEmail(Long memberId) {
+        return "deleted-" + memberId + "@deleted.invalid";
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.chatbot.member.application;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 한 명의 탈퇴 진행 상황
+ *
+ * @param state       ACTIVE(탈퇴 요청 없음), PENDING(탈퇴 요청됨, 물리 삭제 대기), PURGED(물리 삭제 완료)
+ * @param requestedAt 탈퇴 요청 시각 (ACTIVE면 null)
+ * @param purgedAt    물리 삭제 완료 시각 (PURGED가 아니면 null)
+ */
+public record MemberDeletionStatus(Long memberId, State state, LocalDateTime requestedAt, LocalDateTime purgedAt) {
+
+    public enum State { ACTIVE, PENDING, PURGED }
+}
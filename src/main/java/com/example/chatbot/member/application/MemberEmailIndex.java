@@ -0,0 +1,308 @@
+package com.example.chatbot.member.application;
+
+import com.example.chatbot.common.bloom.ScalableBloomFilter;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberCredentials;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 회원 이메일 Bloom 필터 - "확실히 회원이 아님"을 DB 조회 없이 답한다.
+ *
+ * - 시작 시 members 테이블을 스트리밍해 만들고, 가입 시 추가하며, 다른 노드의 가입은 가입 이벤트 로그
+ *   (MemberSignupFeed)를 커서로 이어 읽어 받는다. 로그는 아웃박스로 발행되므로 빠지는 가입이 없다.
+ * - Bloom 필터는 삭제를 지원하지 않으므로 탈퇴 회원은 주기적 재구성 때 빠진다 (그 전까지는 오탐일 뿐).
+ * - 첫 구성이 끝나기 전이나 비활성화된 경우에는 항상 "있을 수 있음"으로 답한다.
+ * - 최근 max-staleness 안에 로그 끝까지 읽었으면 "없음"을 확정한다. 남는 틈은 다른 노드의 가입이 커밋 후
+ *   로그에 실리고 읽히기까지(릴레이 지연 + follow-interval)뿐이다. 읽기가 늦어진 동안에만 마지막으로
+ *   따라잡은 시점 이후 가입분을 DB에서 확인하고(findUnindexed), 커서가 잘려 나가면 그 구간을 DB에서 보충한다.
+ */
+@Component
+public class MemberEmailIndex implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberEmailIndex.class);
+
+    private final MemberJpaRepository memberRepository;
+    private final TransactionTemplate rebuildTransaction;
+    private final MemberSignupFeed feed;
+    private final boolean enabled;
+    private final long initialCapacity;
+    private final double falsePositiveRate;
+    private final Duration recentMargin;
+    private final int followBatch;
+    private final long maxStalenessNanos;
+
+    private volatile ScalableBloomFilter filter;
+    // 재구성 중 가입한 이메일이 새 필터에서 빠지지 않도록 함께 넣는다
+    private volatile ScalableBloomFilter building;
+    private volatile boolean ready;
+    // 이 시각 이전에 가입한 회원은 필터에 반드시 있다 (트랜잭션 커밋 지연/노드 간 시계 차이만큼 여유를 둔다)
+    private volatile LocalDateTime coveredBefore = LocalDateTime.MIN;
+    // 가입 로그 커서 (follower 스레드만 바꾼다) - null이면 DB로 다시 맞춘 뒤 로그 끝부터 읽는다
+    private volatile String cursor;
+    // 마지막으로 로그 끝까지 읽은 읽기의 시작 시각(nanoTime), 0이면 아직 따라잡지 못함
+    private volatile long caughtUpAt;
+
+    private final ScheduledExecutorService rebuilder;
+    private final ScheduledExecutorService follower;
+    private final Counter definitelyAbsent;
+    private final Counter mightExist;
+    private final Counter falsePositives;
+    private final Counter unindexed;
+    private final Counter staleChecks;
+
+    public MemberEmailIndex(MemberJpaRepository memberRepository,
+                            PlatformTransactionManager transactionManager,
+                            ObjectProvider<MemberSignupFeed> feedProvider,
+                            MeterRegistry meterRegistry,
+                            @Value("${member.email-filter.enabled:true}") boolean enabled,
+                            @Value("${member.email-filter.initial-capacity:100000}") long initialCapacity,
+                            @Value("${member.email-filter.false-positive-rate:0.001}") double falsePositiveRate,
+                            @Value("${member.email-filter.rebuild-interval:1h}") Duration rebuildInterval,
+                            @Value("${member.email-filter.follow-interval:250ms}") Duration followInterval,
+                            @Value("${member.email-filter.follow-batch:500}") int followBatch,
+                            @Value("${member.email-filter.max-staleness:2s}") Duration maxStaleness,
+                            @Value("${member.email-filter.recent-margin:1m}") Duration recentMargin) {
+        this.memberRepository = memberRepository;
+        // readOnly로 두면 복제본으로 라우팅되어 복제 지연만큼 최근 가입이 빠질 수 있으므로 primary에서 읽는다
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.feed = feedProvider.getIfAvailable(() -> MemberSignupFeed.LOCAL_ONLY);
+        this.enabled = enabled;
+        this.initialCapacity = initialCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.recentMargin = recentMargin;
+        this.followBatch = followBatch;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.filter = new ScalableBloomFilter(initialCapacity, falsePositiveRate);
+
+        this.definitelyAbsent = checkCounter(meterRegistry, "absent");
+        this.mightExist = checkCounter(meterRegistry, "might_exist");
+        this.falsePositives = Counter.builder("member.email.filter.false.positives")
+                .description("필터는 있을 수 있다고 했지만 DB에 없던 조회 수")
+                .register(meterRegistry);
+        this.unindexed = Counter.builder("member.email.filter.unindexed")
+                .description("필터에 없었지만 최근 가입분 확인에서 찾은 회원 수 (가입 로그 읽기 지연)")
+                .register(meterRegistry);
+        this.staleChecks = Counter.builder("member.email.filter.stale.checks")
+                .description("가입 로그를 따라잡지 못해 DB로 확인한 \"없음\" 판정 수")
+                .register(meterRegistry);
+        Gauge.builder("member.email.filter.memory", this, index -> index.filter.bitSize() / 8.0)
+                .description("이메일 필터 비트 배열 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("member.email.filter.insertions", this, index -> index.filter.approximateInsertions())
+                .register(meterRegistry);
+        Gauge.builder("member.email.filter.fpp.expected", this, index -> index.filter.expectedFalsePositiveRate())
+                .description("삽입 수 기준 예상 오탐률")
+                .register(meterRegistry);
+
+        this.rebuilder = daemonExecutor("member-email-filter-rebuild");
+        // 재구성은 members 전체를 읽어 오래 걸리므로 로그 읽기는 별도 스레드에서 한다
+        this.follower = daemonExecutor("member-email-filter-follow");
+        if (enabled) {
+            rebuilder.scheduleWithFixedDelay(this::rebuild, 0, rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+            follower.scheduleWithFixedDelay(this::follow, followInterval.toMillis(), followInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static ScheduledExecutorService daemonExecutor(String name) {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Counter checkCounter(MeterRegistry registry, String result) {
+        return Counter.builder("member.email.filter.checks")
+                .description("이메일 필터 판정 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    public static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * false면 필터가 아는 가입 중에는 없다 - 확정 여부는 findUnindexed가 판단한다.
+     */
+    public boolean mightExist(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        if (filter.mightContain(normalize(email))) {
+            mightExist.increment();
+            return true;
+        }
+        definitelyAbsent.increment();
+        return false;
+    }
+
+    /**
+     * mightExist가 false인 이메일 - 가입 로그를 따라잡은 상태면 DB를 보지 않고 없음으로 확정한다.
+     * 읽기가 늦어진 동안에만 마지막으로 따라잡은 시점 이후 가입분에서 찾고, 찾으면 필터에도 넣는다.
+     */
+    public Optional<MemberCredentials> findUnindexed(String email) {
+        if (isFresh()) {
+            return Optional.empty();
+        }
+        staleChecks.increment();
+        Optional<MemberCredentials> member = memberRepository.findCredentialsByEmailCreatedSince(email, coveredBefore);
+        if (member.isPresent()) {
+            unindexed.increment();
+            putLocal(normalize(email));
+        }
+        return member;
+    }
+
+    /**
+     * mightExist가 true였는데 DB에 없었던 경우 - 실제 오탐률 관찰용
+     */
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * 이 노드에서 가입한 이메일 추가 - 다른 노드는 같은 트랜잭션의 MemberSignedUp 아웃박스 이벤트로 받는다.
+     */
+    public void add(String email) {
+        if (!enabled) {
+            return;
+        }
+        String normalized = normalize(email);
+        putLocal(normalized);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // 커밋 전에 재구성이 시작됐다면 그 스냅샷에 이 가입이 없을 수 있다
+                    putLocal(normalized);
+                }
+            });
+        }
+    }
+
+    private boolean isFresh() {
+        long at = caughtUpAt;
+        return at != 0 && cursor != null && System.nanoTime() - at <= maxStalenessNanos;
+    }
+
+    private void putLocal(String normalizedEmail) {
+        filter.put(normalizedEmail);
+        ScalableBloomFilter next = building;
+        if (next != null) {
+            next.put(normalizedEmail);
+        }
+    }
+
+    /**
+     * members 테이블로 필터를 새로 만든다. 탈퇴 회원을 정리한다.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        LocalDateTime started = LocalDateTime.now();
+        try {
+            ScalableBloomFilter next = new ScalableBloomFilter(
+                    Math.max(initialCapacity, filter.approximateInsertions()), falsePositiveRate);
+            building = next;
+            rebuildTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = memberRepository.streamAllEmails()) {
+                    emails.forEach(email -> next.put(normalize(email)));
+                }
+            });
+            filter = next;
+            coveredBefore = started.minus(recentMargin);
+            ready = true;
+            log.info("회원 이메일 필터 구성 완료 - members={}, bytes={}, elapsedMs={}",
+                    next.approximateInsertions(), next.bitSize() / 8,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException ex) {
+            // 기존 필터를 그대로 쓴다 (첫 구성 실패 시에는 계속 DB 조회)
+            log.warn("회원 이메일 필터 구성 실패: {}", ex.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * 가입 로그를 커서 이후부터 끝까지 읽어 필터에 넣는다. 끝까지 읽으면 그 읽기를 시작한 시점까지의 가입은
+     * 필터에 있다고 본다. 커서가 없거나 잘려 나갔으면 DB로 다시 맞춘다.
+     */
+    void follow() {
+        if (!ready) {
+            return;
+        }
+        try {
+            if (cursor == null) {
+                resync();
+                return;
+            }
+            long started = System.nanoTime();
+            LocalDateTime startedAt = LocalDateTime.now();
+            String current = cursor;
+            while (true) {
+                String next = feed.readSince(current, followBatch, email -> putLocal(normalize(email)));
+                if (next == null) {
+                    log.warn("가입 로그 커서가 잘려 나감 - DB에서 다시 맞춤");
+                    cursor = null;
+                    caughtUpAt = 0;
+                    return;
+                }
+                if (next.equals(current)) {
+                    break;
+                }
+                current = next;
+                cursor = next;
+            }
+            caughtUpAt = started;
+            coveredBefore = startedAt.minus(recentMargin);
+        } catch (RuntimeException ex) {
+            // 그대로 두면 max-staleness가 지나 DB 확인으로 바뀐다
+            log.warn("가입 로그 읽기 실패: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 로그 끝 커서를 먼저 잡고 마지막으로 따라잡은 시점 이후 가입분을 DB에서 넣는다 - 그 사이 가입은 둘 중 한쪽에 있다.
+     */
+    private void resync() {
+        String head = feed.head();
+        List<String> emails = rebuildTransaction.execute(
+                status -> memberRepository.findEmailsCreatedSince(coveredBefore));
+        if (emails != null) {
+            emails.forEach(email -> putLocal(normalize(email)));
+        }
+        cursor = head;
+    }
+
+    @Override
+    public void destroy() {
+        rebuilder.shutdownNow();
+        follower.shutdownNow();
+    }
+}
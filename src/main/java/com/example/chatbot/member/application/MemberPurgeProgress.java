@@ -0,0 +1,22 @@
+package com.example.chatbot.member.application;
+
+import java.time.Instant;
+
+/**
+ * 백그라운드 물리 삭제 진행 상황 (purged/deletedRows는 이 노드가 시작된 뒤의 누계)
+ *
+ * @param pendingMembers 탈퇴 요청 후 아직 물리 삭제되지 않은 회원 수 (전체 노드 기준)
+ * @param purgedMembers  이 노드가 물리 삭제한 회원 수
+ * @param deletedRows    이 노드가 지운 종속 행 수 (member_roles)
+ * @param chunkSize      현재 청크 크기 - 청크가 느리면 줄고 빠르면 늘어난다
+ * @param throttled      마지막 실행이 DB 부하로 양보했는지
+ * @param lastRunAt      마지막 실행 시각
+ */
+public record MemberPurgeProgress(
+        long pendingMembers,
+        long purgedMembers,
+        long deletedRows,
+        int chunkSize,
+        boolean throttled,
+        Instant lastRunAt) {
+}
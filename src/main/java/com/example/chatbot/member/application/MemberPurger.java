@@ -0,0 +1,256 @@
+package com.example.chatbot.member.application;
+
+import com.example.chatbot.auth.infrastructure.persistence.jpa.MemberRoleJpaRepository;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberDeletionJpaRepository;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 탈퇴 요청된 회원의 백그라운드 물리 삭제.
+ *
+ * - member_deletions에서 회원 묶음을 임대해 member_roles → members 순서로 지운다.
+ *   종속 행은 chunk-size 행씩 별도 트랜잭션으로 지워 잠금 시간과 WAL 양을 묶는다.
+ * - 진행 상태는 DB에만 있으므로 중간에 죽어도 임대가 끝나면 (이 노드든 다른 노드든) 이어서 지운다.
+ *   이미 지운 행을 다시 지워도 결과는 같다.
+ * - 커넥션 풀에 대기자가 있거나 사용률이 높으면 다음 주기로 미루고,
+ *   청크가 목표 시간을 넘기면 청크 크기를 절반으로 줄이고 빠르면 조금씩 늘린다.
+ */
+@Component
+public class MemberPurger implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPurger.class);
+
+    private final MemberDeletionJpaRepository deletionRepository;
+    private final MemberRoleJpaRepository memberRoleRepository;
+    private final MemberJpaRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int batchMembers;
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetChunkNanos;
+    private final Duration lease;
+    private final double maxPoolUsage;
+
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    // 아래 상태는 purge 스레드만 쓰고 progress()가 읽는다
+    private volatile int chunkSize;
+    private volatile boolean throttled;
+    private volatile Instant lastRunAt;
+
+    private final Counter purgedMembers;
+    private final Counter deletedRows;
+    private final Counter throttledRuns;
+    private final Timer chunkTimer;
+
+    public MemberPurger(MemberDeletionJpaRepository deletionRepository,
+                        MemberRoleJpaRepository memberRoleRepository,
+                        MemberJpaRepository memberRepository,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${member.purge.enabled:true}") boolean enabled,
+                        @Value("${member.purge.interval:10s}") Duration interval,
+                        @Value("${member.purge.batch-members:100}") int batchMembers,
+                        @Value("${member.purge.min-chunk-size:100}") int minChunkSize,
+                        @Value("${member.purge.max-chunk-size:5000}") int maxChunkSize,
+                        @Value("${member.purge.target-chunk-time:200ms}") Duration targetChunkTime,
+                        @Value("${member.purge.lease:5m}") Duration lease,
+                        @Value("${member.purge.max-pool-usage:0.75}") double maxPoolUsage) {
+        this.deletionRepository = deletionRepository;
+        this.memberRoleRepository = memberRoleRepository;
+        this.memberRepository = memberRepository;
+        // 복제본이 아닌 primary에서 지운다
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.batchMembers = batchMembers;
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.targetChunkNanos = targetChunkTime.toNanos();
+        this.lease = lease;
+        this.maxPoolUsage = maxPoolUsage;
+        this.chunkSize = minChunkSize;
+
+        this.purgedMembers = Counter.builder("member.purge.members")
+                .description("물리 삭제한 회원 수")
+                .register(meterRegistry);
+        this.deletedRows = Counter.builder("member.purge.rows")
+                .description("물리 삭제한 종속 행 수")
+                .tag("table", "member_roles")
+                .register(meterRegistry);
+        this.throttledRuns = Counter.builder("member.purge.throttled")
+                .description("DB 부하로 다음 주기로 미룬 횟수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("member.purge.chunk")
+                .description("종속 행 청크 하나를 지우는 시간")
+                .register(meterRegistry);
+        Gauge.builder("member.purge.chunk.size", this, purger -> purger.chunkSize)
+                .register(meterRegistry);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "member-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (enabled) {
+            executor.scheduleWithFixedDelay(this::purge, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 탈퇴 요청이 커밋되면 다음 주기를 기다리지 않고 바로 지운다
+     */
+    public void wakeUpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp();
+            }
+        });
+    }
+
+    private void wakeUp() {
+        if (enabled && wakeUpPending.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::purge);
+            } catch (RuntimeException ex) {
+                // 종료 중 - 남은 작업은 재시작 후 이어진다
+                wakeUpPending.set(false);
+            }
+        }
+    }
+
+    public MemberPurgeProgress progress(long pendingMembers) {
+        return new MemberPurgeProgress(pendingMembers, (long) purgedMembers.count(), (long) deletedRows.count(),
+                chunkSize, throttled, lastRunAt);
+    }
+
+    /**
+     * 처리할 작업이 없거나 DB가 바빠질 때까지 회원 묶음을 하나씩 지운다
+     */
+    void purge() {
+        wakeUpPending.set(false);
+        lastRunAt = Instant.now();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (underPressure()) {
+                    return;
+                }
+                List<Long> memberIds = claim();
+                if (memberIds.isEmpty() || !purgeMembers(memberIds)) {
+                    return;
+                }
+            }
+        } catch (RuntimeException ex) {
+            // 임대가 끝나면 다시 가져가므로 이어서 지운다
+            log.warn("회원 물리 삭제 실패, 다음 주기에 재시도: {}", ex.getMessage());
+        }
+    }
+
+    private List<Long> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> claimed = transactionTemplate.execute(status ->
+                deletionRepository.claimPending(now, now.plus(lease), batchMembers));
+        return claimed == null ? List.of() : claimed;
+    }
+
+    /**
+     * 종속 행을 청크 단위로 지운 뒤 회원 행과 작업을 함께 정리한다. DB 부하로 중단하면 false
+     */
+    private boolean purgeMembers(List<Long> memberIds) {
+        while (true) {
+            if (underPressure()) {
+                // 임대가 끝나면 남은 종속 행부터 이어서 지운다
+                return false;
+            }
+            int limit = chunkSize;
+            long start = System.nanoTime();
+            int deleted = Objects.requireNonNullElse(transactionTemplate.execute(status ->
+                    memberRoleRepository.deleteChunkByMemberIds(memberIds, limit)), 0);
+            long elapsed = System.nanoTime() - start;
+            chunkTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            deletedRows.increment(deleted);
+            adjustChunkSize(elapsed);
+            if (deleted < limit) {
+                break;
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            memberRepository.purgeSoftDeleted(memberIds);
+            deletionRepository.markPurged(memberIds, LocalDateTime.now());
+        });
+        purgedMembers.increment(memberIds.size());
+        log.debug("탈퇴 회원 {}명 물리 삭제 완료", memberIds.size());
+        return true;
+    }
+
+    private void adjustChunkSize(long elapsedNanos) {
+        if (elapsedNanos > targetChunkNanos) {
+            chunkSize = Math.max(minChunkSize, chunkSize / 2);
+        } else {
+            chunkSize = Math.min(maxChunkSize, chunkSize + Math.max(1, chunkSize / 10));
+        }
+    }
+
+    /**
+     * 커넥션 풀(복제본 풀 포함) 중 하나라도 대기자가 있거나 사용률이 높으면 요청 처리에 양보한다
+     */
+    private boolean underPressure() {
+        for (Gauge pending : meterRegistry.find("hikaricp.connections.pending").gauges()) {
+            if (pending.value() > 0) {
+                return markThrottled();
+            }
+        }
+        for (Gauge active : meterRegistry.find("hikaricp.connections.active").gauges()) {
+            Gauge max = meterRegistry.find("hikaricp.connections.max")
+                    .tag("pool", Objects.requireNonNullElse(active.getId().getTag("pool"), ""))
+                    .gauge();
+            if (max != null && max.value() > 0 && active.value() / max.value() >= maxPoolUsage) {
+                return markThrottled();
+            }
+        }
+        throttled = false;
+        return false;
+    }
+
+    private boolean markThrottled() {
+        throttled = true;
+        throttledRuns.increment();
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.chatbot.member.application;
 
 import com.example.chatbot.auth.application.AuthorityService;
+import com.example.chatbot.common.outbox.OutboxWriter;
 import com.example.chatbot.member.infrastructure.persistence.jpa.MemberJpaRepository;
 import com.example.chatbot.member.infrastructure.persistence.jpa.entity.MemberJpaEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,24 +19,40 @@ import java.time.LocalDateTime;
 @Transactional
 public class MemberService {
 
+    private static final Logger log = LoggerFactory.getLogger(MemberService.class);
+
     private final MemberJpaRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthorityService authorityService;
+    private final MemberEmailIndex memberEmailIndex;
+    private final OutboxWriter outboxWriter;
+    private final Counter signupSuccess;
+    private final Counter signupDuplicate;
 
     public MemberService(MemberJpaRepository memberRepository, 
                         PasswordEncoder passwordEncoder,
-                        AuthorityService authorityService) {
+                        AuthorityService authorityService,
+                        MemberEmailIndex memberEmailIndex,
+                        OutboxWriter outboxWriter,
+                        MeterRegistry meterRegistry) {
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityService = authorityService;
+        this.memberEmailIndex = memberEmailIndex;
+        this.outboxWriter = outboxWriter;
+        this.signupSuccess = Counter.builder("member.signup").tag("result", "success")
+                .description("회원 가입 결과").register(meterRegistry);
+        this.signupDuplicate = Counter.builder("member.signup").tag("result", "duplicate_email")
+                .description("회원 가입 결과").register(meterRegistry);
     }
 
     /**
      * 회원 가입 처리 - 기본 USER 역할 자동 할당
      */
     public MemberJpaEntity signup(String email, String rawPassword, String name) {
-        if (memberRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
+        if (emailExists(email)) {
+            signupDuplicate.increment();
+            throw new DuplicateEmailException();
         }
 
         MemberJpaEntity entity = new MemberJpaEntity(
@@ -41,7 +63,7 @@ public class MemberService {
                 LocalDateTime.now()
         );
 
-        MemberJpaEntity savedMember = memberRepository.save(entity);
+        MemberJpaEntity savedMember = save(entity);
         
         // 기본 USER 역할 할당
         try {
@@ -49,9 +71,10 @@ public class MemberService {
         } catch (Exception e) {
             // 역할 할당 실패 시 로그만 남기고 계속 진행 (회원가입은 성공)
             // 실제로는 더 정교한 오류 처리가 필요할 수 있음
-            System.err.println("기본 역할 할당 실패: " + e.getMessage());
+            log.warn("기본 역할 할당 실패 - memberId={}: {}", savedMember.getId(), e.getMessage());
         }
 
+        signupSuccess.increment();
         return savedMember;
     }
 
@@ -59,8 +82,8 @@ public class MemberService {
      * 관리자 계정 생성 (개발/초기화 용도)
      */
     public MemberJpaEntity createAdmin(String email, String rawPassword, String name, Long createdBy) {
-        if (memberRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
+        if (emailExists(email)) {
+            throw new DuplicateEmailException();
         }
 
         MemberJpaEntity entity = new MemberJpaEntity(
@@ -71,11 +94,39 @@ public class MemberService {
                 LocalDateTime.now()
         );
 
-        MemberJpaEntity savedMember = memberRepository.save(entity);
+        MemberJpaEntity savedMember = save(entity);
         
         // ADMIN 역할 할당
         authorityService.assignRoleToMember(savedMember.getId(), "ADMIN", createdBy);
 
         return savedMember;
     }
+
+    /**
+     * 이메일 필터가 "확실히 없음"이면 DB를 조회하지 않는다.
+     * 필터가 다른 노드의 가입을 아직 모를 수 있지만 이메일 unique 제약이 최종적으로 중복을 막는다.
+     */
+    private boolean emailExists(String email) {
+        if (!memberEmailIndex.mightExist(email)) {
+            return false;
+        }
+        if (memberRepository.existsByEmail(email)) {
+            return true;
+        }
+        memberEmailIndex.recordFalsePositive();
+        return false;
+    }
+
+    private MemberJpaEntity save(MemberJpaEntity entity) {
+        MemberJpaEntity saved;
+        try {
+            saved = memberRepository.save(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateEmailException();
+        }
+        memberEmailIndex.add(saved.getEmail());
+        outboxWriter.append(MemberSignedUp.AGGREGATE_TYPE, saved.getId(),
+                new MemberSignedUp(saved.getId(), saved.getEmail(), saved.getName()));
+        return saved;
+    }
 }
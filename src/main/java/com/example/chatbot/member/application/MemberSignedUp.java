@@ -0,0 +1,9 @@
+package com.example.chatbot.member.application;
+
+/**
+ * 회원 가입 이벤트 - 아웃박스를 통해 member 스트림으로 발행된다
+ */
+public record MemberSignedUp(Long memberId, String email, String name) {
+
+    public static final String AGGREGATE_TYPE = "member";
+}
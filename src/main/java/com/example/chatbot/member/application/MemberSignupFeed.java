@@ -0,0 +1,36 @@
+package com.example.chatbot.member.application;
+
+import java.util.function.Consumer;
+
+/**
+ * 가입 이벤트 변경 로그 - 노드는 마지막으로 읽은 커서 이후의 가입 이메일만 읽어 이메일 필터에 반영한다.
+ */
+public interface MemberSignupFeed {
+
+    /**
+     * 단일 노드 운영용 - 모든 가입이 이 노드의 add로 들어오므로 읽을 변경분이 없다
+     */
+    MemberSignupFeed LOCAL_ONLY = new MemberSignupFeed() {
+        @Override
+        public String head() {
+            return "0";
+        }
+
+        @Override
+        public String readSince(String cursor, int max, Consumer<String> sink) {
+            return cursor;
+        }
+    };
+
+    /**
+     * 현재 로그 끝 커서 - 이 커서를 잡은 뒤에 읽은 DB 상태와 이후 변경분을 합치면 빠지는 가입이 없다.
+     */
+    String head();
+
+    /**
+     * cursor 이후의 기록을 최대 max건 읽어 가입 이메일을 넘기고 새 커서를 반환한다.
+     *
+     * @return 새 커서 (더 읽을 기록이 없으면 cursor 그대로), cursor 이후 기록 일부가 잘려 나갔으면 null
+     */
+    String readSince(String cursor, int max, Consumer<String> sink);
+}
@@ -0,0 +1,7 @@
+package com.example.chatbot.member.infrastructure.persistence.jpa;
+
+/**
+ * 로그인에 필요한 컬럼만 담은 회원 조회 결과 (엔티티/연관관계를 로드하지 않음)
+ */
+public record MemberCredentials(Long id, String email, String name, String password) {
+}
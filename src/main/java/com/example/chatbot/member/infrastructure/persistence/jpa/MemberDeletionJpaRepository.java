@@ -0,0 +1,39 @@
+package com.example.chatbot.member.infrastructure.persistence.jpa;
+
+import com.example.chatbot.member.infrastructure.persistence.jpa.entity.MemberDeletionJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MemberDeletionJpaRepository extends JpaRepository<MemberDeletionJpaEntity, Long> {
+
+    long countByPurgedAtIsNull();
+
+    /**
+     * 처리할 탈퇴 작업을 요청 순서로 limit개 가져가며 leaseUntil까지 임대한다.
+     * SKIP LOCKED로 다른 노드가 가져가는 행은 건너뛰고, 임대가 끝난 작업(처리 중 죽은 노드)은 다시 가져간다.
+     */
+    @Query(value = """
+            UPDATE member_deletions SET claimed_until = :leaseUntil
+            WHERE member_id IN (
+                SELECT member_id FROM member_deletions
+                WHERE purged_at IS NULL AND (claimed_until IS NULL OR claimed_until < :now)
+                ORDER BY requested_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING member_id
+            """, nativeQuery = true)
+    List<Long> claimPending(@Param("now") LocalDateTime now,
+                            @Param("leaseUntil") LocalDateTime leaseUntil,
+                            @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE MemberDeletionJpaEntity d SET d.purgedAt = :purgedAt, d.claimedUntil = null "
+            + "WHERE d.memberId IN :memberIds")
+    int markPurged(@Param("memberIds") Collection<Long> memberIds, @Param("purgedAt") LocalDateTime purgedAt);
+}
@@ -1,11 +1,70 @@
 package com.example.chatbot.member.infrastructure.persistence.jpa;
 
 import com.example.chatbot.member.infrastructure.persistence.jpa.entity.MemberJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MemberJpaRepository extends JpaRepository<MemberJpaEntity, Long> {
-    Optional<MemberJpaEntity> findByEmail(String email);
-    boolean existsByEmail(String email);
+    // 이메일은 대소문자를 구분하지 않으며 lower(email) 유니크 인덱스를 탄다
+    @Query("SELECT m FROM MemberJpaEntity m WHERE lower(m.email) = lower(:email)")
+    Optional<MemberJpaEntity> findByEmail(@Param("email") String email);
+
+    @Query("SELECT CASE WHEN count(m) > 0 THEN true ELSE false END FROM MemberJpaEntity m "
+            + "WHERE lower(m.email) = lower(:email)")
+    boolean existsByEmail(@Param("email") String email);
+
+    @Query("SELECT new com.example.chatbot.member.infrastructure.persistence.jpa.MemberCredentials("
+            + "m.id, m.email, m.name, m.password) FROM MemberJpaEntity m WHERE lower(m.email) = lower(:email)")
+    Optional<MemberCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    /**
+     * since 이후 가입한 회원만 이메일로 찾는다 - 이메일 필터가 아직 반영하지 못했을 수 있는 최근 가입분 확인용
+     */
+    @Query("SELECT new com.example.chatbot.member.infrastructure.persistence.jpa.MemberCredentials("
+            + "m.id, m.email, m.name, m.password) FROM MemberJpaEntity m "
+            + "WHERE lower(m.email) = lower(:email) AND m.createdAt >= :since")
+    Optional<MemberCredentials> findCredentialsByEmailCreatedSince(@Param("email") String email,
+                                                                   @Param("since") LocalDateTime since);
+
+    /**
+     * since 이후 가입한 회원 이메일 (idx_members_created_at)
+     */
+    @Query("SELECT m.email FROM MemberJpaEntity m WHERE m.createdAt >= :since")
+    List<String> findEmailsCreatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 전체 회원 이메일을 커서로 읽는다 (트랜잭션 안에서 사용하고 스트림을 닫아야 한다)
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT m.email FROM MemberJpaEntity m")
+    Stream<String> streamAllEmails();
+
+    /**
+     * 탈퇴 요청 - 이메일을 비식별 값으로 바꿔 같은 주소로 바로 다시 가입할 수 있게 한다.
+     * 이미 탈퇴 요청된 회원이면 0을 반환한다.
+     */
+    @Modifying
+    @Query("UPDATE MemberJpaEntity m SET m.deletedAt = :deletedAt, m.email = :tombstone "
+            + "WHERE m.id = :id AND m.deletedAt IS NULL")
+    int softDelete(@Param("id") Long id, @Param("tombstone") String tombstone,
+                   @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 탈퇴 요청된 회원 행 물리 삭제 - member_roles를 먼저 지운 뒤 호출해야 한다
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "members"))
+    @Modifying
+    @Query(value = "DELETE FROM members WHERE id IN (:ids) AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeSoftDeleted(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,43 @@
+package com.example.chatbot.member.infrastructure.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 탈퇴 작업 - 요청 시 기록하고 MemberPurger가 물리 삭제를 마치면 purged_at을 채운다.
+ * 회원 행이 지워진 뒤에도 남아 진행 상황 조회와 재시작 지점으로 쓰인다.
+ */
+@Entity
+// 남은 작업 조회는 부분 인덱스(requested_at) WHERE purged_at IS NULL을 쓴다 (db/migration V3)
+@Table(name = "member_deletions")
+@Getter
+@NoArgsConstructor
+public class MemberDeletionJpaEntity {
+
+    // 회원 행이 먼저 사라지므로 외래 키를 두지 않는다
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "requested_by")
+    private Long requestedBy;
+
+    // 다른 노드(또는 죽기 전의 자신)가 처리 중인 작업을 건너뛰기 위한 임대 만료 시각
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "purged_at")
+    private LocalDateTime purgedAt;
+
+    public MemberDeletionJpaEntity(Long memberId, Long requestedBy, LocalDateTime requestedAt) {
+        this.memberId = memberId;
+        this.requestedBy = requestedBy;
+        this.requestedAt = requestedAt;
+    }
+}
@@ -2,19 +2,23 @@ package com.example.chatbot.member.infrastructure.persistence.jpa.entity;
 
 import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.MemberRoleJpaEntity;
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "members", indexes = {@Index(columnList = "email", name = "idx_members_email")})
+// 이메일 유일성은 lower(email) 유니크 인덱스로 보장한다 (db/migration V3)
+@Table(name = "members")
+// 탈퇴 요청된 회원은 물리 삭제 전까지 모든 엔티티 조회에서 제외한다
+@SQLRestriction("deleted_at IS NULL")
 public class MemberJpaEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -26,6 +30,9 @@ public class MemberJpaEntity {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "member", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<MemberRoleJpaEntity> memberRoles = new HashSet<>();
 
@@ -56,6 +63,7 @@ public class MemberJpaEntity {
     public void setName(String name) { this.name = name; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public LocalDateTime getDeletedAt() { return deletedAt; }
     public Set<MemberRoleJpaEntity> getMemberRoles() { return memberRoles; }
     public void setMemberRoles(Set<MemberRoleJpaEntity> memberRoles) { this.memberRoles = memberRoles; }
 
@@ -0,0 +1,117 @@
+package com.example.chatbot.member.infrastructure.redis;
+
+import com.example.chatbot.member.application.MemberSignedUp;
+import com.example.chatbot.member.application.MemberSignupFeed;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 아웃박스가 발행한 member 스트림(outbox:member)에서 MemberSignedUp만 골라 읽는다.
+ *
+ * 스트림은 길이로 잘라내므로 오래 멈춰 있던 노드의 커서가 잘려 나간 구간에 있으면
+ * readSince가 null을 반환해 DB에서 다시 맞추게 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.redis.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisMemberSignupFeed implements MemberSignupFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisMemberSignupFeed.class);
+
+    // RedisStreamOutboxPublisher가 aggregate 종류별로 쓰는 스트림
+    static final String STREAM_KEY = "outbox:" + MemberSignedUp.AGGREGATE_TYPE;
+    private static final String EVENT_TYPE = MemberSignedUp.class.getSimpleName();
+    private static final String START = "0-0";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long streamMaxLength;
+
+    public RedisMemberSignupFeed(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                 @Value("${outbox.redis.stream-max-length:1000000}") long streamMaxLength) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.streamMaxLength = streamMaxLength;
+    }
+
+    @Override
+    public String head() {
+        List<MapRecord<String, Object, Object>> last = redisTemplate.opsForStream()
+                .reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        return last == null || last.isEmpty() ? START : last.get(0).getId().getValue();
+    }
+
+    @Override
+    public String readSince(String cursor, int max, Consumer<String> sink) {
+        if (trimmedPast(cursor)) {
+            return null;
+        }
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                StreamReadOptions.empty().count(max),
+                StreamOffset.create(STREAM_KEY, ReadOffset.from(cursor)));
+        if (records == null || records.isEmpty()) {
+            return cursor;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> value = record.getValue();
+            if (EVENT_TYPE.equals(String.valueOf(value.get("type")))) {
+                String email = emailOf(String.valueOf(value.get("payload")));
+                if (email != null) {
+                    sink.accept(email);
+                }
+            }
+        }
+        return records.get(records.size() - 1).getId().getValue();
+    }
+
+    private String emailOf(String payload) {
+        try {
+            String email = objectMapper.readTree(payload).path("email").asText(null);
+            if (email == null) {
+                log.warn("이메일 없는 가입 이벤트 - 건너뜀");
+            }
+            return email;
+        } catch (JsonProcessingException ex) {
+            log.warn("가입 이벤트 해석 실패 - 건너뜀: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 커서 다음 기록이 잘려 나갔을 수 있는지 - 스트림의 가장 오래된 기록이 커서보다 뒤면 커서 자신도 잘린 것이다.
+     * 빈 스트림에서 시작한 커서(0-0)는 스트림이 최대 길이까지 찼을 때만 유실로 본다.
+     */
+    private boolean trimmedPast(String cursor) {
+        List<MapRecord<String, Object, Object>> oldest = redisTemplate.opsForStream()
+                .range(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        if (oldest == null || oldest.isEmpty() || compare(oldest.get(0).getId(), RecordId.of(cursor)) <= 0) {
+            return false;
+        }
+        if (!START.equals(cursor)) {
+            return true;
+        }
+        Long length = redisTemplate.opsForStream().size(STREAM_KEY);
+        return length != null && length >= streamMaxLength;
+    }
+
+    private static int compare(RecordId left, RecordId right) {
+        int byTime = Long.compare(left.getTimestamp(), right.getTimestamp());
+        return byTime != 0 ? byTime : Long.compare(left.getSequence(), right.getSequence());
+    }
+}
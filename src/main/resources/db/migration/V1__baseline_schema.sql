@@ -0,0 +1,44 @@
+-- 기준 스키마 - Flyway 도입 전 엔티티(회원/역할/권한)로 ddl-auto=update가 만들던 것과 같은 구조.
+-- 이미 update로 만들어진 DB는 baseline-on-migrate로 이 버전을 건너뛰고 V2부터 적용한다.
+
+CREATE TABLE members (
+    id         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email      varchar(255) NOT NULL,
+    password   varchar(255) NOT NULL,
+    name       varchar(255) NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    CONSTRAINT uk_members_email UNIQUE (email)
+);
+CREATE INDEX idx_members_email ON members (email);
+
+CREATE TABLE roles (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         varchar(50)  NOT NULL,
+    display_name varchar(100),
+    description  varchar(255),
+    created_at   timestamp(6) NOT NULL,
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE authorities (
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         varchar(50)  NOT NULL,
+    display_name varchar(100),
+    description  varchar(255),
+    created_at   timestamp(6) NOT NULL,
+    CONSTRAINT uk_authorities_name UNIQUE (name)
+);
+
+CREATE TABLE role_authorities (
+    role_id      bigint NOT NULL REFERENCES roles (id),
+    authority_id bigint NOT NULL REFERENCES authorities (id),
+    PRIMARY KEY (role_id, authority_id)
+);
+
+CREATE TABLE member_roles (
+    id          bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    member_id   bigint       NOT NULL REFERENCES members (id),
+    role_id     bigint       NOT NULL REFERENCES roles (id),
+    assigned_at timestamp(6) NOT NULL,
+    assigned_by bigint
+);
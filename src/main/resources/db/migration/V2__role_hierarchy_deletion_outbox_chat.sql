@@ -0,0 +1,52 @@
+-- 기준 스키마 이후 추가된 테이블/컬럼 - 역할 계층, 회원 탈퇴, 아웃박스, 채팅 기록.
+-- 중간 버전을 ddl-auto=update로 띄운 DB에는 일부가 이미 있을 수 있으므로 없는 것만 만든다.
+-- 인덱스 정리는 V3에서 한다.
+
+ALTER TABLE members ADD COLUMN IF NOT EXISTS deleted_at timestamp(6);
+
+CREATE TABLE IF NOT EXISTS role_hierarchy (
+    parent_role_id bigint NOT NULL REFERENCES roles (id),
+    child_role_id  bigint NOT NULL REFERENCES roles (id),
+    PRIMARY KEY (parent_role_id, child_role_id)
+);
+
+CREATE TABLE IF NOT EXISTS role_closure (
+    ancestor_role_id   bigint  NOT NULL REFERENCES roles (id),
+    descendant_role_id bigint  NOT NULL REFERENCES roles (id),
+    depth              integer NOT NULL,
+    PRIMARY KEY (ancestor_role_id, descendant_role_id)
+);
+CREATE INDEX IF NOT EXISTS idx_role_closure_descendant ON role_closure (descendant_role_id);
+
+-- 기존 역할은 자기 자신만 포함하는 폐포로 시작한다 (계층이 바뀌면 RoleHierarchyService가 다시 쓴다)
+INSERT INTO role_closure (ancestor_role_id, descendant_role_id, depth)
+SELECT id, id, 0 FROM roles
+ON CONFLICT DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS member_deletions (
+    member_id     bigint PRIMARY KEY,
+    requested_at  timestamp(6) NOT NULL,
+    requested_by  bigint,
+    claimed_until timestamp(6),
+    purged_at     timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id             bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type varchar(50)  NOT NULL,
+    aggregate_id   varchar(100) NOT NULL,
+    event_type     varchar(100) NOT NULL,
+    payload        text         NOT NULL,
+    created_at     timestamp(6) NOT NULL,
+    published_at   timestamp(6)
+);
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unpublished ON outbox_events (published_at, id);
+
+CREATE TABLE IF NOT EXISTS chat_messages (
+    room_id bigint                      NOT NULL,
+    seq     bigint                      NOT NULL,
+    sender  varchar(100)                NOT NULL,
+    content varchar(2000)               NOT NULL,
+    sent_at timestamp(6) with time zone NOT NULL,
+    PRIMARY KEY (room_id, seq)
+);
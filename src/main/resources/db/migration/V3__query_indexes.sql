@@ -0,0 +1,47 @@
+-- 조회 쿼리에 맞춘 인덱스. V2까지의 스키마(또는 ddl-auto=update로 만든 기존 스키마) 위에 적용된다.
+
+-- members: 이메일 조회는 lower(email)로 하므로 대소문자만 다른 중복도 막는 함수 인덱스 하나로 대신한다.
+-- update가 만든 unique 제약은 이름이 임의이므로 카탈로그에서 찾아 지운다.
+-- 대소문자만 다른 이메일이 이미 있으면 이 마이그레이션은 실패한다 (수동 정리 필요).
+DO $$
+DECLARE
+    constraint_name text;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = 'members'::regclass
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname = 'email'
+    LOOP
+        EXECUTE format('ALTER TABLE members DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END $$;
+DROP INDEX IF EXISTS idx_members_email;
+CREATE UNIQUE INDEX uk_members_email_lower ON members (lower(email));
+
+-- member_roles: findByMemberId / findByMemberIdAndRoleId / existsBy / deleteBy / findRolesByMemberId는
+-- (member_id, role_id)로, 탈퇴 청크 삭제의 "SELECT id ... WHERE member_id IN"은 INCLUDE(id)로 인덱스만 읽는다.
+DELETE FROM member_roles duplicate
+USING member_roles original
+WHERE duplicate.member_id = original.member_id
+  AND duplicate.role_id = original.role_id
+  AND duplicate.id > original.id;
+DROP INDEX IF EXISTS idx_member_roles_member;
+ALTER TABLE member_roles
+    ADD CONSTRAINT uk_member_roles_member_role UNIQUE (member_id, role_id) INCLUDE (id);
+-- 역할 삭제 시 외래 키 검사와 RoleJpaEntity.memberRoles 로딩
+CREATE INDEX idx_member_roles_role ON member_roles (role_id);
+
+-- role_authorities: PK(role_id, authority_id)는 역할 → 권한 방향만 덮는다.
+-- AuthorityJpaEntity.roles 로딩과 권한 삭제 시 외래 키 검사는 authority_id로 찾는다.
+CREATE INDEX idx_role_authorities_authority ON role_authorities (authority_id, role_id);
+
+-- role_hierarchy: PK는 부모 → 자식 방향만 덮는다. 역할 삭제 시 자식 쪽 외래 키 검사는 child_role_id로 찾는다.
+CREATE INDEX idx_role_hierarchy_child ON role_hierarchy (child_role_id, parent_role_id);
+
+-- member_deletions: 남은 작업만 요청 순서로 읽으므로 완료된 작업은 인덱스에 두지 않는다
+DROP INDEX IF EXISTS idx_member_deletions_pending;
+CREATE INDEX idx_member_deletions_pending ON member_deletions (requested_at) WHERE purged_at IS NULL;
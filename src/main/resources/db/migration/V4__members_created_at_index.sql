@@ -0,0 +1,2 @@
+-- members: 이메일 필터 보충(MemberEmailIndex.catchUp)이 마지막 재구성 이후 가입분만 읽는다
+CREATE INDEX idx_members_created_at ON members (created_at);
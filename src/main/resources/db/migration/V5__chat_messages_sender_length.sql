@@ -0,0 +1,2 @@
+-- chat_messages.sender는 회원 이메일(members.email, varchar(255))을 그대로 저장하므로 길이를 맞춘다
+ALTER TABLE chat_messages ALTER COLUMN sender TYPE varchar(255);
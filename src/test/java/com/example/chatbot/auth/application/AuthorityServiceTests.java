@@ -0,0 +1,69 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.auth.infrastructure.persistence.jpa.AuthorityJpaRepository;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.MemberRoleJpaRepository;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleCatalogCache;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleClosureJpaRepository;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleJpaRepository;
+import com.example.chatbot.common.outbox.OutboxWriter;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AuthorityServiceTests {
+
+    private final RoleCatalogCache roleCatalogCache = mock(RoleCatalogCache.class);
+    private final AuthorityService authorityService = new AuthorityService(
+            mock(AuthorityJpaRepository.class), mock(RoleJpaRepository.class), mock(MemberRoleJpaRepository.class),
+            mock(RoleClosureJpaRepository.class), mock(MemberJpaRepository.class),
+            new ConcurrentMapCacheManager(AuthorityService.USER_AUTHORITIES_CACHE), roleCatalogCache,
+            mock(OutboxWriter.class), new SimpleMeterRegistry());
+
+    @Test
+    void memberChangeInvalidatesOnlyThatMember() {
+        long alice = authorityService.authoritiesVersion(1L);
+        long bob = authorityService.authoritiesVersion(2L);
+
+        authorityService.evictUserAuthoritiesCache(1L);
+
+        assertThat(authorityService.authoritiesVersion(1L)).isGreaterThan(alice);
+        // 다른 회원의 캐시된 principal은 그대로 쓴다
+        assertThat(authorityService.authoritiesVersion(2L)).isEqualTo(bob);
+        verify(roleCatalogCache).memberChanged(1L);
+    }
+
+    @Test
+    void remoteMemberChangeInvalidatesThatMemberHere() {
+        ArgumentCaptor<LongConsumer> listener = ArgumentCaptor.forClass(LongConsumer.class);
+        verify(roleCatalogCache).onRemoteMemberChange(listener.capture());
+        long alice = authorityService.authoritiesVersion(1L);
+        long bob = authorityService.authoritiesVersion(2L);
+
+        // 다른 노드에서 커밋된 역할 변경
+        listener.getValue().accept(1L);
+
+        assertThat(authorityService.authoritiesVersion(1L)).isGreaterThan(alice);
+        assertThat(authorityService.authoritiesVersion(2L)).isEqualTo(bob);
+        verify(roleCatalogCache, never()).memberChanged(1L);
+    }
+
+    @Test
+    void catalogChangeInvalidatesEveryMember() {
+        long alice = authorityService.authoritiesVersion(1L);
+        long bob = authorityService.authoritiesVersion(2L);
+
+        authorityService.clearUserAuthoritiesCache();
+
+        assertThat(authorityService.authoritiesVersion(1L)).isGreaterThan(alice);
+        assertThat(authorityService.authoritiesVersion(2L)).isGreaterThan(bob);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.auth.application.AuthorizationDecisionService.DecisionCheck;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthorizationDecisionServiceTests {
+
+    private final AuthorityService authorityService = mock(AuthorityService.class);
+    private final AuthorizationDecisionService service = new AuthorizationDecisionService(
+            authorityService, new SimpleMeterRegistry(), 1000, Duration.ofMinutes(1));
+
+    @Test
+    void decidesInRequestOrderWithOneBulkLoadForMissingMembers() {
+        doReturn(Map.of(
+                1L, AuthorityUtils.createAuthorityList("ROLE_ADMIN", "AUTHORITY_MANAGE_USERS"),
+                2L, AuthorityUtils.createAuthorityList("ROLE_USER")))
+                .when(authorityService).loadUserAuthoritiesByMemberIds(any());
+
+        boolean[] results = service.decide(Arrays.asList(
+                new DecisionCheck(1L, "AUTHORITY_MANAGE_USERS"),
+                new DecisionCheck(2L, "AUTHORITY_MANAGE_USERS"),
+                new DecisionCheck(1L, "ROLE_ADMIN"),
+                new DecisionCheck(2L, "ROLE_USER"),
+                new DecisionCheck(3L, "ROLE_USER"),
+                new DecisionCheck(null, "ROLE_USER"),
+                new DecisionCheck(1L, null)));
+
+        assertThat(results).containsExactly(true, false, true, true, false, false, false);
+        verify(authorityService, times(1)).loadUserAuthoritiesByMemberIds(Set.of(1L, 2L, 3L));
+        verify(authorityService, never()).loadUserAuthorities(anyLong());
+        // userAuthorities 캐시를 거치면 두 TTL이 겹쳐 다른 노드의 변경이 늦게 보인다
+        verify(authorityService, never()).getUserAuthoritiesByMemberIds(any());
+    }
+
+    @Test
+    void cachedMembersAreNotReloaded() {
+        doReturn(Map.of(1L, AuthorityUtils.createAuthorityList("ROLE_USER")))
+                .when(authorityService).loadUserAuthoritiesByMemberIds(Set.of(1L));
+        doReturn(Map.of(2L, AuthorityUtils.createAuthorityList("ROLE_ADMIN")))
+                .when(authorityService).loadUserAuthoritiesByMemberIds(Set.of(2L));
+        service.decide(List.of(new DecisionCheck(1L, "ROLE_USER")));
+
+        boolean[] results = service.decide(List.of(
+                new DecisionCheck(1L, "ROLE_USER"), new DecisionCheck(2L, "ROLE_ADMIN")));
+
+        assertThat(results).containsExactly(true, true);
+        verify(authorityService, times(1)).loadUserAuthoritiesByMemberIds(Set.of(1L));
+        verify(authorityService, times(1)).loadUserAuthoritiesByMemberIds(Set.of(2L));
+    }
+
+    @Test
+    void versionDependsOnlyOnPermissionContent() {
+        doReturn(AuthorityUtils.createAuthorityList("ROLE_USER", "AUTHORITY_READ_POST"))
+                .when(authorityService).loadUserAuthorities(1L);
+        doReturn(AuthorityUtils.createAuthorityList("AUTHORITY_READ_POST", "ROLE_USER"))
+                .when(authorityService).loadUserAuthorities(2L);
+
+        MemberPermissions first = service.permissions(1L);
+        MemberPermissions second = service.permissions(2L);
+
+        assertThat(first.permissions()).containsExactly("AUTHORITY_READ_POST", "ROLE_USER");
+        assertThat(first.version()).hasSize(16).isEqualTo(second.version());
+        assertThat(AuthorizationDecisionService.versionOf(List.of("ROLE_USER"))).isNotEqualTo(first.version());
+    }
+
+    @Test
+    void reloadsWhenAuthoritiesVersionChanges() {
+        doReturn(AuthorityUtils.createAuthorityList("ROLE_USER"))
+                .when(authorityService).loadUserAuthorities(anyLong());
+        when(authorityService.authoritiesVersion(1L)).thenReturn(1L);
+        service.permissions(1L);
+        service.permissions(1L);
+
+        when(authorityService.authoritiesVersion(1L)).thenReturn(2L);
+        service.permissions(1L);
+
+        verify(authorityService, times(2)).loadUserAuthorities(1L);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.auth.infrastructure.InMemoryRefreshTokenStore;
+import com.example.chatbot.auth.infrastructure.JwtTokenService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTests {
+
+    private final JwtTokenService jwtTokenService = mock(JwtTokenService.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    private RefreshTokenService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<RefreshTokenStore> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(new InMemoryRefreshTokenStore());
+        when(jwtTokenService.generateToken(anyString())).thenAnswer(invocation -> "access-" + invocation.getArgument(0));
+        when(jwtTokenService.getExpirationMillis()).thenReturn(900_000L);
+        service = new RefreshTokenService(provider, jwtTokenService, tokenRevocationService,
+                new SimpleMeterRegistry(), 1_209_600_000L);
+    }
+
+    @Test
+    void rotatesToANewSingleUseToken() {
+        IssuedTokens issued = service.issue("alice");
+
+        IssuedTokens rotated = service.refresh(issued.refreshToken());
+
+        assertThat(rotated.accessToken()).isEqualTo("access-alice");
+        assertThat(rotated.refreshToken()).isNotEqualTo(issued.refreshToken());
+        // 같은 패밀리 안에서 이어진다
+        assertThat(familyOf(rotated.refreshToken())).isEqualTo(familyOf(issued.refreshToken()));
+        assertThat(service.refresh(rotated.refreshToken()).refreshToken()).isNotNull();
+    }
+
+    @Test
+    void reuseRevokesTheFamilyAndTheMembersAccessTokens() {
+        IssuedTokens issued = service.issue("alice");
+        IssuedTokens rotated = service.refresh(issued.refreshToken());
+
+        assertThatThrownBy(() -> service.refresh(issued.refreshToken()))
+                .isSameAs(AuthenticationFailedException.INVALID_REFRESH_TOKEN);
+        verify(tokenRevocationService).revokeAllForMember(eq("alice"), any(Instant.class));
+
+        // 정상 사용자가 가진 최신 토큰도 더 이상 쓸 수 없다
+        assertThatThrownBy(() -> service.refresh(rotated.refreshToken()))
+                .isSameAs(AuthenticationFailedException.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    void logoutRevokesTheFamilyOnly() {
+        IssuedTokens loggedOut = service.issue("alice");
+        IssuedTokens otherDevice = service.issue("alice");
+
+        service.revoke(loggedOut.refreshToken());
+
+        assertThatThrownBy(() -> service.refresh(loggedOut.refreshToken()))
+                .isSameAs(AuthenticationFailedException.INVALID_REFRESH_TOKEN);
+        assertThat(service.refresh(otherDevice.refreshToken())).isNotNull();
+        verify(tokenRevocationService, never()).revokeAllForMember(anyString(), any());
+    }
+
+    @Test
+    void memberRevocationRejectsFamiliesIssuedBeforeTheCutoff() throws InterruptedException {
+        IssuedTokens before = service.issue("alice");
+        IssuedTokens bob = service.issue("bob");
+        Thread.sleep(5);
+
+        service.revokeAllForMember("alice", Instant.now());
+        Thread.sleep(5);
+        IssuedTokens after = service.issue("alice");
+
+        assertThatThrownBy(() -> service.refresh(before.refreshToken()))
+                .isSameAs(AuthenticationFailedException.INVALID_REFRESH_TOKEN);
+        assertThat(service.refresh(after.refreshToken())).isNotNull();
+        assertThat(service.refresh(bob.refreshToken())).isNotNull();
+        // 회원 폐기 판정이 회전과 같은 저장소 연산에 들어가도록 패밀리 ID가 회원 태그로 시작한다
+        assertThat(RefreshTokenStore.memberTagOf(familyOf(after.refreshToken())))
+                .isEqualTo(RefreshTokenStore.memberTag("alice"))
+                .isNotEqualTo(RefreshTokenStore.memberTag("bob"));
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThatThrownBy(() -> service.refresh("no-dot"))
+                .isSameAs(AuthenticationFailedException.INVALID_REFRESH_TOKEN);
+        assertThatThrownBy(() -> service.refresh("unknown.secret"))
+                .isSameAs(AuthenticationFailedException.INVALID_REFRESH_TOKEN);
+    }
+
+    private static String familyOf(String refreshToken) {
+        return refreshToken.substring(0, refreshToken.indexOf('.'));
+    }
+}
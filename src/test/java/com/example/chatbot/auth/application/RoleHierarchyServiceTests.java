@@ -0,0 +1,168 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.auth.infrastructure.persistence.jpa.AuthorityJpaRepository;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.ClosureGrant;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.MemberRoleJpaRepository;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleClosureJpaRepository;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleJpaRepository;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.AuthorityJpaEntity;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.MemberRoleJpaEntity;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.RoleJpaEntity;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberJpaRepository;
+import com.example.chatbot.member.infrastructure.persistence.jpa.entity.MemberJpaEntity;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 역할 계층을 실제 DB에서 확인한다 - 재귀 폐포 SQL, 순환 거부, 회원 권한 조인.
+ *
+ * 기동 시 DataInitializer가 만든 역할은 건드리지 않도록 테스트마다 새 역할을 만들고 트랜잭션을 롤백한다.
+ */
+@SpringBootTest
+class RoleHierarchyServiceTests {
+
+    @Autowired
+    private RoleHierarchyService roleHierarchyService;
+
+    @Autowired
+    private RoleJpaRepository roleRepository;
+
+    @Autowired
+    private AuthorityJpaRepository authorityRepository;
+
+    @Autowired
+    private MemberJpaRepository memberRepository;
+
+    @Autowired
+    private MemberRoleJpaRepository memberRoleRepository;
+
+    @Autowired
+    private RoleClosureJpaRepository closureRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rebuildExpandsTransitiveEdgesWithShortestDepth() {
+        inRolledBackTransaction(roles -> {
+            roleHierarchyService.addChildRole(roles.a(), roles.b());
+            roleHierarchyService.addChildRole(roles.b(), roles.c());
+            // A > C 지름길 - 폐포에는 더 짧은 깊이만 남는다
+            roleHierarchyService.addChildRole(roles.a(), roles.c());
+
+            assertThat(closureRows(roles))
+                    .containsExactlyInAnyOrder(
+                            tuple(roles.a(), roles.a(), 0), tuple(roles.a(), roles.b(), 1), tuple(roles.a(), roles.c(), 1),
+                            tuple(roles.b(), roles.b(), 0), tuple(roles.b(), roles.c(), 1),
+                            tuple(roles.c(), roles.c(), 0));
+        });
+    }
+
+    @Test
+    void removingAnEdgeDropsTheDerivedRows() {
+        inRolledBackTransaction(roles -> {
+            roleHierarchyService.addChildRole(roles.a(), roles.b());
+            roleHierarchyService.addChildRole(roles.b(), roles.c());
+
+            roleHierarchyService.removeChildRole(roles.b(), roles.c());
+
+            assertThat(closureRows(roles))
+                    .containsExactlyInAnyOrder(
+                            tuple(roles.a(), roles.a(), 0), tuple(roles.a(), roles.b(), 1),
+                            tuple(roles.b(), roles.b(), 0), tuple(roles.c(), roles.c(), 0));
+        });
+    }
+
+    @Test
+    void rejectsEdgesThatWouldCloseACycle() {
+        inRolledBackTransaction(roles -> {
+            roleHierarchyService.addChildRole(roles.a(), roles.b());
+            roleHierarchyService.addChildRole(roles.b(), roles.c());
+
+            assertThatThrownBy(() -> roleHierarchyService.addChildRole(roles.c(), roles.a()))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> roleHierarchyService.addChildRole(roles.b(), roles.b()))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(closureRepository.existsByAncestorIdAndDescendantId(id(roles.c()), id(roles.a()))).isFalse();
+        });
+    }
+
+    @Test
+    void memberGrantsIncludeDescendantRolesAndAuthorities() {
+        inRolledBackTransaction(roles -> {
+            AuthorityJpaEntity authority = authorityRepository.save(
+                    new AuthorityJpaEntity("T_" + UUID.randomUUID().toString().substring(0, 8), "test", null));
+            RoleJpaEntity leaf = roleRepository.findByNameWithAuthorities(roles.c()).orElseThrow();
+            leaf.addAuthority(authority);
+            roleRepository.save(leaf);
+            roleHierarchyService.addChildRole(roles.a(), roles.b());
+            roleHierarchyService.addChildRole(roles.b(), roles.c());
+
+            MemberJpaEntity member = memberRepository.save(new MemberJpaEntity(null,
+                    UUID.randomUUID() + "@example.com", "hash", "tester", LocalDateTime.now()));
+            memberRoleRepository.save(new MemberRoleJpaEntity(member,
+                    roleRepository.findByName(roles.a()).orElseThrow(), null));
+            memberRoleRepository.flush();
+
+            List<ClosureGrant> grants = closureRepository.findGrantsByMemberId(member.getId());
+
+            assertThat(grants).extracting(ClosureGrant::ancestorRole).containsOnly(roles.a());
+            assertThat(grants).extracting(ClosureGrant::descendantRole)
+                    .contains(roles.a(), roles.b(), roles.c());
+            assertThat(grants).extracting(ClosureGrant::authorityName).contains(authority.getName());
+        });
+    }
+
+    private record TestRoles(String a, String b, String c) {
+    }
+
+    private void inRolledBackTransaction(Consumer<TestRoles> test) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            String prefix = "T" + UUID.randomUUID().toString().substring(0, 8).toUpperCase() + "_";
+            TestRoles roles = new TestRoles(prefix + "A", prefix + "B", prefix + "C");
+            for (String name : List.of(roles.a(), roles.b(), roles.c())) {
+                roleRepository.save(new RoleJpaEntity(name, name, null));
+            }
+            // 새 역할도 자기 자신 행이 있어야 권한 조회에 잡힌다
+            roleHierarchyService.rebuildClosure();
+            try {
+                test.accept(roles);
+            } finally {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    private List<Tuple> closureRows(TestRoles roles) {
+        return jdbcTemplate.query("""
+                SELECT an.name AS ancestor, d.name AS descendant, c.depth
+                FROM role_closure c
+                JOIN roles an ON an.id = c.ancestor_role_id
+                JOIN roles d ON d.id = c.descendant_role_id
+                WHERE an.name IN (?, ?, ?)
+                """,
+                (rs, row) -> tuple(rs.getString("ancestor"), rs.getString("descendant"), rs.getInt("depth")),
+                roles.a(), roles.b(), roles.c());
+    }
+
+    private Long id(String roleName) {
+        return roleRepository.findByName(roleName).orElseThrow().getId();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.chatbot.auth.application;
+
+import com.example.chatbot.auth.infrastructure.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTests {
+
+    private final FakeDenylist denylist = new FakeDenylist();
+    private TokenRevocationService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.destroy();
+        }
+    }
+
+    @Test
+    void memberCutoffUsesMillisecondIssueTime() {
+        service = service(Duration.ofHours(1));
+        Instant cutoff = Instant.parse("2026-01-01T00:00:10.500Z");
+        service.revokeAllForMember("alice", cutoff);
+
+        // 같은 초라도 기준 시각 뒤에 발급된 토큰은 살아 있다
+        assertThat(service.isRevoked(token("alice", "a1", cutoff.minusMillis(200)))).isTrue();
+        assertThat(service.isRevoked(token("alice", "a2", cutoff))).isTrue();
+        assertThat(service.isRevoked(token("alice", "a3", cutoff.plusMillis(300)))).isFalse();
+        assertThat(service.isRevoked(token("bob", "b1", cutoff.minusSeconds(1)))).isFalse();
+    }
+
+    @Test
+    void revokedTokenIdIsConfirmedAgainstTheDenylist() {
+        service = service(Duration.ofHours(1));
+        VerifiedToken revoked = token("alice", "revoked", Instant.now());
+
+        service.revoke(revoked);
+
+        assertThat(service.isRevoked(revoked)).isTrue();
+        assertThat(service.isRevoked(token("alice", "other", Instant.now()))).isFalse();
+        assertThat(denylist.added).extracting(Revocation::key).containsExactly("revoked");
+    }
+
+    @Test
+    void denylistFailureFailsClosed() {
+        service = service(Duration.ofHours(1));
+        VerifiedToken revoked = token("alice", "revoked", Instant.now());
+        service.revoke(revoked);
+
+        denylist.failLookups = true;
+
+        assertThat(service.isRevoked(revoked)).isTrue();
+    }
+
+    @Test
+    void lostCursorTriggersBootstrapAgain() throws InterruptedException {
+        // 다른 노드의 폐기가 잘려 나간 로그 구간에만 있었던 상황
+        denylist.snapshot.add(Revocation.member("carol", System.currentTimeMillis()));
+        denylist.loseCursorOnce = true;
+        denylist.bootstrapped = new CountDownLatch(2);
+
+        service = service(Duration.ofMillis(10));
+
+        assertThat(denylist.bootstrapped.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.isRevoked(token("carol", "c1", Instant.now().minusSeconds(1)))).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private TokenRevocationService service(Duration syncInterval) {
+        ObjectProvider<TokenDenylist> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(denylist);
+        return new TokenRevocationService(provider, new SimpleMeterRegistry(),
+                900_000, 10_000, 0.001, syncInterval);
+    }
+
+    private static VerifiedToken token(String subject, String tokenId, Instant issuedAt) {
+        return new VerifiedToken(subject, tokenId, issuedAt, Instant.now().plusSeconds(600));
+    }
+
+    private static final class FakeDenylist implements TokenDenylist {
+
+        private final List<Revocation> added = new ArrayList<>();
+        private final Set<String> revokedTokens = ConcurrentHashMap.newKeySet();
+        private final List<Revocation> snapshot = new ArrayList<>();
+        private final AtomicInteger bootstraps = new AtomicInteger();
+        private volatile boolean failLookups;
+        private volatile boolean loseCursorOnce;
+        private volatile CountDownLatch bootstrapped = new CountDownLatch(1);
+
+        @Override
+        public void add(Revocation revocation) {
+            added.add(revocation);
+            if (revocation.type() == Revocation.Type.TOKEN) {
+                revokedTokens.add(revocation.key());
+            }
+        }
+
+        @Override
+        public boolean isTokenRevoked(String tokenId) {
+            if (failLookups) {
+                throw new IllegalStateException("redis down");
+            }
+            return revokedTokens.contains(tokenId);
+        }
+
+        @Override
+        public String bootstrap(Consumer<Revocation> sink) {
+            // 첫 초기화 뒤에 들어온 기록은 두 번째 초기화에서만 보인다
+            if (bootstraps.incrementAndGet() > 1) {
+                snapshot.forEach(sink);
+            }
+            bootstrapped.countDown();
+            return "cursor";
+        }
+
+        @Override
+        public String readSince(String cursor, int max, Consumer<Revocation> sink) {
+            if (loseCursorOnce) {
+                loseCursorOnce = false;
+                return null;
+            }
+            return cursor;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.chatbot.auth.infrastructure;
+
+import com.example.chatbot.auth.infrastructure.persistence.jpa.ClosureGrant;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.RoleClosureJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ADMIN > MODERATOR > USER 폐포를 넣고 상위 역할이 하위 역할/권한에 도달하는지 확인한다.
+ */
+class ClosureRoleHierarchyTests {
+
+    private final ClosureRoleHierarchy hierarchy = new ClosureRoleHierarchy(
+            mock(RoleClosureJpaRepository.class), mock(PlatformTransactionManager.class), Duration.ofHours(1));
+
+    @AfterEach
+    void tearDown() {
+        hierarchy.destroy();
+    }
+
+    @Test
+    void expandsToAllDescendantRolesAndAuthorities() {
+        hierarchy.publish(List.of(
+                new ClosureGrant("ADMIN", "ADMIN", "MANAGE_SYSTEM"),
+                new ClosureGrant("ADMIN", "MODERATOR", "MODERATE_CHAT"),
+                new ClosureGrant("ADMIN", "USER", null),
+                new ClosureGrant("MODERATOR", "MODERATOR", "MODERATE_CHAT"),
+                new ClosureGrant("MODERATOR", "USER", null),
+                new ClosureGrant("USER", "USER", null)));
+
+        assertThat(names(hierarchy.getReachableGrantedAuthorities(AuthorityUtils.createAuthorityList("ROLE_ADMIN"))))
+                .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_MODERATOR", "ROLE_USER",
+                        "AUTHORITY_MANAGE_SYSTEM", "AUTHORITY_MODERATE_CHAT");
+        assertThat(names(hierarchy.getReachableGrantedAuthorities(AuthorityUtils.createAuthorityList("ROLE_MODERATOR"))))
+                .containsExactlyInAnyOrder("ROLE_MODERATOR", "ROLE_USER", "AUTHORITY_MODERATE_CHAT");
+        assertThat(names(hierarchy.getReachableGrantedAuthorities(AuthorityUtils.createAuthorityList("ROLE_USER"))))
+                .containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void keepsUnknownAuthoritiesAsIs() {
+        hierarchy.publish(List.of(new ClosureGrant("USER", "USER", null)));
+
+        assertThat(names(hierarchy.getReachableGrantedAuthorities(
+                AuthorityUtils.createAuthorityList("ROLE_GUEST", "AUTHORITY_READ_POST"))))
+                .containsExactlyInAnyOrder("ROLE_GUEST", "AUTHORITY_READ_POST");
+        assertThat(hierarchy.getReachableGrantedAuthorities(List.of())).isEmpty();
+    }
+
+    private static List<String> names(Collection<? extends GrantedAuthority> authorities) {
+        return authorities.stream().map(GrantedAuthority::getAuthority).toList();
+    }
+}
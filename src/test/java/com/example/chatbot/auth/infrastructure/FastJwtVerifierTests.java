@@ -0,0 +1,101 @@
+package com.example.chatbot.auth.infrastructure;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FastJwtVerifierTests {
+
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(
+            "mySecretKeyForJwtTokenGenerationThatIsLongEnoughForHS256".getBytes(StandardCharsets.UTF_8));
+
+    private final FastJwtVerifier verifier = new FastJwtVerifier(KEY);
+
+    @Test
+    void readsClaimsOfTokensSignedByJjwt() {
+        long now = System.currentTimeMillis() / 1000 * 1000;
+        String token = Jwts.builder()
+                .subject("user@example.com")
+                .id("token-1")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + 60_000))
+                .signWith(KEY)
+                .compact();
+
+        VerifiedToken verified = verifier.verify(token);
+
+        assertThat(verified).isNotNull();
+        assertThat(verified.subject()).isEqualTo("user@example.com");
+        assertThat(verified.tokenId()).isEqualTo("token-1");
+        assertThat(verified.issuedAt().toEpochMilli()).isEqualTo(now);
+        assertThat(verified.expiresAt().toEpochMilli()).isEqualTo(now + 60_000);
+    }
+
+    @Test
+    void prefersMillisecondIssueTimeClaim() {
+        long now = System.currentTimeMillis();
+        String token = Jwts.builder()
+                .claim(JwtTokenService.ISSUED_AT_MILLIS_CLAIM, now)
+                .subject("user@example.com")
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + 60_000))
+                .signWith(KEY)
+                .compact();
+
+        assertThat(verifier.verify(token).issuedAt().toEpochMilli()).isEqualTo(now);
+    }
+
+    @Test
+    void ignoresUnknownFlatClaims() {
+        String token = Jwts.builder()
+                .claims(Map.of("mid", 42, "admin", true))
+                .subject("user@example.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(KEY)
+                .compact();
+
+        assertThat(verifier.verify(token)).isNotNull();
+    }
+
+    @Test
+    void fallsBackOnTamperedExpiredOrUnusualTokens() {
+        String valid = Jwts.builder()
+                .subject("user@example.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(KEY)
+                .compact();
+        String expired = Jwts.builder()
+                .subject("user@example.com")
+                .expiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(KEY)
+                .compact();
+        String nested = Jwts.builder()
+                .claims(Map.of("roles", List.of("USER")))
+                .subject("user@example.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(KEY)
+                .compact();
+        String otherKey = Jwts.builder()
+                .subject("user@example.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("anotherSecretKeyThatIsAlsoLongEnoughForHmacSha".getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        String[] parts = valid.split("\\.");
+        String tamperedPayload = parts[0] + "." + parts[1].substring(0, parts[1].length() - 2) + "AA." + parts[2];
+
+        assertThat(verifier.verify(tamperedPayload)).isNull();
+        assertThat(verifier.verify(expired)).isNull();
+        assertThat(verifier.verify(nested)).isNull();
+        assertThat(verifier.verify(otherKey)).isNull();
+        assertThat(verifier.verify("not-a-token")).isNull();
+    }
+}
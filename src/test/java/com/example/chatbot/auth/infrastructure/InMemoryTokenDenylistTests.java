@@ -0,0 +1,28 @@
+package com.example.chatbot.auth.infrastructure;
+
+import com.example.chatbot.auth.application.Revocation;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTokenDenylistTests {
+
+    @Test
+    void revokedTokensExpireAtTheirTokenExpiry() throws InterruptedException {
+        InMemoryTokenDenylist denylist = new InMemoryTokenDenylist();
+        long now = System.currentTimeMillis();
+
+        denylist.add(Revocation.token("live", now + 60_000));
+        denylist.add(Revocation.token("short", now + 100));
+        denylist.add(Revocation.token("expired", now - 1));
+
+        assertThat(denylist.isTokenRevoked("live")).isTrue();
+        assertThat(denylist.isTokenRevoked("expired")).isFalse();
+        assertThat(denylist.isTokenRevoked("short")).isTrue();
+
+        Thread.sleep(300);
+        // 만료 시각이 지나면 조회되지 않고, 정리 후에는 크기에서도 빠진다
+        assertThat(denylist.isTokenRevoked("short")).isFalse();
+        assertThat(denylist.size()).isEqualTo(1);
+    }
+}
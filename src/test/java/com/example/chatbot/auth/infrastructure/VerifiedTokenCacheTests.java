@@ -0,0 +1,87 @@
+package com.example.chatbot.auth.infrastructure;
+
+import com.example.chatbot.auth.application.AuthorityService;
+import com.example.chatbot.auth.application.TokenRevocationService;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokenCacheTests {
+
+    private final JwtTokenService jwtTokenService = mock(JwtTokenService.class);
+    private final TokenRevocationService revocationService = mock(TokenRevocationService.class);
+
+    @Test
+    void verifiesEachTokenOnlyOnce() {
+        when(jwtTokenService.verify("t1")).thenReturn(token("t1", Duration.ofMinutes(5)));
+        VerifiedTokenCache cache = cache(100);
+
+        cache.verify("t1");
+        cache.verify("t1");
+
+        verify(jwtTokenService, times(1)).verify("t1");
+    }
+
+    @Test
+    void staysBoundedAndKeepsCachingNewTokens() {
+        when(jwtTokenService.verify(anyString()))
+                .thenAnswer(invocation -> token(invocation.getArgument(0), Duration.ofMinutes(5)));
+        VerifiedTokenCache cache = cache(10);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.verify("t" + i);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        // 가득 찬 뒤에 들어온 토큰도 캐시된다
+        cache.verify("t999");
+        verify(jwtTokenService, times(1)).verify("t999");
+    }
+
+    @Test
+    void expiredEntryIsVerifiedAgain() throws InterruptedException {
+        when(jwtTokenService.verify("short"))
+                .thenReturn(token("short", Duration.ofMillis(50)))
+                .thenThrow(new JwtException("만료된 토큰"));
+        VerifiedTokenCache cache = cache(100);
+
+        cache.verify("short");
+        Thread.sleep(100);
+
+        assertThatThrownBy(() -> cache.verify("short")).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void revocationIsCheckedOnEveryCall() {
+        VerifiedToken verified = token("t1", Duration.ofMinutes(5));
+        when(jwtTokenService.verify("t1")).thenReturn(verified);
+        VerifiedTokenCache cache = cache(100);
+        cache.verify("t1");
+
+        when(revocationService.isRevoked(any())).thenReturn(true);
+
+        assertThatThrownBy(() -> cache.verify("t1")).isInstanceOf(JwtException.class);
+    }
+
+    private VerifiedTokenCache cache(int maxEntries) {
+        return new VerifiedTokenCache(jwtTokenService, revocationService, mock(AuthorityService.class),
+                new SimpleMeterRegistry(), maxEntries, Duration.ofSeconds(60));
+    }
+
+    private static VerifiedToken token(String id, Duration ttl) {
+        Instant now = Instant.now();
+        return new VerifiedToken("user@example.com", id, now, now.plus(ttl));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.chatbot.auth.infrastructure.persistence.jpa;
+
+import com.example.chatbot.auth.application.RoleCatalogRelay;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.AuthorityJpaEntity;
+import com.example.chatbot.auth.infrastructure.persistence.jpa.entity.RoleJpaEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoleCatalogCacheTests {
+
+    private final Cache hibernateCache = mock(Cache.class);
+    private final CapturingRelay relay = new CapturingRelay();
+    private RoleCatalogCache roleCatalogCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        jakarta.persistence.Cache jpaCache = mock(jakarta.persistence.Cache.class);
+        when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        when(jpaCache.unwrap(Cache.class)).thenReturn(hibernateCache);
+        ObjectProvider<RoleCatalogRelay> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(relay);
+        roleCatalogCache = new RoleCatalogCache(entityManagerFactory, provider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void remoteChangeEvictsCatalogRegionsAndQueryCacheThenNotifies() {
+        AtomicInteger notified = new AtomicInteger();
+        roleCatalogCache.onRemoteChange(notified::incrementAndGet);
+
+        relay.receive();
+
+        verify(hibernateCache).evictRegion(RoleJpaEntity.CACHE_REGION);
+        verify(hibernateCache).evictRegion(RoleJpaEntity.AUTHORITIES_CACHE_REGION);
+        verify(hibernateCache).evictRegion(RoleJpaEntity.CHILDREN_CACHE_REGION);
+        verify(hibernateCache).evictRegion(AuthorityJpaEntity.CACHE_REGION);
+        // 테이블 갱신 시각이 로컬이라 다른 노드의 변경으로는 쿼리 결과가 무효화되지 않는다
+        verify(hibernateCache).evictQueryRegions();
+        assertThat(notified).hasValue(1);
+    }
+
+    @Test
+    void changeIsPublishedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        roleCatalogCache.changed();
+        assertThat(relay.published).isZero();
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertThat(relay.published).isEqualTo(1);
+    }
+
+    @Test
+    void changeOutsideTransactionIsPublishedImmediately() {
+        roleCatalogCache.changed();
+
+        assertThat(relay.published).isEqualTo(1);
+    }
+
+    @Test
+    void memberChangeIsRelayedWithoutTouchingTheCatalogCache() {
+        TransactionSynchronizationManager.initSynchronization();
+        List<Long> remote = new ArrayList<>();
+        roleCatalogCache.onRemoteMemberChange(remote::add);
+
+        roleCatalogCache.memberChanged(7L);
+        assertThat(relay.publishedMembers).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(relay.publishedMembers).containsExactly(7L);
+
+        relay.receiveMember(9L);
+        assertThat(remote).containsExactly(9L);
+        verify(hibernateCache, never()).evictQueryRegions();
+    }
+
+    @Test
+    void failingListenerDoesNotStopOthers() {
+        AtomicInteger notified = new AtomicInteger();
+        roleCatalogCache.onRemoteChange(() -> {
+            throw new IllegalStateException("boom");
+        });
+        roleCatalogCache.onRemoteChange(notified::incrementAndGet);
+
+        relay.receive();
+
+        assertThat(notified).hasValue(1);
+    }
+
+    private static final class CapturingRelay implements RoleCatalogRelay {
+
+        private final List<Runnable> listeners = new ArrayList<>();
+        private final List<LongConsumer> memberListeners = new ArrayList<>();
+        private final List<Long> publishedMembers = new ArrayList<>();
+        private int published;
+
+        @Override
+        public void publish() {
+            published++;
+        }
+
+        @Override
+        public void listen(Runnable listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public void publishMember(long memberId) {
+            publishedMembers.add(memberId);
+        }
+
+        @Override
+        public void listenMember(LongConsumer listener) {
+            memberListeners.add(listener);
+        }
+
+        void receive() {
+            listeners.forEach(Runnable::run);
+        }
+
+        void receiveMember(long memberId) {
+            memberListeners.forEach(listener -> listener.accept(memberId));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.chatbot.callbot.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CallBotServiceTests {
+
+    private CallBotService callBotService;
+
+    @AfterEach
+    void tearDown() {
+        if (callBotService != null) {
+            callBotService.destroy();
+        }
+    }
+
+    @Test
+    void streamsDeterministicReplyFromLocalEngine() throws Exception {
+        callBotService = new CallBotService(new LocalBotEngine(Duration.ZERO), new SimpleMeterRegistry(), 4, 8, 4);
+        CollectingListener listener = new CollectingListener();
+
+        callBotService.reply(new BotPrompt("c-1", "안녕"), listener);
+        GenerationStats stats = listener.completed.get(5, TimeUnit.SECONDS);
+
+        assertThat(listener.text.toString()).isEqualTo(LocalBotEngine.replyFor("안녕"));
+        assertThat(stats.cancelled()).isFalse();
+        assertThat(stats.tokens()).isGreaterThan(0);
+    }
+
+    @Test
+    void rejectsWhenActiveGenerationLimitIsReached() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BotEngine blockingEngine = (prompt, sink) -> {
+            sink.emit("wait");
+            release.await();
+        };
+        callBotService = new CallBotService(blockingEngine, new SimpleMeterRegistry(), 1, 8, 4);
+
+        ReplyStream first = callBotService.reply(new BotPrompt("c-1", "a"), new CollectingListener());
+
+        assertThatThrownBy(() -> callBotService.reply(new BotPrompt("c-2", "b"), new CollectingListener()))
+                .isInstanceOf(GenerationRejectedException.class);
+
+        first.cancel();
+        release.countDown();
+    }
+
+    private static final class CollectingListener implements ReplyListener {
+
+        private final StringBuffer text = new StringBuffer();
+        private final CompletableFuture<GenerationStats> completed = new CompletableFuture<>();
+
+        @Override
+        public void onChunk(String chunk) {
+            text.append(chunk);
+        }
+
+        @Override
+        public void onComplete(GenerationStats stats) {
+            completed.complete(stats);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            completed.completeExceptionally(error);
+        }
+    }
+}
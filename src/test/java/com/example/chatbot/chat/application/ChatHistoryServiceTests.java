@@ -0,0 +1,55 @@
+package com.example.chatbot.chat.application;
+
+import com.example.chatbot.chat.infrastructure.persistence.jpa.ChatMessageJpaRepository;
+import com.example.chatbot.chat.infrastructure.persistence.jpa.entity.ChatMessageJpaEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatHistoryServiceTests {
+
+    private final RoomShards roomShards = mock(RoomShards.class);
+    private final ChatMessageJpaRepository repository = mock(ChatMessageJpaRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ChatHistoryService service =
+            new ChatHistoryService(roomShards, repository, new SimpleMeterRegistry(), transactionManager);
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void databaseFallbackRunsInReadOnlyTransaction() throws Exception {
+        // 링 버퍼가 답하지 못하는 경우 (재접속이 몰릴 때의 DB 보충)
+        doReturn(CompletableFuture.completedFuture(null)).when(roomShards).submit(anyLong(), any());
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(repository.findByRoomIdAndSeqGreaterThanOrderBySeqAsc(1L, 5L, Limit.of(10)))
+                .thenReturn(List.of(ChatMessageJpaEntity.from(new ChatMessage(1L, 6L, "a@example.com", "hi", Instant.now()))));
+
+        List<ChatMessage> messages = service.since(1L, 5L, 10).get(5, TimeUnit.SECONDS);
+
+        assertThat(messages).extracting(ChatMessage::seq).containsExactly(6L);
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+    }
+}
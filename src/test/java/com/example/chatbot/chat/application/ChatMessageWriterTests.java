@@ -0,0 +1,117 @@
+package com.example.chatbot.chat.application;
+
+import com.example.chatbot.chat.infrastructure.persistence.jpa.ChatMessageJpaRepository;
+import com.example.chatbot.chat.infrastructure.persistence.jpa.entity.ChatMessageJpaEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatMessageWriterTests {
+
+    private final ChatMessageJpaRepository repository = mock(ChatMessageJpaRepository.class);
+    private ChatMessageWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) {
+            writer.destroy();
+        }
+    }
+
+    @Test
+    void rejectsBeforeSequencingWhenFull() {
+        writer = writer(1);
+
+        assertThat(writer.tryReserve()).isTrue();
+        assertThat(writer.tryReserve()).isFalse();
+    }
+
+    @Test
+    void retriesTransientFailuresWithoutDroppingTheBatch() throws Exception {
+        when(repository.saveAll(anyList()))
+                .thenThrow(new TransientDataAccessResourceException("connection reset"))
+                .thenThrow(new TransientDataAccessResourceException("connection reset"))
+                .thenReturn(List.of());
+        writer = writer(10);
+        Results results = new Results(2);
+
+        enqueue(1, results);
+        enqueue(2, results);
+
+        results.await();
+        assertThat(results.saved).containsExactly(1L, 2L);
+        assertThat(results.dropped).isEmpty();
+        verify(repository, atLeast(3)).saveAll(anyList());
+        // 저장이 끝나면 예약한 자리도 돌려받는다
+        assertThat(writer.tryReserve()).isTrue();
+    }
+
+    @Test
+    void constraintViolationFallsBackToPerRowSaves() throws Exception {
+        when(repository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(repository.save(argThat((ChatMessageJpaEntity entity) -> entity != null && entity.toMessage().seq() == 2)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        writer = writer(10);
+        Results results = new Results(3);
+
+        for (long seq = 1; seq <= 3; seq++) {
+            enqueue(seq, results);
+        }
+
+        results.await();
+        assertThat(results.saved).containsExactly(1L, 3L);
+        assertThat(results.dropped).containsExactly(2L);
+    }
+
+    private void enqueue(long seq, ChatMessageWriter.WriteCallback callback) {
+        assertThat(writer.tryReserve()).isTrue();
+        writer.enqueue(message(seq), callback);
+    }
+
+    private ChatMessageWriter writer(int capacity) {
+        return new ChatMessageWriter(repository, new SimpleMeterRegistry(), capacity, 500,
+                Duration.ofMillis(5), Duration.ofMillis(20), Duration.ofSeconds(1));
+    }
+
+    private static ChatMessage message(long seq) {
+        return new ChatMessage(1, seq, "sender", "m" + seq, Instant.now());
+    }
+
+    private static final class Results implements ChatMessageWriter.WriteCallback {
+
+        private final List<Long> saved = new CopyOnWriteArrayList<>();
+        private final List<Long> dropped = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done;
+
+        private Results(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void completed(ChatMessage message, boolean ok) {
+            (ok ? saved : dropped).add(message.seq());
+            done.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+}
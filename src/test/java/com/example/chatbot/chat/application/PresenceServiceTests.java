@@ -0,0 +1,278 @@
+package com.example.chatbot.chat.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PresenceServiceTests {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final CapturingRelay relay = new CapturingRelay();
+    private PresenceService presenceService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<PresenceRelay> relayProvider = mock(ObjectProvider.class);
+        when(relayProvider.getIfAvailable(any())).thenReturn(relay);
+        // tick은 테스트에서 직접 호출하므로 백그라운드 주기는 충분히 길게 둔다
+        presenceService = new PresenceService(messagingTemplate, relayProvider, new SimpleMeterRegistry(),
+                "node-a", Duration.ofHours(1), Duration.ofSeconds(60), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        presenceService.destroy();
+    }
+
+    @Test
+    void coalescesChangesWithinATickIntoOneDeltaPerRoom() {
+        presenceService.update("s1", "alice", 1, PresenceStatus.ONLINE);
+        presenceService.update("s1", "alice", 1, PresenceStatus.AWAY);
+        presenceService.update("s2", "bob", 1, PresenceStatus.ONLINE);
+        presenceService.update("s3", "carol", 2, PresenceStatus.ONLINE);
+
+        presenceService.tick();
+
+        PresenceBatch batch = relay.lastBatch();
+        assertThat(batch.deltas()).hasSize(2);
+        PresenceDelta room1 = deltaFor(batch, 1);
+        assertThat(room1.version()).isEqualTo(1);
+        assertThat(room1.changes()).containsExactlyInAnyOrder(
+                new MemberPresence("alice", PresenceStatus.AWAY, false),
+                new MemberPresence("bob", PresenceStatus.ONLINE, false));
+        verify(messagingTemplate, times(1)).convertAndSend(eq(PresenceService.presenceTopic(1)), any(Object.class));
+        verify(messagingTemplate, times(1)).convertAndSend(eq(PresenceService.presenceTopic(2)), any(Object.class));
+
+        // 변경이 없으면 다음 tick에는 아무것도 발행하지 않는다
+        clearInvocations(messagingTemplate);
+        presenceService.tick();
+        assertThat(relay.lastBatch().isEmpty()).isTrue();
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+    }
+
+    @Test
+    void unchangedStatusProducesNoDelta() {
+        presenceService.update("s1", "alice", 1, PresenceStatus.ONLINE);
+        presenceService.tick();
+
+        presenceService.update("s1", "alice", 1, PresenceStatus.ONLINE);
+        presenceService.heartbeat("s1");
+        presenceService.tick();
+
+        assertThat(relay.lastBatch().deltas()).isEmpty();
+    }
+
+    @Test
+    void memberGoesOfflineOnlyWhenLastSessionLeaves() {
+        presenceService.update("s1", "alice", 1, PresenceStatus.ONLINE);
+        presenceService.update("s2", "alice", 1, PresenceStatus.ONLINE);
+        presenceService.tick();
+
+        presenceService.leave("s1", 1);
+        presenceService.tick();
+        assertThat(relay.lastBatch().deltas()).isEmpty();
+        assertThat(presenceService.snapshot(1).members()).extracting(MemberPresence::member).containsExactly("alice");
+
+        presenceService.disconnect("s2");
+        presenceService.tick();
+        PresenceDelta delta = deltaFor(relay.lastBatch(), 1);
+        assertThat(delta.version()).isEqualTo(2);
+        assertThat(delta.changes()).containsExactly(new MemberPresence("alice", PresenceStatus.OFFLINE, false));
+        assertThat(presenceService.snapshot(1).members()).isEmpty();
+    }
+
+    @Test
+    void publishesTypingListOncePerTick() {
+        presenceService.typing("s1", "alice", 1, true);
+        presenceService.typing("s2", "bob", 1, true);
+        presenceService.typing("s2", "bob", 1, false);
+
+        presenceService.tick();
+
+        verify(messagingTemplate, times(1)).convertAndSend(PresenceService.typingTopic(1),
+                new TypingState(1, List.of("alice")));
+        assertThat(relay.lastBatch().typing()).containsExactly(new TypingState(1, List.of("alice")));
+    }
+
+    @Test
+    void forwardsOtherNodesDeltasAndIgnoresItsOwn() {
+        PresenceDelta remote = new PresenceDelta(1, "node-b", 7,
+                List.of(new MemberPresence("dave", PresenceStatus.ONLINE, false)));
+        relay.deliver(new PresenceBatch("node-b", List.of(remote), List.of()));
+        relay.deliver(new PresenceBatch("node-a", List.of(remote), List.of()));
+
+        verify(messagingTemplate, times(1)).convertAndSend(PresenceService.presenceTopic(1), remote);
+    }
+
+    @Test
+    void mergesRemoteTypingIntoNextTick() {
+        relay.deliver(new PresenceBatch("node-b", List.of(), List.of(new TypingState(1, List.of("dave")))));
+        presenceService.typing("s1", "alice", 1, true);
+
+        presenceService.tick();
+
+        verify(messagingTemplate).convertAndSend(PresenceService.typingTopic(1),
+                new TypingState(1, List.of("alice", "dave")));
+        // 다른 노드로는 로컬 목록만 보낸다
+        assertThat(relay.lastBatch().typing()).containsExactly(new TypingState(1, List.of("alice")));
+    }
+
+    @Test
+    void memberStaysOnlineWhileConnectedOnAnotherNode() {
+        SharedPresence shared = new SharedPresence();
+        SimpMessagingTemplate clientsA = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate clientsB = mock(SimpMessagingTemplate.class);
+        PresenceService nodeA = node(clientsA, shared.relay("node-a"));
+        PresenceService nodeB = node(clientsB, shared.relay("node-b"));
+        try {
+            nodeA.update("s1", "alice", 1, PresenceStatus.ONLINE);
+            nodeA.tick();
+            nodeB.update("s2", "alice", 1, PresenceStatus.AWAY);
+            nodeB.tick();
+            clearInvocations(clientsA, clientsB);
+
+            // A에서 나가도 B에 남아 있으므로 양쪽 클라이언트 모두 AWAY를 받는다
+            nodeA.leave("s1", 1);
+            nodeA.tick();
+            PresenceDelta leftA = new PresenceDelta(1, "node-a", 2,
+                    List.of(new MemberPresence("alice", PresenceStatus.AWAY, false)));
+            verify(clientsA).convertAndSend(PresenceService.presenceTopic(1), leftA);
+            verify(clientsB).convertAndSend(PresenceService.presenceTopic(1), leftA);
+            assertThat(nodeA.snapshot(1).members())
+                    .containsExactly(new MemberPresence("alice", PresenceStatus.AWAY, false));
+
+            // 마지막 노드에서도 나가면 OFFLINE
+            nodeB.disconnect("s2");
+            nodeB.tick();
+            PresenceDelta leftB = new PresenceDelta(1, "node-b", 2,
+                    List.of(new MemberPresence("alice", PresenceStatus.OFFLINE, false)));
+            verify(clientsA).convertAndSend(PresenceService.presenceTopic(1), leftB);
+            verify(clientsB).convertAndSend(PresenceService.presenceTopic(1), leftB);
+        } finally {
+            nodeA.destroy();
+            nodeB.destroy();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PresenceService node(SimpMessagingTemplate clients, PresenceRelay relay) {
+        ObjectProvider<PresenceRelay> relayProvider = mock(ObjectProvider.class);
+        when(relayProvider.getIfAvailable(any())).thenReturn(relay);
+        return new PresenceService(clients, relayProvider, new SimpleMeterRegistry(),
+                ((SharedPresence.NodeRelay) relay).nodeId, Duration.ofHours(1), Duration.ofSeconds(60), Duration.ofSeconds(5));
+    }
+
+    private static PresenceDelta deltaFor(PresenceBatch batch, long roomId) {
+        return batch.deltas().stream().filter(delta -> delta.roomId() == roomId).findFirst().orElseThrow();
+    }
+
+    /**
+     * RedisPresenceRelay와 같은 순서로 동작하는 인메모리 중계 - 노드별 상태를 먼저 쓰고 다른 노드에 전달한다
+     */
+    private static final class SharedPresence {
+
+        // roomId -> nodeId -> member -> status
+        private final Map<Long, Map<String, Map<String, PresenceStatus>>> rooms = new HashMap<>();
+        private final List<NodeRelay> nodes = new ArrayList<>();
+
+        NodeRelay relay(String nodeId) {
+            NodeRelay relay = new NodeRelay(nodeId);
+            nodes.add(relay);
+            return relay;
+        }
+
+        private final class NodeRelay implements PresenceRelay {
+
+            private final String nodeId;
+            private final List<Consumer<PresenceBatch>> listeners = new ArrayList<>();
+
+            private NodeRelay(String nodeId) {
+                this.nodeId = nodeId;
+            }
+
+            @Override
+            public void publish(PresenceBatch batch) {
+                for (PresenceDelta delta : batch.deltas()) {
+                    Map<String, PresenceStatus> state = rooms.computeIfAbsent(delta.roomId(), id -> new HashMap<>())
+                            .computeIfAbsent(nodeId, id -> new HashMap<>());
+                    for (MemberPresence change : delta.changes()) {
+                        if (change.status() == PresenceStatus.OFFLINE) {
+                            state.remove(change.member());
+                        } else {
+                            state.put(change.member(), change.status());
+                        }
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    nodes.forEach(node -> node.listeners.forEach(listener -> listener.accept(batch)));
+                }
+            }
+
+            @Override
+            public void listen(Consumer<PresenceBatch> listener) {
+                listeners.add(listener);
+            }
+
+            @Override
+            public List<MemberPresence> remoteMembers(String localNodeId, long roomId) {
+                List<MemberPresence> members = new ArrayList<>();
+                rooms.getOrDefault(roomId, Map.of()).forEach((node, state) -> {
+                    if (!node.equals(localNodeId)) {
+                        state.forEach((member, status) -> members.add(new MemberPresence(member, status, false)));
+                    }
+                });
+                return members;
+            }
+        }
+    }
+
+    private static final class CapturingRelay implements PresenceRelay {
+
+        private final List<PresenceBatch> published = new ArrayList<>();
+        private final List<Consumer<PresenceBatch>> listeners = new ArrayList<>();
+
+        @Override
+        public void publish(PresenceBatch batch) {
+            published.add(batch);
+        }
+
+        @Override
+        public void listen(Consumer<PresenceBatch> listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public List<MemberPresence> remoteMembers(String localNodeId, long roomId) {
+            return List.of();
+        }
+
+        PresenceBatch lastBatch() {
+            return published.get(published.size() - 1);
+        }
+
+        void deliver(PresenceBatch batch) {
+            listeners.forEach(listener -> listener.accept(batch));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.chatbot.chat.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentMessageBufferTests {
+
+    @Test
+    void keepsOnlyLatestMessagesInOrder() {
+        RecentMessageBuffer buffer = filled(4, 10);
+
+        assertThat(buffer.size()).isEqualTo(4);
+        assertThat(buffer.oldestSeq()).isEqualTo(7);
+        assertThat(buffer.last(2)).extracting(ChatMessage::seq).containsExactly(9L, 10L);
+        assertThat(buffer.last(100)).extracting(ChatMessage::seq).containsExactly(7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    void answersSinceWhenRangeIsCovered() {
+        RecentMessageBuffer buffer = filled(4, 10);
+
+        assertThat(buffer.since(6, 10)).extracting(ChatMessage::seq).containsExactly(7L, 8L, 9L, 10L);
+        assertThat(buffer.since(8, 1)).extracting(ChatMessage::seq).containsExactly(9L);
+        assertThat(buffer.since(10, 10)).isEmpty();
+    }
+
+    @Test
+    void returnsNullWhenOlderMessagesWereEvicted() {
+        RecentMessageBuffer buffer = filled(4, 10);
+
+        List<ChatMessage> result = buffer.since(5, 10);
+
+        assertThat(result).isNull();
+    }
+
+    private static RecentMessageBuffer filled(int capacity, int count) {
+        RecentMessageBuffer buffer = new RecentMessageBuffer(capacity);
+        for (long seq = 1; seq <= count; seq++) {
+            buffer.append(new ChatMessage(1L, seq, "tester", "m" + seq, Instant.EPOCH));
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.chatbot.chat.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomShardsTests {
+
+    private RoomShards roomShards;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (roomShards != null) {
+            roomShards.destroy();
+        }
+    }
+
+    @Test
+    void processesEachRoomInSubmissionOrder() throws Exception {
+        roomShards = shards(4, 100_000);
+        int rooms = 32;
+        int perRoom = 500;
+
+        List<CompletableFuture<ChatMessage>> futures = new ArrayList<>();
+        for (int i = 0; i < perRoom; i++) {
+            for (long roomId = 1; roomId <= rooms; roomId++) {
+                String content = Integer.toString(i);
+                futures.add(roomShards.submit(roomId, room -> room.append("sender", content, Instant.now())));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // 한 방 안에서는 제출 순서대로 seq가 1부터 빈틈없이 붙는다
+        for (CompletableFuture<ChatMessage> future : futures) {
+            ChatMessage message = future.get();
+            assertThat(message.seq()).isEqualTo(Long.parseLong(message.content()) + 1);
+        }
+    }
+
+    @Test
+    void concurrentSendersGetUniqueGaplessSequencesPerRoom() throws Exception {
+        roomShards = shards(4, 100_000);
+        int senders = 8;
+        int perSender = 1_000;
+        long roomId = 42;
+        Map<String, List<Long>> seqsBySender = new ConcurrentHashMap<>();
+        List<Long> publishOrder = new CopyOnWriteArrayList<>();
+
+        ExecutorService pool = Executors.newFixedThreadPool(senders);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<?>> futures = new CopyOnWriteArrayList<>();
+        for (int s = 0; s < senders; s++) {
+            String sender = "sender-" + s;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    return;
+                }
+                for (int i = 0; i < perSender; i++) {
+                    futures.add(roomShards.submit(roomId, room -> {
+                        ChatMessage message = room.append(sender, "m", Instant.now());
+                        // 샤드 스레드에서 기록하므로 발행 순서와 같다
+                        publishOrder.add(message.seq());
+                        seqsBySender.computeIfAbsent(sender, key -> new ArrayList<>()).add(message.seq());
+                        return message;
+                    }));
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertThat(publishOrder).hasSize(senders * perSender);
+        for (int i = 0; i < publishOrder.size(); i++) {
+            assertThat(publishOrder.get(i)).isEqualTo(i + 1L);
+        }
+        // 보낸 사람별로도 보낸 순서가 유지된다
+        seqsBySender.values().forEach(seqs -> assertThat(seqs).isSorted());
+    }
+
+    @Test
+    void completesExceptionallyWhenShardQueueIsFull() throws Exception {
+        roomShards = shards(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocking = roomShards.submit(1, room -> {
+            running.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                return false;
+            }
+        });
+        running.await();
+        CompletableFuture<Boolean> queued = roomShards.submit(1, room -> room.join("a"));
+        CompletableFuture<Boolean> rejected = roomShards.submit(1, room -> room.join("b"));
+
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        release.countDown();
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void taskFailureCompletesFutureExceptionally() {
+        roomShards = shards(1, 16);
+
+        CompletableFuture<Object> failed = roomShards.submit(1, room -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void slowRoomLoadDoesNotBlockOtherRoomsOnTheSameShard() throws Exception {
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        roomShards = new RoomShards(1, 16, Duration.ofMinutes(10), roomId -> {
+            if (roomId == 1) {
+                try {
+                    releaseLoad.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new RoomState(roomId, 10, new RecentMessageBuffer(16));
+        });
+
+        CompletableFuture<ChatMessage> first = roomShards.submit(1, room -> room.append("a", "0", Instant.now()));
+        CompletableFuture<ChatMessage> second = roomShards.submit(1, room -> room.append("a", "1", Instant.now()));
+        // 방 1이 로딩 중이어도 같은 샤드의 방 2는 바로 처리된다
+        assertThat(roomShards.submit(2, room -> room.append("b", "x", Instant.now()))
+                .get(1, TimeUnit.SECONDS).seq()).isEqualTo(11L);
+        assertThat(first).isNotDone();
+
+        releaseLoad.countDown();
+        // 로딩을 기다리던 작업은 도착 순서대로 실행된다
+        assertThat(first.get(5, TimeUnit.SECONDS).seq()).isEqualTo(11L);
+        assertThat(second.get(5, TimeUnit.SECONDS).seq()).isEqualTo(12L);
+    }
+
+    @Test
+    void failedRoomLoadFailsWaitingTasksAndIsRetried() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        roomShards = new RoomShards(1, 16, Duration.ofMinutes(10), roomId -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("db down");
+            }
+            return new RoomState(roomId, 0, new RecentMessageBuffer(16));
+        });
+
+        assertThatThrownBy(() -> roomShards.submit(1, RoomState::lastSeq).get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(roomShards.submit(1, RoomState::lastSeq).get(5, TimeUnit.SECONDS)).isZero();
+        assertThat(attempts).hasValue(2);
+    }
+
+    private static RoomShards shards(int count, int queueCapacity) {
+        return new RoomShards(count, queueCapacity, Duration.ofMinutes(10),
+                roomId -> new RoomState(roomId, 0, new RecentMessageBuffer(16)));
+    }
+}
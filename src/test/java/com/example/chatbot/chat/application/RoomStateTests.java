@@ -0,0 +1,42 @@
+package com.example.chatbot.chat.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomStateTests {
+
+    @Test
+    void hidesMessagesUntilTheyArePersisted() {
+        RoomState room = new RoomState(1, 0, new RecentMessageBuffer(16));
+        room.append("a", "1", Instant.now());
+        room.append("a", "2", Instant.now());
+
+        assertThat(room.recentLast(10)).isEmpty();
+        assertThat(room.recentSince(0, 10)).isEmpty();
+        assertThat(room.isIdle()).isFalse();
+
+        room.markPersisted(1);
+        assertThat(room.recentLast(10)).extracting(ChatMessage::seq).containsExactly(1L);
+        assertThat(room.recentSince(0, 10)).extracting(ChatMessage::seq).containsExactly(1L);
+
+        room.markPersisted(2);
+        assertThat(room.recentLast(10)).extracting(ChatMessage::seq).containsExactly(1L, 2L);
+        assertThat(room.isIdle()).isTrue();
+    }
+
+    @Test
+    void memberLeavesWhenLastSessionLeaves() {
+        RoomState room = new RoomState(1, 0, new RecentMessageBuffer(16));
+
+        assertThat(room.join("alice")).isTrue();
+        assertThat(room.join("alice")).isFalse();
+        assertThat(room.leave("alice")).isFalse();
+        assertThat(room.members()).containsExactly("alice");
+        assertThat(room.leave("alice")).isTrue();
+        assertThat(room.leave("alice")).isFalse();
+        assertThat(room.isIdle()).isTrue();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.chatbot.chat.infrastructure.redis;
+
+import com.example.chatbot.chat.application.MemberPresence;
+import com.example.chatbot.chat.application.PresenceBatch;
+import com.example.chatbot.chat.application.PresenceDelta;
+import com.example.chatbot.chat.application.PresenceStatus;
+import com.example.chatbot.chat.application.TypingState;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisPresenceRelayTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final StringRedisConnection connection = mock(StringRedisConnection.class);
+    private RedisPresenceRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // 파이프라인 콜백을 목 커넥션에 바로 실행한다
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+        relay = new RedisPresenceRelay(redisTemplate, objectMapper, mock(RedisMessageListenerContainer.class));
+    }
+
+    @Test
+    void publishesOneBatchPerTickAndMirrorsSnapshotState() throws Exception {
+        PresenceBatch batch = new PresenceBatch("node-a", List.of(new PresenceDelta(1, "node-a", 3, List.of(
+                new MemberPresence("alice", PresenceStatus.AWAY, false),
+                new MemberPresence("bob", PresenceStatus.OFFLINE, false)))), List.of());
+
+        relay.publish(batch);
+
+        verify(connection).hSet("chat:presence:1:node-a", "alice", "AWAY");
+        verify(connection).hDel("chat:presence:1:node-a", "bob");
+        verify(connection).expire("chat:presence:1:node-a", 90L);
+        verify(connection, times(1)).publish(RedisPresenceRelay.CHANNEL, objectMapper.writeValueAsString(batch));
+    }
+
+    @Test
+    void emptyBatchSkipsRedisUntilRefreshIsDue() {
+        // 첫 호출은 노드 등록을 위해 갱신한다
+        relay.publish(new PresenceBatch("node-a", List.of(), List.of()));
+        relay.publish(new PresenceBatch("node-a", List.of(), List.of()));
+
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(connection).zAdd(eq("chat:presence:nodes"), anyDouble(), eq("node-a"));
+        verify(connection, never()).publish(anyString(), anyString());
+    }
+
+    @Test
+    void deliversReceivedBatchesToListeners() throws Exception {
+        PresenceBatch batch = new PresenceBatch("node-b",
+                List.of(new PresenceDelta(2, "node-b", 1, List.of(new MemberPresence("dave", PresenceStatus.ONLINE, false)))),
+                List.of(new TypingState(2, List.of("dave"))));
+        List<PresenceBatch> received = new ArrayList<>();
+        relay.listen(received::add);
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn(objectMapper.writeValueAsString(batch).getBytes(StandardCharsets.UTF_8));
+
+        relay.onMessage(message, null);
+
+        assertThat(received).containsExactly(batch);
+    }
+
+    @Test
+    void malformedMessageIsIgnored() {
+        List<PresenceBatch> received = new ArrayList<>();
+        relay.listen(received::add);
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn("not json".getBytes(StandardCharsets.UTF_8));
+
+        relay.onMessage(message, null);
+
+        assertThat(received).isEmpty();
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoundedOutboundSessionTests {
+
+    private static final String TYPING = "/topic/room.1/typing";
+    private static final String MESSAGES = "/topic/room.1";
+    private static final String REPLIES = "/user/queue/callbot";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // flush 작업을 모아 두었다가 runAll()에서 실행 - 그 전까지는 모두 큐에 남는다
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final Executor manualExecutor = tasks::add;
+
+    @Test
+    void dropsOldestWhenQueueIsFull() throws Exception {
+        WebSocketSession delegate = openSession("s1");
+        BoundedOutboundSession session = session(delegate, settings(OutboundOverflowPolicy.DROP_OLDEST, 2, 1000, 10_000),
+                new OutboundQueueMetrics(registry, 10_000), manualExecutor);
+
+        session.sendMessage(frame(MESSAGES, "a", 60));
+        session.sendMessage(frame(MESSAGES, "b", 60));
+        session.sendMessage(frame(MESSAGES, "c", 60));
+        runAll();
+
+        assertThat(delivered(delegate)).containsExactly("b", "c");
+    }
+
+    @Test
+    void coalescesEphemeralFramesPerDestination() throws Exception {
+        WebSocketSession delegate = openSession("s1");
+        BoundedOutboundSession session = session(delegate, settings(OutboundOverflowPolicy.COALESCE, 16, 1000, 10_000),
+                new OutboundQueueMetrics(registry, 10_000), manualExecutor);
+
+        session.sendMessage(frame(TYPING, "t1", 60));
+        session.sendMessage(frame(MESSAGES, "m1", 60));
+        session.sendMessage(frame(TYPING, "t2", 70));
+        session.sendMessage(frame(TYPING, "t3", 60));
+        runAll();
+
+        // 병합된 프레임은 처음 자리를 유지하고 내용만 최신으로 바뀐다
+        assertThat(delivered(delegate)).containsExactly("t3", "m1");
+        assertThat(queuedBytes()).isZero();
+    }
+
+    @Test
+    void growingCoalescedFrameRespectsSessionByteLimit() throws Exception {
+        WebSocketSession delegate = openSession("s1");
+        BoundedOutboundSession session = session(delegate, settings(OutboundOverflowPolicy.COALESCE, 16, 200, 10_000),
+                new OutboundQueueMetrics(registry, 10_000), manualExecutor);
+
+        session.sendMessage(frame(MESSAGES, "m1", 120));
+        session.sendMessage(frame(TYPING, "t1", 60));
+        // 60 → 100으로 바꾸면 220바이트가 되므로 병합하지 않고 일반 경로에서 가장 오래된 프레임을 버린다
+        session.sendMessage(frame(TYPING, "t2", 100));
+
+        assertThat(queuedBytes()).isEqualTo(100);
+        runAll();
+        assertThat(delivered(delegate)).containsExactly("t2");
+        assertThat(queuedBytes()).isZero();
+    }
+
+    @Test
+    void growingCoalescedFrameRespectsGlobalBudget() throws Exception {
+        OutboundQueueMetrics metrics = new OutboundQueueMetrics(registry, 200);
+        OutboundQueueSettings settings = settings(OutboundOverflowPolicy.COALESCE, 16, 1000, 200);
+        BoundedOutboundSession other = session(openSession("s1"), settings, metrics, manualExecutor);
+        WebSocketSession delegate = openSession("s2");
+        BoundedOutboundSession session = session(delegate, settings, metrics, manualExecutor);
+
+        other.sendMessage(frame(MESSAGES, "m1", 120));
+        session.sendMessage(frame(TYPING, "t1", 60));
+        session.sendMessage(frame(TYPING, "t2", 100));
+
+        // 전체 예산(200)을 넘지 않는다 - 새 프레임은 예산이 없어 버려진다
+        assertThat(queuedBytes()).isEqualTo(120);
+        assertThat(registry.get("chat.ws.outbound.dropped").tag("reason", "global_budget").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void reliableFramesAreNeverDropped() throws Exception {
+        WebSocketSession delegate = openSession("s1");
+        BoundedOutboundSession session = session(delegate, settings(OutboundOverflowPolicy.DROP_OLDEST, 2, 1000, 10_000),
+                new OutboundQueueMetrics(registry, 10_000), manualExecutor);
+
+        session.sendMessage(frame(REPLIES, "r1", 60));
+        session.sendMessage(frame(MESSAGES, "m1", 60));
+        // 가득 차면 응답 프레임 대신 일반 프레임을 버린다
+        session.sendMessage(frame(REPLIES, "r2", 60));
+        // 응답 프레임만 남았으면 새 일반 프레임을 버린다
+        session.sendMessage(frame(MESSAGES, "m2", 60));
+        runAll();
+
+        assertThat(delivered(delegate)).containsExactly("r1", "r2");
+        verify(delegate, never()).close(any());
+    }
+
+    @Test
+    void disconnectsInsteadOfDroppingAReliableFrame() throws Exception {
+        WebSocketSession delegate = openSession("s1");
+        BoundedOutboundSession session = session(delegate, settings(OutboundOverflowPolicy.DROP_OLDEST, 2, 1000, 10_000),
+                new OutboundQueueMetrics(registry, 10_000), manualExecutor);
+
+        session.sendMessage(frame(REPLIES, "r1", 60));
+        session.sendMessage(frame(REPLIES, "r2", 60));
+        session.sendMessage(frame(REPLIES, "r3", 60));
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(registry.get("chat.ws.outbound.disconnects").tag("reason", "queue_overflow").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void slowSessionHoldsBackTheReplyProducer() throws Exception {
+        ExecutorService flushExecutor = Executors.newCachedThreadPool();
+        ExecutorService producer = Executors.newSingleThreadExecutor();
+        Semaphore socket = new Semaphore(0);
+        WebSocketSession delegate = openSession("s1");
+        doAnswer(invocation -> {
+            socket.acquire();
+            return null;
+        }).when(delegate).sendMessage(any());
+        BoundedOutboundSession session = session(delegate, settings(OutboundOverflowPolicy.DROP_OLDEST, 256, 100_000, 100_000),
+                new OutboundQueueMetrics(registry, 100_000), flushExecutor);
+        OutboundFlowControl flowControl = new OutboundFlowControl(2, Duration.ofSeconds(5));
+        flowControl.register(session);
+        AtomicInteger sent = new AtomicInteger();
+        try {
+            Future<?> replies = producer.submit(() -> {
+                for (int i = 0; i < 6; i++) {
+                    assertThat(flowControl.awaitCapacity("s1")).isTrue();
+                    session.sendMessage(frame(REPLIES, "r" + i, 60));
+                    sent.incrementAndGet();
+                }
+                return null;
+            });
+
+            // 소켓이 한 프레임도 내보내지 못하는 동안 생산자는 window(2)에서 멈춘다
+            Thread.sleep(200);
+            assertThat(sent.get()).isEqualTo(2);
+
+            socket.release(6);
+            replies.get(5, TimeUnit.SECONDS);
+            verify(delegate, timeout(1000).times(6)).sendMessage(any());
+            assertThat(delivered(delegate)).containsExactly("r0", "r1", "r2", "r3", "r4", "r5");
+            assertThat(registry.get("chat.ws.outbound.dropped").tag("reason", "drop_oldest").counter().count())
+                    .isZero();
+        } finally {
+            socket.release(100);
+            producer.shutdownNow();
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void flowControlGivesUpWhenTheSessionNeverDrains() throws Exception {
+        WebSocketSession delegate = openSession("s1");
+        BoundedOutboundSession session = session(delegate, settings(OutboundOverflowPolicy.DROP_OLDEST, 16, 1000, 10_000),
+                new OutboundQueueMetrics(registry, 10_000), manualExecutor);
+        OutboundFlowControl flowControl = new OutboundFlowControl(1, Duration.ofMillis(50));
+        flowControl.register(session);
+
+        session.sendMessage(frame(REPLIES, "r1", 60));
+
+        assertThat(flowControl.awaitCapacity("s1")).isFalse();
+        assertThat(flowControl.awaitCapacity("unknown")).isFalse();
+        runAll();
+        assertThat(flowControl.awaitCapacity("s1")).isTrue();
+        session.release();
+        assertThat(flowControl.awaitCapacity("s1")).isFalse();
+    }
+
+    @Test
+    void watchdogClosesSessionStuckInSend() throws Exception {
+        ExecutorService flushExecutor = Executors.newCachedThreadPool();
+        CountDownLatch unblock = new CountDownLatch(1);
+        CountDownLatch sending = new CountDownLatch(1);
+        WebSocketSession delegate = openSession("s1");
+        doAnswer(invocation -> {
+            sending.countDown();
+            unblock.await();
+            return null;
+        }).when(delegate).sendMessage(any());
+        OutboundQueueSettings settings = new OutboundQueueSettings(OutboundOverflowPolicy.COALESCE, 16, 1000, 10_000,
+                0, Duration.ofMillis(200), List.of("/typing"), List.of(REPLIES));
+        BoundedOutboundSession session = session(delegate, settings, new OutboundQueueMetrics(registry, 10_000),
+                flushExecutor);
+        OutboundSendWatchdog watchdog = new OutboundSendWatchdog(Duration.ofSeconds(1));
+        watchdog.register(session);
+        try {
+            session.sendMessage(frame(MESSAGES, "m1", 60));
+            sending.await();
+            assertThat(watchdog.sweep()).isZero();
+
+            Thread.sleep(300);
+            // 다음 프레임이 오지 않아도 watchdog이 닫는다
+            assertThat(watchdog.sweep()).isEqualTo(1);
+            verify(delegate, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+            assertThat(registry.get("chat.ws.outbound.disconnects").tag("reason", "send_time_limit").counter().count())
+                    .isEqualTo(1);
+        } finally {
+            unblock.countDown();
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void watchdogIgnoresIdleSessions() throws Exception {
+        WebSocketSession delegate = openSession("s1");
+        BoundedOutboundSession session = session(delegate, settings(OutboundOverflowPolicy.COALESCE, 16, 1000, 10_000),
+                new OutboundQueueMetrics(registry, 10_000), manualExecutor);
+        OutboundSendWatchdog watchdog = new OutboundSendWatchdog(Duration.ofSeconds(1));
+        watchdog.register(session);
+
+        assertThat(watchdog.sweep()).isZero();
+        verify(delegate, never()).close(any());
+    }
+
+    @Test
+    void readsDestinationHeaderOnly() {
+        assertThat(BoundedOutboundSession.destinationOf("MESSAGE\r\ndestination:/topic/a\r\n\r\nbody"))
+                .isEqualTo("/topic/a");
+        assertThat(BoundedOutboundSession.destinationOf("MESSAGE\nsubscription:1\n\ndestination:/topic/b"))
+                .isNull();
+        assertThat(BoundedOutboundSession.destinationOf("RECEIPT\nreceipt-id:1\n\n")).isNull();
+    }
+
+    private static OutboundQueueSettings settings(OutboundOverflowPolicy policy, int maxMessages, int maxBytes,
+                                                  long globalMaxBytes) {
+        return new OutboundQueueSettings(policy, maxMessages, maxBytes, globalMaxBytes, 0, Duration.ofSeconds(10),
+                List.of("/typing"), List.of(REPLIES));
+    }
+
+    private static BoundedOutboundSession session(WebSocketSession delegate, OutboundQueueSettings settings,
+                                                  OutboundQueueMetrics metrics, Executor executor) {
+        return new BoundedOutboundSession(delegate, settings, metrics, executor);
+    }
+
+    private static WebSocketSession openSession(String id) {
+        WebSocketSession delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn(id);
+        when(delegate.isOpen()).thenReturn(true);
+        return delegate;
+    }
+
+    /**
+     * body가 marker로 시작하고 전체 길이가 length인 STOMP MESSAGE 프레임
+     */
+    private static TextMessage frame(String destination, String marker, int length) {
+        String headers = "MESSAGE\ndestination:" + destination + "\n\n";
+        String body = marker + "|";
+        String padding = "x".repeat(Math.max(0, length - headers.length() - body.length()));
+        return new TextMessage(headers + body + padding);
+    }
+
+    private void runAll() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private double queuedBytes() {
+        return registry.get("chat.ws.outbound.queue.bytes").gauge().value();
+    }
+
+    private static List<String> delivered(WebSocketSession delegate) throws Exception {
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(delegate, atLeast(0)).sendMessage(captor.capture());
+        return captor.getAllValues().stream()
+                .map(TextMessage::getPayload)
+                .map(payload -> payload.substring(payload.indexOf("\n\n") + 2, payload.indexOf('|')))
+                .toList();
+    }
+}
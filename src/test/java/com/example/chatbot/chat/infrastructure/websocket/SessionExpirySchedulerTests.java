@@ -0,0 +1,76 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionExpirySchedulerTests {
+
+    private final SessionExpiryScheduler scheduler =
+            new SessionExpiryScheduler(Duration.ofMillis(10), 64, Runnable::run, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void closesSessionWhenTokenExpires() throws Exception {
+        scheduler.start();
+        WebSocketSession session = session("s1");
+        scheduler.register(session);
+
+        assertThat(scheduler.expireAt("s1", Instant.now().plusMillis(50))).isTrue();
+
+        verify(session, timeout(2_000)).close(SessionExpiryScheduler.TOKEN_EXPIRED);
+    }
+
+    @Test
+    void rescheduleReplacesEarlierDeadline() throws Exception {
+        scheduler.start();
+        WebSocketSession session = session("s1");
+        scheduler.register(session);
+
+        scheduler.expireAt("s1", Instant.now().plusMillis(50));
+        scheduler.expireAt("s1", Instant.now().plusSeconds(60));
+
+        verify(session, after(300).never()).close(any());
+    }
+
+    @Test
+    void unregisteredSessionIsNotClosed() throws Exception {
+        scheduler.start();
+        WebSocketSession session = session("s1");
+        scheduler.register(session);
+        scheduler.expireAt("s1", Instant.now().plusMillis(50));
+
+        scheduler.unregister("s1");
+
+        verify(session, after(300).never()).close(any());
+        assertThat(scheduler.expireAt("s1", Instant.now().plusMillis(50))).isFalse();
+    }
+
+    @Test
+    void unknownSessionIsIgnored() {
+        assertThat(scheduler.expireAt("missing", Instant.now().plusSeconds(1))).isFalse();
+    }
+
+    private static WebSocketSession session(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+}
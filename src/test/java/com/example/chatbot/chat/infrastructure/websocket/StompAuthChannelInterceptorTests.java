@@ -0,0 +1,135 @@
+package com.example.chatbot.chat.infrastructure.websocket;
+
+import com.example.chatbot.auth.application.MemberPrincipal;
+import com.example.chatbot.auth.infrastructure.CustomUserDetailsService;
+import com.example.chatbot.auth.infrastructure.VerifiedToken;
+import com.example.chatbot.auth.infrastructure.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StompAuthChannelInterceptorTests {
+
+    private final VerifiedTokenCache verifiedTokenCache = mock(VerifiedTokenCache.class);
+    private final SessionExpiryScheduler sessionExpiryScheduler = mock(SessionExpiryScheduler.class);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final StompAuthChannelInterceptor interceptor =
+            new StompAuthChannelInterceptor(verifiedTokenCache, mock(CustomUserDetailsService.class),
+                    sessionExpiryScheduler, true);
+
+    @Test
+    void connectAuthenticatesWithMemberPrincipalAndSchedulesExpiry() {
+        Instant expiresAt = Instant.now().plusSeconds(900);
+        MemberPrincipal alice = principal(1L, "alice", expiresAt, "ROLE_USER");
+        givenToken("t1", alice);
+        Message<byte[]> connect = frame(StompCommand.CONNECT, null, "t1");
+
+        Message<?> result = interceptor.preSend(connect, channel);
+
+        assertThat(result).isSameAs(connect);
+        UsernamePasswordAuthenticationToken user = (UsernamePasswordAuthenticationToken) accessorOf(result).getUser();
+        assertThat(user.getName()).isEqualTo("alice");
+        assertThat(user.getPrincipal()).isSameAs(alice);
+        assertThat(AuthorityUtils.authorityListToSet(user.getAuthorities())).containsExactly("ROLE_USER");
+        verify(sessionExpiryScheduler).expireAt("s1", expiresAt);
+    }
+
+    @Test
+    void connectWithoutTokenIsRejectedByDefault() {
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.CONNECT, null, null), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+        verify(sessionExpiryScheduler, never()).expireAt(anyString(), any());
+    }
+
+    @Test
+    void connectWithInvalidTokenIsRejected() {
+        when(verifiedTokenCache.principal(eq("bad"), any())).thenThrow(new JwtException("bad"));
+
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.CONNECT, null, "bad"), channel))
+                .isInstanceOf(MessageDeliveryException.class);
+    }
+
+    @Test
+    void renewExtendsTheSessionWithoutReachingTheBroker() {
+        Instant renewed = Instant.now().plusSeconds(900);
+        givenToken("t1", principal(1L, "alice", Instant.now().plusSeconds(60)));
+        givenToken("t2", principal(1L, "alice", renewed));
+        Message<?> connected = interceptor.preSend(frame(StompCommand.CONNECT, null, "t1"), channel);
+
+        Message<byte[]> renew = frame(StompCommand.SEND, StompAuthChannelInterceptor.RENEW_DESTINATION, "t2");
+        accessorOf(renew).setUser(accessorOf(connected).getUser());
+
+        assertThat(interceptor.preSend(renew, channel)).isNull();
+        verify(sessionExpiryScheduler).expireAt("s1", renewed);
+    }
+
+    @Test
+    void renewWithAnotherMembersTokenIsRejected() {
+        givenToken("t1", principal(1L, "alice", Instant.now().plusSeconds(60)));
+        givenToken("mallory", principal(2L, "mallory", Instant.now().plusSeconds(900)));
+        Message<?> connected = interceptor.preSend(frame(StompCommand.CONNECT, null, "t1"), channel);
+
+        Message<byte[]> renew = frame(StompCommand.SEND, StompAuthChannelInterceptor.RENEW_DESTINATION, "mallory");
+        accessorOf(renew).setUser(accessorOf(connected).getUser());
+
+        assertThatThrownBy(() -> interceptor.preSend(renew, channel))
+                .isInstanceOf(MessageDeliveryException.class);
+        // CONNECT에서 예약한 만료만 남는다
+        verify(sessionExpiryScheduler, times(1)).expireAt(anyString(), any());
+    }
+
+    @Test
+    void otherFramesPassThrough() {
+        Message<byte[]> send = frame(StompCommand.SEND, "/app/rooms/1/messages", null);
+
+        assertThat(interceptor.preSend(send, channel)).isSameAs(send);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination, String token) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("s1");
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        if (token != null) {
+            accessor.setNativeHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static StompHeaderAccessor accessorOf(Message<?> message) {
+        return MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+    }
+
+    private void givenToken(String token, MemberPrincipal principal) {
+        when(verifiedTokenCache.principal(eq(token), any())).thenReturn(principal);
+    }
+
+    private static MemberPrincipal principal(long memberId, String email, Instant expiresAt, String... authorities) {
+        VerifiedToken token = new VerifiedToken(email, email + "-jti", Instant.now(), expiresAt);
+        return MemberPrincipal.fromToken(memberId, email, AuthorityUtils.createAuthorityList(authorities), 0, token);
+    }
+}
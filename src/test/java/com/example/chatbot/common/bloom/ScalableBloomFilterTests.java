@@ -0,0 +1,40 @@
+package com.example.chatbot.common.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScalableBloomFilterTests {
+
+    @Test
+    void growsPastInitialCapacityWithoutFalseNegatives() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("member-" + i + "@example.com");
+        }
+
+        assertThat(filter.sliceCount()).isGreaterThan(1);
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(filter.mightContain("member-" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    void keepsFalsePositiveRateBelowTwiceTheTarget() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("member-" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("stranger-" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+}
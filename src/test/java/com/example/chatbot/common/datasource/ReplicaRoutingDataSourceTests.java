@@ -0,0 +1,117 @@
+package com.example.chatbot.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * primary 1개와 복제본 2개를 mock DataSource로 대신해 라우팅 규칙을 확인한다.
+ */
+class ReplicaRoutingDataSourceTests {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection1 = mock(Connection.class);
+    private final Connection replicaConnection2 = mock(Connection.class);
+    private DataSource replicaDataSource1;
+    private Replica replica1;
+    private Replica replica2;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        replicaDataSource1 = mock(DataSource.class);
+        when(replicaDataSource1.getConnection()).thenReturn(replicaConnection1);
+        DataSource replicaDataSource2 = mock(DataSource.class);
+        when(replicaDataSource2.getConnection()).thenReturn(replicaConnection2);
+        replica1 = new Replica("replica-0", replicaDataSource1);
+        replica2 = new Replica("replica-1", replicaDataSource2);
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), new SimpleMeterRegistry());
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        endTransaction();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void routesReadOnlyTransactionsAcrossReplicas() throws SQLException {
+        beginTransaction(true);
+
+        assertThat(List.of(routing.getConnection(), routing.getConnection()))
+                .containsExactlyInAnyOrder(replicaConnection1, replicaConnection2);
+    }
+
+    @Test
+    void routesReadWriteTransactionsToPrimary() throws SQLException {
+        beginTransaction(false);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void keepsReadsOnPrimaryAfterWriteInSameRequest() throws SQLException {
+        beginTransaction(false);
+        routing.getConnection();
+        endTransaction();
+
+        beginTransaction(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void skipsUnavailableReplica() throws SQLException {
+        replica2.update(false, 60_000);
+        beginTransaction(true);
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection1);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection1);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicasFail() throws SQLException {
+        when(replicaDataSource1.getConnection()).thenThrow(new SQLException("connection refused"));
+        replica2.update(false, -1);
+        beginTransaction(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(replica1.isAvailable()).isFalse();
+    }
+
+    @Test
+    void explicitCredentialsAreReportedAsUnsupportedFeature() {
+        // 풀 자격 증명만 쓰므로 JDBC 규약 예외로 알리고, 호출자가 SQLException으로 처리할 수 있어야 한다
+        assertThatThrownBy(() -> routing.getConnection("user", "secret"))
+                .isInstanceOf(SQLFeatureNotSupportedException.class);
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private static void endTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+}
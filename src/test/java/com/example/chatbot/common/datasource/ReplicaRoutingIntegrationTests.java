@@ -0,0 +1,119 @@
+package com.example.chatbot.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 DB 두 개(primary와 같은 서버의 별도 데이터베이스를 복제본으로)로 JPA 트랜잭션 경로의 라우팅을 확인한다.
+ *
+ * mock DataSource로는 JpaTransactionManager가 커넥션을 잡는 시점이나 open-in-view처럼
+ * 커넥션을 요청 단위로 붙잡는 설정의 영향을 볼 수 없다. 두 DB는 current_database()로 구분한다.
+ */
+@SpringBootTest
+class ReplicaRoutingIntegrationTests {
+
+    // application.yml의 기본 접속 정보와 같다
+    private static final String PRIMARY_URL = "jdbc:postgresql://localhost:5432/chatdb";
+    private static final String USERNAME = "chatuser";
+    private static final String PASSWORD = "chatpass";
+    private static final String REPLICA_DATABASE = "chatdb_replica_test";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("datasource.replica.urls",
+                () -> PRIMARY_URL.substring(0, PRIMARY_URL.lastIndexOf('/') + 1) + REPLICA_DATABASE);
+    }
+
+    @BeforeAll
+    static void createReplicaDatabase() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(PRIMARY_URL, USERNAME, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT 1 FROM pg_database WHERE datname = '" + REPLICA_DATABASE + "'")) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+            statement.execute("CREATE DATABASE " + REPLICA_DATABASE);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransactionRunsOnReplica() {
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA_DATABASE);
+    }
+
+    @Test
+    void readWriteTransactionRunsOnPrimary() {
+        assertThat(currentDatabase(false)).isNotEqualTo(REPLICA_DATABASE);
+    }
+
+    @Test
+    void readAfterWriteInSameRequestStaysOnPrimary() {
+        String primary = currentDatabase(false);
+
+        assertThat(currentDatabase(true)).isEqualTo(primary);
+    }
+
+    @Test
+    void readsInDifferentRequestsAreNotPinnedByEarlierWrites() {
+        currentDatabase(false);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA_DATABASE);
+    }
+
+    @Test
+    void openInViewIsDisabled() {
+        // open-in-view는 요청 시작 시 EntityManager를 열어 첫 트랜잭션의 커넥션을 요청 끝까지 재사용하게 한다 -
+        // 읽기 트랜잭션이 먼저 오면 이후 쓰기까지 복제본 커넥션으로 간다
+        assertThat(applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+}
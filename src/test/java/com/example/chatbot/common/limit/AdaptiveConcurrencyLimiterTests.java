@@ -0,0 +1,140 @@
+package com.example.chatbot.common.limit;
+
+import com.example.chatbot.common.limit.AdaptiveConcurrencyLimiter.Permit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class AdaptiveConcurrencyLimiterTests {
+
+    private static final long FAST = 5_000_000;   // 5ms
+    private static final long SLOW = 50_000_000; // 50ms
+
+    @Test
+    void limitShrinksWhenLatencyRisesAndStaysWhenUnderused() {
+        GradientLimit busy = new GradientLimit(50, 10, 200, 1.5, 600);
+        for (int i = 0; i < 2000; i++) {
+            busy.onSample(FAST, busy.getLimit());
+        }
+        int steady = busy.getLimit();
+        for (int i = 0; i < 300; i++) {
+            busy.onSample(SLOW, busy.getLimit());
+        }
+        assertThat(busy.getLimit()).isLessThan(steady / 2);
+
+        GradientLimit idle = new GradientLimit(50, 10, 200, 1.5, 600);
+        for (int i = 0; i < 2000; i++) {
+            idle.onSample(FAST, 3);
+        }
+        assertThat(idle.getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    void shedsLowPriorityFirst() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                new GradientLimit(10, 10, 10, 1.5, 600), RequestPriority.NORMAL, registry);
+
+        List<Permit> held = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            held.add(limiter.tryAcquire(RequestPriority.LOW));
+        }
+        assertThat(held).doesNotContainNull();
+        assertThat(limiter.tryAcquire(RequestPriority.LOW)).isNull();
+
+        for (int i = 0; i < 3; i++) {
+            held.add(limiter.tryAcquire(RequestPriority.NORMAL));
+        }
+        assertThat(held).doesNotContainNull();
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isNull();
+
+        Permit critical = limiter.tryAcquire(RequestPriority.CRITICAL);
+        assertThat(critical).isNotNull();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isNull();
+
+        limiter.release(critical);
+        held.forEach(limiter::release);
+        assertThat(limiter.getInflight()).isZero();
+        assertThat(registry.get("http.server.concurrency.rejected").tag("priority", "low").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void unsampledReleaseDoesNotMoveTheLimit() {
+        GradientLimit limit = new GradientLimit(50, 10, 200, 1.5, 600);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                limit, RequestPriority.NORMAL, new SimpleMeterRegistry());
+        for (int i = 0; i < 2000; i++) {
+            limit.onSample(FAST, limit.getLimit());
+        }
+        int steady = limiter.getLimit();
+
+        // 오래 열려 있는 스트리밍 응답 - 자리는 반환하지만 긴 수명을 지연으로 보지 않는다
+        for (int i = 0; i < 300; i++) {
+            Permit stream = limiter.tryAcquire(RequestPriority.NORMAL);
+            limiter.release(new Permit(stream.priority(), stream.startNanos() - 60_000_000_000L, steady), false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(steady);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    void asyncResponsesAreReleasedWithoutSampling() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = spy(new AdaptiveConcurrencyLimiter(
+                new GradientLimit(50, 10, 200, 1.5, 600), RequestPriority.NORMAL, new SimpleMeterRegistry()));
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/chat/rooms/1/messages/recent");
+        request.setAsyncSupported(true);
+
+        // CompletableFuture 응답처럼 실제 처리가 끝날 때까지 자리를 잡고 있다
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        assertThat(limiter.getInflight()).isEqualTo(1);
+
+        request.getAsyncContext().complete();
+        verify(limiter).release(any(Permit.class), eq(false));
+        verify(limiter, never()).release(any(Permit.class));
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    void eventStreamsAreReleasedWhenTheHandlerReturns() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = spy(new AdaptiveConcurrencyLimiter(
+                new GradientLimit(50, 10, 200, 1.5, 600), RequestPriority.NORMAL, new SimpleMeterRegistry()));
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/callbot/conversations/1/replies");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.startAsync();
+            res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        });
+        // 스트림이 열려 있는 동안(최대 stream-timeout) 자리를 잡지 않는다
+        assertThat(limiter.getInflight()).isZero();
+        verify(limiter).release(any(Permit.class));
+
+        request.getAsyncContext().complete();
+        verify(limiter, never()).release(any(Permit.class), eq(false));
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    void classifiesEndpoints() {
+        assertThat(ConcurrencyLimitFilter.priorityOf("/actuator/health")).isEqualTo(RequestPriority.CRITICAL);
+        assertThat(ConcurrencyLimitFilter.priorityOf("/api/auth/login")).isEqualTo(RequestPriority.LOW);
+        assertThat(ConcurrencyLimitFilter.priorityOf("/api/auth/signup")).isEqualTo(RequestPriority.LOW);
+        assertThat(ConcurrencyLimitFilter.priorityOf("/api/auth/refresh")).isEqualTo(RequestPriority.NORMAL);
+        assertThat(ConcurrencyLimitFilter.priorityOf("/api/admin/system/status")).isEqualTo(RequestPriority.NORMAL);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.chatbot.common.openapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 빌드 시 OpenAPI 문서 생성기 - ./gradlew generateOpenApiDocs 에서만 실행된다 (일반 test에서는 제외).
+ * dev 프로필의 springdoc 런타임 생성 결과를 파일로 저장한다. springdoc은 요청 주소(MockMvc는 http://localhost)로
+ * servers를 채우므로, 배포된 어느 호스트에서든 같은 호스트를 가리키도록 상대 주소 "/"로 바꾼다.
+ */
+@Tag("openapi")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class OpenApiDocsGenerator {
+
+    // 애플리케이션 ObjectMapper 설정과 관계없이 받은 문서를 그대로 다시 쓴다
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void generate() throws Exception {
+        String output = System.getProperty("openapi.output");
+        assumeTrue(output != null, "openapi.output 시스템 속성이 없으면 건너뜀");
+
+        byte[] spec = mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(spec).isNotEmpty();
+
+        ObjectNode document = (ObjectNode) JSON.readTree(spec);
+        document.putArray("servers").addObject().put("url", "/");
+
+        Path path = Path.of(output);
+        Files.createDirectories(path.getParent());
+        Files.write(path, JSON.writeValueAsBytes(document));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.chatbot.common.openapi;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class StaticOpenApiDocsControllerTests {
+
+    // 압축본은 그대로 내려주기만 하므로 내용은 구분만 되면 된다
+    private static final byte[] JSON = "{\"openapi\":\"3.0.1\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GZIP = "gzip-bytes".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BROTLI = "br-bytes".getBytes(StandardCharsets.UTF_8);
+
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+            new StaticOpenApiDocsController(JSON, GZIP, BROTLI, Duration.ofDays(1))).build();
+
+    @Test
+    void acceptsHonoursQValues() {
+        assertThat(StaticOpenApiDocsController.accepts("gzip, deflate", "gzip")).isTrue();
+        assertThat(StaticOpenApiDocsController.accepts("GZIP;q=0.5", "gzip")).isTrue();
+        assertThat(StaticOpenApiDocsController.accepts("br;q=0, gzip", "br")).isFalse();
+        assertThat(StaticOpenApiDocsController.accepts("gzip ; q=0.0", "gzip")).isFalse();
+        assertThat(StaticOpenApiDocsController.accepts("gzip;q=oops", "gzip")).isFalse();
+        assertThat(StaticOpenApiDocsController.accepts("identity", "gzip")).isFalse();
+    }
+
+    @Test
+    void picksBrotliThenGzipThenIdentity() throws Exception {
+        mockMvc.perform(get("/v3/api-docs").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(BROTLI));
+
+        mockMvc.perform(get("/v3/api-docs").header(HttpHeaders.ACCEPT_ENCODING, "br;q=0, gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(content().bytes(GZIP));
+
+        mockMvc.perform(get("/v3/api-docs"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(JSON));
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModified() throws Exception {
+        String gzipEtag = mockMvc.perform(get("/v3/api-docs").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String identityEtag = mockMvc.perform(get("/v3/api-docs"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // 인코딩마다 바이트가 다르므로 강한 ETag도 다르다
+        assertThat(gzipEtag).isNotNull().isNotEqualTo(identityEtag);
+
+        mockMvc.perform(get("/v3/api-docs")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        // 다른 인코딩의 ETag로는 304가 되지 않는다
+        mockMvc.perform(get("/v3/api-docs").header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(JSON));
+    }
+
+    @Test
+    void missingDocumentIsNotFound() throws Exception {
+        MockMvc withoutDocs = MockMvcBuilders.standaloneSetup(
+                new StaticOpenApiDocsController(null, null, null, Duration.ofDays(1))).build();
+
+        withoutDocs.perform(get("/v3/api-docs")).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.chatbot.common.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTests {
+
+    private final OutboxEventJpaRepository repository = mock(OutboxEventJpaRepository.class);
+    private final OutboxPublisher publisher = mock(OutboxPublisher.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(repository.tryRelayLock(anyLong())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void drainsFullBatchesInIdOrderUntilCaughtUp() throws InterruptedException {
+        relay = newRelay(2, Duration.ofHours(1));
+        when(repository.findUnpublished(any()))
+                .thenReturn(List.of(event(1L, "1"), event(2L, "1")), List.of(event(3L, "2")), List.of());
+
+        relay.wakeUp();
+        Thread.sleep(300);
+
+        // 가득 찬 배치 뒤에는 바로 다음 배치를 읽고, 덜 찬 배치에서 멈춘다
+        ArgumentCaptor<List<OutboxMessage>> batches = ArgumentCaptor.forClass(List.class);
+        verify(publisher, times(2)).publish(batches.capture());
+        assertThat(batches.getAllValues().get(0)).extracting(OutboxMessage::id).containsExactly(1L, 2L);
+        assertThat(batches.getAllValues().get(1)).extracting(OutboxMessage::id).containsExactly(3L);
+        verify(repository).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(repository).markPublished(eq(List.of(3L)), any(LocalDateTime.class));
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    void publishFailureRollsBackTheBatchAndRetries() throws InterruptedException {
+        relay = newRelay(10, Duration.ofHours(1));
+        when(repository.findUnpublished(any())).thenReturn(List.of(event(1L, "1")));
+        doThrow(new IllegalStateException("redis down")).doNothing().when(publisher).publish(anyList());
+
+        relay.wakeUp();
+        Thread.sleep(200);
+
+        // 발행에 실패하면 published_at을 남기지 않고 트랜잭션을 되돌린다
+        verify(repository, never()).markPublished(anyList(), any());
+        verify(transactionManager).rollback(any());
+
+        relay.wakeUp();
+        Thread.sleep(200);
+
+        verify(publisher, times(2)).publish(anyList());
+        verify(repository).markPublished(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    void skipsTheBatchWhenAnotherNodeHoldsTheRelayLock() throws InterruptedException {
+        relay = newRelay(10, Duration.ofHours(1));
+        when(repository.tryRelayLock(anyLong())).thenReturn(false);
+
+        relay.wakeUp();
+        Thread.sleep(200);
+
+        verify(repository, never()).findUnpublished(any());
+        verify(publisher, never()).publish(anyList());
+    }
+
+    @Test
+    void compactionDeletesRowsPublishedBeforeTheRetention() throws InterruptedException {
+        relay = newRelay(10, Duration.ofMillis(50));
+
+        Thread.sleep(300);
+
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository, atLeastOnce()).deletePublishedBefore(before.capture());
+        assertThat(before.getValue()).isBefore(LocalDateTime.now().minusMinutes(59));
+    }
+
+    @SuppressWarnings("unchecked")
+    private OutboxRelay newRelay(int batchSize, Duration compactionInterval) {
+        ObjectProvider<OutboxPublisher> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(publisher);
+        return new OutboxRelay(repository, provider, transactionManager, new SimpleMeterRegistry(),
+                batchSize, Duration.ofHours(1), Duration.ofHours(1), compactionInterval);
+    }
+
+    private static OutboxEventJpaEntity event(long id, String aggregateId) {
+        OutboxEventJpaEntity event = new OutboxEventJpaEntity("member", aggregateId, "MemberRoleChanged", "{}");
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.chatbot.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class OutboxWriterTests {
+
+    private final OutboxEventJpaRepository repository = mock(OutboxEventJpaRepository.class);
+    private final OutboxRelay relay = mock(OutboxRelay.class);
+    private final OutboxWriter writer =
+            new OutboxWriter(repository, new ObjectMapper(), relay, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void locksTheAggregateBeforeTakingAnId() {
+        writer.append("member", 42L, new Sample("a"));
+
+        // 같은 aggregate의 트랜잭션은 id를 받기 전에 줄을 서야 id 순서와 커밋 순서가 같아진다
+        InOrder order = inOrder(repository);
+        order.verify(repository).lockAggregate(anyInt(), eq("member:42"));
+        order.verify(repository).save(any(OutboxEventJpaEntity.class));
+    }
+
+    @Test
+    void wakesTheRelayOnlyAfterCommit() {
+        writer.append("member", 42L, new Sample("a"));
+        verify(relay, never()).wakeUp();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(relay).wakeUp();
+    }
+
+    record Sample(String value) {
+    }
+}
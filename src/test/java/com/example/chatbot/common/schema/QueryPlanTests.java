@@ -0,0 +1,119 @@
+package com.example.chatbot.common.schema;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 쓰는 쿼리가 db/migration의 인덱스를 타는지 EXPLAIN으로 확인한다.
+ *
+ * 테스트 DB는 행이 적어 플래너가 순차 스캔을 고르므로 트랜잭션 안에서 순차/비트맵 스캔을 끄고,
+ * 인덱스로 답할 수 있는 쿼리인지(인덱스가 있고 조건이 인덱스 식과 맞는지)만 본다.
+ */
+@SpringBootTest
+class QueryPlanTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void credentialsLookupUsesLowerEmailIndex() {
+        // MemberJpaRepository.findCredentialsByEmail (+ @SQLRestriction)
+        String plan = explain("SELECT id, email, name, password FROM members "
+                + "WHERE lower(email) = lower('User@Example.com') AND deleted_at IS NULL");
+
+        assertThat(plan).contains("\"Index Name\": \"uk_members_email_lower\"");
+    }
+
+    @Test
+    void recentSignupsUseCreatedAtIndex() {
+        // MemberJpaRepository.findEmailsCreatedSince (이메일 필터 보충)
+        assertThat(explain("SELECT email FROM members WHERE created_at >= now() - interval '1 minute' "
+                + "AND deleted_at IS NULL"))
+                .contains("\"Index Name\": \"idx_members_created_at\"");
+    }
+
+    @Test
+    void memberRoleLookupsUseMemberRoleIndex() {
+        // MemberRoleJpaRepository.findByMemberIdAndRoleId / existsByMemberIdAndRoleId
+        assertThat(explain("SELECT id FROM member_roles WHERE member_id = 1 AND role_id = 2"))
+                .contains("\"Index Name\": \"uk_member_roles_member_role\"");
+        // MemberRoleJpaRepository.findRolesByMemberId
+        assertThat(explain("SELECT r.* FROM member_roles mr JOIN roles r ON r.id = mr.role_id WHERE mr.member_id = 1"))
+                .contains("\"Index Name\": \"uk_member_roles_member_role\"");
+    }
+
+    @Test
+    void purgeChunkReadsOnlyTheCoveringIndex() {
+        // MemberRoleJpaRepository.deleteChunkByMemberIds의 하위 쿼리 - INCLUDE(id)로 테이블을 읽지 않는다
+        String plan = explain("SELECT id FROM member_roles WHERE member_id IN (1, 2, 3) LIMIT 500");
+
+        assertThat(plan)
+                .contains("\"Node Type\": \"Index Only Scan\"")
+                .contains("\"Index Name\": \"uk_member_roles_member_role\"");
+    }
+
+    @Test
+    void authorityToRolesUsesAuthorityIndex() {
+        // AuthorityJpaEntity.roles 로딩
+        assertThat(explain("SELECT role_id FROM role_authorities WHERE authority_id = 1"))
+                .contains("\"Index Name\": \"idx_role_authorities_authority\"");
+    }
+
+    @Test
+    void roleWithAuthoritiesUsesPrimaryKeys() {
+        // RoleJpaRepository.findByNameWithAuthorities
+        String plan = explain("SELECT r.*, a.* FROM roles r "
+                + "LEFT JOIN role_authorities ra ON ra.role_id = r.id "
+                + "LEFT JOIN authorities a ON a.id = ra.authority_id WHERE r.name = 'ADMIN'");
+
+        assertThat(plan)
+                .contains("\"Index Name\": \"role_authorities_pkey\"")
+                .doesNotContain("\"Seq Scan\"");
+    }
+
+    @Test
+    void memberGrantsFollowIndexesThroughTheClosure() {
+        // RoleClosureJpaRepository.findGrantsByMemberId - member_roles → role_closure(PK) → role_authorities(PK)
+        String plan = explain("SELECT r.name, d.name, a.name FROM member_roles mr "
+                + "JOIN roles r ON r.id = mr.role_id "
+                + "JOIN members m ON m.id = mr.member_id "
+                + "JOIN role_closure c ON c.ancestor_role_id = r.id "
+                + "JOIN roles d ON d.id = c.descendant_role_id "
+                + "LEFT JOIN role_authorities ra ON ra.role_id = d.id "
+                + "LEFT JOIN authorities a ON a.id = ra.authority_id "
+                + "WHERE mr.member_id = 1 AND m.deleted_at IS NULL");
+
+        assertThat(plan)
+                .contains("\"Index Name\": \"uk_member_roles_member_role\"")
+                .contains("\"Index Name\": \"role_closure_pkey\"")
+                .contains("\"Index Name\": \"role_authorities_pkey\"")
+                .doesNotContain("\"Seq Scan\"");
+    }
+
+    @Test
+    void pendingDeletionsUsePartialIndex() {
+        // MemberDeletionJpaRepository.claimPending의 하위 쿼리
+        assertThat(explain("SELECT member_id FROM member_deletions WHERE purged_at IS NULL "
+                + "ORDER BY requested_at LIMIT 100"))
+                .contains("\"Index Name\": \"idx_member_deletions_pending\"");
+    }
+
+    private String explain(String sql) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+            String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class);
+            status.setRollbackOnly();
+            return plan;
+        });
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.chatbot.common.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimerWheelTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final List<List<String>> expiredBatches = new ArrayList<>();
+    private final HashedTimerWheel<String> wheel = new HashedTimerWheel<>(Duration.ofSeconds(1), 8, expiredBatches::add);
+    // 휠 생성 직후 시각 - 1초 tick에 비해 생성 시각과의 차이는 무시할 만하다
+    private final long base = System.nanoTime();
+
+    @Test
+    void expiresOnlyAfterDeadlineAndDeliversOneBatchPerAdvance() {
+        HashedTimerWheel.Timeout<String> a = wheel.scheduleAt("a", base + 2 * SECOND + SECOND / 2);
+        wheel.scheduleAt("b", base + 2 * SECOND + SECOND / 4);
+        wheel.scheduleAt("c", base + 4 * SECOND + SECOND / 2);
+        assertThat(wheel.pendingTimeouts()).isEqualTo(3);
+
+        assertThat(wheel.advanceTo(base + 2 * SECOND)).isZero();
+        assertThat(expiredBatches).isEmpty();
+
+        // 같은 tick에 만료된 항목은 한 번에 전달된다
+        assertThat(wheel.advanceTo(base + 3 * SECOND + SECOND / 10)).isEqualTo(2);
+        assertThat(expiredBatches).hasSize(1);
+        assertThat(expiredBatches.get(0)).containsExactlyInAnyOrder("a", "b");
+        assertThat(a.isExpired()).isTrue();
+        assertThat(wheel.pendingTimeouts()).isEqualTo(1);
+
+        assertThat(wheel.advanceTo(base + 5 * SECOND + SECOND / 10)).isEqualTo(1);
+        assertThat(expiredBatches.get(1)).containsExactly("c");
+        assertThat(wheel.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    void cancelledTimeoutNeverExpires() {
+        HashedTimerWheel.Timeout<String> cancelled = wheel.scheduleAt("cancelled", base + SECOND);
+        HashedTimerWheel.Timeout<String> kept = wheel.scheduleAt("kept", base + SECOND);
+        wheel.advanceTo(base);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(wheel.pendingTimeouts()).isEqualTo(1);
+
+        assertThat(wheel.advanceTo(base + 2 * SECOND)).isEqualTo(1);
+        assertThat(expiredBatches).containsExactly(List.of("kept"));
+        assertThat(cancelled.isCancelled()).isTrue();
+        // 이미 만료된 항목은 취소할 수 없다
+        assertThat(kept.cancel()).isFalse();
+    }
+
+    @Test
+    void cancelBeforeTransferIsHonoured() {
+        HashedTimerWheel.Timeout<String> timeout = wheel.scheduleAt("x", base + SECOND);
+        timeout.cancel();
+
+        assertThat(wheel.advanceTo(base + 3 * SECOND)).isZero();
+        assertThat(wheel.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    void deadlineBeyondOneRotationWaitsForRemainingRounds() {
+        // 휠 크기 8, tick 1초 - 20.5초 뒤 항목은 같은 버킷을 두 번 지나친 뒤에 만료된다
+        wheel.scheduleAt("late", base + 20 * SECOND + SECOND / 2);
+        wheel.scheduleAt("early", base + 4 * SECOND + SECOND / 2);
+
+        assertThat(wheel.advanceTo(base + 5 * SECOND + SECOND / 10)).isEqualTo(1);
+        assertThat(wheel.advanceTo(base + 13 * SECOND + SECOND / 10)).isZero();
+        assertThat(wheel.advanceTo(base + 20 * SECOND + SECOND / 10)).isZero();
+        assertThat(wheel.advanceTo(base + 21 * SECOND + SECOND / 10)).isEqualTo(1);
+        assertThat(expiredBatches).containsExactly(List.of("early"), List.of("late"));
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextTick() {
+        wheel.advanceTo(base + 10 * SECOND);
+        wheel.scheduleAt("overdue", base + SECOND);
+
+        assertThat(wheel.advanceTo(base + 11 * SECOND + SECOND / 10)).isEqualTo(1);
+    }
+
+    @Test
+    void backgroundThreadExpiresScheduledTimeouts() throws InterruptedException {
+        CountDownLatch expired = new CountDownLatch(1);
+        HashedTimerWheel<String> ticking = new HashedTimerWheel<>(Duration.ofMillis(10), 64,
+                batch -> batch.forEach(payload -> expired.countDown()));
+        ticking.start("timer-wheel-test");
+        try {
+            ticking.schedule("soon", Duration.ofMillis(30));
+            assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            ticking.stop();
+        }
+    }
+}
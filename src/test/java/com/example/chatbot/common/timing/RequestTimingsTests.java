@@ -0,0 +1,44 @@
+package com.example.chatbot.common.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingsTests {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.close();
+    }
+
+    @Test
+    void recordsNothingWhenNotOpened() {
+        long start = RequestTimings.start();
+
+        assertThat(start).isZero();
+        RequestTimings.stop("db", start); // 예외 없이 무시
+    }
+
+    @Test
+    void sumsSpansWithSameNameAndCountsCalls() {
+        RequestTimings timings = RequestTimings.open();
+
+        RequestTimings.stop("db", RequestTimings.start());
+        RequestTimings.stop("db", RequestTimings.start());
+        RequestTimings.stop("bcrypt", RequestTimings.start());
+
+        assertThat(timings.toHeaderValue())
+                .matches("db;dur=\\d+\\.\\d{2};desc=\"2\", bcrypt;dur=\\d+\\.\\d{2}, app;dur=\\d+\\.\\d{2}");
+        assertThat(timings.toLogFields()).contains("db_count=2", "bcrypt_count=1");
+    }
+
+    @Test
+    void formatsMillisWithTwoDecimals() {
+        StringBuilder sb = new StringBuilder();
+
+        RequestTimings.appendMillis(sb, 81_405_000L);
+
+        assertThat(sb).hasToString("81.40");
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.chatbot.member.application;
+
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberCredentials;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberEmailIndexTests {
+
+    private final MemberJpaRepository memberRepository = mock(MemberJpaRepository.class);
+    private final FakeSignupFeed feed = new FakeSignupFeed();
+    private MemberEmailIndex index;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        when(memberRepository.streamAllEmails()).thenAnswer(invocation -> Stream.of("Old@Example.com"));
+        index = newIndex(Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.destroy();
+    }
+
+    @Test
+    void missIsFinalOnceTheSignupLogIsCaughtUp() {
+        index.follow(); // 첫 구성 후 로그 끝 커서를 잡는다
+        index.follow();
+
+        assertThat(index.mightExist("nobody@example.com")).isFalse();
+        assertThat(index.findUnindexed("nobody@example.com")).isEmpty();
+        verify(memberRepository, never()).findCredentialsByEmailCreatedSince(anyString(), any());
+    }
+
+    @Test
+    void signupsFromOtherNodesArriveThroughTheLog() {
+        index.follow();
+        feed.append("A@Example.com");
+        feed.append("b@example.com");
+        feed.append("c@example.com");
+
+        // follow-batch(2)보다 많아도 한 번에 끝까지 읽는다
+        index.follow();
+
+        assertThat(index.mightExist("a@example.com")).isTrue();
+        assertThat(index.mightExist("b@example.com")).isTrue();
+        assertThat(index.mightExist("c@example.com")).isTrue();
+    }
+
+    @Test
+    void missIsCheckedAgainstRecentSignupsWhileTheLogIsStale() {
+        MemberCredentials member = new MemberCredentials(7L, "new@example.com", "New", "hash");
+        when(memberRepository.findCredentialsByEmailCreatedSince(eq("new@example.com"), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(member));
+
+        // 아직 가입 로그를 따라잡지 못한 경우
+        assertThat(index.mightExist("new@example.com")).isFalse();
+        assertThat(index.findUnindexed("new@example.com")).contains(member);
+
+        // 찾은 회원은 필터에도 들어간다
+        assertThat(index.mightExist("NEW@example.com")).isTrue();
+    }
+
+    @Test
+    void readFailureFallsBackToTheDatabaseAfterMaxStaleness() throws InterruptedException {
+        index.destroy();
+        index = newIndex(Duration.ofMillis(50));
+        index.follow();
+        index.follow();
+        feed.failing = true;
+
+        index.follow();
+        Thread.sleep(100);
+        index.findUnindexed("nobody@example.com");
+
+        verify(memberRepository).findCredentialsByEmailCreatedSince(eq("nobody@example.com"), any());
+    }
+
+    @Test
+    void trimmedCursorIsResyncedFromTheDatabase() {
+        index.follow();
+        index.follow();
+        feed.trimmed = true;
+
+        index.follow();
+        index.findUnindexed("nobody@example.com");
+        verify(memberRepository).findCredentialsByEmailCreatedSince(eq("nobody@example.com"), any());
+
+        feed.trimmed = false;
+        when(memberRepository.findEmailsCreatedSince(any(LocalDateTime.class)))
+                .thenReturn(List.of("Missed@Example.com"));
+        index.follow();
+
+        assertThat(index.mightExist("missed@example.com")).isTrue();
+        assertThat(index.mightExist("old@example.com")).isTrue();
+    }
+
+    @Test
+    void recentCheckStartsBeforeTheBuildByTheMargin() {
+        LocalDateTime before = LocalDateTime.now();
+        index.rebuild();
+        LocalDateTime after = LocalDateTime.now();
+
+        index.findUnindexed("nobody@example.com");
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(memberRepository).findCredentialsByEmailCreatedSince(eq("nobody@example.com"), since.capture());
+        // 커밋이 늦은 가입도 잡도록 재구성 시작보다 recent-margin만큼 앞에서부터 본다
+        assertThat(since.getValue()).isBetween(before.minusMinutes(1), after.minusMinutes(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private MemberEmailIndex newIndex(Duration maxStaleness) throws InterruptedException {
+        ObjectProvider<MemberSignupFeed> feedProvider = mock(ObjectProvider.class);
+        when(feedProvider.getIfAvailable(any())).thenReturn(feed);
+        // follow는 테스트에서 직접 부른다
+        MemberEmailIndex created = new MemberEmailIndex(memberRepository, mock(PlatformTransactionManager.class),
+                feedProvider, new SimpleMeterRegistry(), true, 1_000, 0.001,
+                Duration.ofHours(1), Duration.ofHours(1), 2, maxStaleness, Duration.ofMinutes(1));
+        awaitFirstBuild(created);
+        return created;
+    }
+
+    private static void awaitFirstBuild(MemberEmailIndex index) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (index.mightExist("probe@example.com") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(index.mightExist("probe@example.com")).isFalse();
+    }
+
+    /**
+     * 커서가 기록 위치(0부터)인 메모리 가입 로그
+     */
+    private static final class FakeSignupFeed implements MemberSignupFeed {
+
+        private final List<String> entries = new CopyOnWriteArrayList<>();
+        volatile boolean trimmed;
+        volatile boolean failing;
+
+        void append(String email) {
+            entries.add(email);
+        }
+
+        @Override
+        public String head() {
+            return Integer.toString(entries.size());
+        }
+
+        @Override
+        public String readSince(String cursor, int max, Consumer<String> sink) {
+            if (failing) {
+                throw new IllegalStateException("redis down");
+            }
+            if (trimmed) {
+                return null;
+            }
+            int from = Integer.parseInt(cursor);
+            int to = Math.min(entries.size(), from + max);
+            entries.subList(from, to).forEach(sink);
+            return Integer.toString(to);
+        }
+    }
+}
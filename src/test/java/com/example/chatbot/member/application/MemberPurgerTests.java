@@ -0,0 +1,88 @@
+package com.example.chatbot.member.application;
+
+import com.example.chatbot.auth.infrastructure.persistence.jpa.MemberRoleJpaRepository;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberDeletionJpaRepository;
+import com.example.chatbot.member.infrastructure.persistence.jpa.MemberJpaRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberPurgerTests {
+
+    private final MemberDeletionJpaRepository deletionRepository = mock(MemberDeletionJpaRepository.class);
+    private final MemberRoleJpaRepository memberRoleRepository = mock(MemberRoleJpaRepository.class);
+    private final MemberJpaRepository memberRepository = mock(MemberJpaRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // 스케줄러는 끄고 purge()를 직접 호출한다
+    private final MemberPurger purger = new MemberPurger(deletionRepository, memberRoleRepository, memberRepository,
+            mock(PlatformTransactionManager.class), meterRegistry, false, Duration.ofSeconds(10),
+            100, 2, 64, Duration.ofMinutes(1), Duration.ofMinutes(5), 0.75);
+
+    @AfterEach
+    void tearDown() {
+        purger.destroy();
+    }
+
+    @Test
+    void deletesDependentRowsInChunksBeforeMembers() {
+        List<Long> memberIds = List.of(1L, 2L);
+        when(deletionRepository.claimPending(any(), any(), eq(100))).thenReturn(memberIds, List.of());
+        // 청크가 가득 차는 동안은 계속 지우고, 덜 찬 청크에서 멈춘다
+        AtomicInteger remaining = new AtomicInteger(7);
+        when(memberRoleRepository.deleteChunkByMemberIds(eq(memberIds), anyInt())).thenAnswer(invocation -> {
+            int limit = invocation.getArgument(1);
+            int deleted = Math.min(limit, remaining.get());
+            remaining.addAndGet(-deleted);
+            return deleted;
+        });
+
+        purger.purge();
+
+        assertThat(remaining.get()).isZero();
+        verify(memberRepository).purgeSoftDeleted(memberIds);
+        verify(deletionRepository).markPurged(eq(memberIds), any());
+        MemberPurgeProgress progress = purger.progress(0);
+        assertThat(progress.purgedMembers()).isEqualTo(2);
+        assertThat(progress.deletedRows()).isEqualTo(7);
+        // 빠른 청크마다 크기가 늘어난다
+        assertThat(progress.chunkSize()).isGreaterThan(2);
+        assertThat(progress.throttled()).isFalse();
+    }
+
+    @Test
+    void yieldsWhenConnectionPoolHasWaiters() {
+        Gauge.builder("hikaricp.connections.pending", () -> 3).tag("pool", "primary").register(meterRegistry);
+
+        purger.purge();
+
+        verify(deletionRepository, never()).claimPending(any(), any(), anyInt());
+        assertThat(purger.progress(5).throttled()).isTrue();
+        assertThat(meterRegistry.get("member.purge.throttled").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void yieldsWhenConnectionPoolIsBusy() {
+        Gauge.builder("hikaricp.connections.active", () -> 8).tag("pool", "primary").register(meterRegistry);
+        Gauge.builder("hikaricp.connections.max", () -> 10).tag("pool", "primary").register(meterRegistry);
+
+        purger.purge();
+
+        verify(deletionRepository, never()).claimPending(any(), any(), anyInt());
+        assertThat(purger.progress(0).throttled()).isTrue();
+    }
+}